@@ -0,0 +1,80 @@
+package com.webforj.shoelace.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and compares the results with the stored baseline.
+ *
+ * <p>Configured through system properties:</p>
+ * <ul>
+ *   <li>{@code benchmark.include}: regular expression selecting the benchmarks, all by
+ *   default</li>
+ *   <li>{@code benchmark.baseline}: the baseline file, {@code src/jmh/baselines/baseline.json} by
+ *   default</li>
+ *   <li>{@code benchmark.threshold}: the tolerated slowdown as a fraction, {@code 0.15} by
+ *   default</li>
+ *   <li>{@code benchmark.updateBaseline}: {@code true} to replace the baseline with the new
+ *   results</li>
+ * </ul>
+ *
+ * <p>The baseline is JMH's own JSON result format, recorded on the machine that runs the
+ * comparison with {@code -Dbenchmark.updateBaseline=true}. The runner exits with status 1 if the
+ * baseline is missing or a benchmark regressed beyond the threshold.</p>
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException, IOException {
+    String include = System.getProperty("benchmark.include", BenchmarkRunner.class.getPackageName()
+        + ".*Benchmark");
+    Path baseline = Path.of(System.getProperty("benchmark.baseline",
+        "src/jmh/baselines/baseline.json"));
+    double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.15"));
+    boolean update = Boolean.getBoolean("benchmark.updateBaseline");
+
+    Path result = Path.of("target", "jmh-result.json");
+    Files.createDirectories(result.getParent());
+    Options options = new OptionsBuilder()
+        .include(include)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result.toString())
+        .build();
+    new Runner(options).run();
+
+    if (update) {
+      Files.createDirectories(baseline.toAbsolutePath().getParent());
+      Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+      System.out.println("Stored baseline " + baseline);
+      return;
+    }
+
+    if (!Files.exists(baseline)) {
+      System.out.println("No baseline at " + baseline + ", record one with"
+          + " -Dbenchmark.updateBaseline=true");
+      System.exit(1);
+    }
+
+    List<BaselineComparison.Regression> regressions = new BaselineComparison(threshold)
+        .compare(Files.readString(baseline), Files.readString(result));
+    if (regressions.isEmpty()) {
+      System.out.printf("No regression beyond %.0f%% against %s%n", threshold * 100, baseline);
+      return;
+    }
+
+    System.out.printf("%d benchmark(s) regressed beyond %.0f%%:%n", regressions.size(),
+        threshold * 100);
+    regressions.forEach(regression -> System.out.println("  " + regression));
+    System.exit(1);
+  }
+}
@@ -0,0 +1,72 @@
+package com.webforj.shoelace.benchmark;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.PropertyDescriptorTester;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction cost and property get/set throughput of every component.
+ *
+ * <p>The property benchmark runs the same {@link PropertyDescriptorTester} pass as the unit
+ * tests, which writes and reads back every property descriptor of the component.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentBenchmark {
+
+  @Param({
+      "Alert", "AnimatedImage", "Animation", "Avatar", "Badge", "Breadcrumb", "BreadcrumbItem",
+      "Button", "ButtonGroup", "Card", "Carousel", "CarouselItem", "Checkbox", "ColorPicker",
+      "CopyButton", "Details", "Dialog", "Divider", "Drawer", "Dropdown", "FormatBytes",
+      "FormatDate", "FormatNumber", "Icon", "IconButton", "ImageComparer", "Include", "Input",
+      "Menu", "MenuItem", "MenuLabel", "MutationObserver", "Option", "Popup", "ProgressBar",
+      "ProgressRing", "QrCode", "Radio", "RadioButton", "RadioGroup", "Range", "Rating",
+      "RelativeTime", "ResizeObserver", "Select", "Skeleton", "Spinner", "SplitPanel", "Switch",
+      "Tab", "TabGroup", "TabPanel", "Tag", "Textarea", "Tooltip", "Tree", "TreeItem",
+      "VisuallyHidden"
+  })
+  String component;
+
+  Supplier<? extends ElementComposite> constructor;
+  Class<? extends ElementComposite> type;
+  ElementComposite instance;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    constructor = Components.constructor(component);
+    type = Components.type(component);
+  }
+
+  @Setup(Level.Iteration)
+  public void createInstance() {
+    instance = constructor.get();
+  }
+
+  @Benchmark
+  public ElementComposite construct() {
+    return constructor.get();
+  }
+
+  @Benchmark
+  public ElementComposite setAndGetProperties() throws Exception {
+    PropertyDescriptorTester.run(type, instance);
+    return instance;
+  }
+}
@@ -0,0 +1,74 @@
+package com.webforj.shoelace.benchmark;
+
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.shoelace.components.input.Input;
+import com.webforj.shoelace.components.resizeobserver.ResizeObserver;
+import com.webforj.shoelace.components.resizeobserver.event.ResizeEvent;
+import com.webforj.shoelace.event.ChangeEvent;
+import com.webforj.shoelace.event.HasValuePayload;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Server-side cost of an incoming event: dispatching it to the registered listeners and decoding
+ * its payload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+  @Param({"1", "10"})
+  int listeners;
+
+  EventDispatcher dispatcher;
+  ChangeEvent<Input> changeEvent;
+  ResizeEvent<ResizeObserver> resizeEvent;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    Input input = new Input();
+    changeEvent = new ChangeEvent<>(input, Map.of(HasValuePayload.VALUE_KEY, "value"));
+
+    Map<String, Object> entry = Map.of("index", 0.0,
+        "content", List.of(320.0, 200.0), "border", List.of(322.0, 202.0));
+    resizeEvent = new ResizeEvent<>(new ResizeObserver(),
+        Map.of(ResizeEvent.ENTRIES_KEY, List.of(entry, entry, entry)));
+
+    dispatcher = new EventDispatcher();
+    for (int i = 0; i < listeners; i++) {
+      dispatcher.addListener(ChangeEvent.class, event -> blackhole.consume(event));
+    }
+  }
+
+  @Benchmark
+  public void dispatchChange() {
+    dispatcher.dispatchEvent(changeEvent);
+  }
+
+  @Benchmark
+  public Object decodeChangeValue() {
+    return changeEvent.getValue();
+  }
+
+  @Benchmark
+  public Object decodeResizeEntries() {
+    return resizeEvent.getEntries();
+  }
+}
@@ -0,0 +1,71 @@
+package com.webforj.shoelace.benchmark;
+
+import com.webforj.shoelace.components.menu.Menu;
+import com.webforj.shoelace.components.menuitem.MenuItem;
+import com.webforj.shoelace.components.option.Option;
+import com.webforj.shoelace.components.select.Select;
+import com.webforj.shoelace.components.tree.Tree;
+import com.webforj.shoelace.components.treeitem.TreeItem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building large component hierarchies: a tree with nested items, a select with many
+ * options and a menu with many items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HierarchyBenchmark {
+
+  private static final int TREE_FAN_OUT = 10;
+
+  @Param({"100", "1000"})
+  int size;
+
+  @Benchmark
+  public Tree buildTree() {
+    Tree tree = new Tree();
+    int created = 0;
+    // branches of TREE_FAN_OUT leaves, so the tree is two levels deep
+    while (created < size) {
+      TreeItem branch = new TreeItem();
+      created++;
+      for (int i = 0; i < TREE_FAN_OUT && created < size; i++, created++) {
+        branch.add(new TreeItem());
+      }
+      tree.add(branch);
+    }
+    return tree;
+  }
+
+  @Benchmark
+  public Select buildSelect() {
+    Select select = new Select("Options");
+    for (int i = 0; i < size; i++) {
+      select.add(new Option("option-" + i, "Option " + i));
+    }
+    return select;
+  }
+
+  @Benchmark
+  public Menu buildMenu() {
+    Menu menu = new Menu();
+    for (int i = 0; i < size; i++) {
+      menu.add(new MenuItem("Item " + i, "item-" + i));
+    }
+    return menu;
+  }
+}
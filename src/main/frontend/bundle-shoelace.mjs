@@ -0,0 +1,77 @@
+// Builds a self-hosted Shoelace bundle containing only the components the Java sources use.
+//
+// Every @NodeName("sl-*") annotation under src/main/java becomes one import of the matching
+// Shoelace component module. esbuild bundles them, together with the light theme, into a single
+// content-hashed script and stylesheet under target/classes/static/shoelace. The icon assets are
+// copied next to them and manifest.json records the hashed file names for ShoelaceAssets.
+
+import { build } from 'esbuild';
+import { cpSync, mkdirSync, readdirSync, readFileSync, rmSync, statSync, writeFileSync } from 'node:fs';
+import { basename, dirname, join, resolve } from 'node:path';
+import { fileURLToPath } from 'node:url';
+
+const root = resolve(dirname(fileURLToPath(import.meta.url)), '../../..');
+const sources = join(root, 'src/main/java');
+const shoelace = join(root, 'node_modules/@shoelace-style/shoelace/dist');
+const outdir = join(root, 'target/classes/static/shoelace');
+
+const NODE_NAME = /@NodeName\(\s*"(sl-[a-z0-9-]+)"\s*\)/g;
+
+function javaFiles(dir) {
+  return readdirSync(dir).flatMap((entry) => {
+    const path = join(dir, entry);
+    if (statSync(path).isDirectory()) {
+      return javaFiles(path);
+    }
+    return path.endsWith('.java') ? [path] : [];
+  });
+}
+
+const tags = new Set();
+for (const file of javaFiles(sources)) {
+  for (const match of readFileSync(file, 'utf8').matchAll(NODE_NAME)) {
+    tags.add(match[1]);
+  }
+}
+
+const components = [...tags].sort();
+const entry = [
+  "import { setBasePath } from '@shoelace-style/shoelace/dist/utilities/base-path.js';",
+  "import '@shoelace-style/shoelace/dist/themes/light.css';",
+  // lets IconRegistry register sprite libraries with this copy of Shoelace
+  "export { registerIconLibrary } from '@shoelace-style/shoelace/dist/utilities/icon-library.js';",
+  ...components.map((tag) => {
+    const name = tag.slice('sl-'.length);
+    return `import '@shoelace-style/shoelace/dist/components/${name}/${name}.js';`;
+  }),
+  // icons and other assets are resolved relative to the bundle
+  "setBasePath(new URL('.', import.meta.url).href.replace(/\\/$/, ''));",
+].join('\n');
+
+rmSync(outdir, { recursive: true, force: true });
+mkdirSync(outdir, { recursive: true });
+
+const result = await build({
+  stdin: { contents: entry, resolveDir: root, sourcefile: 'shoelace-entry.js', loader: 'js' },
+  bundle: true,
+  format: 'esm',
+  target: 'es2020',
+  minify: true,
+  legalComments: 'none',
+  entryNames: 'shoelace-[hash]',
+  outdir,
+  metafile: true,
+  logLevel: 'info',
+});
+
+const outputs = Object.keys(result.metafile.outputs).map((file) => basename(file));
+const manifest = {
+  script: outputs.find((file) => file.endsWith('.js')),
+  styleSheet: outputs.find((file) => file.endsWith('.css')),
+  components,
+};
+
+cpSync(join(shoelace, 'assets'), join(outdir, 'assets'), { recursive: true });
+writeFileSync(join(outdir, 'manifest.json'), JSON.stringify(manifest, null, 2) + '\n');
+
+console.log(`Bundled ${components.length} Shoelace components into ${manifest.script}`);
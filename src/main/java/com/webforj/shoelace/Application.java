@@ -3,18 +3,15 @@ package com.webforj.shoelace;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import com.webforj.App;
+import com.webforj.Page;
 import com.webforj.annotation.AppProfile;
-import com.webforj.annotation.Attribute;
-import com.webforj.annotation.JavaScript;
 import com.webforj.annotation.Routify;
 import com.webforj.annotation.StyleSheet;
+import com.webforj.exceptions.WebforjException;
+import com.webforj.shoelace.assets.ShoelaceAssets;
 
 @SpringBootApplication
 @Routify(packages = "com.webforj.shoelace.views")
-@JavaScript(
-    value = "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/shoelace-autoloader.js",
-    attributes = {@Attribute(name = "type", value = "module")})
-@StyleSheet("https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@2.20.1/cdn/themes/light.css")
 @StyleSheet("ws://app.css")
 @AppProfile(name = "webforj-shoelace", shortName = "webforj-shoelace")
 public class Application extends App {
@@ -22,4 +19,10 @@ public class Application extends App {
   public static void main(String[] args) {
     SpringApplication.run(Application.class, args);
   }
+
+  @Override
+  public void run() throws WebforjException {
+    ShoelaceAssets.install(Page.getCurrent());
+    super.run();
+  }
 }
@@ -0,0 +1,36 @@
+package com.webforj.shoelace.assets;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Marks the content-hashed Shoelace bundle files as immutable so browsers cache them for a year.
+ *
+ * <p>The file names change whenever their content does, so a new build never serves stale
+ * files.</p>
+ *
+ * @see ShoelaceAssets
+ */
+@Component
+public class ImmutableBundleFilter extends OncePerRequestFilter {
+
+  static final String BUNDLE_PATH = "/static/shoelace/shoelace-";
+  static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().contains(BUNDLE_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws ServletException, IOException {
+    response.setHeader("Cache-Control", CACHE_CONTROL);
+    chain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,118 @@
+package com.webforj.shoelace.assets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.webforj.Page;
+import com.webforj.shoelace.components.icon.IconRegistry;
+import com.webforj.utilities.Assets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the Shoelace library into the page.
+ *
+ * <p>Production builds ({@code mvn package -Pprod}) bundle only the components referenced by
+ * {@code @NodeName} annotations into one content-hashed script and stylesheet under
+ * {@code static/shoelace} and describe them in {@code static/shoelace/manifest.json}. When that
+ * manifest is on the classpath, the bundle is served from the application itself. Otherwise,
+ * as in development, the Shoelace autoloader and theme are loaded from the CDN.</p>
+ *
+ * <p>Icon libraries registered with the {@link IconRegistry} are set up as well. With the
+ * bundle, Shoelace's own icons are registered with it too, so they are delivered as a
+ * sprite.</p>
+ */
+public final class ShoelaceAssets {
+
+  /** The Shoelace version used when loading from the CDN. */
+  public static final String VERSION = "2.20.1";
+
+  static final String MANIFEST = "/static/shoelace/manifest.json";
+  static final String BUNDLE_URL = "ws://shoelace/";
+  static final String BUNDLE_ICONS = "static/shoelace/assets/icons";
+  static final String CDN_URL =
+      "https://cdn.jsdelivr.net/npm/@shoelace-style/shoelace@" + VERSION + "/cdn/";
+
+  private static final Manifest BUNDLE = readManifest();
+
+  private ShoelaceAssets() {
+    // utility class
+  }
+
+  /**
+   * Adds the Shoelace script and theme to the given page.
+   *
+   * @param page the page to load Shoelace into
+   */
+  public static void install(Page page) {
+    Map<String, String> module = Map.of("type", "module");
+
+    if (isBundled()) {
+      page.addStyleSheet(BUNDLE_URL + BUNDLE.styleSheet());
+      page.addJavaScript(BUNDLE_URL + BUNDLE.script(), true, module);
+    } else {
+      page.addStyleSheet(CDN_URL + "themes/light.css");
+      page.addJavaScript(CDN_URL + "shoelace-autoloader.js", true, module);
+    }
+
+    IconRegistry icons = IconRegistry.getShared();
+    if (isBundled() && !icons.isRegistered(IconRegistry.DEFAULT_LIBRARY)) {
+      icons.registerClasspath(IconRegistry.DEFAULT_LIBRARY, BUNDLE_ICONS);
+    }
+    icons.install(page);
+  }
+
+  /**
+   * Gets the URL of a module that exports Shoelace's {@code registerIconLibrary} function for
+   * the Shoelace instance loaded by {@link #install(Page)}. With the bundle this is the script
+   * the page loaded, resolved from its web server URL the same way the page resolves it.
+   *
+   * @return the module URL
+   */
+  public static String getIconLibraryModule() {
+    if (isBundled()) {
+      return Assets.resolveWebServerUrl(BUNDLE_URL + BUNDLE.script());
+    }
+    return CDN_URL + "utilities/icon-library.js";
+  }
+
+  /**
+   * Checks whether a self-hosted bundle was packaged with the application.
+   *
+   * @return {@code true} if the bundle is served from the application, {@code false} if Shoelace
+   *         is loaded from the CDN
+   */
+  public static boolean isBundled() {
+    return BUNDLE != null;
+  }
+
+  private static Manifest readManifest() {
+    try (InputStream in = ShoelaceAssets.class.getResourceAsStream(MANIFEST)) {
+      if (in == null) {
+        return null;
+      }
+      return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  static Manifest parse(Reader reader) {
+    try {
+      Manifest manifest = new Gson().fromJson(reader, Manifest.class);
+      if (manifest == null || manifest.script() == null || manifest.styleSheet() == null) {
+        return null;
+      }
+      return manifest;
+    } catch (JsonParseException e) {
+      return null;
+    }
+  }
+
+  record Manifest(String script, String styleSheet, List<String> components) {
+  }
+}
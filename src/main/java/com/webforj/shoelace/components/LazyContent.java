@@ -0,0 +1,85 @@
+package com.webforj.shoelace.components;
+
+import com.webforj.component.Component;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Content a component creates on demand from a supplier, and may destroy again to free it.
+ *
+ * <p>Components with lazy content delegate to this class and decide themselves when to
+ * {@link #load()} and {@link #unload()}, for example when they are shown and hidden.</p>
+ */
+public final class LazyContent {
+
+  private final Consumer<Component> attach;
+  private Supplier<? extends Component> supplier;
+  private Component content;
+
+  /**
+   * Creates lazy content.
+   *
+   * @param attach adds the created content to its component
+   */
+  public LazyContent(Consumer<Component> attach) {
+    this.attach = Objects.requireNonNull(attach);
+  }
+
+  /**
+   * Sets the supplier that creates the content. Content loaded from a previous supplier is
+   * destroyed.
+   *
+   * @param supplier creates the content
+   */
+  public void setSupplier(Supplier<? extends Component> supplier) {
+    unload();
+    this.supplier = Objects.requireNonNull(supplier);
+  }
+
+  /**
+   * Checks whether a supplier is set.
+   *
+   * @return {@code true} if the content is created on demand
+   */
+  public boolean isLazy() {
+    return supplier != null;
+  }
+
+  /**
+   * Checks whether the content currently exists.
+   *
+   * @return {@code true} if the content has been loaded and not unloaded since
+   */
+  public boolean isLoaded() {
+    return content != null;
+  }
+
+  /**
+   * Creates the content from the supplier and adds it, unless it is loaded already. Does nothing
+   * if no supplier is set.
+   *
+   * @return {@code true} if the content was created by this call
+   */
+  public boolean load() {
+    if (supplier == null || content != null) {
+      return false;
+    }
+
+    content = supplier.get();
+    attach.accept(content);
+    return true;
+  }
+
+  /**
+   * Destroys the content. It is created again by the next {@link #load()}.
+   */
+  public void unload() {
+    if (content != null) {
+      if (!content.isDestroyed()) {
+        content.destroy();
+      }
+      content = null;
+    }
+  }
+}
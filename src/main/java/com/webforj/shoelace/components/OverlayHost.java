@@ -0,0 +1,186 @@
+package com.webforj.shoelace.components;
+
+import com.webforj.component.Component;
+import com.webforj.concern.HasComponents;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reuses a single overlay, such as a dialog or a drawer, for every overlay a part of the app
+ * opens.
+ *
+ * <p>Creating an overlay per use adds a component to the server and, once shown, an element to
+ * the document body each time. A host instead creates one overlay in the given container on first
+ * use and swaps its content on every {@link #show(String)}. Replaced content is destroyed, and by
+ * default the content is also destroyed once the overlay has closed, so neither the server nor
+ * the page grows over a long session.</p>
+ *
+ * @param <O> the overlay type
+ * @param <H> the host type, returned by the chained setters
+ * @see com.webforj.shoelace.components.dialog.DialogHost
+ * @see com.webforj.shoelace.components.drawer.DrawerHost
+ */
+public abstract class OverlayHost<O extends Component, H extends OverlayHost<O, H>> {
+
+  private final HasComponents container;
+  private final List<Component> content = new ArrayList<>();
+  private final List<Component> footer = new ArrayList<>();
+  private O overlay;
+  private boolean clearOnHide = true;
+
+  /**
+   * Creates a host that adds its overlay to the given container.
+   *
+   * @param container the container to add the overlay to on first use
+   */
+  protected OverlayHost(HasComponents container) {
+    this.container = Objects.requireNonNull(container);
+  }
+
+  /**
+   * Creates the overlay.
+   *
+   * @param afterHide to be run once the overlay has closed
+   * @return the new overlay
+   */
+  protected abstract O create(Runnable afterHide);
+
+  /**
+   * Adds components to the body of the overlay.
+   *
+   * @param target the overlay
+   * @param components the components
+   */
+  protected abstract void addContent(O target, Component... components);
+
+  /**
+   * Adds components to the footer of the overlay.
+   *
+   * @param target the overlay
+   * @param components the components
+   */
+  protected abstract void addFooter(O target, Component... components);
+
+  /**
+   * Labels and opens the overlay.
+   *
+   * @param target the overlay
+   * @param label the label displayed in the header
+   */
+  protected abstract void open(O target, String label);
+
+  /**
+   * Closes the overlay.
+   *
+   * @param target the overlay
+   */
+  protected abstract void close(O target);
+
+  /**
+   * Gets the hosted overlay, creating it and adding it to the container on first use.
+   *
+   * @return the overlay
+   */
+  protected O getOverlay() {
+    if (overlay == null) {
+      overlay = create(() -> {
+        if (clearOnHide) {
+          clear();
+        }
+      });
+      container.add(overlay);
+    }
+    return overlay;
+  }
+
+  /**
+   * Replaces the body of the overlay. The previous body is destroyed.
+   *
+   * @param components the new body
+   * @return this host
+   */
+  public H setContent(Component... components) {
+    replace(content, components);
+    addContent(getOverlay(), components);
+    return self();
+  }
+
+  /**
+   * Replaces the footer of the overlay. The previous footer is destroyed.
+   *
+   * @param components the new footer
+   * @return this host
+   */
+  public H setFooter(Component... components) {
+    replace(footer, components);
+    addFooter(getOverlay(), components);
+    return self();
+  }
+
+  /**
+   * Sets whether the content is destroyed once the overlay has closed. Enabled by default.
+   * Disable it to show the same content again without recreating it.
+   *
+   * @param clearOnHide {@code true} to destroy the content after the overlay closes
+   * @return this host
+   */
+  public H setClearOnHide(boolean clearOnHide) {
+    this.clearOnHide = clearOnHide;
+    return self();
+  }
+
+  /**
+   * Checks whether the content is destroyed once the overlay has closed.
+   *
+   * @return {@code true} if the content is destroyed after the overlay closes
+   */
+  public boolean isClearOnHide() {
+    return clearOnHide;
+  }
+
+  /**
+   * Shows the overlay with its current content.
+   *
+   * @param label the label displayed in the header
+   * @return the overlay
+   */
+  public O show(String label) {
+    O target = getOverlay();
+    open(target, label);
+    return target;
+  }
+
+  /**
+   * Hides the overlay, if it was created.
+   */
+  public void hide() {
+    if (overlay != null) {
+      close(overlay);
+    }
+  }
+
+  /**
+   * Destroys the content and footer of the overlay.
+   */
+  public void clear() {
+    replace(content);
+    replace(footer);
+  }
+
+  @SuppressWarnings("unchecked")
+  private H self() {
+    return (H) this;
+  }
+
+  private static void replace(List<Component> current, Component... next) {
+    for (Component component : current) {
+      if (!component.isDestroyed()) {
+        component.destroy();
+      }
+    }
+    current.clear();
+    current.addAll(Arrays.asList(next));
+  }
+}
@@ -0,0 +1,158 @@
+package com.webforj.shoelace.components;
+
+import com.webforj.component.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the property writes of Shoelace components and applies them together when the batch
+ * closes, keeping only the last write to each property.
+ *
+ * <p>While a batch is open on the current thread, every setter of a {@link ShoelaceComposite} or
+ * {@link ShoelaceCompositeContainer} records its write instead of sending it, so a fluent chain
+ * needs no changes to be coalesced. Getters return the recorded value. When the outermost batch
+ * closes, the remaining writes are applied grouped by component, in the order in which each
+ * component was first written, and webforJ sends them to the browser with the rest of the
+ * response.</p>
+ *
+ * <pre>{@code
+ * try (PropertyBatch batch = PropertyBatch.open()) {
+ *   select.setName("size").setLabel("Size").setValue("m");
+ *   refresh(select); // may set the value again, only the last value is sent
+ * }
+ * }</pre>
+ *
+ * <p>A batch belongs to the thread that opened it. Opening a batch while another one is open on
+ * the same thread joins the outer batch, which applies the writes of both. JavaScript calls made
+ * inside a batch are not deferred, so they may reach the browser before the writes.</p>
+ */
+public final class PropertyBatch implements AutoCloseable {
+
+  private static final ThreadLocal<PropertyBatch> CURRENT = new ThreadLocal<>();
+
+  // components compare by identity, the map keeps the order in which they were first written
+  private final Map<Component, Map<String, Write>> pending = new LinkedHashMap<>();
+  private int depth;
+
+  private PropertyBatch() {
+    // use open()
+  }
+
+  /**
+   * Opens a batch on the current thread, or joins the batch that is already open.
+   *
+   * @return the batch, to be closed by the caller
+   */
+  public static PropertyBatch open() {
+    PropertyBatch batch = CURRENT.get();
+    if (batch == null) {
+      batch = new PropertyBatch();
+      CURRENT.set(batch);
+    }
+    batch.depth++;
+    return batch;
+  }
+
+  /**
+   * Runs the given updates in a batch.
+   *
+   * @param updates the updates, typically setter calls on components
+   */
+  public static void run(Runnable updates) {
+    try (PropertyBatch batch = open()) {
+      updates.run();
+    }
+  }
+
+  /**
+   * Gets the batch open on the current thread.
+   *
+   * @return the batch, or {@code null} if none is open
+   */
+  public static PropertyBatch current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Gets the number of writes waiting to be applied.
+   *
+   * @return the number of pending writes
+   */
+  public int size() {
+    return pending.values().stream().mapToInt(Map::size).sum();
+  }
+
+  /**
+   * Applies the pending writes now, without closing the batch.
+   */
+  public void flush() {
+    while (!pending.isEmpty()) {
+      // copy first, applying a write may record further writes
+      Map<Component, Map<String, Write>> writes = new LinkedHashMap<>(pending);
+      pending.clear();
+
+      for (Map.Entry<Component, Map<String, Write>> entry : writes.entrySet()) {
+        if (!entry.getKey().isDestroyed()) {
+          entry.getValue().values().forEach(write -> write.apply().run());
+        }
+      }
+    }
+  }
+
+  /**
+   * Closes this batch. Closing the outermost batch applies all pending writes.
+   */
+  @Override
+  public void close() {
+    if (depth == 0) {
+      return;
+    }
+
+    depth--;
+    if (depth == 0) {
+      try {
+        flush();
+      } finally {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * Records a write in the batch open on the current thread. It replaces an earlier write to the
+   * same property of the same component.
+   *
+   * @return {@code true} if the write was recorded, {@code false} if no batch is open and the
+   *     caller applies the write itself
+   */
+  static boolean defer(Component component, String property, Object value, Runnable apply) {
+    PropertyBatch batch = CURRENT.get();
+    if (batch == null) {
+      return false;
+    }
+
+    Map<String, Write> writes =
+        batch.pending.computeIfAbsent(component, c -> new LinkedHashMap<>());
+    writes.remove(property);
+    writes.put(property, new Write(value, apply));
+    return true;
+  }
+
+  /**
+   * Gets the write to a property waiting in the batch open on the current thread.
+   *
+   * @return the write, or {@code null} if there is none
+   */
+  static Write pending(Component component, String property) {
+    PropertyBatch batch = CURRENT.get();
+    if (batch == null) {
+      return null;
+    }
+
+    Map<String, Write> writes = batch.pending.get(component);
+    return writes != null ? writes.get(property) : null;
+  }
+
+  record Write(Object value, Runnable apply) {
+  }
+}
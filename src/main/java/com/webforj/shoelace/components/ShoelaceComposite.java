@@ -0,0 +1,55 @@
+package com.webforj.shoelace.components;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.component.element.PropertyDescriptor;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+
+/**
+ * Base class of the Shoelace components without children.
+ *
+ * <p>Records the property writes and the events of the component in {@link ShoelaceMetrics}.
+ * Property writes made while a {@link PropertyBatch} is open are deferred until it closes.</p>
+ *
+ * @see ShoelaceCompositeContainer
+ */
+public abstract class ShoelaceComposite extends ElementComposite {
+
+  @Override
+  protected <V> void set(PropertyDescriptor<V> property, V value) {
+    if (!PropertyBatch.defer(this, property.getName(), value, () -> write(property, value))) {
+      write(property, value);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected <V> V get(PropertyDescriptor<V> property) {
+    PropertyBatch.Write write = PropertyBatch.pending(this, property.getName());
+    return write != null ? (V) write.value() : super.get(property);
+  }
+
+  @Override
+  protected <E extends ComponentEvent<?>> ListenerRegistration<E> addEventListener(
+      Class<? super E> eventClass, EventListener<E> listener) {
+    return addEventListener(eventClass, listener, null);
+  }
+
+  @Override
+  protected <E extends ComponentEvent<?>> ListenerRegistration<E> addEventListener(
+      Class<? super E> eventClass, EventListener<E> listener, ElementEventOptions options) {
+    // the event identifier is only sent while recording
+    ElementEventOptions eventOptions =
+        ShoelaceMetrics.isEnabled() ? ShoelaceMetrics.withEventId(options) : options;
+    return super.addEventListener(eventClass, ShoelaceMetrics.countEvents(this, listener),
+        eventOptions);
+  }
+
+  private <V> void write(PropertyDescriptor<V> property, V value) {
+    ShoelaceMetrics.propertySync(this, property.getName());
+    super.set(property, value);
+  }
+}
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.alert;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,10 +9,12 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Alert component ({@code <sl-alert>}).
@@ -24,18 +25,18 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/alert">Shoelace Alert</a>
  */
 @NodeName("sl-alert")
-public final class Alert extends ElementCompositeContainer
+public final class Alert extends ShoelaceCompositeContainer
     implements HasElementClickListener<Alert>, HasClassName<Alert>, HasStyle<Alert>, HasVisibility<Alert> {
 
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<Boolean> closableProp =
+  private static final PropertyDescriptor<Boolean> CLOSABLE_PROP =
       PropertyDescriptor.property("closable", false);
-  private final PropertyDescriptor<AlertVariant> variantProp =
+  private static final PropertyDescriptor<AlertVariant> VARIANT_PROP =
       PropertyDescriptor.property("variant", AlertVariant.PRIMARY);
-  private final PropertyDescriptor<String> durationProp =
+  private static final PropertyDescriptor<String> DURATION_PROP =
       PropertyDescriptor.property("duration", "Infinity");
-  private final PropertyDescriptor<AlertCountdown> countdownProp =
+  private static final PropertyDescriptor<AlertCountdown> COUNTDOWN_PROP =
       PropertyDescriptor.property("countdown", AlertCountdown.RTL);
 
   /**
@@ -51,7 +52,7 @@ public final class Alert extends ElementCompositeContainer
    * @return {@code true} if the alert is open
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -62,7 +63,7 @@ public final class Alert extends ElementCompositeContainer
    * @return this component
    */
   public Alert setOpen(boolean open) {
-    set(openProp, open);
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -72,7 +73,7 @@ public final class Alert extends ElementCompositeContainer
    * @return {@code true} if the alert is closable
    */
   public boolean isClosable() {
-    return get(closableProp);
+    return get(CLOSABLE_PROP);
   }
 
   /**
@@ -82,7 +83,7 @@ public final class Alert extends ElementCompositeContainer
    * @return this component
    */
   public Alert setClosable(boolean closable) {
-    set(closableProp, closable);
+    set(CLOSABLE_PROP, closable);
     return this;
   }
 
@@ -92,7 +93,7 @@ public final class Alert extends ElementCompositeContainer
    * @return the variant
    */
   public AlertVariant getVariant() {
-    return get(variantProp);
+    return get(VARIANT_PROP);
   }
 
   /**
@@ -102,7 +103,7 @@ public final class Alert extends ElementCompositeContainer
    * @return this component
    */
   public Alert setVariant(AlertVariant variant) {
-    set(variantProp, variant);
+    set(VARIANT_PROP, variant);
     return this;
   }
 
@@ -112,7 +113,7 @@ public final class Alert extends ElementCompositeContainer
    * @return the duration string
    */
   public String getDuration() {
-    return get(durationProp);
+    return get(DURATION_PROP);
   }
 
   /**
@@ -124,7 +125,7 @@ public final class Alert extends ElementCompositeContainer
    * @return this component
    */
   public Alert setDuration(String duration) {
-    set(durationProp, duration);
+    set(DURATION_PROP, duration);
     return this;
   }
 
@@ -134,7 +135,7 @@ public final class Alert extends ElementCompositeContainer
    * @return the countdown direction, or {@code null} if not set
    */
   public AlertCountdown getCountdown() {
-    return get(countdownProp);
+    return get(COUNTDOWN_PROP);
   }
 
   /**
@@ -145,7 +146,7 @@ public final class Alert extends ElementCompositeContainer
    * @return this component
    */
   public Alert setCountdown(AlertCountdown countdown) {
-    set(countdownProp, countdown);
+    set(COUNTDOWN_PROP, countdown);
     return this;
   }
 
@@ -153,14 +154,14 @@ public final class Alert extends ElementCompositeContainer
    * Shows the alert.
    */
   public void show() {
-    getOriginalElement().callJsFunctionVoidAsync("show");
+    ShoelaceMetrics.call(this, getOriginalElement(), "show");
   }
 
   /**
    * Hides the alert.
    */
   public void hide() {
-    getOriginalElement().callJsFunctionVoidAsync("hide");
+    ShoelaceMetrics.call(this, getOriginalElement(), "hide");
   }
 
   /**
@@ -169,7 +170,7 @@ public final class Alert extends ElementCompositeContainer
    * to the alert, you can reuse it by calling this method again.
    */
   public void toast() {
-    getOriginalElement().callJsFunctionVoidAsync("toast");
+    ShoelaceMetrics.call(this, getOriginalElement(), "toast");
   }
 
   /**
@@ -0,0 +1,318 @@
+package com.webforj.shoelace.components.alert;
+
+import com.webforj.component.html.elements.Span;
+import com.webforj.concern.HasComponents;
+import com.webforj.shoelace.components.badge.Badge;
+import com.webforj.shoelace.components.badge.BadgeVariant;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shows {@link Alert} toasts through a bounded queue, so that a burst of notifications does not
+ * flood the browser.
+ *
+ * <p>At most {@linkplain #setMaxVisible(int) a few} toasts are on screen at once. Further toasts
+ * wait in a queue of {@linkplain #setMaxQueued(int) limited size}: when it is full the oldest
+ * waiting toast is dropped, and toasts that waited longer than the
+ * {@linkplain #setMaxAge(Duration) maximum age} are discarded instead of shown late. A message
+ * that is already visible or waiting is not shown twice; its toast gets a badge counting the
+ * repeats instead. Closed toasts are destroyed, so the manager does not accumulate components.</p>
+ *
+ * <p>Like any component, the manager must be used from the UI thread.</p>
+ *
+ * <pre>{@code
+ * ToastManager toasts = new ToastManager(layout);
+ * toasts.toast("Connection lost", AlertVariant.DANGER);
+ * }</pre>
+ */
+public final class ToastManager {
+
+  private final HasComponents container;
+  private final Clock clock;
+  private final Map<String, Toast> visible = new LinkedHashMap<>();
+  private final Deque<Toast> queue = new ArrayDeque<>();
+  private int maxVisible = 3;
+  private int maxQueued = 50;
+  private Duration duration = Duration.ofSeconds(5);
+  private Duration maxAge = Duration.ofSeconds(30);
+  private long droppedCount;
+
+  /**
+   * Creates a toast manager that adds its alerts to the given container.
+   *
+   * @param container the container the alerts are added to before they move to the toast stack
+   */
+  public ToastManager(HasComponents container) {
+    this(container, Clock.systemUTC());
+  }
+
+  ToastManager(HasComponents container, Clock clock) {
+    this.container = Objects.requireNonNull(container);
+    this.clock = Objects.requireNonNull(clock);
+  }
+
+  /**
+   * Shows a message as a toast, or queues it if the maximum number of toasts is visible.
+   *
+   * @param message the message
+   * @param variant the alert variant
+   */
+  public void toast(String message, AlertVariant variant) {
+    String key = variant + "\u0000" + message;
+    discardExpired();
+
+    Toast existing = visible.get(key);
+    if (existing == null) {
+      existing = queue.stream().filter(t -> t.key.equals(key)).findFirst().orElse(null);
+    }
+    if (existing != null) {
+      existing.repeat();
+      return;
+    }
+
+    Toast toast = new Toast(key, message, variant, clock.instant());
+    if (visible.size() < maxVisible && queue.isEmpty()) {
+      show(toast);
+    } else if (maxQueued == 0) {
+      droppedCount++;
+    } else {
+      if (queue.size() == maxQueued) {
+        queue.pollFirst();
+        droppedCount++;
+      }
+      queue.addLast(toast);
+    }
+  }
+
+  /**
+   * Shows a message as a primary toast.
+   *
+   * @param message the message
+   * @see #toast(String, AlertVariant)
+   */
+  public void toast(String message) {
+    toast(message, AlertVariant.PRIMARY);
+  }
+
+  /**
+   * Sets how many toasts are visible at once.
+   *
+   * @param maxVisible the maximum number of visible toasts, at least 1
+   * @return this manager
+   * @throws IllegalArgumentException if {@code maxVisible} is less than 1
+   */
+  public ToastManager setMaxVisible(int maxVisible) {
+    if (maxVisible < 1) {
+      throw new IllegalArgumentException("At least one toast must be visible");
+    }
+    this.maxVisible = maxVisible;
+    return this;
+  }
+
+  /**
+   * Gets how many toasts are visible at once.
+   *
+   * @return the maximum number of visible toasts
+   */
+  public int getMaxVisible() {
+    return maxVisible;
+  }
+
+  /**
+   * Sets how many toasts wait to be shown. When the queue is full, the oldest waiting toast is
+   * dropped.
+   *
+   * @param maxQueued the maximum number of waiting toasts, {@code 0} to drop toasts that cannot
+   *        be shown right away
+   * @return this manager
+   * @throws IllegalArgumentException if {@code maxQueued} is negative
+   */
+  public ToastManager setMaxQueued(int maxQueued) {
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException("The queue size must not be negative");
+    }
+    this.maxQueued = maxQueued;
+    while (queue.size() > maxQueued) {
+      queue.pollFirst();
+      droppedCount++;
+    }
+    return this;
+  }
+
+  /**
+   * Gets how many toasts wait to be shown.
+   *
+   * @return the maximum number of waiting toasts
+   */
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  /**
+   * Sets how long a toast stays visible before it closes itself.
+   *
+   * @param duration the display duration
+   * @return this manager
+   */
+  public ToastManager setDuration(Duration duration) {
+    this.duration = Objects.requireNonNull(duration);
+    return this;
+  }
+
+  /**
+   * Gets how long a toast stays visible before it closes itself.
+   *
+   * @return the display duration
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Sets how long a toast may wait in the queue. Older toasts are discarded when the next toast
+   * is shown or queued.
+   *
+   * @param maxAge the maximum waiting time
+   * @return this manager
+   */
+  public ToastManager setMaxAge(Duration maxAge) {
+    this.maxAge = Objects.requireNonNull(maxAge);
+    return this;
+  }
+
+  /**
+   * Gets how long a toast may wait in the queue.
+   *
+   * @return the maximum waiting time
+   */
+  public Duration getMaxAge() {
+    return maxAge;
+  }
+
+  /**
+   * Gets the number of visible toasts.
+   *
+   * @return the number of visible toasts
+   */
+  public int getVisibleCount() {
+    return visible.size();
+  }
+
+  /**
+   * Gets the number of waiting toasts.
+   *
+   * @return the number of waiting toasts
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * Gets the number of toasts that were dropped or expired without being shown.
+   *
+   * @return the number of dropped toasts
+   */
+  public long getDroppedCount() {
+    return droppedCount;
+  }
+
+  /**
+   * Discards the waiting toasts and closes the visible ones.
+   */
+  public void clear() {
+    queue.clear();
+    for (Toast toast : visible.values()) {
+      toast.alert.hide();
+    }
+  }
+
+  private void show(Toast toast) {
+    Alert alert = new Alert()
+        .setVariant(toast.variant)
+        .setClosable(true)
+        .setDuration(Long.toString(duration.toMillis()));
+    // the badge is only created here, waiting toasts hold no components
+    toast.count = new Span();
+    toast.badge = new Badge().setVariant(BadgeVariant.NEUTRAL).setPill(true);
+    toast.badge.add(toast.count);
+    alert.add(new Span(toast.message), toast.badge);
+    alert.onAfterHide(event -> closed(toast));
+    toast.alert = alert;
+    toast.update();
+
+    visible.put(toast.key, toast);
+    container.add(alert);
+    alert.toast();
+  }
+
+  void closed(Toast toast) {
+    if (visible.remove(toast.key, toast)) {
+      toast.alert.destroy();
+    }
+
+    discardExpired();
+    while (!queue.isEmpty() && visible.size() < maxVisible) {
+      show(queue.pollFirst());
+    }
+  }
+
+  /**
+   * Discards the toasts that waited longer than the maximum age. The queue is in creation order,
+   * so they are all at its head.
+   */
+  private void discardExpired() {
+    Instant oldest = clock.instant().minus(maxAge);
+    while (!queue.isEmpty() && queue.peekFirst().created.isBefore(oldest)) {
+      queue.pollFirst();
+      droppedCount++;
+    }
+  }
+
+  Toast getVisible(String message, AlertVariant variant) {
+    return visible.get(variant + "\u0000" + message);
+  }
+
+  static final class Toast {
+    private final String key;
+    private final String message;
+    private final AlertVariant variant;
+    private final Instant created;
+    private int repeats = 1;
+    private Alert alert;
+    private Badge badge;
+    private Span count;
+
+    Toast(String key, String message, AlertVariant variant, Instant created) {
+      this.key = key;
+      this.message = message;
+      this.variant = variant;
+      this.created = created;
+    }
+
+    void repeat() {
+      repeats++;
+      if (alert != null) {
+        update();
+      }
+    }
+
+    int getRepeats() {
+      return repeats;
+    }
+
+    Alert getAlert() {
+      return alert;
+    }
+
+    private void update() {
+      count.setText("×" + repeats);
+      badge.setVisible(repeats > 1);
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.animatedimage;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.event.ErrorEvent;
 import com.webforj.shoelace.event.LoadEvent;
 
@@ -22,14 +22,14 @@ import com.webforj.shoelace.event.LoadEvent;
  * @see <a href="https://shoelace.style/components/animated-image">Shoelace Animated Image</a>
  */
 @NodeName("sl-animated-image")
-public final class AnimatedImage extends ElementComposite
+public final class AnimatedImage extends ShoelaceComposite
     implements HasElementClickListener<AnimatedImage>, HasClassName<AnimatedImage>, HasStyle<AnimatedImage>, HasVisibility<AnimatedImage> {
 
-  private final PropertyDescriptor<String> srcProp =
+  private static final PropertyDescriptor<String> SRC_PROP =
       PropertyDescriptor.property("src", "");
-  private final PropertyDescriptor<String> altProp =
+  private static final PropertyDescriptor<String> ALT_PROP =
       PropertyDescriptor.property("alt", "");
-  private final PropertyDescriptor<Boolean> playProp =
+  private static final PropertyDescriptor<Boolean> PLAY_PROP =
       PropertyDescriptor.property("play", false);
 
   /**
@@ -67,7 +67,7 @@ public final class AnimatedImage extends ElementComposite
    * @return the image source URL
    */
   public String getSrc() {
-    return get(srcProp);
+    return get(SRC_PROP);
   }
 
   /**
@@ -77,7 +77,7 @@ public final class AnimatedImage extends ElementComposite
    * @return this component
    */
   public AnimatedImage setSrc(String src) {
-    set(srcProp, src);
+    set(SRC_PROP, src);
     return this;
   }
 
@@ -87,7 +87,7 @@ public final class AnimatedImage extends ElementComposite
    * @return the alt text
    */
   public String getAlt() {
-    return get(altProp);
+    return get(ALT_PROP);
   }
 
   /**
@@ -97,7 +97,7 @@ public final class AnimatedImage extends ElementComposite
    * @return this component
    */
   public AnimatedImage setAlt(String alt) {
-    set(altProp, alt);
+    set(ALT_PROP, alt);
     return this;
   }
 
@@ -107,7 +107,7 @@ public final class AnimatedImage extends ElementComposite
    * @return {@code true} if the animation is playing
    */
   public boolean isPlay() {
-    return get(playProp);
+    return get(PLAY_PROP);
   }
 
   /**
@@ -118,7 +118,7 @@ public final class AnimatedImage extends ElementComposite
    * @return this component
    */
   public AnimatedImage setPlay(boolean play) {
-    set(playProp, play);
+    set(PLAY_PROP, play);
     return this;
   }
 
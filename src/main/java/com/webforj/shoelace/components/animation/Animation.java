@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.animation;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,9 +9,11 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.animation.event.CancelEvent;
 import com.webforj.shoelace.components.animation.event.FinishEvent;
 import com.webforj.shoelace.components.animation.event.StartEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Animation component ({@code <sl-animation>}).
@@ -24,30 +25,30 @@ import com.webforj.shoelace.components.animation.event.StartEvent;
  * @see <a href="https://shoelace.style/components/animation">Shoelace Animation</a>
  */
 @NodeName("sl-animation")
-public final class Animation extends ElementCompositeContainer
+public final class Animation extends ShoelaceCompositeContainer
     implements HasElementClickListener<Animation>, HasClassName<Animation>, HasStyle<Animation>, HasVisibility<Animation> {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "none");
-  private final PropertyDescriptor<Boolean> playProp =
+  private static final PropertyDescriptor<Boolean> PLAY_PROP =
       PropertyDescriptor.property("play", false);
-  private final PropertyDescriptor<Integer> delayProp =
+  private static final PropertyDescriptor<Integer> DELAY_PROP =
       PropertyDescriptor.property("delay", 0);
-  private final PropertyDescriptor<PlaybackDirection> directionProp =
+  private static final PropertyDescriptor<PlaybackDirection> DIRECTION_PROP =
       PropertyDescriptor.property("direction", PlaybackDirection.NORMAL);
-  private final PropertyDescriptor<Integer> durationProp =
+  private static final PropertyDescriptor<Integer> DURATION_PROP =
       PropertyDescriptor.property("duration", 1000);
-  private final PropertyDescriptor<String> easingProp =
+  private static final PropertyDescriptor<String> EASING_PROP =
       PropertyDescriptor.property("easing", "linear");
-  private final PropertyDescriptor<Integer> endDelayProp =
+  private static final PropertyDescriptor<Integer> END_DELAY_PROP =
       PropertyDescriptor.property("endDelay", 0);
-  private final PropertyDescriptor<FillMode> fillProp =
+  private static final PropertyDescriptor<FillMode> FILL_PROP =
       PropertyDescriptor.property("fill", FillMode.AUTO);
-  private final PropertyDescriptor<String> iterationsProp =
+  private static final PropertyDescriptor<String> ITERATIONS_PROP =
       PropertyDescriptor.property("iterations", "Infinity");
-  private final PropertyDescriptor<Double> iterationStartProp =
+  private static final PropertyDescriptor<Double> ITERATION_START_PROP =
       PropertyDescriptor.property("iterationStart", 0.0);
-  private final PropertyDescriptor<Double> playbackRateProp =
+  private static final PropertyDescriptor<Double> PLAYBACK_RATE_PROP =
       PropertyDescriptor.property("playbackRate", 1.0);
 
   /**
@@ -63,7 +64,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the animation name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -73,7 +74,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -83,7 +84,7 @@ public final class Animation extends ElementCompositeContainer
    * @return {@code true} if the animation is playing
    */
   public boolean isPlay() {
-    return get(playProp);
+    return get(PLAY_PROP);
   }
 
   /**
@@ -94,7 +95,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setPlay(boolean play) {
-    set(playProp, play);
+    set(PLAY_PROP, play);
     return this;
   }
 
@@ -104,7 +105,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the delay in milliseconds
    */
   public int getDelay() {
-    return get(delayProp);
+    return get(DELAY_PROP);
   }
 
   /**
@@ -114,7 +115,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setDelay(int delay) {
-    set(delayProp, delay);
+    set(DELAY_PROP, delay);
     return this;
   }
 
@@ -124,7 +125,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the playback direction
    */
   public PlaybackDirection getDirection() {
-    return get(directionProp);
+    return get(DIRECTION_PROP);
   }
 
   /**
@@ -134,7 +135,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setDirection(PlaybackDirection direction) {
-    set(directionProp, direction);
+    set(DIRECTION_PROP, direction);
     return this;
   }
 
@@ -144,7 +145,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the duration in milliseconds
    */
   public int getDuration() {
-    return get(durationProp);
+    return get(DURATION_PROP);
   }
 
   /**
@@ -154,7 +155,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setDuration(int duration) {
-    set(durationProp, duration);
+    set(DURATION_PROP, duration);
     return this;
   }
 
@@ -164,7 +165,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the easing function
    */
   public String getEasing() {
-    return get(easingProp);
+    return get(EASING_PROP);
   }
 
   /**
@@ -175,7 +176,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setEasing(String easing) {
-    set(easingProp, easing);
+    set(EASING_PROP, easing);
     return this;
   }
 
@@ -185,7 +186,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the end delay in milliseconds
    */
   public int getEndDelay() {
-    return get(endDelayProp);
+    return get(END_DELAY_PROP);
   }
 
   /**
@@ -195,7 +196,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setEndDelay(int endDelay) {
-    set(endDelayProp, endDelay);
+    set(END_DELAY_PROP, endDelay);
     return this;
   }
 
@@ -205,7 +206,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the fill mode
    */
   public FillMode getFill() {
-    return get(fillProp);
+    return get(FILL_PROP);
   }
 
   /**
@@ -215,7 +216,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setFill(FillMode fill) {
-    set(fillProp, fill);
+    set(FILL_PROP, fill);
     return this;
   }
 
@@ -225,7 +226,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the iterations value
    */
   public String getIterations() {
-    return get(iterationsProp);
+    return get(ITERATIONS_PROP);
   }
 
   /**
@@ -236,7 +237,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setIterations(String iterations) {
-    set(iterationsProp, iterations);
+    set(ITERATIONS_PROP, iterations);
     return this;
   }
 
@@ -246,7 +247,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the iteration start offset
    */
   public double getIterationStart() {
-    return get(iterationStartProp);
+    return get(ITERATION_START_PROP);
   }
 
   /**
@@ -256,7 +257,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setIterationStart(double iterationStart) {
-    set(iterationStartProp, iterationStart);
+    set(ITERATION_START_PROP, iterationStart);
     return this;
   }
 
@@ -266,7 +267,7 @@ public final class Animation extends ElementCompositeContainer
    * @return the playback rate
    */
   public double getPlaybackRate() {
-    return get(playbackRateProp);
+    return get(PLAYBACK_RATE_PROP);
   }
 
   /**
@@ -278,7 +279,7 @@ public final class Animation extends ElementCompositeContainer
    * @return this component
    */
   public Animation setPlaybackRate(double playbackRate) {
-    set(playbackRateProp, playbackRate);
+    set(PLAYBACK_RATE_PROP, playbackRate);
     return this;
   }
 
@@ -286,7 +287,7 @@ public final class Animation extends ElementCompositeContainer
    * Clears all keyframe effects caused by this animation and aborts its playback.
    */
   public void cancel() {
-    getOriginalElement().callJsFunctionVoidAsync("cancel");
+    ShoelaceMetrics.call(this, getOriginalElement(), "cancel");
   }
 
   /**
@@ -294,7 +295,7 @@ public final class Animation extends ElementCompositeContainer
    * direction.
    */
   public void finish() {
-    getOriginalElement().callJsFunctionVoidAsync("finish");
+    ShoelaceMetrics.call(this, getOriginalElement(), "finish");
   }
 
   /**
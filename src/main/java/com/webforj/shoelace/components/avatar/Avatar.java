@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.avatar;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.event.ErrorEvent;
 
 /**
@@ -21,18 +21,18 @@ import com.webforj.shoelace.event.ErrorEvent;
  * @see <a href="https://shoelace.style/components/avatar">Shoelace Avatar</a>
  */
 @NodeName("sl-avatar")
-public final class Avatar extends ElementComposite
+public final class Avatar extends ShoelaceComposite
     implements HasElementClickListener<Avatar>, HasClassName<Avatar>, HasStyle<Avatar>, HasVisibility<Avatar> {
 
-  private final PropertyDescriptor<String> imageProp =
+  private static final PropertyDescriptor<String> IMAGE_PROP =
       PropertyDescriptor.property("image", "");
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> initialsProp =
+  private static final PropertyDescriptor<String> INITIALS_PROP =
       PropertyDescriptor.property("initials", "");
-  private final PropertyDescriptor<AvatarLoading> loadingProp =
+  private static final PropertyDescriptor<AvatarLoading> LOADING_PROP =
       PropertyDescriptor.property("loading", AvatarLoading.EAGER);
-  private final PropertyDescriptor<AvatarShape> shapeProp =
+  private static final PropertyDescriptor<AvatarShape> SHAPE_PROP =
       PropertyDescriptor.property("shape", AvatarShape.CIRCLE);
 
   /**
@@ -48,7 +48,7 @@ public final class Avatar extends ElementComposite
    * @return the image source URL
    */
   public String getImage() {
-    return get(imageProp);
+    return get(IMAGE_PROP);
   }
 
   /**
@@ -58,7 +58,7 @@ public final class Avatar extends ElementComposite
    * @return this component
    */
   public Avatar setImage(String image) {
-    set(imageProp, image);
+    set(IMAGE_PROP, image);
     return this;
   }
 
@@ -68,7 +68,7 @@ public final class Avatar extends ElementComposite
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -78,7 +78,7 @@ public final class Avatar extends ElementComposite
    * @return this component
    */
   public Avatar setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -88,7 +88,7 @@ public final class Avatar extends ElementComposite
    * @return the initials
    */
   public String getInitials() {
-    return get(initialsProp);
+    return get(INITIALS_PROP);
   }
 
   /**
@@ -99,7 +99,7 @@ public final class Avatar extends ElementComposite
    * @return this component
    */
   public Avatar setInitials(String initials) {
-    set(initialsProp, initials);
+    set(INITIALS_PROP, initials);
     return this;
   }
 
@@ -109,7 +109,7 @@ public final class Avatar extends ElementComposite
    * @return the loading strategy
    */
   public AvatarLoading getLoading() {
-    return get(loadingProp);
+    return get(LOADING_PROP);
   }
 
   /**
@@ -119,7 +119,7 @@ public final class Avatar extends ElementComposite
    * @return this component
    */
   public Avatar setLoading(AvatarLoading loading) {
-    set(loadingProp, loading);
+    set(LOADING_PROP, loading);
     return this;
   }
 
@@ -129,7 +129,7 @@ public final class Avatar extends ElementComposite
    * @return the shape
    */
   public AvatarShape getShape() {
-    return get(shapeProp);
+    return get(SHAPE_PROP);
   }
 
   /**
@@ -139,7 +139,7 @@ public final class Avatar extends ElementComposite
    * @return this component
    */
   public Avatar setShape(AvatarShape shape) {
-    set(shapeProp, shape);
+    set(SHAPE_PROP, shape);
     return this;
   }
 
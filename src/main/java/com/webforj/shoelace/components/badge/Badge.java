@@ -1,13 +1,13 @@
 package com.webforj.shoelace.components.badge;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace Badge component ({@code <sl-badge>}).
@@ -18,14 +18,14 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/badge">Shoelace Badge</a>
  */
 @NodeName("sl-badge")
-public final class Badge extends ElementCompositeContainer
+public final class Badge extends ShoelaceCompositeContainer
     implements HasElementClickListener<Badge>, HasClassName<Badge>, HasStyle<Badge>, HasVisibility<Badge> {
 
-  private final PropertyDescriptor<BadgeVariant> variantProp =
+  private static final PropertyDescriptor<BadgeVariant> VARIANT_PROP =
       PropertyDescriptor.property("variant", BadgeVariant.PRIMARY);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
-  private final PropertyDescriptor<Boolean> pulseProp =
+  private static final PropertyDescriptor<Boolean> PULSE_PROP =
       PropertyDescriptor.property("pulse", false);
 
   /**
@@ -41,7 +41,7 @@ public final class Badge extends ElementCompositeContainer
    * @return the variant
    */
   public BadgeVariant getVariant() {
-    return get(variantProp);
+    return get(VARIANT_PROP);
   }
 
   /**
@@ -51,7 +51,7 @@ public final class Badge extends ElementCompositeContainer
    * @return this component
    */
   public Badge setVariant(BadgeVariant variant) {
-    set(variantProp, variant);
+    set(VARIANT_PROP, variant);
     return this;
   }
 
@@ -61,7 +61,7 @@ public final class Badge extends ElementCompositeContainer
    * @return {@code true} if the badge is pill-style
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -71,7 +71,7 @@ public final class Badge extends ElementCompositeContainer
    * @return this component
    */
   public Badge setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -81,7 +81,7 @@ public final class Badge extends ElementCompositeContainer
    * @return {@code true} if the badge is pulsating
    */
   public boolean isPulse() {
-    return get(pulseProp);
+    return get(PULSE_PROP);
   }
 
   /**
@@ -91,7 +91,7 @@ public final class Badge extends ElementCompositeContainer
    * @return this component
    */
   public Badge setPulse(boolean pulse) {
-    set(pulseProp, pulse);
+    set(PULSE_PROP, pulse);
     return this;
   }
 
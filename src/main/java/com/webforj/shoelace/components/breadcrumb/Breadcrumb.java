@@ -2,13 +2,13 @@ package com.webforj.shoelace.components.breadcrumb;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace Breadcrumb component ({@code <sl-breadcrumb>}).
@@ -19,14 +19,14 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/breadcrumb">Shoelace Breadcrumb</a>
  */
 @NodeName("sl-breadcrumb")
-public final class Breadcrumb extends ElementCompositeContainer
+public final class Breadcrumb extends ShoelaceCompositeContainer
     implements HasElementClickListener<Breadcrumb>, HasClassName<Breadcrumb>, HasStyle<Breadcrumb>, HasVisibility<Breadcrumb> {
 
   // Slot constants
   private static final String SEPARATOR_SLOT = "separator";
 
   // Property descriptors
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
 
   /**
@@ -42,7 +42,7 @@ public final class Breadcrumb extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -54,7 +54,7 @@ public final class Breadcrumb extends ElementCompositeContainer
    * @return this component
    */
   public Breadcrumb setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -2,13 +2,13 @@ package com.webforj.shoelace.components.breadcrumbitem;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace BreadcrumbItem component ({@code <sl-breadcrumb-item>}).
@@ -20,7 +20,7 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/breadcrumb-item">Shoelace Breadcrumb Item</a>
  */
 @NodeName("sl-breadcrumb-item")
-public final class BreadcrumbItem extends ElementCompositeContainer
+public final class BreadcrumbItem extends ShoelaceCompositeContainer
     implements HasElementClickListener<BreadcrumbItem>, HasClassName<BreadcrumbItem>, HasStyle<BreadcrumbItem>,
     HasVisibility<BreadcrumbItem> {
 
@@ -30,11 +30,11 @@ public final class BreadcrumbItem extends ElementCompositeContainer
   private static final String SEPARATOR_SLOT = "separator";
 
   // Property descriptors
-  private final PropertyDescriptor<String> hrefProp =
+  private static final PropertyDescriptor<String> HREF_PROP =
       PropertyDescriptor.property("href", "");
-  private final PropertyDescriptor<BreadcrumbItemTarget> targetProp =
+  private static final PropertyDescriptor<BreadcrumbItemTarget> TARGET_PROP =
       PropertyDescriptor.property("target", BreadcrumbItemTarget.SELF);
-  private final PropertyDescriptor<String> relProp =
+  private static final PropertyDescriptor<String> REL_PROP =
       PropertyDescriptor.property("rel", "noreferrer noopener");
 
   /**
@@ -72,7 +72,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return the href URL
    */
   public String getHref() {
-    return get(hrefProp);
+    return get(HREF_PROP);
   }
 
   /**
@@ -83,7 +83,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return this component
    */
   public BreadcrumbItem setHref(String href) {
-    set(hrefProp, href);
+    set(HREF_PROP, href);
     return this;
   }
 
@@ -93,7 +93,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return the target
    */
   public BreadcrumbItemTarget getTarget() {
-    return get(targetProp);
+    return get(TARGET_PROP);
   }
 
   /**
@@ -104,7 +104,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return this component
    */
   public BreadcrumbItem setTarget(BreadcrumbItemTarget target) {
-    set(targetProp, target);
+    set(TARGET_PROP, target);
     return this;
   }
 
@@ -114,7 +114,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return the rel attribute value
    */
   public String getRel() {
-    return get(relProp);
+    return get(REL_PROP);
   }
 
   /**
@@ -124,7 +124,7 @@ public final class BreadcrumbItem extends ElementCompositeContainer
    * @return this component
    */
   public BreadcrumbItem setRel(String rel) {
-    set(relProp, rel);
+    set(REL_PROP, rel);
     return this;
   }
 
@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.button;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -12,9 +11,11 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Button component ({@code <sl-button>}).
@@ -25,7 +26,7 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/button">Shoelace Button</a>
  */
 @NodeName("sl-button")
-public final class Button extends ElementCompositeContainer
+public final class Button extends ShoelaceCompositeContainer
     implements HasElementClickListener<Button>, HasClassName<Button>, HasStyle<Button>, HasVisibility<Button> {
 
   // Slot constants
@@ -33,41 +34,41 @@ public final class Button extends ElementCompositeContainer
   private static final String SUFFIX_SLOT = "suffix";
 
   // Property descriptors
-  private final PropertyDescriptor<Variant> variantProp =
+  private static final PropertyDescriptor<Variant> VARIANT_PROP =
       PropertyDescriptor.property("variant", Variant.DEFAULT);
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> caretProp =
+  private static final PropertyDescriptor<Boolean> CARET_PROP =
       PropertyDescriptor.property("caret", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> loadingProp =
+  private static final PropertyDescriptor<Boolean> LOADING_PROP =
       PropertyDescriptor.property("loading", false);
-  private final PropertyDescriptor<Boolean> outlineProp =
+  private static final PropertyDescriptor<Boolean> OUTLINE_PROP =
       PropertyDescriptor.property("outline", false);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
-  private final PropertyDescriptor<Boolean> circleProp =
+  private static final PropertyDescriptor<Boolean> CIRCLE_PROP =
       PropertyDescriptor.property("circle", false);
-  private final PropertyDescriptor<ButtonType> typeProp =
+  private static final PropertyDescriptor<ButtonType> TYPE_PROP =
       PropertyDescriptor.property("type", ButtonType.BUTTON);
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<String> hrefProp =
+  private static final PropertyDescriptor<String> HREF_PROP =
       PropertyDescriptor.property("href", "");
-  private final PropertyDescriptor<Target> targetProp =
+  private static final PropertyDescriptor<Target> TARGET_PROP =
       PropertyDescriptor.property("target", Target.SELF);
-  private final PropertyDescriptor<String> relProp =
+  private static final PropertyDescriptor<String> REL_PROP =
       PropertyDescriptor.property("rel", "noreferrer noopener");
-  private final PropertyDescriptor<String> downloadProp =
+  private static final PropertyDescriptor<String> DOWNLOAD_PROP =
       PropertyDescriptor.property("download", "");
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<String> formActionProp =
+  private static final PropertyDescriptor<String> FORM_ACTION_PROP =
       PropertyDescriptor.property("formAction", "");
-  private final PropertyDescriptor<Boolean> formNoValidateProp =
+  private static final PropertyDescriptor<Boolean> FORM_NO_VALIDATE_PROP =
       PropertyDescriptor.property("formNoValidate", false);
 
   /**
@@ -105,7 +106,7 @@ public final class Button extends ElementCompositeContainer
    * @return the variant
    */
   public Variant getVariant() {
-    return get(variantProp);
+    return get(VARIANT_PROP);
   }
 
   /**
@@ -115,7 +116,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setVariant(Variant variant) {
-    set(variantProp, variant);
+    set(VARIANT_PROP, variant);
     return this;
   }
 
@@ -125,7 +126,7 @@ public final class Button extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -135,7 +136,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -145,7 +146,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the caret is shown
    */
   public boolean isCaret() {
-    return get(caretProp);
+    return get(CARET_PROP);
   }
 
   /**
@@ -156,7 +157,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setCaret(boolean caret) {
-    set(caretProp, caret);
+    set(CARET_PROP, caret);
     return this;
   }
 
@@ -166,7 +167,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the button is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -176,7 +177,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -186,7 +187,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the button is loading
    */
   public boolean isLoading() {
-    return get(loadingProp);
+    return get(LOADING_PROP);
   }
 
   /**
@@ -196,7 +197,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setLoading(boolean loading) {
-    set(loadingProp, loading);
+    set(LOADING_PROP, loading);
     return this;
   }
 
@@ -206,7 +207,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the button is outlined
    */
   public boolean isOutline() {
-    return get(outlineProp);
+    return get(OUTLINE_PROP);
   }
 
   /**
@@ -216,7 +217,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setOutline(boolean outline) {
-    set(outlineProp, outline);
+    set(OUTLINE_PROP, outline);
     return this;
   }
 
@@ -226,7 +227,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the button is pill-style
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -236,7 +237,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -246,7 +247,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if the button is circular
    */
   public boolean isCircle() {
-    return get(circleProp);
+    return get(CIRCLE_PROP);
   }
 
   /**
@@ -256,7 +257,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setCircle(boolean circle) {
-    set(circleProp, circle);
+    set(CIRCLE_PROP, circle);
     return this;
   }
 
@@ -266,7 +267,7 @@ public final class Button extends ElementCompositeContainer
    * @return the button type
    */
   public ButtonType getType() {
-    return get(typeProp);
+    return get(TYPE_PROP);
   }
 
   /**
@@ -278,7 +279,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setType(ButtonType type) {
-    set(typeProp, type);
+    set(TYPE_PROP, type);
     return this;
   }
 
@@ -288,7 +289,7 @@ public final class Button extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -298,7 +299,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -308,7 +309,7 @@ public final class Button extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -319,7 +320,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -329,7 +330,7 @@ public final class Button extends ElementCompositeContainer
    * @return the href URL
    */
   public String getHref() {
-    return get(hrefProp);
+    return get(HREF_PROP);
   }
 
   /**
@@ -340,7 +341,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setHref(String href) {
-    set(hrefProp, href);
+    set(HREF_PROP, href);
     return this;
   }
 
@@ -350,7 +351,7 @@ public final class Button extends ElementCompositeContainer
    * @return the target
    */
   public Target getTarget() {
-    return get(targetProp);
+    return get(TARGET_PROP);
   }
 
   /**
@@ -361,7 +362,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setTarget(Target target) {
-    set(targetProp, target);
+    set(TARGET_PROP, target);
     return this;
   }
 
@@ -371,7 +372,7 @@ public final class Button extends ElementCompositeContainer
    * @return the rel attribute value
    */
   public String getRel() {
-    return get(relProp);
+    return get(REL_PROP);
   }
 
   /**
@@ -382,7 +383,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setRel(String rel) {
-    set(relProp, rel);
+    set(REL_PROP, rel);
     return this;
   }
 
@@ -392,7 +393,7 @@ public final class Button extends ElementCompositeContainer
    * @return the download filename
    */
   public String getDownload() {
-    return get(downloadProp);
+    return get(DOWNLOAD_PROP);
   }
 
   /**
@@ -403,7 +404,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setDownload(String download) {
-    set(downloadProp, download);
+    set(DOWNLOAD_PROP, download);
     return this;
   }
 
@@ -413,7 +414,7 @@ public final class Button extends ElementCompositeContainer
    * @return the form owner ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -425,7 +426,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -435,7 +436,7 @@ public final class Button extends ElementCompositeContainer
    * @return the form action URL
    */
   public String getFormAction() {
-    return get(formActionProp);
+    return get(FORM_ACTION_PROP);
   }
 
   /**
@@ -445,7 +446,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setFormAction(String formAction) {
-    set(formActionProp, formAction);
+    set(FORM_ACTION_PROP, formAction);
     return this;
   }
 
@@ -455,7 +456,7 @@ public final class Button extends ElementCompositeContainer
    * @return {@code true} if form validation is skipped
    */
   public boolean isFormNoValidate() {
-    return get(formNoValidateProp);
+    return get(FORM_NO_VALIDATE_PROP);
   }
 
   /**
@@ -466,7 +467,7 @@ public final class Button extends ElementCompositeContainer
    * @return this component
    */
   public Button setFormNoValidate(boolean formNoValidate) {
-    set(formNoValidateProp, formNoValidate);
+    set(FORM_NO_VALIDATE_PROP, formNoValidate);
     return this;
   }
 
@@ -516,21 +517,21 @@ public final class Button extends ElementCompositeContainer
    * Sets focus on the button.
    */
   public void focus() {
-    getElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getElement(), "focus");
   }
 
   /**
    * Removes focus from the button.
    */
   public void blur() {
-    getElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getElement(), "blur");
   }
 
   /**
    * Simulates a click on the button.
    */
   public void click() {
-    getElement().callJsFunctionVoidAsync("click");
+    ShoelaceMetrics.call(this, getElement(), "click");
   }
 
   /**
@@ -1,13 +1,13 @@
 package com.webforj.shoelace.components.button;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace ButtonGroup component ({@code <sl-button-group>}).
@@ -18,10 +18,10 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/button-group">Shoelace Button Group</a>
  */
 @NodeName("sl-button-group")
-public final class ButtonGroup extends ElementCompositeContainer
+public final class ButtonGroup extends ShoelaceCompositeContainer
     implements HasElementClickListener<ButtonGroup>, HasClassName<ButtonGroup>, HasStyle<ButtonGroup>, HasVisibility<ButtonGroup> {
 
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
 
   /**
@@ -47,7 +47,7 @@ public final class ButtonGroup extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -59,7 +59,7 @@ public final class ButtonGroup extends ElementCompositeContainer
    * @return this component
    */
   public ButtonGroup setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
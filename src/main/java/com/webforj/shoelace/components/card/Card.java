@@ -2,11 +2,11 @@ package com.webforj.shoelace.components.card;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace Card component ({@code <sl-card>}).
@@ -17,7 +17,7 @@ import com.webforj.concern.HasStyle;
  * @see <a href="https://shoelace.style/components/card">Shoelace Card</a>
  */
 @NodeName("sl-card")
-public final class Card extends ElementCompositeContainer
+public final class Card extends ShoelaceCompositeContainer
     implements HasElementClickListener<Card>, HasClassName<Card>, HasStyle<Card> {
 
   private static final String HEADER_SLOT = "header";
@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.carousel;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,7 +9,13 @@ import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.carousel.event.SlideChangeEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
 
 /**
  * Shoelace Carousel component ({@code <sl-carousel>}).
@@ -21,7 +26,7 @@ import com.webforj.shoelace.components.carousel.event.SlideChangeEvent;
  * @see <a href="https://shoelace.style/components/carousel">Shoelace Carousel</a>
  */
 @NodeName("sl-carousel")
-public final class Carousel extends ElementCompositeContainer
+public final class Carousel extends ShoelaceCompositeContainer
     implements HasElementClickListener<Carousel>, HasClassName<Carousel>, HasStyle<Carousel> {
 
   // Slot constants
@@ -29,25 +34,33 @@ public final class Carousel extends ElementCompositeContainer
   private static final String PREVIOUS_ICON_SLOT = "previous-icon";
 
   // Property descriptors
-  private final PropertyDescriptor<Boolean> loopProp =
+  private static final PropertyDescriptor<Boolean> LOOP_PROP =
       PropertyDescriptor.property("loop", false);
-  private final PropertyDescriptor<Boolean> navigationProp =
+  private static final PropertyDescriptor<Boolean> NAVIGATION_PROP =
       PropertyDescriptor.property("navigation", false);
-  private final PropertyDescriptor<Boolean> paginationProp =
+  private static final PropertyDescriptor<Boolean> PAGINATION_PROP =
       PropertyDescriptor.property("pagination", false);
-  private final PropertyDescriptor<Boolean> autoplayProp =
+  private static final PropertyDescriptor<Boolean> AUTOPLAY_PROP =
       PropertyDescriptor.property("autoplay", false);
-  private final PropertyDescriptor<Integer> autoplayIntervalProp =
+  private static final PropertyDescriptor<Integer> AUTOPLAY_INTERVAL_PROP =
       PropertyDescriptor.property("autoplayInterval", 3000);
-  private final PropertyDescriptor<Integer> slidesPerPageProp =
+  private static final PropertyDescriptor<Integer> SLIDES_PER_PAGE_PROP =
       PropertyDescriptor.property("slidesPerPage", 1);
-  private final PropertyDescriptor<Integer> slidesPerMoveProp =
+  private static final PropertyDescriptor<Integer> SLIDES_PER_MOVE_PROP =
       PropertyDescriptor.property("slidesPerMove", 1);
-  private final PropertyDescriptor<CarouselOrientation> orientationProp =
+  private static final PropertyDescriptor<CarouselOrientation> ORIENTATION_PROP =
       PropertyDescriptor.property("orientation", CarouselOrientation.HORIZONTAL);
-  private final PropertyDescriptor<Boolean> mouseDraggingProp =
+  private static final PropertyDescriptor<Boolean> MOUSE_DRAGGING_PROP =
       PropertyDescriptor.property("mouseDragging", false);
 
+  private final List<Component> addedComponents = new ArrayList<>();
+  private final List<CarouselItem> providedSlides = new ArrayList<>();
+  private final List<Component> providedContent = new ArrayList<>();
+  private IntFunction<? extends Component> slideProvider;
+  private ListenerRegistration<SlideChangeEvent<Carousel>> windowRegistration;
+  private int slideWindow = 1;
+  private int currentSlide;
+
   /**
    * Creates a new Carousel.
    */
@@ -61,7 +74,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return {@code true} if the carousel loops
    */
   public boolean isLoop() {
-    return get(loopProp);
+    return get(LOOP_PROP);
   }
 
   /**
@@ -71,7 +84,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setLoop(boolean loop) {
-    set(loopProp, loop);
+    set(LOOP_PROP, loop);
     return this;
   }
 
@@ -81,7 +94,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return {@code true} if navigation is shown
    */
   public boolean isNavigation() {
-    return get(navigationProp);
+    return get(NAVIGATION_PROP);
   }
 
   /**
@@ -91,7 +104,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setNavigation(boolean navigation) {
-    set(navigationProp, navigation);
+    set(NAVIGATION_PROP, navigation);
     return this;
   }
 
@@ -101,7 +114,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return {@code true} if pagination is shown
    */
   public boolean isPagination() {
-    return get(paginationProp);
+    return get(PAGINATION_PROP);
   }
 
   /**
@@ -111,7 +124,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setPagination(boolean pagination) {
-    set(paginationProp, pagination);
+    set(PAGINATION_PROP, pagination);
     return this;
   }
 
@@ -121,7 +134,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return {@code true} if autoplay is enabled
    */
   public boolean isAutoplay() {
-    return get(autoplayProp);
+    return get(AUTOPLAY_PROP);
   }
 
   /**
@@ -131,7 +144,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setAutoplay(boolean autoplay) {
-    set(autoplayProp, autoplay);
+    set(AUTOPLAY_PROP, autoplay);
     return this;
   }
 
@@ -141,7 +154,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return the autoplay interval
    */
   public Integer getAutoplayInterval() {
-    return get(autoplayIntervalProp);
+    return get(AUTOPLAY_INTERVAL_PROP);
   }
 
   /**
@@ -151,7 +164,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setAutoplayInterval(Integer autoplayInterval) {
-    set(autoplayIntervalProp, autoplayInterval);
+    set(AUTOPLAY_INTERVAL_PROP, autoplayInterval);
     return this;
   }
 
@@ -161,7 +174,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return the number of slides per page
    */
   public Integer getSlidesPerPage() {
-    return get(slidesPerPageProp);
+    return get(SLIDES_PER_PAGE_PROP);
   }
 
   /**
@@ -171,7 +184,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setSlidesPerPage(Integer slidesPerPage) {
-    set(slidesPerPageProp, slidesPerPage);
+    set(SLIDES_PER_PAGE_PROP, slidesPerPage);
     return this;
   }
 
@@ -181,7 +194,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return the number of slides per move
    */
   public Integer getSlidesPerMove() {
-    return get(slidesPerMoveProp);
+    return get(SLIDES_PER_MOVE_PROP);
   }
 
   /**
@@ -192,7 +205,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setSlidesPerMove(Integer slidesPerMove) {
-    set(slidesPerMoveProp, slidesPerMove);
+    set(SLIDES_PER_MOVE_PROP, slidesPerMove);
     return this;
   }
 
@@ -202,7 +215,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return the orientation
    */
   public CarouselOrientation getOrientation() {
-    return get(orientationProp);
+    return get(ORIENTATION_PROP);
   }
 
   /**
@@ -212,7 +225,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setOrientation(CarouselOrientation orientation) {
-    set(orientationProp, orientation);
+    set(ORIENTATION_PROP, orientation);
     return this;
   }
 
@@ -222,7 +235,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return {@code true} if mouse dragging is enabled
    */
   public boolean isMouseDragging() {
-    return get(mouseDraggingProp);
+    return get(MOUSE_DRAGGING_PROP);
   }
 
   /**
@@ -232,7 +245,7 @@ public final class Carousel extends ElementCompositeContainer
    * @return this component
    */
   public Carousel setMouseDragging(boolean mouseDragging) {
-    set(mouseDraggingProp, mouseDragging);
+    set(MOUSE_DRAGGING_PROP, mouseDragging);
     return this;
   }
 
@@ -262,23 +275,216 @@ public final class Carousel extends ElementCompositeContainer
    * Moves the carousel backward by {@code slides-per-move} slides.
    */
   public void previous() {
-    getOriginalElement().callJsFunctionVoidAsync("previous");
+    ShoelaceMetrics.call(this, getOriginalElement(), "previous");
   }
 
   /**
    * Moves the carousel forward by {@code slides-per-move} slides.
    */
   public void next() {
-    getOriginalElement().callJsFunctionVoidAsync("next");
+    ShoelaceMetrics.call(this, getOriginalElement(), "next");
   }
 
   /**
-   * Scrolls the carousel to the slide specified by the given index.
+   * Scrolls the carousel to the slide specified by the given index. With a
+   * {@linkplain #setSlideProvider(int, IntFunction) slide provider}, the slides around the target
+   * are created first, and an index outside the slides wraps around when looping and is clamped
+   * otherwise.
    *
    * @param index the zero-based index of the slide to navigate to
    */
   public void goToSlide(int index) {
-    getOriginalElement().callJsFunctionVoidAsync("goToSlide", index);
+    int target = index;
+    if (slideProvider != null && !providedSlides.isEmpty()) {
+      int count = providedSlides.size();
+      target = isLoop() ? Math.floorMod(index, count) : Math.max(0, Math.min(count - 1, index));
+      updateSlideWindow(target);
+    }
+    ShoelaceMetrics.call(this, getOriginalElement(), "goToSlide", target);
+  }
+
+  /**
+   * Adds components to the carousel.
+   *
+   * @param components the components to add
+   * @throws IllegalStateException if a {@linkplain #setSlideProvider(int, IntFunction) slide
+   *         provider} is set
+   */
+  @Override
+  public void add(Component... components) {
+    if (slideProvider != null) {
+      throw new IllegalStateException(
+          "Components cannot be added while a slide provider is set, clear it first");
+    }
+    addedComponents.addAll(List.of(components));
+    super.add(components);
+  }
+
+  @Override
+  public void remove(Component... components) {
+    addedComponents.removeAll(List.of(components));
+    super.remove(components);
+  }
+
+  @Override
+  public void removeAll() {
+    clearSlideProvider();
+    addedComponents.clear();
+    super.removeAll();
+  }
+
+  /**
+   * Provides the slides on demand instead of adding them up front.
+   *
+   * <p>The carousel gets {@code count} empty items, so that pagination and navigation work as
+   * usual, but only the items of the current page and {@linkplain #setSlideWindow(int) a few
+   * neighbours} hold content. The provider creates the content of a slide when it enters that
+   * window, and the content is destroyed when the slide leaves it again.</p>
+   *
+   * <p>The provided slides are the only children of the carousel, so that slide indices match
+   * provider indices. Components cannot be added while the provider is set.</p>
+   *
+   * @param count the number of slides
+   * @param provider creates the content of the slide with the given index
+   * @return this component
+   * @throws IllegalArgumentException if {@code count} is negative
+   * @throws IllegalStateException if components were added to the carousel
+   * @see #clearSlideProvider()
+   */
+  public Carousel setSlideProvider(int count, IntFunction<? extends Component> provider) {
+    if (count < 0) {
+      throw new IllegalArgumentException("The slide count must not be negative");
+    }
+    Objects.requireNonNull(provider);
+    if (!addedComponents.isEmpty()) {
+      throw new IllegalStateException(
+          "A slide provider cannot be combined with added components, remove them first");
+    }
+
+    clearSlideProvider();
+    slideProvider = provider;
+    for (int i = 0; i < count; i++) {
+      CarouselItem slide = new CarouselItem();
+      providedSlides.add(slide);
+      providedContent.add(null);
+      super.add(slide);
+    }
+
+    windowRegistration = addSlideChangeListener(event -> updateSlideWindow(event.getIndex()));
+    updateSlideWindow(0);
+    return this;
+  }
+
+  /**
+   * Removes the slide provider and its slides, so that components can be added again.
+   *
+   * @return this component
+   */
+  public Carousel clearSlideProvider() {
+    for (CarouselItem slide : providedSlides) {
+      slide.destroy();
+    }
+    providedSlides.clear();
+    providedContent.clear();
+    slideProvider = null;
+    currentSlide = 0;
+
+    if (windowRegistration != null) {
+      windowRegistration.remove();
+      windowRegistration = null;
+    }
+    return this;
+  }
+
+  /**
+   * Gets the number of provided slides.
+   *
+   * @return the number of slides, {@code 0} without a slide provider
+   */
+  public int getSlideCount() {
+    return providedSlides.size();
+  }
+
+  /**
+   * Gets the items holding the provided slides, for example to set their aspect ratio.
+   *
+   * @return the slide items, in order
+   */
+  public List<CarouselItem> getProvidedSlides() {
+    return List.copyOf(providedSlides);
+  }
+
+  /**
+   * Sets how many slides on each side of the current page hold content.
+   *
+   * @param slideWindow the number of neighbouring slides, {@code 0} for the current page only
+   * @return this component
+   * @throws IllegalArgumentException if {@code slideWindow} is negative
+   */
+  public Carousel setSlideWindow(int slideWindow) {
+    if (slideWindow < 0) {
+      throw new IllegalArgumentException("The slide window must not be negative");
+    }
+    this.slideWindow = slideWindow;
+    if (slideProvider != null) {
+      updateSlideWindow(currentSlide);
+    }
+    return this;
+  }
+
+  /**
+   * Gets how many slides on each side of the current page hold content.
+   *
+   * @return the number of neighbouring slides
+   */
+  public int getSlideWindow() {
+    return slideWindow;
+  }
+
+  /**
+   * Checks whether a provided slide currently holds content.
+   *
+   * @param index the slide index
+   * @return {@code true} if the slide's content exists
+   */
+  public boolean isSlideMaterialized(int index) {
+    return index >= 0 && index < providedContent.size() && providedContent.get(index) != null;
+  }
+
+  private void updateSlideWindow(int index) {
+    int count = providedSlides.size();
+    if (count == 0) {
+      return;
+    }
+
+    currentSlide = index;
+    Integer perPage = getSlidesPerPage();
+    int first = index - slideWindow;
+    int last = index + Math.max(1, perPage == null ? 1 : perPage) - 1 + slideWindow;
+    boolean loop = isLoop();
+
+    boolean[] keep = new boolean[count];
+    for (int i = first; i <= last && i - first < count; i++) {
+      if (loop) {
+        keep[Math.floorMod(i, count)] = true;
+      } else if (i >= 0 && i < count) {
+        keep[i] = true;
+      }
+    }
+
+    for (int i = 0; i < count; i++) {
+      Component content = providedContent.get(i);
+      if (keep[i] && content == null) {
+        content = slideProvider.apply(i);
+        providedContent.set(i, content);
+        providedSlides.get(i).add(content);
+      } else if (!keep[i] && content != null) {
+        if (!content.isDestroyed()) {
+          content.destroy();
+        }
+        providedContent.set(i, null);
+      }
+    }
   }
 
   /**
@@ -1,11 +1,11 @@
 package com.webforj.shoelace.components.carousel;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace CarouselItem component ({@code <sl-carousel-item>}).
@@ -17,7 +17,7 @@ import com.webforj.concern.HasStyle;
  * @see <a href="https://shoelace.style/components/carousel-item">Shoelace Carousel Item</a>
  */
 @NodeName("sl-carousel-item")
-public final class CarouselItem extends ElementCompositeContainer
+public final class CarouselItem extends ShoelaceCompositeContainer
     implements HasElementClickListener<CarouselItem>, HasClassName<CarouselItem>, HasStyle<CarouselItem> {
 
   /**
@@ -1,7 +1,7 @@
 package com.webforj.shoelace.components.checkbox;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,11 +11,15 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Checkbox component ({@code <sl-checkbox>}).
@@ -25,26 +29,27 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/checkbox">Shoelace Checkbox</a>
  */
 @NodeName("sl-checkbox")
-public final class Checkbox extends ElementCompositeContainer
-    implements HasElementClickListener<Checkbox>, HasClassName<Checkbox>, HasStyle<Checkbox>, HasVisibility<Checkbox> {
+public final class Checkbox extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Checkbox>, HasClassName<Checkbox>, HasStyle<Checkbox>, HasVisibility<Checkbox>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> checkedProp =
+  private static final PropertyDescriptor<Boolean> CHECKED_PROP =
       PropertyDescriptor.property("checked", false);
-  private final PropertyDescriptor<Boolean> indeterminateProp =
+  private static final PropertyDescriptor<Boolean> INDETERMINATE_PROP =
       PropertyDescriptor.property("indeterminate", false);
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
   /**
@@ -52,6 +57,7 @@ public final class Checkbox extends ElementCompositeContainer
    */
   public Checkbox() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -60,7 +66,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -70,7 +76,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -80,7 +86,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -90,7 +96,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -100,7 +106,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -110,7 +116,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -120,7 +126,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return true if the checkbox is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -130,7 +136,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -140,7 +146,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return true if the checkbox is checked
    */
   public boolean isChecked() {
-    return get(checkedProp);
+    return get(CHECKED_PROP);
   }
 
   /**
@@ -150,7 +156,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setChecked(boolean checked) {
-    set(checkedProp, checked);
+    set(CHECKED_PROP, checked);
     return this;
   }
 
@@ -160,7 +166,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return true if the checkbox is indeterminate
    */
   public boolean isIndeterminate() {
-    return get(indeterminateProp);
+    return get(INDETERMINATE_PROP);
   }
 
   /**
@@ -172,7 +178,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setIndeterminate(boolean indeterminate) {
-    set(indeterminateProp, indeterminate);
+    set(INDETERMINATE_PROP, indeterminate);
     return this;
   }
 
@@ -182,7 +188,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -192,7 +198,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -202,7 +208,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -213,7 +219,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -223,7 +229,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return true if the checkbox is required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -233,7 +239,7 @@ public final class Checkbox extends ElementCompositeContainer
    * @return this component
    */
   public Checkbox setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -241,36 +247,54 @@ public final class Checkbox extends ElementCompositeContainer
    * Sets focus on the checkbox.
    */
   public void focus() {
-    getOriginalElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the checkbox.
    */
   public void blur() {
-    getOriginalElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
    * Simulates a click on the checkbox.
    */
   public void click() {
-    getOriginalElement().callJsFunctionVoidAsync("click");
+    ShoelaceMetrics.call(this, getOriginalElement(), "click");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -279,8 +303,9 @@ public final class Checkbox extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getOriginalElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
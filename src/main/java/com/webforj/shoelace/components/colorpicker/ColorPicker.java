@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.colorpicker;
 
 import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -12,11 +11,15 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 
 /**
@@ -29,36 +32,37 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/color-picker">Shoelace Color Picker</a>
  */
 @NodeName("sl-color-picker")
-public final class ColorPicker extends ElementCompositeContainer
-    implements HasElementClickListener<ColorPicker>, HasClassName<ColorPicker>, HasStyle<ColorPicker>, HasVisibility<ColorPicker> {
+public final class ColorPicker extends ShoelaceCompositeContainer
+    implements HasElementClickListener<ColorPicker>, HasClassName<ColorPicker>, HasStyle<ColorPicker>, HasVisibility<ColorPicker>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<ColorPickerFormat> formatProp =
+  private static final PropertyDescriptor<ColorPickerFormat> FORMAT_PROP =
       PropertyDescriptor.property("format", ColorPickerFormat.HEX);
-  private final PropertyDescriptor<Boolean> inlineProp =
+  private static final PropertyDescriptor<Boolean> INLINE_PROP =
       PropertyDescriptor.property("inline", false);
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> noFormatToggleProp =
+  private static final PropertyDescriptor<Boolean> NO_FORMAT_TOGGLE_PROP =
       PropertyDescriptor.property("noFormatToggle", false);
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> hoistProp =
+  private static final PropertyDescriptor<Boolean> HOIST_PROP =
       PropertyDescriptor.property("hoist", false);
-  private final PropertyDescriptor<Boolean> opacityProp =
+  private static final PropertyDescriptor<Boolean> OPACITY_PROP =
       PropertyDescriptor.property("opacity", false);
-  private final PropertyDescriptor<Boolean> uppercaseProp =
+  private static final PropertyDescriptor<Boolean> UPPERCASE_PROP =
       PropertyDescriptor.property("uppercase", false);
-  private final PropertyDescriptor<String> swatchesProp =
+  private static final PropertyDescriptor<String> SWATCHES_PROP =
       PropertyDescriptor.property("swatches", "");
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
   /**
@@ -66,6 +70,7 @@ public final class ColorPicker extends ElementCompositeContainer
    */
   public ColorPicker() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -84,7 +89,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the color value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -97,7 +102,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -107,7 +112,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -118,7 +123,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -128,7 +133,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the color format
    */
   public ColorPickerFormat getFormat() {
-    return get(formatProp);
+    return get(FORMAT_PROP);
   }
 
   /**
@@ -140,7 +145,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setFormat(ColorPickerFormat format) {
-    set(formatProp, format);
+    set(FORMAT_PROP, format);
     return this;
   }
 
@@ -150,7 +155,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if inline
    */
   public boolean isInline() {
-    return get(inlineProp);
+    return get(INLINE_PROP);
   }
 
   /**
@@ -160,7 +165,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setInline(boolean inline) {
-    set(inlineProp, inline);
+    set(INLINE_PROP, inline);
     return this;
   }
 
@@ -170,7 +175,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -180,7 +185,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -190,7 +195,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if the format toggle is hidden
    */
   public boolean isNoFormatToggle() {
-    return get(noFormatToggleProp);
+    return get(NO_FORMAT_TOGGLE_PROP);
   }
 
   /**
@@ -200,7 +205,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setNoFormatToggle(boolean noFormatToggle) {
-    set(noFormatToggleProp, noFormatToggle);
+    set(NO_FORMAT_TOGGLE_PROP, noFormatToggle);
     return this;
   }
 
@@ -210,7 +215,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -220,7 +225,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -230,7 +235,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -240,7 +245,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -250,7 +255,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if hoisted
    */
   public boolean isHoist() {
-    return get(hoistProp);
+    return get(HOIST_PROP);
   }
 
   /**
@@ -262,7 +267,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setHoist(boolean hoist) {
-    set(hoistProp, hoist);
+    set(HOIST_PROP, hoist);
     return this;
   }
 
@@ -272,7 +277,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if opacity is enabled
    */
   public boolean isOpacity() {
-    return get(opacityProp);
+    return get(OPACITY_PROP);
   }
 
   /**
@@ -283,7 +288,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setOpacity(boolean opacity) {
-    set(opacityProp, opacity);
+    set(OPACITY_PROP, opacity);
     return this;
   }
 
@@ -293,7 +298,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if uppercase
    */
   public boolean isUppercase() {
-    return get(uppercaseProp);
+    return get(UPPERCASE_PROP);
   }
 
   /**
@@ -303,7 +308,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setUppercase(boolean uppercase) {
-    set(uppercaseProp, uppercase);
+    set(UPPERCASE_PROP, uppercase);
     return this;
   }
 
@@ -313,7 +318,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the swatches string
    */
   public String getSwatches() {
-    return get(swatchesProp);
+    return get(SWATCHES_PROP);
   }
 
   /**
@@ -325,7 +330,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setSwatches(String swatches) {
-    set(swatchesProp, swatches);
+    set(SWATCHES_PROP, swatches);
     return this;
   }
 
@@ -335,7 +340,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return the form id
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -347,7 +352,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -357,7 +362,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return {@code true} if required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -367,7 +372,7 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return this component
    */
   public ColorPicker setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -375,14 +380,14 @@ public final class ColorPicker extends ElementCompositeContainer
    * Sets focus on the color picker.
    */
   public void focus() {
-    getOriginalElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the color picker.
    */
   public void blur() {
-    getOriginalElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
@@ -393,22 +398,40 @@ public final class ColorPicker extends ElementCompositeContainer
    * @return a PendingResult containing the formatted value
    */
   public PendingResult<Object> getFormattedValue(String format) {
-    return getOriginalElement().callJsFunctionAsync("getFormattedValue", format);
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "getFormattedValue", format);
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -416,8 +439,9 @@ public final class ColorPicker extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getOriginalElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
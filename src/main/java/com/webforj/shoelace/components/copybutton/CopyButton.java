@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.copybutton;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.copybutton.event.CopyErrorEvent;
 import com.webforj.shoelace.components.copybutton.event.CopySuccessEvent;
 
@@ -23,26 +23,26 @@ import com.webforj.shoelace.components.copybutton.event.CopySuccessEvent;
  * @see <a href="https://shoelace.style/components/copy-button">Shoelace Copy Button</a>
  */
 @NodeName("sl-copy-button")
-public final class CopyButton extends ElementCompositeContainer
+public final class CopyButton extends ShoelaceCompositeContainer
     implements HasElementClickListener<CopyButton>, HasClassName<CopyButton>, HasStyle<CopyButton>, HasVisibility<CopyButton> {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<String> fromProp =
+  private static final PropertyDescriptor<String> FROM_PROP =
       PropertyDescriptor.property("from", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<String> copyLabelProp =
+  private static final PropertyDescriptor<String> COPY_LABEL_PROP =
       PropertyDescriptor.property("copyLabel", "");
-  private final PropertyDescriptor<String> successLabelProp =
+  private static final PropertyDescriptor<String> SUCCESS_LABEL_PROP =
       PropertyDescriptor.property("successLabel", "");
-  private final PropertyDescriptor<String> errorLabelProp =
+  private static final PropertyDescriptor<String> ERROR_LABEL_PROP =
       PropertyDescriptor.property("errorLabel", "");
-  private final PropertyDescriptor<Integer> feedbackDurationProp =
+  private static final PropertyDescriptor<Integer> FEEDBACK_DURATION_PROP =
       PropertyDescriptor.property("feedbackDuration", 1000);
-  private final PropertyDescriptor<TooltipPlacement> tooltipPlacementProp =
+  private static final PropertyDescriptor<TooltipPlacement> TOOLTIP_PLACEMENT_PROP =
       PropertyDescriptor.property("tooltipPlacement", TooltipPlacement.TOP);
-  private final PropertyDescriptor<Boolean> hoistProp =
+  private static final PropertyDescriptor<Boolean> HOIST_PROP =
       PropertyDescriptor.property("hoist", false);
 
   /**
@@ -68,7 +68,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the text value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -78,7 +78,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -88,7 +88,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the element id reference
    */
   public String getFrom() {
-    return get(fromProp);
+    return get(FROM_PROP);
   }
 
   /**
@@ -102,7 +102,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setFrom(String from) {
-    set(fromProp, from);
+    set(FROM_PROP, from);
     return this;
   }
 
@@ -112,7 +112,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -122,7 +122,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -132,7 +132,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the copy label
    */
   public String getCopyLabel() {
-    return get(copyLabelProp);
+    return get(COPY_LABEL_PROP);
   }
 
   /**
@@ -142,7 +142,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setCopyLabel(String copyLabel) {
-    set(copyLabelProp, copyLabel);
+    set(COPY_LABEL_PROP, copyLabel);
     return this;
   }
 
@@ -152,7 +152,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the success label
    */
   public String getSuccessLabel() {
-    return get(successLabelProp);
+    return get(SUCCESS_LABEL_PROP);
   }
 
   /**
@@ -162,7 +162,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setSuccessLabel(String successLabel) {
-    set(successLabelProp, successLabel);
+    set(SUCCESS_LABEL_PROP, successLabel);
     return this;
   }
 
@@ -172,7 +172,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the error label
    */
   public String getErrorLabel() {
-    return get(errorLabelProp);
+    return get(ERROR_LABEL_PROP);
   }
 
   /**
@@ -182,7 +182,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setErrorLabel(String errorLabel) {
-    set(errorLabelProp, errorLabel);
+    set(ERROR_LABEL_PROP, errorLabel);
     return this;
   }
 
@@ -192,7 +192,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the feedback duration
    */
   public Integer getFeedbackDuration() {
-    return get(feedbackDurationProp);
+    return get(FEEDBACK_DURATION_PROP);
   }
 
   /**
@@ -202,7 +202,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setFeedbackDuration(Integer feedbackDuration) {
-    set(feedbackDurationProp, feedbackDuration);
+    set(FEEDBACK_DURATION_PROP, feedbackDuration);
     return this;
   }
 
@@ -212,7 +212,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return the tooltip placement
    */
   public TooltipPlacement getTooltipPlacement() {
-    return get(tooltipPlacementProp);
+    return get(TOOLTIP_PLACEMENT_PROP);
   }
 
   /**
@@ -222,7 +222,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setTooltipPlacement(TooltipPlacement tooltipPlacement) {
-    set(tooltipPlacementProp, tooltipPlacement);
+    set(TOOLTIP_PLACEMENT_PROP, tooltipPlacement);
     return this;
   }
 
@@ -232,7 +232,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return {@code true} if hoisted
    */
   public boolean isHoist() {
-    return get(hoistProp);
+    return get(HOIST_PROP);
   }
 
   /**
@@ -244,7 +244,7 @@ public final class CopyButton extends ElementCompositeContainer
    * @return this component
    */
   public CopyButton setHoist(boolean hoist) {
-    set(hoistProp, hoist);
+    set(HOIST_PROP, hoist);
     return this;
   }
 
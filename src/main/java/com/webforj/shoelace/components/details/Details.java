@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.details;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,10 +10,14 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.LazyContent;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.function.Supplier;
 
 /**
  * Shoelace Details component ({@code <sl-details>}).
@@ -24,16 +27,20 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/details">Shoelace Details</a>
  */
 @NodeName("sl-details")
-public final class Details extends ElementCompositeContainer
+public final class Details extends ShoelaceCompositeContainer
     implements HasElementClickListener<Details>, HasClassName<Details>, HasStyle<Details>, HasVisibility<Details> {
 
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<String> summaryProp =
+  private static final PropertyDescriptor<String> SUMMARY_PROP =
       PropertyDescriptor.property("summary", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
+  private final LazyContent lazyContent = new LazyContent(content -> add(content));
+  private ListenerRegistration<ShowEvent<Details>> loadRegistration;
+  private ListenerRegistration<AfterHideEvent<Details>> releaseRegistration;
+
   /**
    * Creates a new Details.
    */
@@ -57,7 +64,7 @@ public final class Details extends ElementCompositeContainer
    * @return {@code true} if the details element is open, {@code false} otherwise
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -67,7 +74,10 @@ public final class Details extends ElementCompositeContainer
    * @return this component
    */
   public Details setOpen(boolean open) {
-    set(openProp, open);
+    if (open) {
+      load();
+    }
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -77,7 +87,7 @@ public final class Details extends ElementCompositeContainer
    * @return the summary text
    */
   public String getSummary() {
-    return get(summaryProp);
+    return get(SUMMARY_PROP);
   }
 
   /**
@@ -88,7 +98,7 @@ public final class Details extends ElementCompositeContainer
    * @return this component
    */
   public Details setSummary(String summary) {
-    set(summaryProp, summary);
+    set(SUMMARY_PROP, summary);
     return this;
   }
 
@@ -98,7 +108,7 @@ public final class Details extends ElementCompositeContainer
    * @return {@code true} if the details element is disabled, {@code false} otherwise
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -108,7 +118,7 @@ public final class Details extends ElementCompositeContainer
    * @return this component
    */
   public Details setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -149,14 +159,15 @@ public final class Details extends ElementCompositeContainer
    * Shows the details element.
    */
   public void show() {
-    getElement().callJsFunctionAsync("show");
+    load();
+    ShoelaceMetrics.call(this, getElement(), "show");
   }
 
   /**
    * Hides the details element.
    */
   public void hide() {
-    getElement().callJsFunctionAsync("hide");
+    ShoelaceMetrics.call(this, getElement(), "hide");
   }
 
   /**
@@ -245,6 +256,85 @@ public final class Details extends ElementCompositeContainer
     return addAfterHideListener(listener);
   }
 
+  /**
+   * Sets a supplier that creates the body when the details are first expanded, instead of up
+   * front. Collapsed details then cost neither server components nor DOM. The body is created
+   * when the show event arrives, so it appears as the details open.
+   *
+   * @param contentSupplier creates the body
+   * @return this component
+   * @see #setReleaseOnHide(boolean)
+   */
+  public Details setLazyContent(Supplier<? extends Component> contentSupplier) {
+    lazyContent.setSupplier(contentSupplier);
+    if (loadRegistration == null) {
+      loadRegistration = addShowListener(event -> load());
+    }
+    if (isOpen()) {
+      load();
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the body is created on demand.
+   *
+   * @return {@code true} if a content supplier is set
+   */
+  public boolean isLazy() {
+    return lazyContent.isLazy();
+  }
+
+  /**
+   * Sets whether the lazily created body is destroyed once the details have collapsed. It is
+   * created again the next time they expand.
+   *
+   * @param releaseOnHide {@code true} to destroy the body after the details collapse
+   * @return this component
+   */
+  public Details setReleaseOnHide(boolean releaseOnHide) {
+    if (releaseOnHide && releaseRegistration == null) {
+      releaseRegistration = addAfterHideListener(event -> unload());
+    } else if (!releaseOnHide && releaseRegistration != null) {
+      releaseRegistration.remove();
+      releaseRegistration = null;
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the lazily created body is destroyed once the details have collapsed.
+   *
+   * @return {@code true} if the body is released after the details collapse
+   */
+  public boolean isReleaseOnHide() {
+    return releaseRegistration != null;
+  }
+
+  /**
+   * Checks whether the lazily created body currently exists.
+   *
+   * @return {@code true} if the body has been loaded and not released since
+   */
+  public boolean isLoaded() {
+    return lazyContent.isLoaded();
+  }
+
+  /**
+   * Creates the body from its supplier, unless it is loaded already. Does nothing if no content
+   * supplier is set.
+   */
+  public void load() {
+    lazyContent.load();
+  }
+
+  /**
+   * Destroys the lazily created body. It is created again by the next {@link #load()}.
+   */
+  public void unload() {
+    lazyContent.unload();
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
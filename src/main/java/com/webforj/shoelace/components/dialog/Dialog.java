@@ -1,8 +1,9 @@
 package com.webforj.shoelace.components.dialog;
 
+import com.webforj.Environment;
+import com.webforj.Page;
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,12 +12,15 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.InitialFocusEvent;
 import com.webforj.shoelace.event.RequestCloseEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Shoelace Dialog component ({@code <sl-dialog>}).
@@ -27,16 +31,31 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/dialog">Shoelace Dialog</a>
  */
 @NodeName("sl-dialog")
-public final class Dialog extends ElementCompositeContainer
+public final class Dialog extends ShoelaceCompositeContainer
     implements HasElementClickListener<Dialog>, HasClassName<Dialog>, HasStyle<Dialog>, HasVisibility<Dialog> {
 
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final AtomicLong PORTAL_COUNTER = new AtomicLong();
+
+  // The dialog is moved to the body once, on first show, so it is not clipped by its container.
+  // The portal key finds it again there when the component is destroyed.
+  private static final String SHOW_SCRIPT = """
+      if (component.parentNode !== document.body) {
+        component.dataset.slPortal = %s;
+        document.body.appendChild(component);
+      }
+      component.show();
+      """;
+
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<Boolean> noHeaderProp =
+  private static final PropertyDescriptor<Boolean> NO_HEADER_PROP =
       PropertyDescriptor.property("noHeader", false);
 
+  private final String portalKey = "dialog-" + PORTAL_COUNTER.incrementAndGet();
+  private boolean portal;
+
   /**
    * Creates a new Dialog.
    */
@@ -60,7 +79,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return {@code true} if the dialog is open, {@code false} otherwise
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -71,7 +90,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return this component
    */
   public Dialog setOpen(boolean open) {
-    set(openProp, open);
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -81,7 +100,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return the label text
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -93,7 +112,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return this component
    */
   public Dialog setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -103,7 +122,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return {@code true} if the header is hidden, {@code false} otherwise
    */
   public boolean isNoHeader() {
-    return get(noHeaderProp);
+    return get(NO_HEADER_PROP);
   }
 
   /**
@@ -114,7 +133,7 @@ public final class Dialog extends ElementCompositeContainer
    * @return this component
    */
   public Dialog setNoHeader(boolean noHeader) {
-    set(noHeaderProp, noHeader);
+    set(NO_HEADER_PROP, noHeader);
     return this;
   }
 
@@ -153,17 +172,22 @@ public final class Dialog extends ElementCompositeContainer
 
   /**
    * Shows the dialog.
+   *
+   * <p>The first call moves the dialog to the end of the document body so that no ancestor clips
+   * it. Later calls only open it. The moved element is removed from the page when this
+   * component is destroyed.</p>
    */
   public void show() {
-    getElement().executeJsVoidAsync("document.body.appendChild(component)");
-    getElement().callJsFunctionAsync("show");
+    portal = true;
+    ShoelaceMetrics.execute(this, getElement(), "show",
+        SHOW_SCRIPT.formatted('"' + portalKey + '"'));
   }
 
   /**
    * Hides the dialog.
    */
   public void hide() {
-    getElement().callJsFunctionAsync("hide");
+    ShoelaceMetrics.call(this, getElement(), "hide");
   }
 
   /**
@@ -343,6 +367,16 @@ public final class Dialog extends ElementCompositeContainer
     return addRequestCloseListener(listener);
   }
 
+  @Override
+  protected void onDidDestroy() {
+    // the client only removes the element from where it was rendered, not from the body
+    if (portal && Environment.getCurrent() != null) {
+      Page.getCurrent().executeJsVoidAsync(
+          "document.querySelectorAll('body > [data-sl-portal=\"" + portalKey + "\"]')"
+              + ".forEach(e => e.remove())");
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
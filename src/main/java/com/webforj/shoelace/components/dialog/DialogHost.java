@@ -0,0 +1,64 @@
+package com.webforj.shoelace.components.dialog;
+
+import com.webforj.component.Component;
+import com.webforj.concern.HasComponents;
+import com.webforj.shoelace.components.OverlayHost;
+
+/**
+ * Reuses a single {@link Dialog} for every dialog a part of the app opens.
+ *
+ * <pre>{@code
+ * DialogHost dialogs = new DialogHost(layout);
+ * dialogs.setContent(new Paragraph("Saved")).setFooter(closeButton).show("Done");
+ * }</pre>
+ *
+ * @see OverlayHost
+ */
+public final class DialogHost extends OverlayHost<Dialog, DialogHost> {
+
+  /**
+   * Creates a host that adds its dialog to the given container.
+   *
+   * @param container the container to add the dialog to on first use
+   */
+  public DialogHost(HasComponents container) {
+    super(container);
+  }
+
+  /**
+   * Gets the hosted dialog, creating it and adding it to the container on first use.
+   *
+   * @return the dialog
+   */
+  public Dialog getDialog() {
+    return getOverlay();
+  }
+
+  @Override
+  protected Dialog create(Runnable afterHide) {
+    Dialog dialog = new Dialog();
+    dialog.onAfterHide(event -> afterHide.run());
+    return dialog;
+  }
+
+  @Override
+  protected void addContent(Dialog target, Component... components) {
+    target.add(components);
+  }
+
+  @Override
+  protected void addFooter(Dialog target, Component... components) {
+    target.addToFooter(components);
+  }
+
+  @Override
+  protected void open(Dialog target, String label) {
+    target.setLabel(label);
+    target.show();
+  }
+
+  @Override
+  protected void close(Dialog target) {
+    target.hide();
+  }
+}
@@ -1,13 +1,13 @@
 package com.webforj.shoelace.components.divider;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace Divider component ({@code <sl-divider>}).
@@ -17,10 +17,10 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/divider">Shoelace Divider</a>
  */
 @NodeName("sl-divider")
-public final class Divider extends ElementComposite
+public final class Divider extends ShoelaceComposite
     implements HasElementClickListener<Divider>, HasClassName<Divider>, HasStyle<Divider>, HasVisibility<Divider> {
 
-  private final PropertyDescriptor<Boolean> verticalProp =
+  private static final PropertyDescriptor<Boolean> VERTICAL_PROP =
       PropertyDescriptor.property("vertical", false);
 
   /**
@@ -36,7 +36,7 @@ public final class Divider extends ElementComposite
    * @return {@code true} if the divider is vertical, {@code false} otherwise
    */
   public boolean isVertical() {
-    return get(verticalProp);
+    return get(VERTICAL_PROP);
   }
 
   /**
@@ -46,7 +46,7 @@ public final class Divider extends ElementComposite
    * @return this component
    */
   public Divider setVertical(boolean vertical) {
-    set(verticalProp, vertical);
+    set(VERTICAL_PROP, vertical);
     return this;
   }
 
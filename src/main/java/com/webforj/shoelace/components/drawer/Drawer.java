@@ -1,8 +1,9 @@
 package com.webforj.shoelace.components.drawer;
 
+import com.webforj.Environment;
+import com.webforj.Page;
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,12 +12,15 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.InitialFocusEvent;
 import com.webforj.shoelace.event.RequestCloseEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Shoelace Drawer component ({@code <sl-drawer>}).
@@ -27,20 +31,35 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/drawer">Shoelace Drawer</a>
  */
 @NodeName("sl-drawer")
-public final class Drawer extends ElementCompositeContainer
+public final class Drawer extends ShoelaceCompositeContainer
     implements HasElementClickListener<Drawer>, HasClassName<Drawer>, HasStyle<Drawer>, HasVisibility<Drawer> {
 
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final AtomicLong PORTAL_COUNTER = new AtomicLong();
+
+  // The drawer is moved to the body once, on first show, so it is not clipped by its container.
+  // The portal key finds it again there when the component is destroyed.
+  private static final String SHOW_SCRIPT = """
+      if (!component.contained && component.parentNode !== document.body) {
+        component.dataset.slPortal = %s;
+        document.body.appendChild(component);
+      }
+      component.show();
+      """;
+
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<DrawerPlacement> placementProp =
+  private static final PropertyDescriptor<DrawerPlacement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", DrawerPlacement.END);
-  private final PropertyDescriptor<Boolean> containedProp =
+  private static final PropertyDescriptor<Boolean> CONTAINED_PROP =
       PropertyDescriptor.property("contained", false);
-  private final PropertyDescriptor<Boolean> noHeaderProp =
+  private static final PropertyDescriptor<Boolean> NO_HEADER_PROP =
       PropertyDescriptor.property("noHeader", false);
 
+  private final String portalKey = "drawer-" + PORTAL_COUNTER.incrementAndGet();
+  private boolean portal;
+
   /**
    * Creates a new Drawer.
    */
@@ -64,7 +83,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return {@code true} if the drawer is open, {@code false} otherwise
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -75,7 +94,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return this component
    */
   public Drawer setOpen(boolean open) {
-    set(openProp, open);
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -85,7 +104,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return the label text
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -97,7 +116,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return this component
    */
   public Drawer setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -107,7 +126,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return the drawer placement
    */
   public DrawerPlacement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -117,7 +136,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return this component
    */
   public Drawer setPlacement(DrawerPlacement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -127,7 +146,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return {@code true} if the drawer is contained, {@code false} otherwise
    */
   public boolean isContained() {
-    return get(containedProp);
+    return get(CONTAINED_PROP);
   }
 
   /**
@@ -138,7 +157,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return this component
    */
   public Drawer setContained(boolean contained) {
-    set(containedProp, contained);
+    set(CONTAINED_PROP, contained);
     return this;
   }
 
@@ -148,7 +167,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return {@code true} if the header is hidden, {@code false} otherwise
    */
   public boolean isNoHeader() {
-    return get(noHeaderProp);
+    return get(NO_HEADER_PROP);
   }
 
   /**
@@ -159,7 +178,7 @@ public final class Drawer extends ElementCompositeContainer
    * @return this component
    */
   public Drawer setNoHeader(boolean noHeader) {
-    set(noHeaderProp, noHeader);
+    set(NO_HEADER_PROP, noHeader);
     return this;
   }
 
@@ -198,17 +217,22 @@ public final class Drawer extends ElementCompositeContainer
 
   /**
    * Shows the drawer.
+   *
+   * <p>The first call moves the drawer to the end of the document body so that no ancestor clips
+   * it. Later calls only open it. A contained drawer stays in its parent. The moved element is
+   * removed from the page when this component is destroyed.</p>
    */
   public void show() {
-    getElement().executeJsVoidAsync("document.body.appendChild(component)");
-    getElement().callJsFunctionAsync("show");
+    portal = true;
+    ShoelaceMetrics.execute(this, getElement(), "show",
+        SHOW_SCRIPT.formatted('"' + portalKey + '"'));
   }
 
   /**
    * Hides the drawer.
    */
   public void hide() {
-    getElement().callJsFunctionAsync("hide");
+    ShoelaceMetrics.call(this, getElement(), "hide");
   }
 
   /**
@@ -388,6 +412,16 @@ public final class Drawer extends ElementCompositeContainer
     return addRequestCloseListener(listener);
   }
 
+  @Override
+  protected void onDidDestroy() {
+    // the client only removes the element from where it was rendered, not from the body
+    if (portal && Environment.getCurrent() != null) {
+      Page.getCurrent().executeJsVoidAsync(
+          "document.querySelectorAll('body > [data-sl-portal=\"" + portalKey + "\"]')"
+              + ".forEach(e => e.remove())");
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -0,0 +1,64 @@
+package com.webforj.shoelace.components.drawer;
+
+import com.webforj.component.Component;
+import com.webforj.concern.HasComponents;
+import com.webforj.shoelace.components.OverlayHost;
+
+/**
+ * Reuses a single {@link Drawer} for every drawer a part of the app opens.
+ *
+ * <pre>{@code
+ * DrawerHost drawers = new DrawerHost(layout);
+ * drawers.setContent(new Paragraph("Saved")).setFooter(closeButton).show("Done");
+ * }</pre>
+ *
+ * @see OverlayHost
+ */
+public final class DrawerHost extends OverlayHost<Drawer, DrawerHost> {
+
+  /**
+   * Creates a host that adds its drawer to the given container.
+   *
+   * @param container the container to add the drawer to on first use
+   */
+  public DrawerHost(HasComponents container) {
+    super(container);
+  }
+
+  /**
+   * Gets the hosted drawer, creating it and adding it to the container on first use.
+   *
+   * @return the drawer
+   */
+  public Drawer getDrawer() {
+    return getOverlay();
+  }
+
+  @Override
+  protected Drawer create(Runnable afterHide) {
+    Drawer drawer = new Drawer();
+    drawer.onAfterHide(event -> afterHide.run());
+    return drawer;
+  }
+
+  @Override
+  protected void addContent(Drawer target, Component... components) {
+    target.add(components);
+  }
+
+  @Override
+  protected void addFooter(Drawer target, Component... components) {
+    target.addToFooter(components);
+  }
+
+  @Override
+  protected void open(Drawer target, String label) {
+    target.setLabel(label);
+    target.show();
+  }
+
+  @Override
+  protected void close(Drawer target) {
+    target.hide();
+  }
+}
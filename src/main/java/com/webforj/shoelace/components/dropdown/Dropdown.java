@@ -1,7 +1,7 @@
 package com.webforj.shoelace.components.dropdown;
 
+import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,10 +11,14 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Placement;
+import com.webforj.shoelace.components.LazyContent;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.function.Supplier;
 
 /**
  * Shoelace Dropdown component ({@code <sl-dropdown>}).
@@ -25,26 +29,30 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/dropdown">Shoelace Dropdown</a>
  */
 @NodeName("sl-dropdown")
-public final class Dropdown extends ElementCompositeContainer
+public final class Dropdown extends ShoelaceCompositeContainer
     implements HasElementClickListener<Dropdown>, HasClassName<Dropdown>, HasStyle<Dropdown>, HasVisibility<Dropdown> {
 
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<Placement> placementProp =
+  private static final PropertyDescriptor<Placement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", Placement.BOTTOM_START);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> stayOpenOnSelectProp =
+  private static final PropertyDescriptor<Boolean> STAY_OPEN_ON_SELECT_PROP =
       PropertyDescriptor.property("stayOpenOnSelect", false);
-  private final PropertyDescriptor<Integer> distanceProp =
+  private static final PropertyDescriptor<Integer> DISTANCE_PROP =
       PropertyDescriptor.property("distance", 0);
-  private final PropertyDescriptor<Integer> skiddingProp =
+  private static final PropertyDescriptor<Integer> SKIDDING_PROP =
       PropertyDescriptor.property("skidding", 0);
-  private final PropertyDescriptor<Boolean> hoistProp =
+  private static final PropertyDescriptor<Boolean> HOIST_PROP =
       PropertyDescriptor.property("hoist", false);
-  private final PropertyDescriptor<String> syncProp =
+  private static final PropertyDescriptor<String> SYNC_PROP =
       PropertyDescriptor.property("sync", "");
 
+  private final LazyContent lazyContent = new LazyContent(content -> add(content));
+  private ListenerRegistration<ShowEvent<Dropdown>> loadRegistration;
+  private ListenerRegistration<AfterHideEvent<Dropdown>> releaseRegistration;
+
   /**
    * Creates a new Dropdown.
    */
@@ -58,7 +66,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return {@code true} if the dropdown is open
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -69,7 +77,10 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setOpen(boolean open) {
-    set(openProp, open);
+    if (open) {
+      load();
+    }
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -79,7 +90,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return the placement
    */
   public Placement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -90,7 +101,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setPlacement(Placement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -100,7 +111,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return {@code true} if the dropdown is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -110,7 +121,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -120,7 +131,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return {@code true} if the dropdown stays open on select
    */
   public boolean isStayOpenOnSelect() {
-    return get(stayOpenOnSelectProp);
+    return get(STAY_OPEN_ON_SELECT_PROP);
   }
 
   /**
@@ -132,7 +143,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setStayOpenOnSelect(boolean stayOpenOnSelect) {
-    set(stayOpenOnSelectProp, stayOpenOnSelect);
+    set(STAY_OPEN_ON_SELECT_PROP, stayOpenOnSelect);
     return this;
   }
 
@@ -142,7 +153,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return the distance in pixels
    */
   public int getDistance() {
-    return get(distanceProp);
+    return get(DISTANCE_PROP);
   }
 
   /**
@@ -152,7 +163,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setDistance(int distance) {
-    set(distanceProp, distance);
+    set(DISTANCE_PROP, distance);
     return this;
   }
 
@@ -162,7 +173,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return the skidding in pixels
    */
   public int getSkidding() {
-    return get(skiddingProp);
+    return get(SKIDDING_PROP);
   }
 
   /**
@@ -172,7 +183,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setSkidding(int skidding) {
-    set(skiddingProp, skidding);
+    set(SKIDDING_PROP, skidding);
     return this;
   }
 
@@ -182,7 +193,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return {@code true} if hoisting is enabled
    */
   public boolean isHoist() {
-    return get(hoistProp);
+    return get(HOIST_PROP);
   }
 
   /**
@@ -194,7 +205,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setHoist(boolean hoist) {
-    set(hoistProp, hoist);
+    set(HOIST_PROP, hoist);
     return this;
   }
 
@@ -204,7 +215,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return the sync value
    */
   public String getSync() {
-    return get(syncProp);
+    return get(SYNC_PROP);
   }
 
   /**
@@ -214,7 +225,7 @@ public final class Dropdown extends ElementCompositeContainer
    * @return this component
    */
   public Dropdown setSync(String sync) {
-    set(syncProp, sync);
+    set(SYNC_PROP, sync);
     return this;
   }
 
@@ -235,14 +246,15 @@ public final class Dropdown extends ElementCompositeContainer
    * Shows the dropdown panel.
    */
   public void show() {
-    getOriginalElement().callJsFunctionVoidAsync("show");
+    load();
+    ShoelaceMetrics.call(this, getOriginalElement(), "show");
   }
 
   /**
    * Hides the dropdown panel.
    */
   public void hide() {
-    getOriginalElement().callJsFunctionVoidAsync("hide");
+    ShoelaceMetrics.call(this, getOriginalElement(), "hide");
   }
 
   /**
@@ -250,7 +262,7 @@ public final class Dropdown extends ElementCompositeContainer
    * changes when the menu is activated.
    */
   public void reposition() {
-    getOriginalElement().callJsFunctionVoidAsync("reposition");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reposition");
   }
 
   /**
@@ -339,6 +351,92 @@ public final class Dropdown extends ElementCompositeContainer
     return addAfterHideListener(listener);
   }
 
+  /**
+   * Sets a supplier that creates the panel, typically a menu, when the dropdown first opens,
+   * instead of up front. Closed dropdowns then cost neither server components nor DOM, which adds
+   * up in toolbars with many of them. When the user opens the dropdown, the panel is created as
+   * the show event arrives and the dropdown is repositioned around it.
+   *
+   * <p>The panel is kept for later openings unless it is
+   * {@linkplain #setReleaseOnHide(boolean) released on hide}.</p>
+   *
+   * @param contentSupplier creates the panel content
+   * @return this component
+   */
+  public Dropdown setLazyContent(Supplier<? extends Component> contentSupplier) {
+    lazyContent.setSupplier(contentSupplier);
+    if (loadRegistration == null) {
+      loadRegistration = addShowListener(event -> {
+        if (lazyContent.load()) {
+          reposition();
+        }
+      });
+    }
+    if (isOpen()) {
+      load();
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the panel is created on demand.
+   *
+   * @return {@code true} if a content supplier is set
+   */
+  public boolean isLazy() {
+    return lazyContent.isLazy();
+  }
+
+  /**
+   * Sets whether the lazily created panel is destroyed once the dropdown has closed. It is created
+   * again the next time the dropdown opens.
+   *
+   * @param releaseOnHide {@code true} to destroy the panel after the dropdown closes
+   * @return this component
+   */
+  public Dropdown setReleaseOnHide(boolean releaseOnHide) {
+    if (releaseOnHide && releaseRegistration == null) {
+      releaseRegistration = addAfterHideListener(event -> unload());
+    } else if (!releaseOnHide && releaseRegistration != null) {
+      releaseRegistration.remove();
+      releaseRegistration = null;
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the lazily created panel is destroyed once the dropdown has closed.
+   *
+   * @return {@code true} if the panel is released after the dropdown closes
+   */
+  public boolean isReleaseOnHide() {
+    return releaseRegistration != null;
+  }
+
+  /**
+   * Checks whether the lazily created panel currently exists.
+   *
+   * @return {@code true} if the panel has been loaded and not released since
+   */
+  public boolean isLoaded() {
+    return lazyContent.isLoaded();
+  }
+
+  /**
+   * Creates the panel from its supplier, unless it is loaded already. Does nothing if no content
+   * supplier is set.
+   */
+  public void load() {
+    lazyContent.load();
+  }
+
+  /**
+   * Destroys the lazily created panel. It is created again by the next {@link #load()}.
+   */
+  public void unload() {
+    lazyContent.unload();
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -1,9 +1,9 @@
 package com.webforj.shoelace.components.formatbytes;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace FormatBytes component ({@code <sl-format-bytes>}).
@@ -14,15 +14,15 @@ import com.webforj.component.element.annotation.NodeName;
  * @see <a href="https://shoelace.style/components/format-bytes">Shoelace FormatBytes</a>
  */
 @NodeName("sl-format-bytes")
-public final class FormatBytes extends ElementComposite {
+public final class FormatBytes extends ShoelaceComposite {
 
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<ByteUnit> unitProp =
+  private static final PropertyDescriptor<ByteUnit> UNIT_PROP =
       PropertyDescriptor.property("unit", ByteUnit.BYTE);
-  private final PropertyDescriptor<ByteDisplay> displayProp =
+  private static final PropertyDescriptor<ByteDisplay> DISPLAY_PROP =
       PropertyDescriptor.property("display", ByteDisplay.SHORT);
-  private final PropertyDescriptor<String> langProp =
+  private static final PropertyDescriptor<String> LANG_PROP =
       PropertyDescriptor.property("lang", "");
 
   /**
@@ -48,7 +48,7 @@ public final class FormatBytes extends ElementComposite {
    * @return the value
    */
   public double getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -58,7 +58,7 @@ public final class FormatBytes extends ElementComposite {
    * @return this component
    */
   public FormatBytes setValue(double value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -68,7 +68,7 @@ public final class FormatBytes extends ElementComposite {
    * @return the unit
    */
   public ByteUnit getUnit() {
-    return get(unitProp);
+    return get(UNIT_PROP);
   }
 
   /**
@@ -78,7 +78,7 @@ public final class FormatBytes extends ElementComposite {
    * @return this component
    */
   public FormatBytes setUnit(ByteUnit unit) {
-    set(unitProp, unit);
+    set(UNIT_PROP, unit);
     return this;
   }
 
@@ -88,7 +88,7 @@ public final class FormatBytes extends ElementComposite {
    * @return the display format
    */
   public ByteDisplay getDisplay() {
-    return get(displayProp);
+    return get(DISPLAY_PROP);
   }
 
   /**
@@ -98,7 +98,7 @@ public final class FormatBytes extends ElementComposite {
    * @return this component
    */
   public FormatBytes setDisplay(ByteDisplay display) {
-    set(displayProp, display);
+    set(DISPLAY_PROP, display);
     return this;
   }
 
@@ -108,7 +108,7 @@ public final class FormatBytes extends ElementComposite {
    * @return the language tag
    */
   public String getLang() {
-    return get(langProp);
+    return get(LANG_PROP);
   }
 
   /**
@@ -118,7 +118,7 @@ public final class FormatBytes extends ElementComposite {
    * @return this component
    */
   public FormatBytes setLang(String lang) {
-    set(langProp, lang);
+    set(LANG_PROP, lang);
     return this;
   }
 
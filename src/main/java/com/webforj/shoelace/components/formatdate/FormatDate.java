@@ -1,10 +1,10 @@
 package com.webforj.shoelace.components.formatdate;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.annotation.PropertyExclude;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace FormatDate component ({@code <sl-format-date>}).
@@ -16,47 +16,47 @@ import com.webforj.component.element.annotation.PropertyExclude;
  * @see <a href="https://shoelace.style/components/format-date">Shoelace FormatDate</a>
  */
 @NodeName("sl-format-date")
-public final class FormatDate extends ElementComposite {
+public final class FormatDate extends ShoelaceComposite {
 
-  private final PropertyDescriptor<String> dateProp =
+  private static final PropertyDescriptor<String> DATE_PROP =
       PropertyDescriptor.property("date", "");
   @PropertyExclude
-  private final PropertyDescriptor<NarrowShortLong> weekdayProp =
+  private static final PropertyDescriptor<NarrowShortLong> WEEKDAY_PROP =
       PropertyDescriptor.property("weekday", null);
   @PropertyExclude
-  private final PropertyDescriptor<NarrowShortLong> eraProp =
+  private static final PropertyDescriptor<NarrowShortLong> ERA_PROP =
       PropertyDescriptor.property("era", null);
   @PropertyExclude
-  private final PropertyDescriptor<NumericTwoDigit> yearProp =
+  private static final PropertyDescriptor<NumericTwoDigit> YEAR_PROP =
       PropertyDescriptor.property("year", null);
   @PropertyExclude
-  private final PropertyDescriptor<MonthFormat> monthProp =
+  private static final PropertyDescriptor<MonthFormat> MONTH_PROP =
       PropertyDescriptor.property("month", null);
   @PropertyExclude
-  private final PropertyDescriptor<NumericTwoDigit> dayProp =
+  private static final PropertyDescriptor<NumericTwoDigit> DAY_PROP =
       PropertyDescriptor.property("day", null);
   @PropertyExclude
-  private final PropertyDescriptor<NumericTwoDigit> hourProp =
+  private static final PropertyDescriptor<NumericTwoDigit> HOUR_PROP =
       PropertyDescriptor.property("hour", null);
   @PropertyExclude
-  private final PropertyDescriptor<NumericTwoDigit> minuteProp =
+  private static final PropertyDescriptor<NumericTwoDigit> MINUTE_PROP =
       PropertyDescriptor.property("minute", null);
   @PropertyExclude
-  private final PropertyDescriptor<NumericTwoDigit> secondProp =
+  private static final PropertyDescriptor<NumericTwoDigit> SECOND_PROP =
       PropertyDescriptor.property("second", null);
 
   @PropertyExclude
-  private final PropertyDescriptor<Integer> fractionalSecondDigitsProp =
+  private static final PropertyDescriptor<Integer> FRACTIONAL_SECOND_DIGITS_PROP =
       PropertyDescriptor.property("fractionalSecondDigits", null);
 
   @PropertyExclude
-  private final PropertyDescriptor<TimeZoneNameFormat> timeZoneNameProp =
+  private static final PropertyDescriptor<TimeZoneNameFormat> TIME_ZONE_NAME_PROP =
       PropertyDescriptor.property("timeZoneName", null);
-  private final PropertyDescriptor<String> timeZoneProp =
+  private static final PropertyDescriptor<String> TIME_ZONE_PROP =
       PropertyDescriptor.property("timeZone", "");
-  private final PropertyDescriptor<HourFormat> hourFormatProp =
+  private static final PropertyDescriptor<HourFormat> HOUR_FORMAT_PROP =
       PropertyDescriptor.property("hourFormat", HourFormat.AUTO);
-  private final PropertyDescriptor<String> langProp =
+  private static final PropertyDescriptor<String> LANG_PROP =
       PropertyDescriptor.property("lang", "");
 
   /**
@@ -82,7 +82,7 @@ public final class FormatDate extends ElementComposite {
    * @return the date string
    */
   public String getDate() {
-    return get(dateProp);
+    return get(DATE_PROP);
   }
 
   /**
@@ -93,7 +93,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setDate(String date) {
-    set(dateProp, date);
+    set(DATE_PROP, date);
     return this;
   }
 
@@ -103,7 +103,7 @@ public final class FormatDate extends ElementComposite {
    * @return the weekday format
    */
   public NarrowShortLong getWeekday() {
-    return get(weekdayProp);
+    return get(WEEKDAY_PROP);
   }
 
   /**
@@ -113,7 +113,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setWeekday(NarrowShortLong weekday) {
-    set(weekdayProp, weekday);
+    set(WEEKDAY_PROP, weekday);
     return this;
   }
 
@@ -123,7 +123,7 @@ public final class FormatDate extends ElementComposite {
    * @return the era format
    */
   public NarrowShortLong getEra() {
-    return get(eraProp);
+    return get(ERA_PROP);
   }
 
   /**
@@ -133,7 +133,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setEra(NarrowShortLong era) {
-    set(eraProp, era);
+    set(ERA_PROP, era);
     return this;
   }
 
@@ -143,7 +143,7 @@ public final class FormatDate extends ElementComposite {
    * @return the year format
    */
   public NumericTwoDigit getYear() {
-    return get(yearProp);
+    return get(YEAR_PROP);
   }
 
   /**
@@ -153,7 +153,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setYear(NumericTwoDigit year) {
-    set(yearProp, year);
+    set(YEAR_PROP, year);
     return this;
   }
 
@@ -163,7 +163,7 @@ public final class FormatDate extends ElementComposite {
    * @return the month format
    */
   public MonthFormat getMonth() {
-    return get(monthProp);
+    return get(MONTH_PROP);
   }
 
   /**
@@ -173,7 +173,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setMonth(MonthFormat month) {
-    set(monthProp, month);
+    set(MONTH_PROP, month);
     return this;
   }
 
@@ -183,7 +183,7 @@ public final class FormatDate extends ElementComposite {
    * @return the day format
    */
   public NumericTwoDigit getDay() {
-    return get(dayProp);
+    return get(DAY_PROP);
   }
 
   /**
@@ -193,7 +193,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setDay(NumericTwoDigit day) {
-    set(dayProp, day);
+    set(DAY_PROP, day);
     return this;
   }
 
@@ -203,7 +203,7 @@ public final class FormatDate extends ElementComposite {
    * @return the hour format
    */
   public NumericTwoDigit getHour() {
-    return get(hourProp);
+    return get(HOUR_PROP);
   }
 
   /**
@@ -213,7 +213,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setHour(NumericTwoDigit hour) {
-    set(hourProp, hour);
+    set(HOUR_PROP, hour);
     return this;
   }
 
@@ -223,7 +223,7 @@ public final class FormatDate extends ElementComposite {
    * @return the minute format
    */
   public NumericTwoDigit getMinute() {
-    return get(minuteProp);
+    return get(MINUTE_PROP);
   }
 
   /**
@@ -233,7 +233,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setMinute(NumericTwoDigit minute) {
-    set(minuteProp, minute);
+    set(MINUTE_PROP, minute);
     return this;
   }
 
@@ -243,7 +243,7 @@ public final class FormatDate extends ElementComposite {
    * @return the second format
    */
   public NumericTwoDigit getSecond() {
-    return get(secondProp);
+    return get(SECOND_PROP);
   }
 
   /**
@@ -253,7 +253,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setSecond(NumericTwoDigit second) {
-    set(secondProp, second);
+    set(SECOND_PROP, second);
     return this;
   }
 
@@ -263,7 +263,7 @@ public final class FormatDate extends ElementComposite {
    * @return the number of fractional second digits
    */
   public Integer getFractionalSecondDigits() {
-    return get(fractionalSecondDigitsProp);
+    return get(FRACTIONAL_SECOND_DIGITS_PROP);
   }
 
   /**
@@ -273,7 +273,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setFractionalSecondDigits(Integer fractionalSecondDigits) {
-    set(fractionalSecondDigitsProp, fractionalSecondDigits);
+    set(FRACTIONAL_SECOND_DIGITS_PROP, fractionalSecondDigits);
     return this;
   }
 
@@ -283,7 +283,7 @@ public final class FormatDate extends ElementComposite {
    * @return the time zone name format
    */
   public TimeZoneNameFormat getTimeZoneName() {
-    return get(timeZoneNameProp);
+    return get(TIME_ZONE_NAME_PROP);
   }
 
   /**
@@ -293,7 +293,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setTimeZoneName(TimeZoneNameFormat timeZoneName) {
-    set(timeZoneNameProp, timeZoneName);
+    set(TIME_ZONE_NAME_PROP, timeZoneName);
     return this;
   }
 
@@ -303,7 +303,7 @@ public final class FormatDate extends ElementComposite {
    * @return the time zone
    */
   public String getTimeZone() {
-    return get(timeZoneProp);
+    return get(TIME_ZONE_PROP);
   }
 
   /**
@@ -313,7 +313,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setTimeZone(String timeZone) {
-    set(timeZoneProp, timeZone);
+    set(TIME_ZONE_PROP, timeZone);
     return this;
   }
 
@@ -323,7 +323,7 @@ public final class FormatDate extends ElementComposite {
    * @return the hour format
    */
   public HourFormat getHourFormat() {
-    return get(hourFormatProp);
+    return get(HOUR_FORMAT_PROP);
   }
 
   /**
@@ -333,7 +333,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setHourFormat(HourFormat hourFormat) {
-    set(hourFormatProp, hourFormat);
+    set(HOUR_FORMAT_PROP, hourFormat);
     return this;
   }
 
@@ -343,7 +343,7 @@ public final class FormatDate extends ElementComposite {
    * @return the language tag
    */
   public String getLang() {
-    return get(langProp);
+    return get(LANG_PROP);
   }
 
   /**
@@ -353,7 +353,7 @@ public final class FormatDate extends ElementComposite {
    * @return this component
    */
   public FormatDate setLang(String lang) {
-    set(langProp, lang);
+    set(LANG_PROP, lang);
     return this;
   }
 
@@ -1,10 +1,10 @@
 package com.webforj.shoelace.components.formatnumber;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.annotation.PropertyExclude;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace FormatNumber component ({@code <sl-format-number>}).
@@ -15,36 +15,36 @@ import com.webforj.component.element.annotation.PropertyExclude;
  * @see <a href="https://shoelace.style/components/format-number">Shoelace FormatNumber</a>
  */
 @NodeName("sl-format-number")
-public final class FormatNumber extends ElementComposite {
+public final class FormatNumber extends ShoelaceComposite {
 
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<NumberType> typeProp =
+  private static final PropertyDescriptor<NumberType> TYPE_PROP =
       PropertyDescriptor.property("type", NumberType.DECIMAL);
-  private final PropertyDescriptor<Boolean> noGroupingProp =
+  private static final PropertyDescriptor<Boolean> NO_GROUPING_PROP =
       PropertyDescriptor.property("noGrouping", false);
-  private final PropertyDescriptor<String> currencyProp =
+  private static final PropertyDescriptor<String> CURRENCY_PROP =
       PropertyDescriptor.property("currency", "USD");
-  private final PropertyDescriptor<CurrencyDisplay> currencyDisplayProp =
+  private static final PropertyDescriptor<CurrencyDisplay> CURRENCY_DISPLAY_PROP =
       PropertyDescriptor.property("currencyDisplay", CurrencyDisplay.SYMBOL);
 
   @PropertyExclude
-  private final PropertyDescriptor<Integer> minimumIntegerDigitsProp =
+  private static final PropertyDescriptor<Integer> MINIMUM_INTEGER_DIGITS_PROP =
       PropertyDescriptor.property("minimumIntegerDigits", null);
   @PropertyExclude
-  private final PropertyDescriptor<Integer> minimumFractionDigitsProp =
+  private static final PropertyDescriptor<Integer> MINIMUM_FRACTION_DIGITS_PROP =
       PropertyDescriptor.property("minimumFractionDigits", null);
   @PropertyExclude
-  private final PropertyDescriptor<Integer> maximumFractionDigitsProp =
+  private static final PropertyDescriptor<Integer> MAXIMUM_FRACTION_DIGITS_PROP =
       PropertyDescriptor.property("maximumFractionDigits", null);
   @PropertyExclude
-  private final PropertyDescriptor<Integer> minimumSignificantDigitsProp =
+  private static final PropertyDescriptor<Integer> MINIMUM_SIGNIFICANT_DIGITS_PROP =
       PropertyDescriptor.property("minimumSignificantDigits", null);
   @PropertyExclude
-  private final PropertyDescriptor<Integer> maximumSignificantDigitsProp =
+  private static final PropertyDescriptor<Integer> MAXIMUM_SIGNIFICANT_DIGITS_PROP =
       PropertyDescriptor.property("maximumSignificantDigits", null);
 
-  private final PropertyDescriptor<String> langProp =
+  private static final PropertyDescriptor<String> LANG_PROP =
       PropertyDescriptor.property("lang", "");
 
   /**
@@ -70,7 +70,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the value
    */
   public double getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -80,7 +80,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setValue(double value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -90,7 +90,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the number type
    */
   public NumberType getType() {
-    return get(typeProp);
+    return get(TYPE_PROP);
   }
 
   /**
@@ -100,7 +100,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setType(NumberType type) {
-    set(typeProp, type);
+    set(TYPE_PROP, type);
     return this;
   }
 
@@ -110,7 +110,7 @@ public final class FormatNumber extends ElementComposite {
    * @return {@code true} if grouping is disabled, {@code false} otherwise
    */
   public boolean isNoGrouping() {
-    return get(noGroupingProp);
+    return get(NO_GROUPING_PROP);
   }
 
   /**
@@ -120,7 +120,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setNoGrouping(boolean noGrouping) {
-    set(noGroupingProp, noGrouping);
+    set(NO_GROUPING_PROP, noGrouping);
     return this;
   }
 
@@ -130,7 +130,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the currency code
    */
   public String getCurrency() {
-    return get(currencyProp);
+    return get(CURRENCY_PROP);
   }
 
   /**
@@ -140,7 +140,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setCurrency(String currency) {
-    set(currencyProp, currency);
+    set(CURRENCY_PROP, currency);
     return this;
   }
 
@@ -150,7 +150,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the currency display format
    */
   public CurrencyDisplay getCurrencyDisplay() {
-    return get(currencyDisplayProp);
+    return get(CURRENCY_DISPLAY_PROP);
   }
 
   /**
@@ -160,7 +160,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setCurrencyDisplay(CurrencyDisplay currencyDisplay) {
-    set(currencyDisplayProp, currencyDisplay);
+    set(CURRENCY_DISPLAY_PROP, currencyDisplay);
     return this;
   }
 
@@ -170,7 +170,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the minimum integer digits
    */
   public Integer getMinimumIntegerDigits() {
-    return get(minimumIntegerDigitsProp);
+    return get(MINIMUM_INTEGER_DIGITS_PROP);
   }
 
   /**
@@ -180,7 +180,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setMinimumIntegerDigits(Integer minimumIntegerDigits) {
-    set(minimumIntegerDigitsProp, minimumIntegerDigits);
+    set(MINIMUM_INTEGER_DIGITS_PROP, minimumIntegerDigits);
     return this;
   }
 
@@ -190,7 +190,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the minimum fraction digits
    */
   public Integer getMinimumFractionDigits() {
-    return get(minimumFractionDigitsProp);
+    return get(MINIMUM_FRACTION_DIGITS_PROP);
   }
 
   /**
@@ -200,7 +200,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setMinimumFractionDigits(Integer minimumFractionDigits) {
-    set(minimumFractionDigitsProp, minimumFractionDigits);
+    set(MINIMUM_FRACTION_DIGITS_PROP, minimumFractionDigits);
     return this;
   }
 
@@ -210,7 +210,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the maximum fraction digits
    */
   public Integer getMaximumFractionDigits() {
-    return get(maximumFractionDigitsProp);
+    return get(MAXIMUM_FRACTION_DIGITS_PROP);
   }
 
   /**
@@ -220,7 +220,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setMaximumFractionDigits(Integer maximumFractionDigits) {
-    set(maximumFractionDigitsProp, maximumFractionDigits);
+    set(MAXIMUM_FRACTION_DIGITS_PROP, maximumFractionDigits);
     return this;
   }
 
@@ -230,7 +230,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the minimum significant digits
    */
   public Integer getMinimumSignificantDigits() {
-    return get(minimumSignificantDigitsProp);
+    return get(MINIMUM_SIGNIFICANT_DIGITS_PROP);
   }
 
   /**
@@ -240,7 +240,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setMinimumSignificantDigits(Integer minimumSignificantDigits) {
-    set(minimumSignificantDigitsProp, minimumSignificantDigits);
+    set(MINIMUM_SIGNIFICANT_DIGITS_PROP, minimumSignificantDigits);
     return this;
   }
 
@@ -250,7 +250,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the maximum significant digits
    */
   public Integer getMaximumSignificantDigits() {
-    return get(maximumSignificantDigitsProp);
+    return get(MAXIMUM_SIGNIFICANT_DIGITS_PROP);
   }
 
   /**
@@ -260,7 +260,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setMaximumSignificantDigits(Integer maximumSignificantDigits) {
-    set(maximumSignificantDigitsProp, maximumSignificantDigits);
+    set(MAXIMUM_SIGNIFICANT_DIGITS_PROP, maximumSignificantDigits);
     return this;
   }
 
@@ -270,7 +270,7 @@ public final class FormatNumber extends ElementComposite {
    * @return the language tag
    */
   public String getLang() {
-    return get(langProp);
+    return get(LANG_PROP);
   }
 
   /**
@@ -280,7 +280,7 @@ public final class FormatNumber extends ElementComposite {
    * @return this component
    */
   public FormatNumber setLang(String lang) {
-    set(langProp, lang);
+    set(LANG_PROP, lang);
     return this;
   }
 
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.icon;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.event.ErrorEvent;
 import com.webforj.shoelace.event.LoadEvent;
 
@@ -22,16 +22,16 @@ import com.webforj.shoelace.event.LoadEvent;
  * @see <a href="https://shoelace.style/components/icon">Shoelace Icon</a>
  */
 @NodeName("sl-icon")
-public final class Icon extends ElementComposite
+public final class Icon extends ShoelaceComposite
     implements HasElementClickListener<Icon>, HasClassName<Icon>, HasStyle<Icon>, HasVisibility<Icon> {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> srcProp =
+  private static final PropertyDescriptor<String> SRC_PROP =
       PropertyDescriptor.property("src", "");
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> libraryProp =
+  private static final PropertyDescriptor<String> LIBRARY_PROP =
       PropertyDescriptor.property("library", "default");
 
   /**
@@ -69,7 +69,7 @@ public final class Icon extends ElementComposite
    * @return the icon name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -79,7 +79,8 @@ public final class Icon extends ElementComposite
    * @return this component
    */
   public Icon setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
+    IconRegistry.getShared().use(getLibrary(), name);
     return this;
   }
 
@@ -89,7 +90,7 @@ public final class Icon extends ElementComposite
    * @return the source URL
    */
   public String getSrc() {
-    return get(srcProp);
+    return get(SRC_PROP);
   }
 
   /**
@@ -99,7 +100,7 @@ public final class Icon extends ElementComposite
    * @return this component
    */
   public Icon setSrc(String src) {
-    set(srcProp, src);
+    set(SRC_PROP, src);
     return this;
   }
 
@@ -109,7 +110,7 @@ public final class Icon extends ElementComposite
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -120,7 +121,7 @@ public final class Icon extends ElementComposite
    * @return this component
    */
   public Icon setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -130,7 +131,7 @@ public final class Icon extends ElementComposite
    * @return the library name
    */
   public String getLibrary() {
-    return get(libraryProp);
+    return get(LIBRARY_PROP);
   }
 
   /**
@@ -140,7 +141,8 @@ public final class Icon extends ElementComposite
    * @return this component
    */
   public Icon setLibrary(String library) {
-    set(libraryProp, library);
+    set(LIBRARY_PROP, library);
+    IconRegistry.getShared().use(library, getName());
     return this;
   }
 
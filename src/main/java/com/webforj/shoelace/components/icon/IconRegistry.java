@@ -0,0 +1,365 @@
+package com.webforj.shoelace.components.icon;
+
+import com.google.gson.Gson;
+import com.webforj.Environment;
+import com.webforj.Page;
+import com.webforj.shoelace.assets.ShoelaceAssets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Server-side icon libraries for {@link Icon} and
+ * {@link com.webforj.shoelace.components.iconbutton.IconButton}.
+ *
+ * <p>Shoelace fetches every icon of a library separately. A library registered here is instead
+ * delivered as an SVG sprite: the registry records which icons the app actually uses, packs them
+ * into one sprite addressed by the hash of its content, and registers the library in the browser
+ * as a sprite sheet. Each page then loads the sprite once, and the browser caches it for good.
+ * Icons first used after a page was set up are served on their own until the next page load
+ * picks them up into the sprite.</p>
+ *
+ * <p>Only the most recently used sprites are kept in memory. A page may still refer to an older
+ * one, so the registry remembers which icons every sprite it handed out contains and builds an
+ * evicted sprite again when it is requested.</p>
+ *
+ * <pre>{@code
+ * IconRegistry.getShared().registerClasspath("lucide", "static/icons/lucide");
+ * ShoelaceAssets.install(page);
+ * }</pre>
+ *
+ * <p>Icons a view is about to show can be {@link #preload(String, Collection) preloaded}, for
+ * example right before navigating to it, so they are part of the sprite by the time the view
+ * renders.</p>
+ */
+public final class IconRegistry {
+
+  /** The name of Shoelace's built-in icon library. */
+  public static final String DEFAULT_LIBRARY = "default";
+
+  static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]+");
+  private static final Pattern SVG = Pattern.compile("<svg\\b([^>]*)>(.*)</svg>",
+      Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+  private static final Pattern ATTRIBUTE = Pattern.compile("([\\w:-]+)\\s*=\\s*\"([^\"]*)\"");
+  private static final Set<String> SYMBOL_ATTRIBUTES = Set.of("viewBox", "fill", "stroke",
+      "stroke-width", "stroke-linecap", "stroke-linejoin", "fill-rule", "clip-rule");
+  private static final int SPRITE_CAPACITY = 32;
+  private static final Gson GSON = new Gson();
+  private static final IconRegistry SHARED = new IconRegistry();
+
+  private final Map<String, Library> libraries = new ConcurrentHashMap<>();
+  private final Map<String, Issued> issued = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> sprites = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+      return size() > SPRITE_CAPACITY;
+    }
+  };
+
+  IconRegistry() {
+    // use getShared()
+  }
+
+  /**
+   * Gets the registry shared by the application.
+   *
+   * @return the shared registry
+   */
+  public static IconRegistry getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Registers an icon library.
+   *
+   * <p>Registering {@value #DEFAULT_LIBRARY} replaces Shoelace's built-in library.</p>
+   *
+   * @param library the library name, as used by {@link Icon#setLibrary(String)}
+   * @param loader returns the SVG markup of an icon by name, or {@code null} if there is none
+   * @return this registry
+   */
+  public IconRegistry register(String library, Function<String, String> loader) {
+    requireName(library);
+    libraries.put(library, new Library(library, Objects.requireNonNull(loader)));
+    return this;
+  }
+
+  /**
+   * Registers an icon library whose icons are {@code <name>.svg} files in a classpath directory.
+   *
+   * @param library the library name
+   * @param directory the classpath directory, for example {@code static/icons/lucide}
+   * @return this registry
+   */
+  public IconRegistry registerClasspath(String library, String directory) {
+    String base = directory.endsWith("/") ? directory : directory + "/";
+    ClassLoader classLoader = IconRegistry.class.getClassLoader();
+    return register(library, name -> {
+      try (InputStream in = classLoader.getResourceAsStream(base + name + ".svg")) {
+        return in == null ? null : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Checks whether a library is registered.
+   *
+   * @param library the library name
+   * @return {@code true} if the library is served by this registry
+   */
+  public boolean isRegistered(String library) {
+    return library != null && libraries.containsKey(library);
+  }
+
+  /**
+   * Registers every library of this registry as a sprite sheet in the given page.
+   *
+   * @param page the page
+   */
+  public void install(Page page) {
+    for (Library library : libraries.values()) {
+      page.executeJsVoidAsync(registrationScript(library));
+    }
+  }
+
+  /**
+   * Adds icons to the sprite of a library ahead of use.
+   *
+   * <p>Inside a running app the library is registered again in the current page, so the icons
+   * come from the updated sprite, which the browser starts downloading right away.</p>
+   *
+   * @param library the library name
+   * @param names the icon names
+   */
+  public void preload(String library, Collection<String> names) {
+    Library target = libraries.get(library);
+    if (target == null) {
+      return;
+    }
+
+    names.forEach(target::use);
+    if (Environment.getCurrent() != null) {
+      Page.getCurrent().executeJsVoidAsync(registrationScript(target));
+    }
+  }
+
+  /**
+   * Adds icons to the sprite of a library ahead of use.
+   *
+   * @param library the library name
+   * @param names the icon names
+   * @see #preload(String, Collection)
+   */
+  public void preload(String library, String... names) {
+    preload(library, Arrays.asList(names));
+  }
+
+  /**
+   * Records that an icon is used. Called by the icon components whenever their name or library
+   * changes.
+   *
+   * @param library the library name, an empty or {@code null} name stands for the default library
+   * @param name the icon name
+   */
+  public void use(String library, String name) {
+    String key = library == null || library.isEmpty() ? DEFAULT_LIBRARY : library;
+    Library target = libraries.get(key);
+    if (target != null) {
+      target.use(name);
+    }
+  }
+
+  Sprite sprite(String library) {
+    Library target = libraries.get(library);
+    return target == null ? null : target.sprite();
+  }
+
+  byte[] getSprite(String key) {
+    synchronized (sprites) {
+      byte[] sprite = sprites.get(key);
+      if (sprite != null) {
+        return sprite;
+      }
+    }
+
+    Issued source = issued.get(key);
+    if (source == null) {
+      return null;
+    }
+
+    byte[] bytes = source.library().build(source.names());
+    synchronized (sprites) {
+      sprites.put(key, bytes);
+    }
+    return bytes;
+  }
+
+  int cachedSprites() {
+    synchronized (sprites) {
+      return sprites.size();
+    }
+  }
+
+  Optional<byte[]> getIcon(String library, String name) {
+    Library target = libraries.get(library);
+    if (target == null || !NAME.matcher(name).matches()) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(target.symbol(name))
+        .map(symbol -> wrap(symbol).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String registrationScript(Library library) {
+    Sprite sprite = library.sprite();
+    return """
+        import(%s).then(({ registerIconLibrary }) => {
+          const sprite = new Set(%s);
+          registerIconLibrary(%s, {
+            resolver: name => (sprite.has(name) ? %s : %s + encodeURIComponent(name) + '.svg')
+              + '#' + encodeURIComponent(name),
+            spriteSheet: true
+          });
+        });
+        """.formatted(GSON.toJson(ShoelaceAssets.getIconLibraryModule()),
+        GSON.toJson(sprite.names()), GSON.toJson(library.name),
+        GSON.toJson(IconServlet.spriteUrl(sprite.key())),
+        GSON.toJson(IconServlet.iconBaseUrl(library.name)));
+  }
+
+  /**
+   * Converts an SVG document into a {@code <symbol>} with the given id, keeping the view box and
+   * the presentation attributes that the icon's shapes inherit.
+   *
+   * @return the symbol, or {@code null} if the markup is not an SVG document
+   */
+  static String toSymbol(String id, String svg) {
+    Matcher matcher = SVG.matcher(svg);
+    if (!matcher.find()) {
+      return null;
+    }
+
+    StringBuilder symbol = new StringBuilder("<symbol id=\"").append(id).append('"');
+    Matcher attributes = ATTRIBUTE.matcher(matcher.group(1));
+    while (attributes.find()) {
+      if (SYMBOL_ATTRIBUTES.contains(attributes.group(1))) {
+        symbol.append(' ').append(attributes.group(1))
+            .append("=\"").append(attributes.group(2)).append('"');
+      }
+    }
+
+    return symbol.append('>').append(matcher.group(2).trim()).append("</symbol>").toString();
+  }
+
+  private static String wrap(String symbols) {
+    return "<svg xmlns=\"http://www.w3.org/2000/svg\">" + symbols + "</svg>";
+  }
+
+  private static void requireName(String name) {
+    if (name == null || !NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("Invalid icon library name: " + name);
+    }
+  }
+
+  record Sprite(String key, SortedSet<String> names) {
+  }
+
+  private record Issued(Library library, SortedSet<String> names) {
+  }
+
+  private final class Library {
+    private final String name;
+    private final Function<String, String> loader;
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> symbols = new ConcurrentHashMap<>();
+    private Sprite sprite;
+
+    Library(String name, Function<String, String> loader) {
+      this.name = name;
+      this.loader = loader;
+    }
+
+    void use(String icon) {
+      if (icon != null && NAME.matcher(icon).matches()) {
+        used.add(icon);
+      }
+    }
+
+    String symbol(String icon) {
+      String symbol = symbols.get(icon);
+      if (symbol == null) {
+        String svg = loader.apply(icon);
+        symbol = svg == null ? null : toSymbol(icon, svg);
+        if (symbol != null) {
+          symbols.put(icon, symbol);
+        }
+      }
+      return symbol;
+    }
+
+    synchronized Sprite sprite() {
+      SortedSet<String> names = new TreeSet<>();
+      for (String icon : used) {
+        if (symbol(icon) != null) {
+          names.add(icon);
+        } else {
+          // unknown names would otherwise be looked up on every rebuild
+          used.remove(icon);
+        }
+      }
+
+      if (sprite != null && sprite.names().equals(names)) {
+        return sprite;
+      }
+
+      byte[] bytes = build(names);
+      sprite = new Sprite(hash(name, bytes), names);
+      issued.put(sprite.key(), new Issued(this, names));
+      synchronized (sprites) {
+        sprites.put(sprite.key(), bytes);
+      }
+      return sprite;
+    }
+
+    byte[] build(SortedSet<String> names) {
+      StringBuilder content = new StringBuilder();
+      for (String icon : names) {
+        String symbol = symbol(icon);
+        if (symbol != null) {
+          content.append(symbol);
+        }
+      }
+      return wrap(content.toString()).getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String hash(String library, byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(library.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.webforj.shoelace.components.icon;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Serves the sprites and single icons of the {@link IconRegistry}.
+ *
+ * <p>Paths are relative to the servlet context path. Sprites live at
+ * {@code /shoelace-icons/sprites/<hash>.svg}. Their URL changes with their
+ * content, so they are cached as immutable. Icons outside the current sprite live at
+ * {@code /shoelace-icons/libraries/<library>/<name>.svg} and are cached for a day.</p>
+ */
+final class IconServlet extends HttpServlet {
+
+  static final String PATH = "/shoelace-icons/";
+  static final String SPRITES = "sprites/";
+  static final String LIBRARIES = "libraries/";
+  static final String EXTENSION = ".svg";
+  static final String IMMUTABLE = "public, max-age=31536000, immutable";
+  static final String ONE_DAY = "public, max-age=86400";
+
+  private static volatile String contextPath = "";
+
+  private final transient IconRegistry registry;
+
+  IconServlet(IconRegistry registry) {
+    this.registry = registry;
+  }
+
+  static String spriteUrl(String key) {
+    return contextPath + PATH + SPRITES + key + EXTENSION;
+  }
+
+  static String iconBaseUrl(String library) {
+    return contextPath + PATH + LIBRARIES + library + "/";
+  }
+
+  @Override
+  public void init() {
+    contextPath = getServletContext().getContextPath();
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    String path = request.getPathInfo();
+    if (path == null || !path.endsWith(EXTENSION)) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    path = path.substring(1, path.length() - EXTENSION.length());
+    byte[] svg = null;
+    String cacheControl = null;
+
+    if (path.startsWith(SPRITES)) {
+      svg = registry.getSprite(path.substring(SPRITES.length()));
+      cacheControl = IMMUTABLE;
+    } else if (path.startsWith(LIBRARIES)) {
+      String[] parts = path.substring(LIBRARIES.length()).split("/", -1);
+      if (parts.length == 2) {
+        Optional<byte[]> icon = registry.getIcon(parts[0], parts[1]);
+        svg = icon.orElse(null);
+        cacheControl = ONE_DAY;
+      }
+    }
+
+    if (svg == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    response.setHeader("Cache-Control", cacheControl);
+    response.setContentType("image/svg+xml");
+    response.setContentLength(svg.length);
+    response.getOutputStream().write(svg);
+  }
+}
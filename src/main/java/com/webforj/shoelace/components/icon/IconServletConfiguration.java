@@ -0,0 +1,26 @@
+package com.webforj.shoelace.components.icon;
+
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link IconServlet} so the sprites of the {@link IconRegistry} can be fetched.
+ */
+@Configuration(proxyBeanMethods = false)
+public class IconServletConfiguration {
+
+  /**
+   * Maps the icon servlet below {@code /shoelace-icons/}.
+   *
+   * @return the servlet registration
+   */
+  @Bean
+  ServletRegistrationBean<IconServlet> iconServlet() {
+    ServletRegistrationBean<IconServlet> registration = new ServletRegistrationBean<>(
+        new IconServlet(IconRegistry.getShared()), IconServlet.PATH + "*");
+    // initialize at startup, the servlet records the context path the icon URLs start with
+    registration.setLoadOnStartup(1);
+    return registration;
+  }
+}
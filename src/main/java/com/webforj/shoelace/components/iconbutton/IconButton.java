@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.iconbutton;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,9 +9,12 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.components.button.Target;
+import com.webforj.shoelace.components.icon.IconRegistry;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.FocusEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace IconButton component ({@code <sl-icon-button>}).
@@ -24,24 +26,24 @@ import com.webforj.shoelace.event.FocusEvent;
  * @see <a href="https://shoelace.style/components/icon-button">Shoelace Icon Button</a>
  */
 @NodeName("sl-icon-button")
-public final class IconButton extends ElementComposite
+public final class IconButton extends ShoelaceComposite
     implements HasElementClickListener<IconButton>, HasClassName<IconButton>, HasStyle<IconButton>, HasVisibility<IconButton> {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> libraryProp =
+  private static final PropertyDescriptor<String> LIBRARY_PROP =
       PropertyDescriptor.property("library", "");
-  private final PropertyDescriptor<String> srcProp =
+  private static final PropertyDescriptor<String> SRC_PROP =
       PropertyDescriptor.property("src", "");
-  private final PropertyDescriptor<String> hrefProp =
+  private static final PropertyDescriptor<String> HREF_PROP =
       PropertyDescriptor.property("href", "");
-  private final PropertyDescriptor<Target> targetProp =
+  private static final PropertyDescriptor<Target> TARGET_PROP =
       PropertyDescriptor.property("target", Target.SELF);
-  private final PropertyDescriptor<String> downloadProp =
+  private static final PropertyDescriptor<String> DOWNLOAD_PROP =
       PropertyDescriptor.property("download", "");
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -79,7 +81,7 @@ public final class IconButton extends ElementComposite
    * @return the icon name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -89,7 +91,8 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
+    IconRegistry.getShared().use(getLibrary(), name);
     return this;
   }
 
@@ -99,7 +102,7 @@ public final class IconButton extends ElementComposite
    * @return the library name
    */
   public String getLibrary() {
-    return get(libraryProp);
+    return get(LIBRARY_PROP);
   }
 
   /**
@@ -109,7 +112,8 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setLibrary(String library) {
-    set(libraryProp, library);
+    set(LIBRARY_PROP, library);
+    IconRegistry.getShared().use(library, getName());
     return this;
   }
 
@@ -119,7 +123,7 @@ public final class IconButton extends ElementComposite
    * @return the source URL
    */
   public String getSrc() {
-    return get(srcProp);
+    return get(SRC_PROP);
   }
 
   /**
@@ -130,7 +134,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setSrc(String src) {
-    set(srcProp, src);
+    set(SRC_PROP, src);
     return this;
   }
 
@@ -140,7 +144,7 @@ public final class IconButton extends ElementComposite
    * @return the href URL
    */
   public String getHref() {
-    return get(hrefProp);
+    return get(HREF_PROP);
   }
 
   /**
@@ -151,7 +155,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setHref(String href) {
-    set(hrefProp, href);
+    set(HREF_PROP, href);
     return this;
   }
 
@@ -161,7 +165,7 @@ public final class IconButton extends ElementComposite
    * @return the target
    */
   public Target getTarget() {
-    return get(targetProp);
+    return get(TARGET_PROP);
   }
 
   /**
@@ -172,7 +176,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setTarget(Target target) {
-    set(targetProp, target);
+    set(TARGET_PROP, target);
     return this;
   }
 
@@ -182,7 +186,7 @@ public final class IconButton extends ElementComposite
    * @return the download filename
    */
   public String getDownload() {
-    return get(downloadProp);
+    return get(DOWNLOAD_PROP);
   }
 
   /**
@@ -193,7 +197,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setDownload(String download) {
-    set(downloadProp, download);
+    set(DOWNLOAD_PROP, download);
     return this;
   }
 
@@ -203,7 +207,7 @@ public final class IconButton extends ElementComposite
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -214,7 +218,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -224,7 +228,7 @@ public final class IconButton extends ElementComposite
    * @return {@code true} if the button is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -234,7 +238,7 @@ public final class IconButton extends ElementComposite
    * @return this component
    */
   public IconButton setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -242,21 +246,21 @@ public final class IconButton extends ElementComposite
    * Sets focus on the icon button.
    */
   public void focus() {
-    getElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getElement(), "focus");
   }
 
   /**
    * Removes focus from the icon button.
    */
   public void blur() {
-    getElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getElement(), "blur");
   }
 
   /**
    * Simulates a click on the icon button.
    */
   public void click() {
-    getElement().callJsFunctionVoidAsync("click");
+    ShoelaceMetrics.call(this, getElement(), "click");
   }
 
   /**
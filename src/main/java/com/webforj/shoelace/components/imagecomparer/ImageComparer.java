@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.imagecomparer;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,6 +10,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.ChangeEvent;
 
 /**
@@ -22,7 +22,7 @@ import com.webforj.shoelace.event.ChangeEvent;
  * @see <a href="https://shoelace.style/components/image-comparer">Shoelace Image Comparer</a>
  */
 @NodeName("sl-image-comparer")
-public final class ImageComparer extends ElementCompositeContainer
+public final class ImageComparer extends ShoelaceCompositeContainer
     implements HasElementClickListener<ImageComparer>, HasClassName<ImageComparer>, HasStyle<ImageComparer>,
     HasVisibility<ImageComparer> {
 
@@ -30,7 +30,7 @@ public final class ImageComparer extends ElementCompositeContainer
   private static final String AFTER_SLOT = "after";
   private static final String HANDLE_SLOT = "handle";
 
-  private final PropertyDescriptor<Integer> positionProp =
+  private static final PropertyDescriptor<Integer> POSITION_PROP =
       PropertyDescriptor.property("position", 50);
 
   /**
@@ -46,7 +46,7 @@ public final class ImageComparer extends ElementCompositeContainer
    * @return the position percentage
    */
   public int getPosition() {
-    return get(positionProp);
+    return get(POSITION_PROP);
   }
 
   /**
@@ -56,7 +56,7 @@ public final class ImageComparer extends ElementCompositeContainer
    * @return this component
    */
   public ImageComparer setPosition(int position) {
-    set(positionProp, position);
+    set(POSITION_PROP, position);
     return this;
   }
 
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.include;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.event.ErrorEvent;
 import com.webforj.shoelace.event.LoadEvent;
 
@@ -22,14 +22,14 @@ import com.webforj.shoelace.event.LoadEvent;
  * @see <a href="https://shoelace.style/components/include">Shoelace Include</a>
  */
 @NodeName("sl-include")
-public final class Include extends ElementComposite
+public final class Include extends ShoelaceComposite
     implements HasElementClickListener<Include>, HasClassName<Include>, HasStyle<Include>, HasVisibility<Include> {
 
-  private final PropertyDescriptor<String> srcProp =
+  private static final PropertyDescriptor<String> SRC_PROP =
       PropertyDescriptor.property("src", "");
-  private final PropertyDescriptor<IncludeMode> modeProp =
+  private static final PropertyDescriptor<IncludeMode> MODE_PROP =
       PropertyDescriptor.property("mode", IncludeMode.CORS);
-  private final PropertyDescriptor<Boolean> allowScriptsProp =
+  private static final PropertyDescriptor<Boolean> ALLOW_SCRIPTS_PROP =
       PropertyDescriptor.property("allowScripts", false);
 
   /**
@@ -55,7 +55,7 @@ public final class Include extends ElementComposite
    * @return the source URL
    */
   public String getSrc() {
-    return get(srcProp);
+    return get(SRC_PROP);
   }
 
   /**
@@ -66,7 +66,7 @@ public final class Include extends ElementComposite
    * @return this component
    */
   public Include setSrc(String src) {
-    set(srcProp, src);
+    set(SRC_PROP, src);
     return this;
   }
 
@@ -76,7 +76,7 @@ public final class Include extends ElementComposite
    * @return the fetch mode
    */
   public IncludeMode getMode() {
-    return get(modeProp);
+    return get(MODE_PROP);
   }
 
   /**
@@ -86,7 +86,7 @@ public final class Include extends ElementComposite
    * @return this component
    */
   public Include setMode(IncludeMode mode) {
-    set(modeProp, mode);
+    set(MODE_PROP, mode);
     return this;
   }
 
@@ -96,7 +96,7 @@ public final class Include extends ElementComposite
    * @return {@code true} if scripts are allowed
    */
   public boolean isAllowScripts() {
-    return get(allowScriptsProp);
+    return get(ALLOW_SCRIPTS_PROP);
   }
 
   /**
@@ -107,7 +107,7 @@ public final class Include extends ElementComposite
    * @return this component
    */
   public Include setAllowScripts(boolean allowScripts) {
-    set(allowScriptsProp, allowScripts);
+    set(ALLOW_SCRIPTS_PROP, allowScripts);
     return this;
   }
 
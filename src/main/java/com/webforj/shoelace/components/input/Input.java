@@ -1,7 +1,8 @@
 package com.webforj.shoelace.components.input;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
+import com.webforj.component.element.ElementEventOptions;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,12 +12,17 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.ClearEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.event.RateLimit;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Input component ({@code <sl-input>}).
@@ -27,60 +33,61 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/input">Shoelace Input</a>
  */
 @NodeName("sl-input")
-public final class Input extends ElementCompositeContainer
-    implements HasElementClickListener<Input>, HasClassName<Input>, HasStyle<Input>, HasVisibility<Input> {
+public final class Input extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Input>, HasClassName<Input>, HasStyle<Input>, HasVisibility<Input>,
+    HasValidity {
 
-  private final PropertyDescriptor<InputType> typeProp =
+  private static final PropertyDescriptor<InputType> TYPE_PROP =
       PropertyDescriptor.property("type", InputType.TEXT);
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> filledProp =
+  private static final PropertyDescriptor<Boolean> FILLED_PROP =
       PropertyDescriptor.property("filled", false);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<Boolean> clearableProp =
+  private static final PropertyDescriptor<Boolean> CLEARABLE_PROP =
       PropertyDescriptor.property("clearable", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<String> placeholderProp =
+  private static final PropertyDescriptor<String> PLACEHOLDER_PROP =
       PropertyDescriptor.property("placeholder", "");
-  private final PropertyDescriptor<Boolean> readonlyProp =
+  private static final PropertyDescriptor<Boolean> READONLY_PROP =
       PropertyDescriptor.property("readonly", false);
-  private final PropertyDescriptor<Boolean> passwordToggleProp =
+  private static final PropertyDescriptor<Boolean> PASSWORD_TOGGLE_PROP =
       PropertyDescriptor.property("passwordToggle", false);
-  private final PropertyDescriptor<Boolean> passwordVisibleProp =
+  private static final PropertyDescriptor<Boolean> PASSWORD_VISIBLE_PROP =
       PropertyDescriptor.property("passwordVisible", false);
-  private final PropertyDescriptor<Boolean> noSpinButtonsProp =
+  private static final PropertyDescriptor<Boolean> NO_SPIN_BUTTONS_PROP =
       PropertyDescriptor.property("noSpinButtons", false);
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
-  private final PropertyDescriptor<String> patternProp =
+  private static final PropertyDescriptor<String> PATTERN_PROP =
       PropertyDescriptor.property("pattern", "");
-  private final PropertyDescriptor<Integer> minlengthProp =
+  private static final PropertyDescriptor<Integer> MINLENGTH_PROP =
       PropertyDescriptor.property("minlength", 0);
-  private final PropertyDescriptor<Integer> maxlengthProp =
+  private static final PropertyDescriptor<Integer> MAXLENGTH_PROP =
       PropertyDescriptor.property("maxlength", 0);
-  private final PropertyDescriptor<String> minProp =
+  private static final PropertyDescriptor<String> MIN_PROP =
       PropertyDescriptor.property("min", "");
-  private final PropertyDescriptor<String> maxProp =
+  private static final PropertyDescriptor<String> MAX_PROP =
       PropertyDescriptor.property("max", "");
-  private final PropertyDescriptor<String> stepProp =
+  private static final PropertyDescriptor<String> STEP_PROP =
       PropertyDescriptor.property("step", "");
-  private final PropertyDescriptor<String> autocompleteProp =
+  private static final PropertyDescriptor<String> AUTOCOMPLETE_PROP =
       PropertyDescriptor.property("autocomplete", "");
-  private final PropertyDescriptor<Boolean> autofocusProp =
+  private static final PropertyDescriptor<Boolean> AUTOFOCUS_PROP =
       PropertyDescriptor.property("autofocus", false);
-  private final PropertyDescriptor<Boolean> spellcheckProp =
+  private static final PropertyDescriptor<Boolean> SPELLCHECK_PROP =
       PropertyDescriptor.property("spellcheck", false);
 
   /**
@@ -88,6 +95,7 @@ public final class Input extends ElementCompositeContainer
    */
   public Input() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -96,7 +104,7 @@ public final class Input extends ElementCompositeContainer
    * @return the input type
    */
   public InputType getType() {
-    return get(typeProp);
+    return get(TYPE_PROP);
   }
 
   /**
@@ -107,7 +115,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setType(InputType type) {
-    set(typeProp, type);
+    set(TYPE_PROP, type);
     return this;
   }
 
@@ -117,7 +125,7 @@ public final class Input extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -127,7 +135,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -137,7 +145,7 @@ public final class Input extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -147,7 +155,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -157,7 +165,7 @@ public final class Input extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -167,7 +175,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -177,7 +185,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input is filled
    */
   public boolean isFilled() {
-    return get(filledProp);
+    return get(FILLED_PROP);
   }
 
   /**
@@ -187,7 +195,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setFilled(boolean filled) {
-    set(filledProp, filled);
+    set(FILLED_PROP, filled);
     return this;
   }
 
@@ -197,7 +205,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input has a pill style
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -207,7 +215,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -217,7 +225,7 @@ public final class Input extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -227,7 +235,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -237,7 +245,7 @@ public final class Input extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -247,7 +255,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -257,7 +265,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input is clearable
    */
   public boolean isClearable() {
-    return get(clearableProp);
+    return get(CLEARABLE_PROP);
   }
 
   /**
@@ -267,7 +275,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setClearable(boolean clearable) {
-    set(clearableProp, clearable);
+    set(CLEARABLE_PROP, clearable);
     return this;
   }
 
@@ -277,7 +285,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -287,7 +295,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -297,7 +305,7 @@ public final class Input extends ElementCompositeContainer
    * @return the placeholder text
    */
   public String getPlaceholder() {
-    return get(placeholderProp);
+    return get(PLACEHOLDER_PROP);
   }
 
   /**
@@ -307,7 +315,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setPlaceholder(String placeholder) {
-    set(placeholderProp, placeholder);
+    set(PLACEHOLDER_PROP, placeholder);
     return this;
   }
 
@@ -317,7 +325,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input is readonly
    */
   public boolean isReadonly() {
-    return get(readonlyProp);
+    return get(READONLY_PROP);
   }
 
   /**
@@ -327,7 +335,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setReadonly(boolean readonly) {
-    set(readonlyProp, readonly);
+    set(READONLY_PROP, readonly);
     return this;
   }
 
@@ -337,7 +345,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the password toggle is shown
    */
   public boolean isPasswordToggle() {
-    return get(passwordToggleProp);
+    return get(PASSWORD_TOGGLE_PROP);
   }
 
   /**
@@ -348,7 +356,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setPasswordToggle(boolean passwordToggle) {
-    set(passwordToggleProp, passwordToggle);
+    set(PASSWORD_TOGGLE_PROP, passwordToggle);
     return this;
   }
 
@@ -358,7 +366,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the password is visible
    */
   public boolean isPasswordVisible() {
-    return get(passwordVisibleProp);
+    return get(PASSWORD_VISIBLE_PROP);
   }
 
   /**
@@ -368,7 +376,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setPasswordVisible(boolean passwordVisible) {
-    set(passwordVisibleProp, passwordVisible);
+    set(PASSWORD_VISIBLE_PROP, passwordVisible);
     return this;
   }
 
@@ -378,7 +386,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if spin buttons are hidden
    */
   public boolean isNoSpinButtons() {
-    return get(noSpinButtonsProp);
+    return get(NO_SPIN_BUTTONS_PROP);
   }
 
   /**
@@ -389,7 +397,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setNoSpinButtons(boolean noSpinButtons) {
-    set(noSpinButtonsProp, noSpinButtons);
+    set(NO_SPIN_BUTTONS_PROP, noSpinButtons);
     return this;
   }
 
@@ -399,7 +407,7 @@ public final class Input extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -410,7 +418,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -420,7 +428,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if the input is required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -430,7 +438,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -440,7 +448,7 @@ public final class Input extends ElementCompositeContainer
    * @return the pattern
    */
   public String getPattern() {
-    return get(patternProp);
+    return get(PATTERN_PROP);
   }
 
   /**
@@ -450,7 +458,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setPattern(String pattern) {
-    set(patternProp, pattern);
+    set(PATTERN_PROP, pattern);
     return this;
   }
 
@@ -460,7 +468,7 @@ public final class Input extends ElementCompositeContainer
    * @return the minimum length
    */
   public int getMinlength() {
-    return get(minlengthProp);
+    return get(MINLENGTH_PROP);
   }
 
   /**
@@ -470,7 +478,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setMinlength(int minlength) {
-    set(minlengthProp, minlength);
+    set(MINLENGTH_PROP, minlength);
     return this;
   }
 
@@ -480,7 +488,7 @@ public final class Input extends ElementCompositeContainer
    * @return the maximum length
    */
   public int getMaxlength() {
-    return get(maxlengthProp);
+    return get(MAXLENGTH_PROP);
   }
 
   /**
@@ -490,7 +498,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setMaxlength(int maxlength) {
-    set(maxlengthProp, maxlength);
+    set(MAXLENGTH_PROP, maxlength);
     return this;
   }
 
@@ -500,7 +508,7 @@ public final class Input extends ElementCompositeContainer
    * @return the minimum value
    */
   public String getMin() {
-    return get(minProp);
+    return get(MIN_PROP);
   }
 
   /**
@@ -510,7 +518,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setMin(String min) {
-    set(minProp, min);
+    set(MIN_PROP, min);
     return this;
   }
 
@@ -520,7 +528,7 @@ public final class Input extends ElementCompositeContainer
    * @return the maximum value
    */
   public String getMax() {
-    return get(maxProp);
+    return get(MAX_PROP);
   }
 
   /**
@@ -530,7 +538,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setMax(String max) {
-    set(maxProp, max);
+    set(MAX_PROP, max);
     return this;
   }
 
@@ -540,7 +548,7 @@ public final class Input extends ElementCompositeContainer
    * @return the step value
    */
   public String getStep() {
-    return get(stepProp);
+    return get(STEP_PROP);
   }
 
   /**
@@ -551,7 +559,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setStep(String step) {
-    set(stepProp, step);
+    set(STEP_PROP, step);
     return this;
   }
 
@@ -561,7 +569,7 @@ public final class Input extends ElementCompositeContainer
    * @return the autocomplete value
    */
   public String getAutocomplete() {
-    return get(autocompleteProp);
+    return get(AUTOCOMPLETE_PROP);
   }
 
   /**
@@ -571,7 +579,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setAutocomplete(String autocomplete) {
-    set(autocompleteProp, autocomplete);
+    set(AUTOCOMPLETE_PROP, autocomplete);
     return this;
   }
 
@@ -581,7 +589,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if autofocus is enabled
    */
   public boolean isAutofocus() {
-    return get(autofocusProp);
+    return get(AUTOFOCUS_PROP);
   }
 
   /**
@@ -591,7 +599,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setAutofocus(boolean autofocus) {
-    set(autofocusProp, autofocus);
+    set(AUTOFOCUS_PROP, autofocus);
     return this;
   }
 
@@ -601,7 +609,7 @@ public final class Input extends ElementCompositeContainer
    * @return true if spell checking is enabled
    */
   public boolean isSpellcheck() {
-    return get(spellcheckProp);
+    return get(SPELLCHECK_PROP);
   }
 
   /**
@@ -611,7 +619,7 @@ public final class Input extends ElementCompositeContainer
    * @return this component
    */
   public Input setSpellcheck(boolean spellcheck) {
-    set(spellcheckProp, spellcheck);
+    set(SPELLCHECK_PROP, spellcheck);
     return this;
   }
 
@@ -619,35 +627,35 @@ public final class Input extends ElementCompositeContainer
    * Sets focus on the input.
    */
   public void focus() {
-    getOriginalElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the input.
    */
   public void blur() {
-    getOriginalElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
    * Selects all the text in the input.
    */
   public void select() {
-    getOriginalElement().callJsFunctionVoidAsync("select");
+    ShoelaceMetrics.call(this, getOriginalElement(), "select");
   }
 
   /**
    * Increments the value of a numeric input type by the value of the step attribute.
    */
   public void stepUp() {
-    getOriginalElement().callJsFunctionVoidAsync("stepUp");
+    ShoelaceMetrics.call(this, getOriginalElement(), "stepUp");
   }
 
   /**
    * Decrements the value of a numeric input type by the value of the step attribute.
    */
   public void stepDown() {
-    getOriginalElement().callJsFunctionVoidAsync("stepDown");
+    ShoelaceMetrics.call(this, getOriginalElement(), "stepDown");
   }
 
   /**
@@ -655,22 +663,40 @@ public final class Input extends ElementCompositeContainer
    * the input type.
    */
   public void showPicker() {
-    getOriginalElement().callJsFunctionVoidAsync("showPicker");
+    ShoelaceMetrics.call(this, getOriginalElement(), "showPicker");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -678,8 +704,9 @@ public final class Input extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getOriginalElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
@@ -786,6 +813,34 @@ public final class Input extends ElementCompositeContainer
     return addInputListener(listener);
   }
 
+  /**
+   * Adds a listener for the input event whose delivery is debounced or throttled in the browser.
+   * The last event of a burst is always delivered and carries the latest value, available from
+   * {@link InputEvent#getValue()}.
+   *
+   * @param listener the event listener
+   * @param rateLimit how often the listener may receive events
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<InputEvent<Input>> addInputListener(
+      EventListener<InputEvent<Input>> listener, RateLimit rateLimit) {
+    return rateLimit.addListener(listener, ElementEventOptions::new,
+        (limited, options) -> addEventListener(InputEvent.class, limited, options));
+  }
+
+  /**
+   * Adds a listener for the input event whose delivery is debounced or throttled in the browser.
+   *
+   * @param listener the event listener
+   * @param rateLimit how often the listener may receive events
+   * @return a registration for removing the listener
+   * @see #addInputListener(EventListener, RateLimit)
+   */
+  public ListenerRegistration<InputEvent<Input>> onInput(EventListener<InputEvent<Input>> listener,
+      RateLimit rateLimit) {
+    return addInputListener(listener, rateLimit);
+  }
+
   /**
    * Adds a listener for the invalid event, fired when the form control has been checked for
    * validity and its constraints are not satisfied.
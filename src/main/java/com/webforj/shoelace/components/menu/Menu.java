@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.menu;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
@@ -9,6 +8,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.menu.event.SelectEvent;
 
 /**
@@ -21,7 +21,7 @@ import com.webforj.shoelace.components.menu.event.SelectEvent;
  * @see <a href="https://shoelace.style/components/menu">Shoelace Menu</a>
  */
 @NodeName("sl-menu")
-public final class Menu extends ElementCompositeContainer
+public final class Menu extends ShoelaceCompositeContainer
     implements HasElementClickListener<Menu>, HasClassName<Menu>, HasStyle<Menu>, HasVisibility<Menu> {
 
   /**
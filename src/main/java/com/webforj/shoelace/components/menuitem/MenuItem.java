@@ -2,13 +2,13 @@ package com.webforj.shoelace.components.menuitem;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace MenuItem component ({@code <sl-menu-item>}).
@@ -20,7 +20,7 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/menu-item">Shoelace Menu Item</a>
  */
 @NodeName("sl-menu-item")
-public final class MenuItem extends ElementCompositeContainer
+public final class MenuItem extends ShoelaceCompositeContainer
     implements HasElementClickListener<MenuItem>, HasClassName<MenuItem>, HasStyle<MenuItem>, HasVisibility<MenuItem> {
 
   // Slot constants
@@ -29,23 +29,23 @@ public final class MenuItem extends ElementCompositeContainer
   private static final String SUBMENU_SLOT = "submenu";
 
   // Property descriptors
-  private final PropertyDescriptor<MenuItemType> typeProp =
+  private static final PropertyDescriptor<MenuItemType> TYPE_PROP =
       PropertyDescriptor.property("type", MenuItemType.NORMAL);
-  private final PropertyDescriptor<Boolean> checkedProp =
+  private static final PropertyDescriptor<Boolean> CHECKED_PROP =
       PropertyDescriptor.property("checked", false);
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Boolean> loadingProp =
+  private static final PropertyDescriptor<Boolean> LOADING_PROP =
       PropertyDescriptor.property("loading", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<String> hrefProp =
+  private static final PropertyDescriptor<String> HREF_PROP =
       PropertyDescriptor.property("href", "");
-  private final PropertyDescriptor<String> targetProp =
+  private static final PropertyDescriptor<String> TARGET_PROP =
       PropertyDescriptor.property("target", "");
-  private final PropertyDescriptor<String> relProp =
+  private static final PropertyDescriptor<String> REL_PROP =
       PropertyDescriptor.property("rel", "");
-  private final PropertyDescriptor<String> downloadProp =
+  private static final PropertyDescriptor<String> DOWNLOAD_PROP =
       PropertyDescriptor.property("download", "");
 
   /**
@@ -83,7 +83,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the menu item type
    */
   public MenuItemType getType() {
-    return get(typeProp);
+    return get(TYPE_PROP);
   }
 
   /**
@@ -94,7 +94,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setType(MenuItemType type) {
-    set(typeProp, type);
+    set(TYPE_PROP, type);
     return this;
   }
 
@@ -104,7 +104,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return {@code true} if the item is checked
    */
   public boolean isChecked() {
-    return get(checkedProp);
+    return get(CHECKED_PROP);
   }
 
   /**
@@ -114,7 +114,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setChecked(boolean checked) {
-    set(checkedProp, checked);
+    set(CHECKED_PROP, checked);
     return this;
   }
 
@@ -124,7 +124,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -135,7 +135,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -145,7 +145,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return {@code true} if the item is loading
    */
   public boolean isLoading() {
-    return get(loadingProp);
+    return get(LOADING_PROP);
   }
 
   /**
@@ -155,7 +155,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setLoading(boolean loading) {
-    set(loadingProp, loading);
+    set(LOADING_PROP, loading);
     return this;
   }
 
@@ -165,7 +165,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return {@code true} if the item is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -175,7 +175,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -185,7 +185,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the href URL
    */
   public String getHref() {
-    return get(hrefProp);
+    return get(HREF_PROP);
   }
 
   /**
@@ -195,7 +195,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setHref(String href) {
-    set(hrefProp, href);
+    set(HREF_PROP, href);
     return this;
   }
 
@@ -205,7 +205,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the target
    */
   public String getTarget() {
-    return get(targetProp);
+    return get(TARGET_PROP);
   }
 
   /**
@@ -216,7 +216,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setTarget(String target) {
-    set(targetProp, target);
+    set(TARGET_PROP, target);
     return this;
   }
 
@@ -226,7 +226,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the rel attribute value
    */
   public String getRel() {
-    return get(relProp);
+    return get(REL_PROP);
   }
 
   /**
@@ -236,7 +236,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setRel(String rel) {
-    set(relProp, rel);
+    set(REL_PROP, rel);
     return this;
   }
 
@@ -246,7 +246,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return the download filename
    */
   public String getDownload() {
-    return get(downloadProp);
+    return get(DOWNLOAD_PROP);
   }
 
   /**
@@ -257,7 +257,7 @@ public final class MenuItem extends ElementCompositeContainer
    * @return this component
    */
   public MenuItem setDownload(String download) {
-    set(downloadProp, download);
+    set(DOWNLOAD_PROP, download);
     return this;
   }
 
@@ -1,12 +1,12 @@
 package com.webforj.shoelace.components.menulabel;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace MenuLabel component ({@code <sl-menu-label>}).
@@ -16,7 +16,7 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/menu-label">Shoelace Menu Label</a>
  */
 @NodeName("sl-menu-label")
-public final class MenuLabel extends ElementCompositeContainer
+public final class MenuLabel extends ShoelaceCompositeContainer
     implements HasElementClickListener<MenuLabel>, HasClassName<MenuLabel>, HasStyle<MenuLabel>, HasVisibility<MenuLabel> {
 
   /**
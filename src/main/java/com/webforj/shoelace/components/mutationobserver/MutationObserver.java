@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.mutationobserver;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.mutationobserver.event.MutationEvent;
 
 /**
@@ -22,21 +22,21 @@ import com.webforj.shoelace.components.mutationobserver.event.MutationEvent;
  * @see <a href="https://shoelace.style/components/mutation-observer">Shoelace Mutation Observer</a>
  */
 @NodeName("sl-mutation-observer")
-public final class MutationObserver extends ElementCompositeContainer
+public final class MutationObserver extends ShoelaceCompositeContainer
     implements HasElementClickListener<MutationObserver>, HasClassName<MutationObserver>, HasStyle<MutationObserver>,
     HasVisibility<MutationObserver> {
 
-  private final PropertyDescriptor<String> attrProp =
+  private static final PropertyDescriptor<String> ATTR_PROP =
       PropertyDescriptor.property("attr", "");
-  private final PropertyDescriptor<Boolean> attrOldValueProp =
+  private static final PropertyDescriptor<Boolean> ATTR_OLD_VALUE_PROP =
       PropertyDescriptor.property("attrOldValue", false);
-  private final PropertyDescriptor<Boolean> charDataProp =
+  private static final PropertyDescriptor<Boolean> CHAR_DATA_PROP =
       PropertyDescriptor.property("charData", false);
-  private final PropertyDescriptor<Boolean> charDataOldValueProp =
+  private static final PropertyDescriptor<Boolean> CHAR_DATA_OLD_VALUE_PROP =
       PropertyDescriptor.property("charDataOldValue", false);
-  private final PropertyDescriptor<Boolean> childListProp =
+  private static final PropertyDescriptor<Boolean> CHILD_LIST_PROP =
       PropertyDescriptor.property("childList", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -52,7 +52,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return the attribute filter string
    */
   public String getAttr() {
-    return get(attrProp);
+    return get(ATTR_PROP);
   }
 
   /**
@@ -63,7 +63,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setAttr(String attr) {
-    set(attrProp, attr);
+    set(ATTR_PROP, attr);
     return this;
   }
 
@@ -73,7 +73,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return {@code true} if old attribute values are recorded
    */
   public boolean isAttrOldValue() {
-    return get(attrOldValueProp);
+    return get(ATTR_OLD_VALUE_PROP);
   }
 
   /**
@@ -83,7 +83,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setAttrOldValue(boolean attrOldValue) {
-    set(attrOldValueProp, attrOldValue);
+    set(ATTR_OLD_VALUE_PROP, attrOldValue);
     return this;
   }
 
@@ -93,7 +93,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return {@code true} if character data changes are watched
    */
   public boolean isCharData() {
-    return get(charDataProp);
+    return get(CHAR_DATA_PROP);
   }
 
   /**
@@ -103,7 +103,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setCharData(boolean charData) {
-    set(charDataProp, charData);
+    set(CHAR_DATA_PROP, charData);
     return this;
   }
 
@@ -113,7 +113,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return {@code true} if old character data values are recorded
    */
   public boolean isCharDataOldValue() {
-    return get(charDataOldValueProp);
+    return get(CHAR_DATA_OLD_VALUE_PROP);
   }
 
   /**
@@ -123,7 +123,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setCharDataOldValue(boolean charDataOldValue) {
-    set(charDataOldValueProp, charDataOldValue);
+    set(CHAR_DATA_OLD_VALUE_PROP, charDataOldValue);
     return this;
   }
 
@@ -133,7 +133,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return {@code true} if child list changes are watched
    */
   public boolean isChildList() {
-    return get(childListProp);
+    return get(CHILD_LIST_PROP);
   }
 
   /**
@@ -143,7 +143,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setChildList(boolean childList) {
-    set(childListProp, childList);
+    set(CHILD_LIST_PROP, childList);
     return this;
   }
 
@@ -153,7 +153,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return {@code true} if the observer is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -163,7 +163,7 @@ public final class MutationObserver extends ElementCompositeContainer
    * @return this component
    */
   public MutationObserver setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -189,6 +189,33 @@ public final class MutationObserver extends ElementCompositeContainer
     return addMutationListener(listener);
   }
 
+  /**
+   * Adds a listener for the mutation event that only receives the records matching the given
+   * options. Records are filtered, capped and batched in the browser.
+   *
+   * @param listener the event listener
+   * @param options the filters to apply before an event is sent
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<MutationEvent<MutationObserver>> addMutationListener(
+      EventListener<MutationEvent<MutationObserver>> listener, MutationOptions options) {
+    return addEventListener(MutationEvent.class, listener, options.toEventOptions());
+  }
+
+  /**
+   * Adds a listener for the mutation event that only receives the records matching the given
+   * options.
+   *
+   * @param listener the event listener
+   * @param options the filters to apply before an event is sent
+   * @return a registration for removing the listener
+   * @see #addMutationListener(EventListener, MutationOptions)
+   */
+  public ListenerRegistration<MutationEvent<MutationObserver>> onMutation(
+      EventListener<MutationEvent<MutationObserver>> listener, MutationOptions options) {
+    return addMutationListener(listener, options);
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
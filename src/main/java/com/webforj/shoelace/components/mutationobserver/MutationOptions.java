@@ -0,0 +1,188 @@
+package com.webforj.shoelace.components.mutationobserver;
+
+import com.google.gson.Gson;
+import com.webforj.component.element.ElementEventOptions;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser-side filters for a mutation listener, so that busy DOM regions only send the changes
+ * the listener needs.
+ *
+ * <p>Records are filtered in the browser before anything is sent. A listener can keep only the
+ * changes of {@linkplain #setAttributeNames(String...) some attributes}, only
+ * {@linkplain #setChildListOnly(boolean) child list} changes, cap the
+ * {@linkplain #setMaxRecords(int) records per event}, and collect records over a
+ * {@linkplain #setBatchWindow(Duration) batching window} into a single event. To stop the
+ * browser from observing other attributes at all, also set
+ * {@link MutationObserver#setAttr(String)}.</p>
+ */
+public final class MutationOptions {
+
+  private static final AtomicLong COUNTER = new AtomicLong();
+  private static final Gson GSON = new Gson();
+
+  // Matching records are collected per listener and re-dispatched as one synthetic event of the
+  // same type, marked with wfsMutationBatch, that only this listener accepts.
+  private static final String FILTER = """
+      (() => {
+        if (!event.target.isSameNode(component)) {
+          return false;
+        }
+        const key = %s;
+        const detail = event.detail || {};
+        if (detail.wfsMutationBatch) {
+          return detail.wfsMutationBatch === key;
+        }
+        const names = %s;
+        const childListOnly = %s;
+        const max = %d;
+        const batches = component.__slMutationBatches || (component.__slMutationBatches = {});
+        const batch = batches[key] || (batches[key] = { records: [], dropped: 0, timer: 0 });
+        for (const r of detail.mutationList || []) {
+          if (childListOnly && r.type !== 'childList') {
+            continue;
+          }
+          if (names && r.type === 'attributes' && !names.includes(r.attributeName)) {
+            continue;
+          }
+          if (max > 0 && batch.records.length >= max) {
+            batch.dropped++;
+          } else {
+            batch.records.push(r);
+          }
+        }
+        if (!batch.timer && (batch.records.length || batch.dropped)) {
+          batch.timer = setTimeout(() => {
+            const next = {
+              mutationList: batch.records, dropped: batch.dropped, wfsMutationBatch: key
+            };
+            batch.records = [];
+            batch.dropped = 0;
+            batch.timer = 0;
+            component.dispatchEvent(new CustomEvent(event.type, { detail: next }));
+          }, %d);
+        }
+        return false;
+      })()""";
+
+  private Set<String> attributeNames = Collections.emptySet();
+  private boolean childListOnly;
+  private int maxRecords;
+  private Duration batchWindow = Duration.ZERO;
+
+  /**
+   * Keeps only the attribute changes of the given attributes. Other kinds of changes are not
+   * affected.
+   *
+   * @param names the attribute names, none to keep all attribute changes
+   * @return these options
+   */
+  public MutationOptions setAttributeNames(String... names) {
+    return setAttributeNames(Arrays.asList(names));
+  }
+
+  /**
+   * Keeps only the attribute changes of the given attributes.
+   *
+   * @param names the attribute names, empty to keep all attribute changes
+   * @return these options
+   * @see #setAttributeNames(String...)
+   */
+  public MutationOptions setAttributeNames(Collection<String> names) {
+    this.attributeNames = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    return this;
+  }
+
+  /**
+   * Gets the attributes whose changes are kept.
+   *
+   * @return the attribute names, empty if all attribute changes are kept
+   */
+  public Set<String> getAttributeNames() {
+    return attributeNames;
+  }
+
+  /**
+   * Sets whether only changes to the list of child nodes are kept.
+   *
+   * @param childListOnly {@code true} to keep only child list changes
+   * @return these options
+   */
+  public MutationOptions setChildListOnly(boolean childListOnly) {
+    this.childListOnly = childListOnly;
+    return this;
+  }
+
+  /**
+   * Checks whether only changes to the list of child nodes are kept.
+   *
+   * @return {@code true} if only child list changes are kept
+   */
+  public boolean isChildListOnly() {
+    return childListOnly;
+  }
+
+  /**
+   * Caps the number of records per event. Further records are counted in
+   * {@link com.webforj.shoelace.components.mutationobserver.event.MutationEvent#getDroppedCount()}.
+   *
+   * @param maxRecords the maximum number of records, {@code 0} for no limit
+   * @return these options
+   * @throws IllegalArgumentException if {@code maxRecords} is negative
+   */
+  public MutationOptions setMaxRecords(int maxRecords) {
+    if (maxRecords < 0) {
+      throw new IllegalArgumentException("The maximum number of records must not be negative");
+    }
+    this.maxRecords = maxRecords;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of records per event.
+   *
+   * @return the maximum, or {@code 0} if there is no limit
+   */
+  public int getMaxRecords() {
+    return maxRecords;
+  }
+
+  /**
+   * Collects the records observed within the given time after the first one into one event.
+   *
+   * @param batchWindow the batching window, {@code null} or zero to send each change as soon as
+   *        possible
+   * @return these options
+   */
+  public MutationOptions setBatchWindow(Duration batchWindow) {
+    this.batchWindow = batchWindow == null || batchWindow.isNegative()
+        ? Duration.ZERO
+        : batchWindow;
+    return this;
+  }
+
+  /**
+   * Gets the batching window.
+   *
+   * @return the batching window, zero if changes are not batched
+   */
+  public Duration getBatchWindow() {
+    return batchWindow;
+  }
+
+  ElementEventOptions toEventOptions() {
+    String key = "\"mo" + COUNTER.incrementAndGet() + "\"";
+    String names = attributeNames.isEmpty() ? "null" : GSON.toJson(attributeNames);
+    long window = Math.min(Integer.MAX_VALUE, batchWindow.toMillis());
+
+    ElementEventOptions options = new ElementEventOptions();
+    options.setFilter(FILTER.formatted(key, names, childListOnly, maxRecords, window));
+    return options;
+  }
+}
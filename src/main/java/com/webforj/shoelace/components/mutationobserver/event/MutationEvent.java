@@ -5,31 +5,90 @@ import com.webforj.component.element.annotation.EventName;
 import com.webforj.component.element.annotation.EventOptions;
 import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Emitted when a mutation occurs in a MutationObserver component.
  *
+ * <p>Each browser mutation record is reduced to a {@link MutationRecord} before it is sent, the
+ * changed nodes themselves are not serialized.</p>
+ *
  * @param <T> the component type
  */
 @EventName("sl-mutation")
 @EventOptions(
-    filter = "event.target.isSameNode(component)",
+    // batches re-dispatched for a filtered listener are meant for that listener alone
+    filter = "event.target.isSameNode(component) "
+        + "&& !(event.detail && event.detail.wfsMutationBatch)",
     data = {
-        @EventData(key = "mutationList", exp = "event.detail.mutationList")
+        @EventData(key = MutationEvent.RECORDS_KEY, exp = MutationEvent.RECORDS_EXPRESSION),
+        @EventData(key = MutationEvent.DROPPED_KEY, exp = "event.detail.dropped || 0")
     })
 public class MutationEvent<T extends ElementComposite> extends ComponentEvent<T> {
 
+  /** The payload key of the mutation records. */
+  public static final String RECORDS_KEY = "mutationList";
+
+  /** The payload key of the number of records left out of the event. */
+  public static final String DROPPED_KEY = "dropped";
+
+  /** The client expression that reduces the browser's mutation records. */
+  public static final String RECORDS_EXPRESSION = """
+      (event.detail.mutationList || []).map(r => ({
+        type: r.type,
+        target: r.target.nodeType === 1 ? r.target.localName : r.target.nodeName.toLowerCase(),
+        targetId: (r.target.nodeType === 1 && r.target.id) || null,
+        attributeName: r.attributeName,
+        oldValue: r.oldValue,
+        added: r.addedNodes.length,
+        removed: r.removedNodes.length
+      }))""";
+
   public MutationEvent(T component, Map<String, Object> payload) {
     super(component, payload);
   }
 
   /**
-   * Gets the list of mutation records.
+   * Gets the mutation records.
+   *
+   * @return the records, empty if the event carries none
+   */
+  public List<MutationRecord> getMutationList() {
+    Object val = getEventMap().get(RECORDS_KEY);
+    if (!(val instanceof List<?> items)) {
+      return Collections.emptyList();
+    }
+
+    List<MutationRecord> records = new ArrayList<>(items.size());
+    for (Object item : items) {
+      if (item instanceof Map<?, ?> record) {
+        records.add(new MutationRecord(toText(record.get("type")), toText(record.get("target")),
+            toText(record.get("targetId")), toText(record.get("attributeName")),
+            toText(record.get("oldValue")), toInt(record.get("added")),
+            toInt(record.get("removed"))));
+      }
+    }
+    return records;
+  }
+
+  /**
+   * Gets the number of records that matched but were left out because the listener caps the
+   * records per event.
    *
-   * @return the mutation list from the event detail
+   * @return the number of dropped records
    */
-  public Object getMutationList() {
-    return getEventMap().get("mutationList");
+  public int getDroppedCount() {
+    return toInt(getEventMap().get(DROPPED_KEY));
+  }
+
+  private static String toText(Object val) {
+    return val != null ? String.valueOf(val) : null;
+  }
+
+  private static int toInt(Object val) {
+    return val instanceof Number number ? number.intValue() : 0;
   }
 }
@@ -0,0 +1,25 @@
+package com.webforj.shoelace.components.mutationobserver.event;
+
+/**
+ * One DOM change observed by a MutationObserver component.
+ *
+ * @param type the kind of change: {@code attributes}, {@code characterData} or {@code childList}
+ * @param target the local name of the changed node, or {@code #text} for text nodes
+ * @param targetId the id of the changed element, or {@code null} if it has none
+ * @param attributeName the name of the changed attribute, or {@code null} for other changes
+ * @param oldValue the previous value when old values are recorded, otherwise {@code null}
+ * @param addedNodes the number of nodes added to the target
+ * @param removedNodes the number of nodes removed from the target
+ */
+public record MutationRecord(String type, String target, String targetId, String attributeName,
+    String oldValue, int addedNodes, int removedNodes) {
+
+  /** The type of attribute changes. */
+  public static final String ATTRIBUTES = "attributes";
+
+  /** The type of text content changes. */
+  public static final String CHARACTER_DATA = "characterData";
+
+  /** The type of changes to the list of child nodes. */
+  public static final String CHILD_LIST = "childList";
+}
@@ -1,14 +1,14 @@
 package com.webforj.shoelace.components.option;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
-import com.webforj.component.html.elements.Span;
 import com.webforj.component.element.concern.HasElementClickListener;
+import com.webforj.component.html.elements.Span;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace Option component ({@code <sl-option>}).
@@ -19,12 +19,12 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/option">Shoelace Option</a>
  */
 @NodeName("sl-option")
-public final class Option extends ElementCompositeContainer
+public final class Option extends ShoelaceCompositeContainer
     implements HasElementClickListener<Option>, HasClassName<Option>, HasStyle<Option>, HasVisibility<Option> {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -62,7 +62,7 @@ public final class Option extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -73,7 +73,7 @@ public final class Option extends ElementCompositeContainer
    * @return this component
    */
   public Option setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -83,7 +83,7 @@ public final class Option extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -93,7 +93,7 @@ public final class Option extends ElementCompositeContainer
    * @return this component
    */
   public Option setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.popup;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -12,7 +11,9 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Placement;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.popup.event.RepositionEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Popup component ({@code <sl-popup>}).
@@ -24,48 +25,48 @@ import com.webforj.shoelace.components.popup.event.RepositionEvent;
  * @see <a href="https://shoelace.style/components/popup">Shoelace Popup</a>
  */
 @NodeName("sl-popup")
-public final class Popup extends ElementCompositeContainer
+public final class Popup extends ShoelaceCompositeContainer
     implements HasElementClickListener<Popup>, HasClassName<Popup>, HasStyle<Popup>, HasVisibility<Popup> {
 
   private static final String ANCHOR_SLOT = "anchor";
 
-  private final PropertyDescriptor<String> anchorProp =
+  private static final PropertyDescriptor<String> ANCHOR_PROP =
       PropertyDescriptor.property("anchor", "");
-  private final PropertyDescriptor<Boolean> activeProp =
+  private static final PropertyDescriptor<Boolean> ACTIVE_PROP =
       PropertyDescriptor.property("active", false);
-  private final PropertyDescriptor<Placement> placementProp =
+  private static final PropertyDescriptor<Placement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", Placement.TOP);
-  private final PropertyDescriptor<PopupStrategy> strategyProp =
+  private static final PropertyDescriptor<PopupStrategy> STRATEGY_PROP =
       PropertyDescriptor.property("strategy", PopupStrategy.ABSOLUTE);
-  private final PropertyDescriptor<Integer> distanceProp =
+  private static final PropertyDescriptor<Integer> DISTANCE_PROP =
       PropertyDescriptor.property("distance", 0);
-  private final PropertyDescriptor<Integer> skiddingProp =
+  private static final PropertyDescriptor<Integer> SKIDDING_PROP =
       PropertyDescriptor.property("skidding", 0);
-  private final PropertyDescriptor<Boolean> arrowProp =
+  private static final PropertyDescriptor<Boolean> ARROW_PROP =
       PropertyDescriptor.property("arrow", false);
-  private final PropertyDescriptor<ArrowPlacement> arrowPlacementProp =
+  private static final PropertyDescriptor<ArrowPlacement> ARROW_PLACEMENT_PROP =
       PropertyDescriptor.property("arrowPlacement", ArrowPlacement.ANCHOR);
-  private final PropertyDescriptor<Integer> arrowPaddingProp =
+  private static final PropertyDescriptor<Integer> ARROW_PADDING_PROP =
       PropertyDescriptor.property("arrowPadding", 10);
-  private final PropertyDescriptor<Boolean> flipProp =
+  private static final PropertyDescriptor<Boolean> FLIP_PROP =
       PropertyDescriptor.property("flip", false);
-  private final PropertyDescriptor<String> flipFallbackPlacementsProp =
+  private static final PropertyDescriptor<String> FLIP_FALLBACK_PLACEMENTS_PROP =
       PropertyDescriptor.property("flipFallbackPlacements", "");
-  private final PropertyDescriptor<FlipFallbackStrategy> flipFallbackStrategyProp =
+  private static final PropertyDescriptor<FlipFallbackStrategy> FLIP_FALLBACK_STRATEGY_PROP =
       PropertyDescriptor.property("flipFallbackStrategy", FlipFallbackStrategy.BEST_FIT);
-  private final PropertyDescriptor<Integer> flipPaddingProp =
+  private static final PropertyDescriptor<Integer> FLIP_PADDING_PROP =
       PropertyDescriptor.property("flipPadding", 0);
-  private final PropertyDescriptor<Boolean> shiftProp =
+  private static final PropertyDescriptor<Boolean> SHIFT_PROP =
       PropertyDescriptor.property("shift", false);
-  private final PropertyDescriptor<Integer> shiftPaddingProp =
+  private static final PropertyDescriptor<Integer> SHIFT_PADDING_PROP =
       PropertyDescriptor.property("shiftPadding", 0);
-  private final PropertyDescriptor<String> autoSizeProp =
+  private static final PropertyDescriptor<String> AUTO_SIZE_PROP =
       PropertyDescriptor.property("autoSize", "");
-  private final PropertyDescriptor<String> syncProp =
+  private static final PropertyDescriptor<String> SYNC_PROP =
       PropertyDescriptor.property("sync", "");
-  private final PropertyDescriptor<Integer> autoSizePaddingProp =
+  private static final PropertyDescriptor<Integer> AUTO_SIZE_PADDING_PROP =
       PropertyDescriptor.property("autoSizePadding", 0);
-  private final PropertyDescriptor<Boolean> hoverBridgeProp =
+  private static final PropertyDescriptor<Boolean> HOVER_BRIDGE_PROP =
       PropertyDescriptor.property("hoverBridge", false);
 
   /**
@@ -81,7 +82,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the anchor
    */
   public String getAnchor() {
-    return get(anchorProp);
+    return get(ANCHOR_PROP);
   }
 
   /**
@@ -93,7 +94,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setAnchor(String anchor) {
-    set(anchorProp, anchor);
+    set(ANCHOR_PROP, anchor);
     return this;
   }
 
@@ -103,7 +104,7 @@ public final class Popup extends ElementCompositeContainer
    * @return {@code true} if the popup is active
    */
   public boolean isActive() {
-    return get(activeProp);
+    return get(ACTIVE_PROP);
   }
 
   /**
@@ -114,7 +115,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setActive(boolean active) {
-    set(activeProp, active);
+    set(ACTIVE_PROP, active);
     return this;
   }
 
@@ -124,7 +125,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the placement
    */
   public Placement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -135,7 +136,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setPlacement(Placement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -145,7 +146,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the strategy
    */
   public PopupStrategy getStrategy() {
-    return get(strategyProp);
+    return get(STRATEGY_PROP);
   }
 
   /**
@@ -156,7 +157,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setStrategy(PopupStrategy strategy) {
-    set(strategyProp, strategy);
+    set(STRATEGY_PROP, strategy);
     return this;
   }
 
@@ -166,7 +167,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the distance in pixels
    */
   public int getDistance() {
-    return get(distanceProp);
+    return get(DISTANCE_PROP);
   }
 
   /**
@@ -176,7 +177,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setDistance(int distance) {
-    set(distanceProp, distance);
+    set(DISTANCE_PROP, distance);
     return this;
   }
 
@@ -186,7 +187,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the skidding in pixels
    */
   public int getSkidding() {
-    return get(skiddingProp);
+    return get(SKIDDING_PROP);
   }
 
   /**
@@ -196,7 +197,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setSkidding(int skidding) {
-    set(skiddingProp, skidding);
+    set(SKIDDING_PROP, skidding);
     return this;
   }
 
@@ -206,7 +207,7 @@ public final class Popup extends ElementCompositeContainer
    * @return {@code true} if the arrow is shown
    */
   public boolean isArrow() {
-    return get(arrowProp);
+    return get(ARROW_PROP);
   }
 
   /**
@@ -217,7 +218,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setArrow(boolean arrow) {
-    set(arrowProp, arrow);
+    set(ARROW_PROP, arrow);
     return this;
   }
 
@@ -227,7 +228,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the arrow placement
    */
   public ArrowPlacement getArrowPlacement() {
-    return get(arrowPlacementProp);
+    return get(ARROW_PLACEMENT_PROP);
   }
 
   /**
@@ -239,7 +240,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setArrowPlacement(ArrowPlacement arrowPlacement) {
-    set(arrowPlacementProp, arrowPlacement);
+    set(ARROW_PLACEMENT_PROP, arrowPlacement);
     return this;
   }
 
@@ -249,7 +250,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the arrow padding
    */
   public int getArrowPadding() {
-    return get(arrowPaddingProp);
+    return get(ARROW_PADDING_PROP);
   }
 
   /**
@@ -260,7 +261,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setArrowPadding(int arrowPadding) {
-    set(arrowPaddingProp, arrowPadding);
+    set(ARROW_PADDING_PROP, arrowPadding);
     return this;
   }
 
@@ -270,7 +271,7 @@ public final class Popup extends ElementCompositeContainer
    * @return {@code true} if flip is enabled
    */
   public boolean isFlip() {
-    return get(flipProp);
+    return get(FLIP_PROP);
   }
 
   /**
@@ -281,7 +282,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setFlip(boolean flip) {
-    set(flipProp, flip);
+    set(FLIP_PROP, flip);
     return this;
   }
 
@@ -291,7 +292,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the flip fallback placements
    */
   public String getFlipFallbackPlacements() {
-    return get(flipFallbackPlacementsProp);
+    return get(FLIP_FALLBACK_PLACEMENTS_PROP);
   }
 
   /**
@@ -302,7 +303,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setFlipFallbackPlacements(String flipFallbackPlacements) {
-    set(flipFallbackPlacementsProp, flipFallbackPlacements);
+    set(FLIP_FALLBACK_PLACEMENTS_PROP, flipFallbackPlacements);
     return this;
   }
 
@@ -312,7 +313,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the flip fallback strategy
    */
   public FlipFallbackStrategy getFlipFallbackStrategy() {
-    return get(flipFallbackStrategyProp);
+    return get(FLIP_FALLBACK_STRATEGY_PROP);
   }
 
   /**
@@ -324,7 +325,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setFlipFallbackStrategy(FlipFallbackStrategy flipFallbackStrategy) {
-    set(flipFallbackStrategyProp, flipFallbackStrategy);
+    set(FLIP_FALLBACK_STRATEGY_PROP, flipFallbackStrategy);
     return this;
   }
 
@@ -334,7 +335,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the flip padding
    */
   public int getFlipPadding() {
-    return get(flipPaddingProp);
+    return get(FLIP_PADDING_PROP);
   }
 
   /**
@@ -344,7 +345,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setFlipPadding(int flipPadding) {
-    set(flipPaddingProp, flipPadding);
+    set(FLIP_PADDING_PROP, flipPadding);
     return this;
   }
 
@@ -354,7 +355,7 @@ public final class Popup extends ElementCompositeContainer
    * @return {@code true} if shift is enabled
    */
   public boolean isShift() {
-    return get(shiftProp);
+    return get(SHIFT_PROP);
   }
 
   /**
@@ -364,7 +365,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setShift(boolean shift) {
-    set(shiftProp, shift);
+    set(SHIFT_PROP, shift);
     return this;
   }
 
@@ -374,7 +375,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the shift padding
    */
   public int getShiftPadding() {
-    return get(shiftPaddingProp);
+    return get(SHIFT_PADDING_PROP);
   }
 
   /**
@@ -384,7 +385,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setShiftPadding(int shiftPadding) {
-    set(shiftPaddingProp, shiftPadding);
+    set(SHIFT_PADDING_PROP, shiftPadding);
     return this;
   }
 
@@ -394,7 +395,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the auto-size value
    */
   public String getAutoSize() {
-    return get(autoSizeProp);
+    return get(AUTO_SIZE_PROP);
   }
 
   /**
@@ -406,7 +407,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setAutoSize(String autoSize) {
-    set(autoSizeProp, autoSize);
+    set(AUTO_SIZE_PROP, autoSize);
     return this;
   }
 
@@ -429,7 +430,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the sync value
    */
   public String getSync() {
-    return get(syncProp);
+    return get(SYNC_PROP);
   }
 
   /**
@@ -439,7 +440,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setSync(String sync) {
-    set(syncProp, sync);
+    set(SYNC_PROP, sync);
     return this;
   }
 
@@ -449,7 +450,7 @@ public final class Popup extends ElementCompositeContainer
    * @return the auto-size padding
    */
   public int getAutoSizePadding() {
-    return get(autoSizePaddingProp);
+    return get(AUTO_SIZE_PADDING_PROP);
   }
 
   /**
@@ -459,7 +460,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setAutoSizePadding(int autoSizePadding) {
-    set(autoSizePaddingProp, autoSizePadding);
+    set(AUTO_SIZE_PADDING_PROP, autoSizePadding);
     return this;
   }
 
@@ -469,7 +470,7 @@ public final class Popup extends ElementCompositeContainer
    * @return {@code true} if hover bridge is enabled
    */
   public boolean isHoverBridge() {
-    return get(hoverBridgeProp);
+    return get(HOVER_BRIDGE_PROP);
   }
 
   /**
@@ -482,7 +483,7 @@ public final class Popup extends ElementCompositeContainer
    * @return this component
    */
   public Popup setHoverBridge(boolean hoverBridge) {
-    set(hoverBridgeProp, hoverBridge);
+    set(HOVER_BRIDGE_PROP, hoverBridge);
     return this;
   }
 
@@ -502,7 +503,7 @@ public final class Popup extends ElementCompositeContainer
    * Forces the popup to recalculate and reposition itself.
    */
   public void reposition() {
-    getOriginalElement().callJsFunctionVoidAsync("reposition");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reposition");
   }
 
   /**
@@ -1,13 +1,14 @@
 package com.webforj.shoelace.components.progressbar;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
+import com.webforj.shoelace.concurrent.UpdateThrottle;
 
 /**
  * Shoelace Progress Bar component ({@code <sl-progress-bar>}).
@@ -18,16 +19,19 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/progress-bar">Shoelace Progress Bar</a>
  */
 @NodeName("sl-progress-bar")
-public final class ProgressBar extends ElementCompositeContainer
+public final class ProgressBar extends ShoelaceCompositeContainer
     implements HasElementClickListener<ProgressBar>, HasClassName<ProgressBar>, HasStyle<ProgressBar>, HasVisibility<ProgressBar> {
 
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<Boolean> indeterminateProp =
+  private static final PropertyDescriptor<Boolean> INDETERMINATE_PROP =
       PropertyDescriptor.property("indeterminate", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
 
+  private volatile UpdateThrottle<Double> valueThrottle;
+  private int maxUpdatesPerSecond;
+
   /**
    * Creates a new ProgressBar.
    */
@@ -51,27 +55,85 @@ public final class ProgressBar extends ElementCompositeContainer
    * @return the progress as a percentage, 0 to 100
    */
   public double getValue() {
-    return get(valueProp);
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null && throttle.getLatest() != null) {
+      return throttle.getLatest();
+    }
+    return get(VALUE_PROP);
   }
 
   /**
    * Sets the current progress as a percentage, 0 to 100.
    *
+   * <p>When a maximum update rate is set, this method may be called from background threads and
+   * rapid changes are coalesced.</p>
+   *
    * @param value the progress percentage
    * @return this component
    */
   public ProgressBar setValue(double value) {
-    set(valueProp, value);
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null) {
+      throttle.submit(value);
+    } else {
+      set(VALUE_PROP, value);
+    }
+    return this;
+  }
+
+  /**
+   * Limits how often value changes are sent to the client.
+   *
+   * <p>With a limit in place, {@link #setValue(double)} keeps only the newest value and applies
+   * it on the UI thread at most the given number of times per second. The last value set is
+   * always applied. This suits a progress bar fed from a background task that reports progress
+   * far more often than the user can see it.</p>
+   *
+   * @param updatesPerSecond the maximum number of updates per second, or {@code 0} to apply
+   *        every change immediately
+   * @return this component
+   * @throws IllegalArgumentException if {@code updatesPerSecond} is negative
+   */
+  public ProgressBar setMaxUpdatesPerSecond(int updatesPerSecond) {
+    if (updatesPerSecond < 0) {
+      throw new IllegalArgumentException("Updates per second must not be negative");
+    }
+
+    Double pending = valueThrottle != null ? valueThrottle.getLatest() : null;
+    if (valueThrottle != null) {
+      valueThrottle.shutdown();
+      valueThrottle = null;
+    }
+
+    maxUpdatesPerSecond = updatesPerSecond;
+    if (updatesPerSecond > 0) {
+      valueThrottle = new UpdateThrottle<>(updatesPerSecond, value -> set(VALUE_PROP, value));
+    }
+
+    // apply a value the previous throttle may not have delivered yet
+    if (pending != null) {
+      set(VALUE_PROP, pending);
+    }
+
     return this;
   }
 
+  /**
+   * Gets the maximum number of value updates sent to the client per second.
+   *
+   * @return the limit, or {@code 0} if every change is applied immediately
+   */
+  public int getMaxUpdatesPerSecond() {
+    return maxUpdatesPerSecond;
+  }
+
   /**
    * Returns whether the progress bar is in an indeterminate state.
    *
    * @return {@code true} if the progress bar is indeterminate
    */
   public boolean isIndeterminate() {
-    return get(indeterminateProp);
+    return get(INDETERMINATE_PROP);
   }
 
   /**
@@ -82,7 +144,7 @@ public final class ProgressBar extends ElementCompositeContainer
    * @return this component
    */
   public ProgressBar setIndeterminate(boolean indeterminate) {
-    set(indeterminateProp, indeterminate);
+    set(INDETERMINATE_PROP, indeterminate);
     return this;
   }
 
@@ -92,7 +154,7 @@ public final class ProgressBar extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -102,7 +164,7 @@ public final class ProgressBar extends ElementCompositeContainer
    * @return this component
    */
   public ProgressBar setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -150,6 +212,14 @@ public final class ProgressBar extends ElementCompositeContainer
     return this;
   }
 
+  @Override
+  protected void onDidDestroy() {
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null) {
+      throttle.shutdown();
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -1,13 +1,14 @@
 package com.webforj.shoelace.components.progressring;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
+import com.webforj.shoelace.concurrent.UpdateThrottle;
 
 /**
  * Shoelace Progress Ring component ({@code <sl-progress-ring>}).
@@ -18,14 +19,17 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/progress-ring">Shoelace Progress Ring</a>
  */
 @NodeName("sl-progress-ring")
-public final class ProgressRing extends ElementCompositeContainer
+public final class ProgressRing extends ShoelaceCompositeContainer
     implements HasElementClickListener<ProgressRing>, HasClassName<ProgressRing>, HasStyle<ProgressRing>, HasVisibility<ProgressRing> {
 
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
 
+  private volatile UpdateThrottle<Double> valueThrottle;
+  private int maxUpdatesPerSecond;
+
   /**
    * Creates a new ProgressRing.
    */
@@ -49,27 +53,85 @@ public final class ProgressRing extends ElementCompositeContainer
    * @return the progress as a percentage, 0 to 100
    */
   public double getValue() {
-    return get(valueProp);
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null && throttle.getLatest() != null) {
+      return throttle.getLatest();
+    }
+    return get(VALUE_PROP);
   }
 
   /**
    * Sets the current progress as a percentage, 0 to 100.
    *
+   * <p>When a maximum update rate is set, this method may be called from background threads and
+   * rapid changes are coalesced.</p>
+   *
    * @param value the progress percentage
    * @return this component
    */
   public ProgressRing setValue(double value) {
-    set(valueProp, value);
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null) {
+      throttle.submit(value);
+    } else {
+      set(VALUE_PROP, value);
+    }
+    return this;
+  }
+
+  /**
+   * Limits how often value changes are sent to the client.
+   *
+   * <p>With a limit in place, {@link #setValue(double)} keeps only the newest value and applies
+   * it on the UI thread at most the given number of times per second. The last value set is
+   * always applied. This suits a progress ring fed from a background task that reports progress
+   * far more often than the user can see it.</p>
+   *
+   * @param updatesPerSecond the maximum number of updates per second, or {@code 0} to apply
+   *        every change immediately
+   * @return this component
+   * @throws IllegalArgumentException if {@code updatesPerSecond} is negative
+   */
+  public ProgressRing setMaxUpdatesPerSecond(int updatesPerSecond) {
+    if (updatesPerSecond < 0) {
+      throw new IllegalArgumentException("Updates per second must not be negative");
+    }
+
+    Double pending = valueThrottle != null ? valueThrottle.getLatest() : null;
+    if (valueThrottle != null) {
+      valueThrottle.shutdown();
+      valueThrottle = null;
+    }
+
+    maxUpdatesPerSecond = updatesPerSecond;
+    if (updatesPerSecond > 0) {
+      valueThrottle = new UpdateThrottle<>(updatesPerSecond, value -> set(VALUE_PROP, value));
+    }
+
+    // apply a value the previous throttle may not have delivered yet
+    if (pending != null) {
+      set(VALUE_PROP, pending);
+    }
+
     return this;
   }
 
+  /**
+   * Gets the maximum number of value updates sent to the client per second.
+   *
+   * @return the limit, or {@code 0} if every change is applied immediately
+   */
+  public int getMaxUpdatesPerSecond() {
+    return maxUpdatesPerSecond;
+  }
+
   /**
    * Gets the accessibility label.
    *
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -79,7 +141,7 @@ public final class ProgressRing extends ElementCompositeContainer
    * @return this component
    */
   public ProgressRing setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -149,6 +211,14 @@ public final class ProgressRing extends ElementCompositeContainer
     return this;
   }
 
+  @Override
+  protected void onDidDestroy() {
+    UpdateThrottle<Double> throttle = valueThrottle;
+    if (throttle != null) {
+      throttle.shutdown();
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -1,13 +1,14 @@
 package com.webforj.shoelace.components.qrcode;
 
+import com.webforj.annotation.StyleSheet;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace QR Code component ({@code <sl-qr-code>}).
@@ -15,27 +16,41 @@ import com.webforj.concern.HasVisibility;
  * <p>Generates a QR code and renders it using the Canvas API. QR codes are useful for providing
  * small pieces of information to users who can quickly scan them with a smartphone.</p>
  *
+ * <p>Codes that are shown many times can be {@link #setServerRendered(boolean) rendered on the
+ * server} instead. The SVG is then encoded once per distinct set of inputs, cached, and served
+ * as an immutable image the browser caches as well.</p>
+ *
  * @see <a href="https://shoelace.style/components/qr-code">Shoelace QR Code</a>
  */
 @NodeName("sl-qr-code")
-public final class QrCode extends ElementComposite
+@StyleSheet("ws://webforj-shoelace/qr-code.css")
+public final class QrCode extends ShoelaceComposite
     implements HasElementClickListener<QrCode>, HasClassName<QrCode>, HasStyle<QrCode>, HasVisibility<QrCode> {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final int DEFAULT_SIZE = 128;
+  private static final double DEFAULT_RADIUS = 0.0;
+
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<Integer> sizeProp =
-      PropertyDescriptor.property("size", 128);
-  private final PropertyDescriptor<String> fillProp =
+  private static final PropertyDescriptor<Integer> SIZE_PROP =
+      PropertyDescriptor.property("size", DEFAULT_SIZE);
+  private static final PropertyDescriptor<String> FILL_PROP =
       PropertyDescriptor.property("fill", "black");
-  private final PropertyDescriptor<String> backgroundProp =
+  private static final PropertyDescriptor<String> BACKGROUND_PROP =
       PropertyDescriptor.property("background", "white");
-  private final PropertyDescriptor<Double> radiusProp =
-      PropertyDescriptor.property("radius", 0.0);
-  private final PropertyDescriptor<ErrorCorrectionLevel> errorCorrectionProp =
+  private static final PropertyDescriptor<Double> RADIUS_PROP =
+      PropertyDescriptor.property("radius", DEFAULT_RADIUS);
+  private static final PropertyDescriptor<ErrorCorrectionLevel> ERROR_CORRECTION_PROP =
       PropertyDescriptor.property("errorCorrection", ErrorCorrectionLevel.HIGH);
 
+  private static final String SERVER_RENDERED_ATTR = "data-server-rendered";
+
+  private boolean serverRendered;
+  private String serverValue;
+  private String serverKey;
+
   /**
    * Creates a new QR Code.
    */
@@ -59,7 +74,7 @@ public final class QrCode extends ElementComposite
    * @return the value encoded in the QR code
    */
   public String getValue() {
-    return get(valueProp);
+    return serverRendered ? serverValue : get(VALUE_PROP);
   }
 
   /**
@@ -69,7 +84,12 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setValue(String value) {
-    set(valueProp, value);
+    if (serverRendered) {
+      serverValue = value;
+      renderOnServer();
+    } else {
+      set(VALUE_PROP, value);
+    }
     return this;
   }
 
@@ -79,7 +99,7 @@ public final class QrCode extends ElementComposite
    * @return the label for assistive devices
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -90,7 +110,10 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
+    if (serverRendered) {
+      renderOnServer();
+    }
     return this;
   }
 
@@ -100,7 +123,7 @@ public final class QrCode extends ElementComposite
    * @return the size in pixels
    */
   public Integer getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -110,7 +133,10 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setSize(Integer size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
+    if (serverRendered) {
+      renderOnServer();
+    }
     return this;
   }
 
@@ -120,7 +146,7 @@ public final class QrCode extends ElementComposite
    * @return the fill color
    */
   public String getFill() {
-    return get(fillProp);
+    return get(FILL_PROP);
   }
 
   /**
@@ -130,7 +156,10 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setFill(String fill) {
-    set(fillProp, fill);
+    set(FILL_PROP, fill);
+    if (serverRendered) {
+      renderOnServer();
+    }
     return this;
   }
 
@@ -140,7 +169,7 @@ public final class QrCode extends ElementComposite
    * @return the background color
    */
   public String getBackground() {
-    return get(backgroundProp);
+    return get(BACKGROUND_PROP);
   }
 
   /**
@@ -151,7 +180,10 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setBackground(String background) {
-    set(backgroundProp, background);
+    set(BACKGROUND_PROP, background);
+    if (serverRendered) {
+      renderOnServer();
+    }
     return this;
   }
 
@@ -161,7 +193,7 @@ public final class QrCode extends ElementComposite
    * @return the radius value
    */
   public Double getRadius() {
-    return get(radiusProp);
+    return get(RADIUS_PROP);
   }
 
   /**
@@ -171,7 +203,10 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setRadius(Double radius) {
-    set(radiusProp, radius);
+    set(RADIUS_PROP, radius);
+    if (serverRendered) {
+      renderOnServer();
+    }
     return this;
   }
 
@@ -181,7 +216,7 @@ public final class QrCode extends ElementComposite
    * @return the error correction level
    */
   public ErrorCorrectionLevel getErrorCorrection() {
-    return get(errorCorrectionProp);
+    return get(ERROR_CORRECTION_PROP);
   }
 
   /**
@@ -192,10 +227,93 @@ public final class QrCode extends ElementComposite
    * @return this component
    */
   public QrCode setErrorCorrection(ErrorCorrectionLevel errorCorrection) {
-    set(errorCorrectionProp, errorCorrection);
+    set(ERROR_CORRECTION_PROP, errorCorrection);
+    if (serverRendered) {
+      renderOnServer();
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the QR code is rendered on the server.
+   *
+   * @return {@code true} if the code is rendered on the server, {@code false} if the browser
+   *         renders it
+   */
+  public boolean isServerRendered() {
+    return serverRendered;
+  }
+
+  /**
+   * Sets whether the QR code is rendered on the server instead of in the browser.
+   *
+   * <p>When enabled, the value, size, colors, radius and error correction level are encoded into
+   * an SVG on the server. Renderings are cached by a hash of those inputs, evicting the least
+   * recently used ones, and served with immutable cache headers, so identical codes are encoded
+   * once and downloaded once.</p>
+   *
+   * @param serverRendered {@code true} to render on the server
+   * @return this component
+   */
+  public QrCode setServerRendered(boolean serverRendered) {
+    if (this.serverRendered == serverRendered) {
+      return this;
+    }
+
+    Element element = getOriginalElement();
+    if (serverRendered) {
+      serverValue = get(VALUE_PROP);
+      // the browser has nothing left to encode
+      set(VALUE_PROP, "");
+      this.serverRendered = true;
+      element.setAttribute(SERVER_RENDERED_ATTR, "");
+      element.setAttribute("role", "img");
+      renderOnServer();
+    } else {
+      this.serverRendered = false;
+      set(VALUE_PROP, serverValue);
+      serverValue = null;
+      element.removeAttribute(SERVER_RENDERED_ATTR);
+      element.removeAttribute("role");
+      element.removeAttribute("aria-label");
+      removeStyle("background-image");
+      releaseServerKey();
+    }
+
     return this;
   }
 
+  @Override
+  protected void onDidDestroy() {
+    releaseServerKey();
+  }
+
+  private void renderOnServer() {
+    String value = serverValue == null ? "" : serverValue;
+    Integer size = getSize();
+    Double radius = getRadius();
+    ErrorCorrectionLevel errorCorrection = getErrorCorrection();
+    // the renderer keeps the inputs of acquired codes, so an evicted image is rendered again
+    String key = QrCodeRenderer.getShared().acquire(value,
+        size == null ? DEFAULT_SIZE : size, getFill(), getBackground(),
+        radius == null ? DEFAULT_RADIUS : radius,
+        errorCorrection == null ? ErrorCorrectionLevel.HIGH : errorCorrection);
+    releaseServerKey();
+    serverKey = key;
+
+    String label = getLabel();
+    getOriginalElement().setAttribute("aria-label",
+        label == null || label.isEmpty() ? value : label);
+    setStyle("background-image", "url(\"" + QrCodeServlet.urlOf(key) + "\")");
+  }
+
+  private void releaseServerKey() {
+    if (serverKey != null) {
+      QrCodeRenderer.getShared().release(serverKey);
+      serverKey = null;
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -0,0 +1,254 @@
+package com.webforj.shoelace.components.qrcode;
+
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders QR codes to SVG on the server and keeps the results in a content-addressed cache.
+ *
+ * <p>Each rendering is stored under the SHA-256 hash of its inputs, so the same code is encoded
+ * once no matter how many components show it. The cache holds a fixed number of entries and
+ * evicts the least recently used one when full. {@link QrCodeServlet} serves the entries.</p>
+ *
+ * <p>Components {@linkplain #acquire acquire} the codes they show and release them when they no
+ * longer do. The inputs of acquired codes are kept, so an evicted code that is still shown is
+ * rendered again when the browser asks for it.</p>
+ */
+final class QrCodeRenderer {
+
+  static final int DEFAULT_CAPACITY = 256;
+  private static final QrCodeRenderer SHARED = new QrCodeRenderer(DEFAULT_CAPACITY);
+  private static final String FORMAT_VERSION = "1";
+
+  private final Map<String, byte[]> cache;
+  private final Map<String, Reference> references = new HashMap<>();
+
+  QrCodeRenderer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  static QrCodeRenderer getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Renders the given code unless it is cached already.
+   *
+   * @return the key under which the SVG is cached
+   */
+  String render(String value, int size, String fill, String background, double radius,
+      ErrorCorrectionLevel errorCorrection) {
+    String key = hash(value, size, fill, background, radius, errorCorrection);
+
+    synchronized (cache) {
+      if (cache.get(key) != null) {
+        return key;
+      }
+    }
+
+    byte[] svg = toSvg(value, size, fill, background, radius, errorCorrection)
+        .getBytes(StandardCharsets.UTF_8);
+    synchronized (cache) {
+      cache.put(key, svg);
+    }
+
+    return key;
+  }
+
+  /**
+   * Renders the given code unless it is cached already, and keeps its inputs until it is
+   * {@linkplain #release(String) released}.
+   *
+   * @return the key under which the SVG is cached
+   */
+  String acquire(String value, int size, String fill, String background, double radius,
+      ErrorCorrectionLevel errorCorrection) {
+    String key = render(value, size, fill, background, radius, errorCorrection);
+    synchronized (references) {
+      references.computeIfAbsent(key, k -> new Reference(
+          new Inputs(value, size, fill, background, radius, errorCorrection))).count++;
+    }
+    return key;
+  }
+
+  /**
+   * Releases a code acquired before.
+   *
+   * @param key the key returned by {@link #acquire}
+   */
+  void release(String key) {
+    synchronized (references) {
+      Reference reference = references.get(key);
+      if (reference != null && --reference.count == 0) {
+        references.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Gets a cached SVG. An acquired code that has been evicted is rendered again.
+   *
+   * @param key the key returned by {@link #render} or {@link #acquire}
+   * @return the SVG document, or {@code null} if it is neither cached nor acquired
+   */
+  byte[] get(String key) {
+    synchronized (cache) {
+      byte[] svg = cache.get(key);
+      if (svg != null) {
+        return svg;
+      }
+    }
+
+    Inputs inputs;
+    synchronized (references) {
+      Reference reference = references.get(key);
+      inputs = reference == null ? null : reference.inputs;
+    }
+    if (inputs == null) {
+      return null;
+    }
+
+    render(inputs.value(), inputs.size(), inputs.fill(), inputs.background(), inputs.radius(),
+        inputs.errorCorrection());
+    synchronized (cache) {
+      return cache.get(key);
+    }
+  }
+
+  int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  int referenceCount() {
+    synchronized (references) {
+      return references.size();
+    }
+  }
+
+  static String hash(String value, int size, String fill, String background, double radius,
+      ErrorCorrectionLevel errorCorrection) {
+    String canonical = String.join("\u0000", FORMAT_VERSION, value, Integer.toString(size), fill,
+        background, Double.toString(radius), errorCorrection.name());
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  static String toSvg(String value, int size, String fill, String background, double radius,
+      ErrorCorrectionLevel errorCorrection) {
+    ByteMatrix matrix = encode(value, errorCorrection);
+    int modules = matrix.getWidth();
+    double r = Math.max(0, Math.min(0.5, radius));
+
+    StringBuilder svg = new StringBuilder(modules * modules * 4);
+    svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+        .append(modules).append(' ').append(modules)
+        .append("\" width=\"").append(size).append("\" height=\"").append(size)
+        .append("\" shape-rendering=\"").append(r > 0 ? "geometricPrecision" : "crispEdges")
+        .append("\">");
+    svg.append("<rect width=\"").append(modules).append("\" height=\"").append(modules)
+        .append("\" fill=\"").append(escape(background)).append("\"/>");
+
+    if (r > 0) {
+      String corner = formatNumber(r);
+      svg.append("<g fill=\"").append(escape(fill)).append("\">");
+      for (int y = 0; y < modules; y++) {
+        for (int x = 0; x < modules; x++) {
+          if (matrix.get(x, y) == 1) {
+            svg.append("<rect x=\"").append(x).append("\" y=\"").append(y)
+                .append("\" width=\"1\" height=\"1\" rx=\"").append(corner).append("\"/>");
+          }
+        }
+      }
+      svg.append("</g>");
+    } else {
+      // one path with a horizontal run per row segment keeps the document small
+      svg.append("<path fill=\"").append(escape(fill)).append("\" d=\"");
+      for (int y = 0; y < modules; y++) {
+        int x = 0;
+        while (x < modules) {
+          if (matrix.get(x, y) != 1) {
+            x++;
+            continue;
+          }
+          int start = x;
+          while (x < modules && matrix.get(x, y) == 1) {
+            x++;
+          }
+          svg.append('M').append(start).append(' ').append(y)
+              .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+        }
+      }
+      svg.append("\"/>");
+    }
+
+    return svg.append("</svg>").toString();
+  }
+
+  private static ByteMatrix encode(String value, ErrorCorrectionLevel errorCorrection) {
+    try {
+      return Encoder.encode(value == null ? "" : value, toZxing(errorCorrection),
+          Map.of(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name())).getMatrix();
+    } catch (WriterException e) {
+      throw new IllegalArgumentException("The value cannot be encoded as a QR code", e);
+    }
+  }
+
+  private static com.google.zxing.qrcode.decoder.ErrorCorrectionLevel toZxing(
+      ErrorCorrectionLevel level) {
+    return switch (level) {
+      case LOW -> com.google.zxing.qrcode.decoder.ErrorCorrectionLevel.L;
+      case MEDIUM -> com.google.zxing.qrcode.decoder.ErrorCorrectionLevel.M;
+      case QUARTILE -> com.google.zxing.qrcode.decoder.ErrorCorrectionLevel.Q;
+      case HIGH -> com.google.zxing.qrcode.decoder.ErrorCorrectionLevel.H;
+    };
+  }
+
+  private static String formatNumber(double value) {
+    return String.format(Locale.ROOT, "%.3f", value).replaceAll("\\.?0+$", "");
+  }
+
+  private static String escape(String value) {
+    if (value == null) {
+      return "none";
+    }
+    return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;");
+  }
+
+  private record Inputs(String value, int size, String fill, String background, double radius,
+      ErrorCorrectionLevel errorCorrection) {
+  }
+
+  private static final class Reference {
+    private final Inputs inputs;
+    private int count;
+
+    Reference(Inputs inputs) {
+      this.inputs = inputs;
+    }
+  }
+}
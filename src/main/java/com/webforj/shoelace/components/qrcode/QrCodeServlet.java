@@ -0,0 +1,66 @@
+package com.webforj.shoelace.components.qrcode;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Serves the QR codes rendered by {@link QrCodeRenderer}.
+ *
+ * <p>Requests take the form {@code /shoelace-qr/<hash>.svg} below the servlet context path. The
+ * hash covers every input of the rendering, so a URL always maps to the same image and responses
+ * are marked immutable.</p>
+ */
+final class QrCodeServlet extends HttpServlet {
+
+  static final String PATH = "/shoelace-qr/";
+  static final String EXTENSION = ".svg";
+  static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  private static volatile String contextPath = "";
+
+  private final transient QrCodeRenderer renderer;
+
+  QrCodeServlet(QrCodeRenderer renderer) {
+    this.renderer = renderer;
+  }
+
+  static String urlOf(String key) {
+    return contextPath + PATH + key + EXTENSION;
+  }
+
+  @Override
+  public void init() {
+    contextPath = getServletContext().getContextPath();
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    String path = request.getPathInfo();
+    if (path == null || !path.endsWith(EXTENSION)) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    String key = path.substring(1, path.length() - EXTENSION.length());
+    byte[] svg = renderer.get(key);
+    if (svg == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    String etag = '"' + key + '"';
+    response.setHeader("Cache-Control", CACHE_CONTROL);
+    response.setHeader("ETag", etag);
+    if (etag.equals(request.getHeader("If-None-Match"))) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    response.setContentType("image/svg+xml");
+    response.setContentLength(svg.length);
+    response.getOutputStream().write(svg);
+  }
+}
@@ -0,0 +1,26 @@
+package com.webforj.shoelace.components.qrcode;
+
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link QrCodeServlet} so server-rendered {@link QrCode} images can be fetched.
+ */
+@Configuration(proxyBeanMethods = false)
+public class QrCodeServletConfiguration {
+
+  /**
+   * Maps the QR code servlet below {@code /shoelace-qr/}.
+   *
+   * @return the servlet registration
+   */
+  @Bean
+  ServletRegistrationBean<QrCodeServlet> qrCodeServlet() {
+    ServletRegistrationBean<QrCodeServlet> registration = new ServletRegistrationBean<>(
+        new QrCodeServlet(QrCodeRenderer.getShared()), QrCodeServlet.PATH + "*");
+    // initialize at startup, the servlet records the context path the image URLs start with
+    registration.setLoadOnStartup(1);
+    return registration;
+  }
+}
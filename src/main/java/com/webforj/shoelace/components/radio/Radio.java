@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.radio;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,6 +10,7 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.FocusEvent;
 
@@ -23,14 +23,14 @@ import com.webforj.shoelace.event.FocusEvent;
  * @see <a href="https://shoelace.style/components/radio">Shoelace Radio</a>
  */
 @NodeName("sl-radio")
-public final class Radio extends ElementCompositeContainer
+public final class Radio extends ShoelaceCompositeContainer
     implements HasElementClickListener<Radio>, HasClassName<Radio>, HasStyle<Radio>, HasVisibility<Radio> {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -56,7 +56,7 @@ public final class Radio extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -66,7 +66,7 @@ public final class Radio extends ElementCompositeContainer
    * @return this component
    */
   public Radio setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -76,7 +76,7 @@ public final class Radio extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -87,7 +87,7 @@ public final class Radio extends ElementCompositeContainer
    * @return this component
    */
   public Radio setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -97,7 +97,7 @@ public final class Radio extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -107,7 +107,7 @@ public final class Radio extends ElementCompositeContainer
    * @return this component
    */
   public Radio setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.radiobutton;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,8 +10,10 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.FocusEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Radio Button component ({@code <sl-radio-button>}).
@@ -24,16 +25,16 @@ import com.webforj.shoelace.event.FocusEvent;
  * @see <a href="https://shoelace.style/components/radio-button">Shoelace Radio Button</a>
  */
 @NodeName("sl-radio-button")
-public final class RadioButton extends ElementCompositeContainer
+public final class RadioButton extends ShoelaceCompositeContainer
     implements HasElementClickListener<RadioButton>, HasClassName<RadioButton>, HasStyle<RadioButton>, HasVisibility<RadioButton> {
 
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
 
   /**
@@ -59,7 +60,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -69,7 +70,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return this component
    */
   public RadioButton setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -79,7 +80,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -89,7 +90,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return this component
    */
   public RadioButton setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -99,7 +100,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -110,7 +111,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return this component
    */
   public RadioButton setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -120,7 +121,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return {@code true} if pill style is applied
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -130,7 +131,7 @@ public final class RadioButton extends ElementCompositeContainer
    * @return this component
    */
   public RadioButton setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -138,14 +139,14 @@ public final class RadioButton extends ElementCompositeContainer
    * Sets focus on the radio button.
    */
   public void focus() {
-    getElement().callJsFunction("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the radio button.
    */
   public void blur() {
-    getElement().callJsFunction("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
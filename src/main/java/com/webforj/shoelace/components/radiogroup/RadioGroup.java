@@ -1,7 +1,7 @@
 package com.webforj.shoelace.components.radiogroup;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,9 +11,13 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Radio Group component ({@code <sl-radio-group>}).
@@ -24,22 +28,23 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/radio-group">Shoelace Radio Group</a>
  */
 @NodeName("sl-radio-group")
-public final class RadioGroup extends ElementCompositeContainer
-    implements HasElementClickListener<RadioGroup>, HasClassName<RadioGroup>, HasStyle<RadioGroup>, HasVisibility<RadioGroup> {
+public final class RadioGroup extends ShoelaceCompositeContainer
+    implements HasElementClickListener<RadioGroup>, HasClassName<RadioGroup>, HasStyle<RadioGroup>, HasVisibility<RadioGroup>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "option");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
   /**
@@ -47,6 +52,7 @@ public final class RadioGroup extends ElementCompositeContainer
    */
   public RadioGroup() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -65,7 +71,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -76,7 +82,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -86,7 +92,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -96,7 +102,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -106,7 +112,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -116,7 +122,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -126,7 +132,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -136,7 +142,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -146,7 +152,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -156,7 +162,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -166,7 +172,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -177,7 +183,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -187,7 +193,7 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return {@code true} if required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -197,23 +203,41 @@ public final class RadioGroup extends ElementCompositeContainer
    * @return this component
    */
   public RadioGroup setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getElement().callJsFunction("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getElement().callJsFunction("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -221,15 +245,16 @@ public final class RadioGroup extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getElement().callJsFunction("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
    * Sets focus on the radio group.
    */
   public void focus() {
-    getElement().callJsFunction("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
@@ -1,8 +1,8 @@
 package com.webforj.shoelace.components.range;
 
+import com.webforj.PendingResult;
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,11 +11,15 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Range component ({@code <sl-range>}).
@@ -26,8 +30,9 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/range">Shoelace Range</a>
  */
 @NodeName("sl-range")
-public final class Range extends ElementCompositeContainer
-    implements HasElementClickListener<Range>, HasClassName<Range>, HasStyle<Range>, HasVisibility<Range> {
+public final class Range extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Range>, HasClassName<Range>, HasStyle<Range>, HasVisibility<Range>,
+    HasValidity {
 
   // Slot constants
   private static final String LABEL_SLOT = "label";
@@ -36,27 +41,27 @@ public final class Range extends ElementCompositeContainer
   private static final String SUFFIX_SLOT = "suffix";
 
   // Property descriptors
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Double> minProp =
+  private static final PropertyDescriptor<Double> MIN_PROP =
       PropertyDescriptor.property("min", 0.0);
-  private final PropertyDescriptor<Double> maxProp =
+  private static final PropertyDescriptor<Double> MAX_PROP =
       PropertyDescriptor.property("max", 100.0);
-  private final PropertyDescriptor<Double> stepProp =
+  private static final PropertyDescriptor<Double> STEP_PROP =
       PropertyDescriptor.property("step", 1.0);
-  private final PropertyDescriptor<RangeTooltip> tooltipProp =
+  private static final PropertyDescriptor<RangeTooltip> TOOLTIP_PROP =
       PropertyDescriptor.property("tooltip", RangeTooltip.TOP);
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
   /**
@@ -64,6 +69,7 @@ public final class Range extends ElementCompositeContainer
    */
   public Range() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -82,7 +88,7 @@ public final class Range extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -92,7 +98,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -102,7 +108,7 @@ public final class Range extends ElementCompositeContainer
    * @return the value
    */
   public double getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -112,7 +118,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setValue(double value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -122,7 +128,7 @@ public final class Range extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -132,7 +138,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -142,7 +148,7 @@ public final class Range extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -153,7 +159,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -163,7 +169,7 @@ public final class Range extends ElementCompositeContainer
    * @return {@code true} if the range is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -173,7 +179,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -183,7 +189,7 @@ public final class Range extends ElementCompositeContainer
    * @return the minimum value
    */
   public double getMin() {
-    return get(minProp);
+    return get(MIN_PROP);
   }
 
   /**
@@ -193,7 +199,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setMin(double min) {
-    set(minProp, min);
+    set(MIN_PROP, min);
     return this;
   }
 
@@ -203,7 +209,7 @@ public final class Range extends ElementCompositeContainer
    * @return the maximum value
    */
   public double getMax() {
-    return get(maxProp);
+    return get(MAX_PROP);
   }
 
   /**
@@ -213,7 +219,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setMax(double max) {
-    set(maxProp, max);
+    set(MAX_PROP, max);
     return this;
   }
 
@@ -223,7 +229,7 @@ public final class Range extends ElementCompositeContainer
    * @return the step value
    */
   public double getStep() {
-    return get(stepProp);
+    return get(STEP_PROP);
   }
 
   /**
@@ -233,7 +239,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setStep(double step) {
-    set(stepProp, step);
+    set(STEP_PROP, step);
     return this;
   }
 
@@ -243,7 +249,7 @@ public final class Range extends ElementCompositeContainer
    * @return the tooltip placement
    */
   public RangeTooltip getTooltip() {
-    return get(tooltipProp);
+    return get(TOOLTIP_PROP);
   }
 
   /**
@@ -253,7 +259,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setTooltip(RangeTooltip tooltip) {
-    set(tooltipProp, tooltip);
+    set(TOOLTIP_PROP, tooltip);
     return this;
   }
 
@@ -263,7 +269,7 @@ public final class Range extends ElementCompositeContainer
    * @return the form owner ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -275,7 +281,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -285,7 +291,7 @@ public final class Range extends ElementCompositeContainer
    * @return {@code true} if the range is required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -295,7 +301,7 @@ public final class Range extends ElementCompositeContainer
    * @return this component
    */
   public Range setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -347,43 +353,61 @@ public final class Range extends ElementCompositeContainer
    * Sets focus on the range.
    */
   public void focus() {
-    getElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getElement(), "focus");
   }
 
   /**
    * Removes focus from the range.
    */
   public void blur() {
-    getElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getElement(), "blur");
   }
 
   /**
    * Increments the value of the range by the value of the step attribute.
    */
   public void stepUp() {
-    getElement().callJsFunctionVoidAsync("stepUp");
+    ShoelaceMetrics.call(this, getElement(), "stepUp");
   }
 
   /**
    * Decrements the value of the range by the value of the step attribute.
    */
   public void stepDown() {
-    getElement().callJsFunctionVoidAsync("stepDown");
+    ShoelaceMetrics.call(this, getElement(), "stepDown");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getElement(), "reportValidity");
   }
 
   /**
@@ -391,8 +415,9 @@ public final class Range extends ElementCompositeContainer
    *
    * @param message the validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getElement(), "setCustomValidity", message);
   }
 
   /**
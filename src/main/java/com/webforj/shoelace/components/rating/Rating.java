@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.rating;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,8 +9,10 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
-import com.webforj.shoelace.event.ChangeEvent;
+import com.webforj.shoelace.components.ShoelaceComposite;
 import com.webforj.shoelace.components.rating.event.HoverEvent;
+import com.webforj.shoelace.event.ChangeEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Rating component ({@code <sl-rating>}).
@@ -22,20 +23,20 @@ import com.webforj.shoelace.components.rating.event.HoverEvent;
  * @see <a href="https://shoelace.style/components/rating">Shoelace Rating</a>
  */
 @NodeName("sl-rating")
-public final class Rating extends ElementComposite
+public final class Rating extends ShoelaceComposite
     implements HasElementClickListener<Rating>, HasClassName<Rating>, HasStyle<Rating>, HasVisibility<Rating> {
 
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<Double> valueProp =
+  private static final PropertyDescriptor<Double> VALUE_PROP =
       PropertyDescriptor.property("value", 0.0);
-  private final PropertyDescriptor<Integer> maxProp =
+  private static final PropertyDescriptor<Integer> MAX_PROP =
       PropertyDescriptor.property("max", 5);
-  private final PropertyDescriptor<Double> precisionProp =
+  private static final PropertyDescriptor<Double> PRECISION_PROP =
       PropertyDescriptor.property("precision", 1.0);
-  private final PropertyDescriptor<Boolean> readonlyProp =
+  private static final PropertyDescriptor<Boolean> READONLY_PROP =
       PropertyDescriptor.property("readonly", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -61,7 +62,7 @@ public final class Rating extends ElementComposite
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -71,7 +72,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -81,7 +82,7 @@ public final class Rating extends ElementComposite
    * @return the rating value
    */
   public double getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -91,7 +92,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setValue(double value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -101,7 +102,7 @@ public final class Rating extends ElementComposite
    * @return the maximum rating
    */
   public int getMax() {
-    return get(maxProp);
+    return get(MAX_PROP);
   }
 
   /**
@@ -111,7 +112,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setMax(int max) {
-    set(maxProp, max);
+    set(MAX_PROP, max);
     return this;
   }
 
@@ -121,7 +122,7 @@ public final class Rating extends ElementComposite
    * @return the precision
    */
   public double getPrecision() {
-    return get(precisionProp);
+    return get(PRECISION_PROP);
   }
 
   /**
@@ -132,7 +133,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setPrecision(double precision) {
-    set(precisionProp, precision);
+    set(PRECISION_PROP, precision);
     return this;
   }
 
@@ -142,7 +143,7 @@ public final class Rating extends ElementComposite
    * @return {@code true} if the rating is readonly
    */
   public boolean isReadonly() {
-    return get(readonlyProp);
+    return get(READONLY_PROP);
   }
 
   /**
@@ -152,7 +153,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setReadonly(boolean readonly) {
-    set(readonlyProp, readonly);
+    set(READONLY_PROP, readonly);
     return this;
   }
 
@@ -162,7 +163,7 @@ public final class Rating extends ElementComposite
    * @return {@code true} if the rating is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -172,7 +173,7 @@ public final class Rating extends ElementComposite
    * @return this component
    */
   public Rating setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -180,14 +181,14 @@ public final class Rating extends ElementComposite
    * Sets focus on the rating.
    */
   public void focus() {
-    getElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getElement(), "focus");
   }
 
   /**
    * Removes focus from the rating.
    */
   public void blur() {
-    getElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getElement(), "blur");
   }
 
   /**
@@ -1,9 +1,11 @@
 package com.webforj.shoelace.components.relativetime;
 
+import com.webforj.annotation.JavaScript;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
+import com.webforj.shoelace.components.ShoelaceComposite;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace RelativeTime component ({@code <sl-relative-time>}).
@@ -11,22 +13,46 @@ import com.webforj.component.element.annotation.NodeName;
  * <p>Outputs a localized time phrase relative to the current date and time. Formatting is handled
  * by the {@code Intl.RelativeTimeFormat} API.</p>
  *
+ * <p>Pages that show many synced timestamps should prefer {@link #setSharedSync(boolean)} over
+ * {@link #setSync(boolean)}: all shared elements are refreshed by one page-wide timer instead of
+ * one timer each.</p>
+ *
  * @see <a href="https://shoelace.style/components/relative-time">Shoelace RelativeTime</a>
  */
 @NodeName("sl-relative-time")
-public final class RelativeTime extends ElementComposite {
+@JavaScript(value = "ws://webforj-shoelace/relative-time-ticker.js", top = true)
+public final class RelativeTime extends ShoelaceComposite {
 
-  private final PropertyDescriptor<String> dateProp =
+  private static final PropertyDescriptor<String> DATE_PROP =
       PropertyDescriptor.property("date", "");
-  private final PropertyDescriptor<String> langProp =
+  private static final PropertyDescriptor<String> LANG_PROP =
       PropertyDescriptor.property("lang", "");
-  private final PropertyDescriptor<RelativeTimeFormat> formatProp =
+  private static final PropertyDescriptor<RelativeTimeFormat> FORMAT_PROP =
       PropertyDescriptor.property("format", RelativeTimeFormat.LONG);
-  private final PropertyDescriptor<RelativeTimeNumeric> numericProp =
+  private static final PropertyDescriptor<RelativeTimeNumeric> NUMERIC_PROP =
       PropertyDescriptor.property("numeric", RelativeTimeNumeric.AUTO);
-  private final PropertyDescriptor<Boolean> syncProp =
+  private static final PropertyDescriptor<Boolean> SYNC_PROP =
       PropertyDescriptor.property("sync", false);
 
+  private static final String REGISTER_SCRIPT = """
+      if (window.__slRelativeTimeTicker) {
+        window.__slRelativeTimeTicker.add(component);
+      } else {
+        (window.__slRelativeTimeQueue = window.__slRelativeTimeQueue || []).push(component);
+      }
+      """;
+  private static final String UNREGISTER_SCRIPT = """
+      if (window.__slRelativeTimeTicker) {
+        window.__slRelativeTimeTicker.remove(component);
+      } else if (window.__slRelativeTimeQueue) {
+        window.__slRelativeTimeQueue = window.__slRelativeTimeQueue.filter(e => e !== component);
+      }
+      """;
+  private static final String REFRESH_SCRIPT =
+      "if (window.__slRelativeTimeTicker) { window.__slRelativeTimeTicker.refresh(component); }";
+
+  private boolean sharedSync;
+
   /**
    * Creates a new RelativeTime.
    */
@@ -50,7 +76,7 @@ public final class RelativeTime extends ElementComposite {
    * @return the date string
    */
   public String getDate() {
-    return get(dateProp);
+    return get(DATE_PROP);
   }
 
   /**
@@ -61,7 +87,10 @@ public final class RelativeTime extends ElementComposite {
    * @return this component
    */
   public RelativeTime setDate(String date) {
-    set(dateProp, date);
+    set(DATE_PROP, date);
+    if (sharedSync) {
+      ShoelaceMetrics.execute(this, getOriginalElement(), "refresh", REFRESH_SCRIPT);
+    }
     return this;
   }
 
@@ -71,7 +100,7 @@ public final class RelativeTime extends ElementComposite {
    * @return the language tag
    */
   public String getLang() {
-    return get(langProp);
+    return get(LANG_PROP);
   }
 
   /**
@@ -81,7 +110,7 @@ public final class RelativeTime extends ElementComposite {
    * @return this component
    */
   public RelativeTime setLang(String lang) {
-    set(langProp, lang);
+    set(LANG_PROP, lang);
     return this;
   }
 
@@ -91,7 +120,7 @@ public final class RelativeTime extends ElementComposite {
    * @return the format
    */
   public RelativeTimeFormat getFormat() {
-    return get(formatProp);
+    return get(FORMAT_PROP);
   }
 
   /**
@@ -101,7 +130,7 @@ public final class RelativeTime extends ElementComposite {
    * @return this component
    */
   public RelativeTime setFormat(RelativeTimeFormat format) {
-    set(formatProp, format);
+    set(FORMAT_PROP, format);
     return this;
   }
 
@@ -111,7 +140,7 @@ public final class RelativeTime extends ElementComposite {
    * @return the numeric mode
    */
   public RelativeTimeNumeric getNumeric() {
-    return get(numericProp);
+    return get(NUMERIC_PROP);
   }
 
   /**
@@ -123,7 +152,7 @@ public final class RelativeTime extends ElementComposite {
    * @return this component
    */
   public RelativeTime setNumeric(RelativeTimeNumeric numeric) {
-    set(numericProp, numeric);
+    set(NUMERIC_PROP, numeric);
     return this;
   }
 
@@ -133,20 +162,69 @@ public final class RelativeTime extends ElementComposite {
    * @return {@code true} if syncing is enabled, {@code false} otherwise
    */
   public boolean isSync() {
-    return get(syncProp);
+    return get(SYNC_PROP);
   }
 
   /**
-   * Sets whether to keep the displayed value up to date as time passes.
+   * Sets whether to keep the displayed value up to date as time passes. Each synced element runs
+   * its own timer in the browser. Enabling this turns off {@link #setSharedSync(boolean) shared
+   * syncing}.
    *
    * @param sync {@code true} to enable syncing
    * @return this component
    */
   public RelativeTime setSync(boolean sync) {
-    set(syncProp, sync);
+    if (sync) {
+      setSharedSync(false);
+    }
+    set(SYNC_PROP, sync);
+    return this;
+  }
+
+  /**
+   * Checks whether the displayed value is kept up to date by the page-wide ticker.
+   *
+   * @return {@code true} if shared syncing is enabled, {@code false} otherwise
+   */
+  public boolean isSharedSync() {
+    return sharedSync;
+  }
+
+  /**
+   * Sets whether to keep the displayed value up to date through the page-wide ticker.
+   *
+   * <p>A single timer in the browser refreshes every shared element. It fires on the wall-clock
+   * boundary of the finest unit on display, so elements showing hours are refreshed once a
+   * minute rather than every second. Elements outside the viewport are not refreshed until they
+   * scroll back into view. Enabling this turns off {@link #setSync(boolean) per-element
+   * syncing}.</p>
+   *
+   * @param sharedSync {@code true} to enable shared syncing
+   * @return this component
+   */
+  public RelativeTime setSharedSync(boolean sharedSync) {
+    if (this.sharedSync == sharedSync) {
+      return this;
+    }
+
+    this.sharedSync = sharedSync;
+    if (sharedSync) {
+      set(SYNC_PROP, false);
+      ShoelaceMetrics.execute(this, getOriginalElement(), "register", REGISTER_SCRIPT);
+    } else {
+      ShoelaceMetrics.execute(this, getOriginalElement(), "unregister", UNREGISTER_SCRIPT);
+    }
+
     return this;
   }
 
+  @Override
+  protected void onDidDestroy() {
+    if (sharedSync) {
+      ShoelaceMetrics.execute(this, getOriginalElement(), "unregister", UNREGISTER_SCRIPT);
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.resizeobserver;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.resizeobserver.event.ResizeEvent;
 
 /**
@@ -21,11 +21,11 @@ import com.webforj.shoelace.components.resizeobserver.event.ResizeEvent;
  * @see <a href="https://shoelace.style/components/resize-observer">Shoelace Resize Observer</a>
  */
 @NodeName("sl-resize-observer")
-public final class ResizeObserver extends ElementCompositeContainer
+public final class ResizeObserver extends ShoelaceCompositeContainer
     implements HasElementClickListener<ResizeObserver>, HasClassName<ResizeObserver>, HasStyle<ResizeObserver>,
     HasVisibility<ResizeObserver> {
 
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -41,7 +41,7 @@ public final class ResizeObserver extends ElementCompositeContainer
    * @return {@code true} if the observer is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -51,7 +51,7 @@ public final class ResizeObserver extends ElementCompositeContainer
    * @return this component
    */
   public ResizeObserver setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -76,6 +76,36 @@ public final class ResizeObserver extends ElementCompositeContainer
     return addResizeListener(listener);
   }
 
+  /**
+   * Adds a listener for the resize event with browser-side limits, so that continuous resizing
+   * does not send an event for every frame.
+   *
+   * @param listener the event listener
+   * @param options the limits to apply before an event is sent
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<ResizeEvent<ResizeObserver>> addResizeListener(
+      EventListener<ResizeEvent<ResizeObserver>> listener, ResizeOptions options) {
+    if (options.getRateLimit() == null) {
+      return addEventListener(ResizeEvent.class, listener, options.toEventOptions());
+    }
+    return options.getRateLimit().addListener(listener, options::toEventOptions,
+        (limited, eventOptions) -> addEventListener(ResizeEvent.class, limited, eventOptions));
+  }
+
+  /**
+   * Adds a listener for the resize event with browser-side limits.
+   *
+   * @param listener the event listener
+   * @param options the limits to apply before an event is sent
+   * @return a registration for removing the listener
+   * @see #addResizeListener(EventListener, ResizeOptions)
+   */
+  public ListenerRegistration<ResizeEvent<ResizeObserver>> onResize(
+      EventListener<ResizeEvent<ResizeObserver>> listener, ResizeOptions options) {
+    return addResizeListener(listener, options);
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -0,0 +1,144 @@
+package com.webforj.shoelace.components.resizeobserver;
+
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.shoelace.components.resizeobserver.event.ResizeEvent;
+import com.webforj.shoelace.event.RateLimit;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser-side limits for a resize listener, so that dragging a window or a split panel does not
+ * send an event for every frame.
+ *
+ * <p>Limits are checked in the browser before an event is sent. A listener can be
+ * {@linkplain #setDebounce(Duration) debounced} or otherwise {@linkplain #setRateLimit(RateLimit)
+ * rate limited}. It can ignore resizes smaller than a {@linkplain #setMinDelta(double) minimum
+ * delta}, and it can receive only the {@linkplain #setLastEntryOnly(boolean) last entry} of each
+ * event.</p>
+ */
+public final class ResizeOptions {
+
+  private static final AtomicLong COUNTER = new AtomicLong();
+
+  // compares the content box of each entry with the size last delivered to this listener
+  private static final String DELTA_FILTER = """
+      (() => {
+        const key = %s;
+        const seen = (component.__slResizeSeen = component.__slResizeSeen || {});
+        const last = (seen[key] = seen[key] || new WeakMap());
+        const entries = (event.detail && event.detail.entries) || [];
+        let changed = false;
+        for (const e of entries) {
+          const before = last.get(e.target);
+          const { width, height } = e.contentRect;
+          if (!before || Math.abs(width - before[0]) >= %s || Math.abs(height - before[1]) >= %s) {
+            changed = true;
+          }
+        }
+        if (changed) {
+          for (const e of entries) {
+            last.set(e.target, [e.contentRect.width, e.contentRect.height]);
+          }
+        }
+        return changed;
+      })()""";
+
+  private RateLimit rateLimit;
+  private double minDelta;
+  private boolean lastEntryOnly;
+
+  /**
+   * Debounces the listener, so it is notified once resizing has paused for the given time.
+   *
+   * @param quietPeriod the time to wait after the last resize
+   * @return these options
+   */
+  public ResizeOptions setDebounce(Duration quietPeriod) {
+    return setRateLimit(RateLimit.debounce(quietPeriod));
+  }
+
+  /**
+   * Sets how often the listener may be notified. The last resize of a burst is always delivered.
+   *
+   * @param rateLimit the rate limit, or {@code null} for none
+   * @return these options
+   */
+  public ResizeOptions setRateLimit(RateLimit rateLimit) {
+    this.rateLimit = rateLimit;
+    return this;
+  }
+
+  /**
+   * Gets how often the listener may be notified.
+   *
+   * @return the rate limit, or {@code null} if there is none
+   */
+  public RateLimit getRateLimit() {
+    return rateLimit;
+  }
+
+  /**
+   * Sets the smallest change in width or height, in pixels, that notifies the listener. Changes
+   * are measured against the sizes of the last notification.
+   *
+   * @param minDelta the minimum change in pixels, {@code 0} to report every change
+   * @return these options
+   * @throws IllegalArgumentException if {@code minDelta} is negative
+   */
+  public ResizeOptions setMinDelta(double minDelta) {
+    if (minDelta < 0) {
+      throw new IllegalArgumentException("The minimum delta must not be negative");
+    }
+    this.minDelta = minDelta;
+    return this;
+  }
+
+  /**
+   * Gets the smallest change in width or height that notifies the listener.
+   *
+   * @return the minimum change in pixels
+   */
+  public double getMinDelta() {
+    return minDelta;
+  }
+
+  /**
+   * Sets whether events carry only the last entry instead of one entry per resized element.
+   *
+   * @param lastEntryOnly {@code true} to send only the last entry
+   * @return these options
+   */
+  public ResizeOptions setLastEntryOnly(boolean lastEntryOnly) {
+    this.lastEntryOnly = lastEntryOnly;
+    return this;
+  }
+
+  /**
+   * Checks whether events carry only the last entry.
+   *
+   * @return {@code true} if only the last entry is sent
+   */
+  public boolean isLastEntryOnly() {
+    return lastEntryOnly;
+  }
+
+  // the rate limit is applied when the listener is registered, see RateLimit.addListener
+  ElementEventOptions toEventOptions() {
+    ElementEventOptions options = new ElementEventOptions();
+
+    if (minDelta > 0) {
+      String key = "\"rd" + COUNTER.incrementAndGet() + "\"";
+      String delta = Double.toString(minDelta);
+      // the listener filter replaces the one of the event class, so it repeats the target check
+      options.setFilter("event.target.isSameNode(component) && "
+          + DELTA_FILTER.formatted(key, delta, delta));
+    }
+
+    if (lastEntryOnly) {
+      options.addData(ResizeEvent.ENTRIES_KEY,
+          "(" + ResizeEvent.ENTRIES_EXPRESSION + ").slice(-1)");
+    }
+
+    return options;
+  }
+}
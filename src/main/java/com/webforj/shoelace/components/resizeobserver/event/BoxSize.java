@@ -0,0 +1,10 @@
+package com.webforj.shoelace.components.resizeobserver.event;
+
+/**
+ * The size of a box in CSS pixels, in logical dimensions.
+ *
+ * @param inlineSize the size in the inline direction, the width in horizontal writing modes
+ * @param blockSize the size in the block direction, the height in horizontal writing modes
+ */
+public record BoxSize(double inlineSize, double blockSize) {
+}
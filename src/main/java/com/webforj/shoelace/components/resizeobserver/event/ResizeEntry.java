@@ -0,0 +1,12 @@
+package com.webforj.shoelace.components.resizeobserver.event;
+
+/**
+ * The new size of one element observed by a ResizeObserver component.
+ *
+ * @param index the position of the element among the observer's children, or {@code -1} if it
+ *        is not a direct child
+ * @param contentBox the size of the element's content box
+ * @param borderBox the size of the element's border box
+ */
+public record ResizeEntry(int index, BoxSize contentBox, BoxSize borderBox) {
+}
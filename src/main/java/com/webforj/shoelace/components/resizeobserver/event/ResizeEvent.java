@@ -5,31 +5,90 @@ import com.webforj.component.element.annotation.EventName;
 import com.webforj.component.element.annotation.EventOptions;
 import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Emitted when the element is resized in a ResizeObserver component.
  *
+ * <p>Only the box sizes of each entry are sent, not the serialized browser entries.</p>
+ *
  * @param <T> the component type
  */
 @EventName("sl-resize")
 @EventOptions(
     filter = "event.target.isSameNode(component)",
     data = {
-        @EventData(key = "entries", exp = "event.detail.entries")
+        @EventData(key = ResizeEvent.ENTRIES_KEY, exp = ResizeEvent.ENTRIES_EXPRESSION)
     })
 public class ResizeEvent<T extends ElementComposite> extends ComponentEvent<T> {
 
+  /** The payload key of the resize entries. */
+  public static final String ENTRIES_KEY = "entries";
+
+  /** The client expression that reduces the browser's entries to their box sizes. */
+  public static final String ENTRIES_EXPRESSION = """
+      (event.detail.entries || []).map(e => {
+        const box = (sizes, rect) => {
+          const size = sizes && (sizes[0] || sizes);
+          return size ? [size.inlineSize, size.blockSize] : [rect.width, rect.height];
+        };
+        return {
+          index: Array.prototype.indexOf.call(component.children, e.target),
+          content: box(e.contentBoxSize, e.contentRect),
+          border: box(e.borderBoxSize, e.contentRect)
+        };
+      })""";
+
   public ResizeEvent(T component, Map<String, Object> payload) {
     super(component, payload);
   }
 
   /**
-   * Gets the list of resize observer entries.
+   * Gets the new sizes of the resized elements.
    *
-   * @return the entries from the event detail
+   * @return the resize entries, empty if the event carries none
    */
-  public Object getEntries() {
-    return getEventMap().get("entries");
+  public List<ResizeEntry> getEntries() {
+    Object val = getEventMap().get(ENTRIES_KEY);
+    if (!(val instanceof List<?> items)) {
+      return Collections.emptyList();
+    }
+
+    List<ResizeEntry> entries = new ArrayList<>(items.size());
+    for (Object item : items) {
+      if (item instanceof Map<?, ?> entry) {
+        entries.add(new ResizeEntry(toInt(entry.get("index")), toBoxSize(entry.get("content")),
+            toBoxSize(entry.get("border"))));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Gets the entry of the last resized element.
+   *
+   * @return the last entry, or {@code null} if the event carries none
+   */
+  public ResizeEntry getLastEntry() {
+    List<ResizeEntry> entries = getEntries();
+    return entries.isEmpty() ? null : entries.get(entries.size() - 1);
+  }
+
+  private static BoxSize toBoxSize(Object val) {
+    if (val instanceof List<?> size && size.size() == 2) {
+      return new BoxSize(toDouble(size.get(0)), toDouble(size.get(1)));
+    }
+    return new BoxSize(0, 0);
+  }
+
+  private static double toDouble(Object val) {
+    return val instanceof Number number ? number.doubleValue() : 0;
+  }
+
+  private static int toInt(Object val) {
+    return val instanceof Number number ? number.intValue() : -1;
   }
 }
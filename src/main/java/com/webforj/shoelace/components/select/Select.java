@@ -1,7 +1,7 @@
 package com.webforj.shoelace.components.select;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,6 +11,8 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
+import com.webforj.shoelace.components.select.event.DataRequestEvent;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.BlurEvent;
@@ -21,6 +23,9 @@ import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Select component ({@code <sl-select>}).
@@ -31,49 +36,59 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/select">Shoelace Select</a>
  */
 @NodeName("sl-select")
-public final class Select extends ElementCompositeContainer
-    implements HasElementClickListener<Select>, HasClassName<Select>, HasStyle<Select>, HasVisibility<Select> {
+public final class Select extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Select>, HasClassName<Select>, HasStyle<Select>, HasVisibility<Select>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<String> placeholderProp =
+  private static final PropertyDescriptor<String> PLACEHOLDER_PROP =
       PropertyDescriptor.property("placeholder", "");
-  private final PropertyDescriptor<Boolean> multipleProp =
+  private static final PropertyDescriptor<Boolean> MULTIPLE_PROP =
       PropertyDescriptor.property("multiple", false);
-  private final PropertyDescriptor<Integer> maxOptionsVisibleProp =
+  private static final PropertyDescriptor<Integer> MAX_OPTIONS_VISIBLE_PROP =
       PropertyDescriptor.property("maxOptionsVisible", 3);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> clearableProp =
+  private static final PropertyDescriptor<Boolean> CLEARABLE_PROP =
       PropertyDescriptor.property("clearable", false);
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<Boolean> hoistProp =
+  private static final PropertyDescriptor<Boolean> HOIST_PROP =
       PropertyDescriptor.property("hoist", false);
-  private final PropertyDescriptor<Boolean> filledProp =
+  private static final PropertyDescriptor<Boolean> FILLED_PROP =
       PropertyDescriptor.property("filled", false);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<SelectPlacement> placementProp =
+  private static final PropertyDescriptor<SelectPlacement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", SelectPlacement.BOTTOM);
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int DEFAULT_PREFETCH_DISTANCE = 20;
+
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private int prefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+  private SelectVirtualizer virtualizer;
+  private ListenerRegistration<DataRequestEvent<Select>> dataRequestRegistration;
+
   /**
    * Creates a new Select.
    */
   public Select() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -92,7 +107,7 @@ public final class Select extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -102,7 +117,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -112,7 +127,7 @@ public final class Select extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -124,7 +139,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -134,7 +149,7 @@ public final class Select extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -144,7 +159,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -154,7 +169,7 @@ public final class Select extends ElementCompositeContainer
    * @return the placeholder
    */
   public String getPlaceholder() {
-    return get(placeholderProp);
+    return get(PLACEHOLDER_PROP);
   }
 
   /**
@@ -164,7 +179,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setPlaceholder(String placeholder) {
-    set(placeholderProp, placeholder);
+    set(PLACEHOLDER_PROP, placeholder);
     return this;
   }
 
@@ -174,7 +189,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if multiple selection is allowed
    */
   public boolean isMultiple() {
-    return get(multipleProp);
+    return get(MULTIPLE_PROP);
   }
 
   /**
@@ -184,7 +199,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setMultiple(boolean multiple) {
-    set(multipleProp, multiple);
+    set(MULTIPLE_PROP, multiple);
     return this;
   }
 
@@ -194,7 +209,7 @@ public final class Select extends ElementCompositeContainer
    * @return the maximum options visible
    */
   public Integer getMaxOptionsVisible() {
-    return get(maxOptionsVisibleProp);
+    return get(MAX_OPTIONS_VISIBLE_PROP);
   }
 
   /**
@@ -206,7 +221,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setMaxOptionsVisible(Integer maxOptionsVisible) {
-    set(maxOptionsVisibleProp, maxOptionsVisible);
+    set(MAX_OPTIONS_VISIBLE_PROP, maxOptionsVisible);
     return this;
   }
 
@@ -216,7 +231,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -226,7 +241,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -236,7 +251,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if clearable
    */
   public boolean isClearable() {
-    return get(clearableProp);
+    return get(CLEARABLE_PROP);
   }
 
   /**
@@ -246,7 +261,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setClearable(boolean clearable) {
-    set(clearableProp, clearable);
+    set(CLEARABLE_PROP, clearable);
     return this;
   }
 
@@ -256,7 +271,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if open
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -267,7 +282,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setOpen(boolean open) {
-    set(openProp, open);
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -277,7 +292,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if hoisting is enabled
    */
   public boolean isHoist() {
-    return get(hoistProp);
+    return get(HOIST_PROP);
   }
 
   /**
@@ -288,7 +303,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setHoist(boolean hoist) {
-    set(hoistProp, hoist);
+    set(HOIST_PROP, hoist);
     return this;
   }
 
@@ -298,7 +313,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if filled
    */
   public boolean isFilled() {
-    return get(filledProp);
+    return get(FILLED_PROP);
   }
 
   /**
@@ -308,7 +323,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setFilled(boolean filled) {
-    set(filledProp, filled);
+    set(FILLED_PROP, filled);
     return this;
   }
 
@@ -318,7 +333,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if pill style is applied
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -328,7 +343,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -338,7 +353,7 @@ public final class Select extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -348,7 +363,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -358,7 +373,7 @@ public final class Select extends ElementCompositeContainer
    * @return the placement
    */
   public SelectPlacement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -369,7 +384,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setPlacement(SelectPlacement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -379,7 +394,7 @@ public final class Select extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -389,7 +404,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -399,7 +414,7 @@ public final class Select extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -410,7 +425,7 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -420,7 +435,7 @@ public final class Select extends ElementCompositeContainer
    * @return {@code true} if required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -430,51 +445,175 @@ public final class Select extends ElementCompositeContainer
    * @return this component
    */
   public Select setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
+    return this;
+  }
+
+  /**
+   * Gets the data provider serving this select's options.
+   *
+   * @return the data provider, or {@code null} when the select uses {@code Option} children
+   */
+  public SelectDataProvider getDataProvider() {
+    return virtualizer != null ? virtualizer.getProvider() : null;
+  }
+
+  /**
+   * Sets a data provider that serves this select's options in pages.
+   *
+   * <p>In data-provider mode only the visible window of options exists in the browser, and no
+   * {@code Option} components are created on the server. Rows are fetched in pages of
+   * {@link #setPageSize(int) page size} as the user scrolls the listbox, and the provider is
+   * queried again with a filter as the user types while the listbox is open. Do not add
+   * {@code Option} children to a select that has a data provider.</p>
+   *
+   * @param provider the data provider, or {@code null} to leave data-provider mode
+   * @return this component
+   */
+  public Select setDataProvider(SelectDataProvider provider) {
+    if (virtualizer != null) {
+      dataRequestRegistration.remove();
+      dataRequestRegistration = null;
+      virtualizer.uninstall();
+      virtualizer = null;
+    }
+
+    if (provider != null) {
+      SelectVirtualizer next = new SelectVirtualizer(this, provider, pageSize, prefetchDistance);
+      dataRequestRegistration = addEventListener(DataRequestEvent.class, next::onDataRequest);
+      next.install();
+      virtualizer = next;
+    }
+
+    return this;
+  }
+
+  /**
+   * Gets the number of rows fetched per request in data-provider mode.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Sets the number of rows fetched per request in data-provider mode. Defaults to 50.
+   *
+   * @param pageSize the page size, at least 1
+   * @return this component
+   * @throws IllegalArgumentException if {@code pageSize} is less than 1
+   */
+  public Select setPageSize(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be at least 1");
+    }
+
+    this.pageSize = pageSize;
+    if (virtualizer != null) {
+      virtualizer.configure(pageSize, prefetchDistance);
+    }
+    return this;
+  }
+
+  /**
+   * Gets how many rows beyond the visible window are fetched ahead in data-provider mode.
+   *
+   * @return the prefetch distance in rows
+   */
+  public int getPrefetchDistance() {
+    return prefetchDistance;
+  }
+
+  /**
+   * Sets how many rows beyond the visible window, in both directions, are fetched ahead of the
+   * scroll position in data-provider mode. Defaults to 20.
+   *
+   * @param prefetchDistance the prefetch distance in rows, at least 0
+   * @return this component
+   * @throws IllegalArgumentException if {@code prefetchDistance} is negative
+   */
+  public Select setPrefetchDistance(int prefetchDistance) {
+    if (prefetchDistance < 0) {
+      throw new IllegalArgumentException("Prefetch distance must not be negative");
+    }
+
+    this.prefetchDistance = prefetchDistance;
+    if (virtualizer != null) {
+      virtualizer.configure(pageSize, prefetchDistance);
+    }
     return this;
   }
 
+  /**
+   * Discards the rows loaded from the data provider and fetches them again. Call this after the
+   * provider's underlying data changes.
+   */
+  public void refreshData() {
+    if (virtualizer != null) {
+      virtualizer.refresh();
+    }
+  }
+
   /**
    * Shows the select's listbox.
    */
   public void show() {
-    getElement().callJsFunction("show");
+    ShoelaceMetrics.call(this, getOriginalElement(), "show");
   }
 
   /**
    * Hides the select's listbox.
    */
   public void hide() {
-    getElement().callJsFunction("hide");
+    ShoelaceMetrics.call(this, getOriginalElement(), "hide");
   }
 
   /**
    * Sets focus on the select control.
    */
   public void focus() {
-    getElement().callJsFunction("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the select control.
    */
   public void blur() {
-    getElement().callJsFunction("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getElement().callJsFunction("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getElement().callJsFunction("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -482,8 +621,9 @@ public final class Select extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getElement().callJsFunction("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
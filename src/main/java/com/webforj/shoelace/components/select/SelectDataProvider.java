@@ -0,0 +1,85 @@
+package com.webforj.shoelace.components.select;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Serves the options of a {@link Select} in pages.
+ *
+ * <p>When a select has a data provider, only the visible window of options exists in the
+ * browser. Rows are requested page by page as the user scrolls the listbox or types to filter
+ * it.</p>
+ *
+ * @see Select#setDataProvider(SelectDataProvider)
+ */
+public interface SelectDataProvider {
+
+  /**
+   * Counts the rows that match the given filter.
+   *
+   * @param filter the text typed by the user, or an empty string when unfiltered
+   * @return the number of matching rows
+   */
+  int count(String filter);
+
+  /**
+   * Fetches a page of rows that match the given filter.
+   *
+   * @param filter the text typed by the user, or an empty string when unfiltered
+   * @param offset the index of the first row to return
+   * @param limit the maximum number of rows to return
+   * @return the rows, at most {@code limit} of them
+   */
+  List<SelectItem> fetch(String filter, int offset, int limit);
+
+  /**
+   * Creates a provider over an in-memory list. Filtering matches labels case-insensitively.
+   *
+   * @param items the items to serve
+   * @return the data provider
+   */
+  static SelectDataProvider fromItems(List<SelectItem> items) {
+    Objects.requireNonNull(items, "items must not be null");
+    List<SelectItem> snapshot = List.copyOf(items);
+
+    // the matches of the last filter, replaced as a whole so concurrent callers see a
+    // consistent pair
+    record Matches(String filter, List<SelectItem> items) {
+    }
+
+    return new SelectDataProvider() {
+      private volatile Matches last;
+
+      @Override
+      public int count(String filter) {
+        return matches(filter).size();
+      }
+
+      @Override
+      public List<SelectItem> fetch(String filter, int offset, int limit) {
+        List<SelectItem> matches = matches(filter);
+        int from = Math.min(Math.max(offset, 0), matches.size());
+        int to = Math.min(from + Math.max(limit, 0), matches.size());
+        return matches.subList(from, to);
+      }
+
+      private List<SelectItem> matches(String filter) {
+        if (filter == null || filter.isEmpty()) {
+          return snapshot;
+        }
+
+        Matches current = last;
+        if (current == null || !filter.equals(current.filter())) {
+          String needle = filter.toLowerCase(Locale.ROOT);
+          current = new Matches(filter, snapshot.stream()
+              .filter(item -> item.label().toLowerCase(Locale.ROOT).contains(needle))
+              .toList());
+          last = current;
+        }
+
+        return current.items();
+      }
+    };
+  }
+}
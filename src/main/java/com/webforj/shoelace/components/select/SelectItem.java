@@ -0,0 +1,27 @@
+package com.webforj.shoelace.components.select;
+
+import java.util.Objects;
+
+/**
+ * A row served by a {@link SelectDataProvider}.
+ *
+ * <p>The {@code value} is what the select submits and reports through {@link Select#getValue()},
+ * the {@code label} is the text shown to the user. Values must not contain spaces, as spaces are
+ * used as delimiters when {@code multiple} is enabled.</p>
+ *
+ * @param value the option value
+ * @param label the option label
+ */
+public record SelectItem(String value, String label) {
+
+  /**
+   * Creates a new item.
+   *
+   * @param value the option value
+   * @param label the option label
+   */
+  public SelectItem {
+    Objects.requireNonNull(value, "value must not be null");
+    Objects.requireNonNull(label, "label must not be null");
+  }
+}
@@ -0,0 +1,370 @@
+package com.webforj.shoelace.components.select;
+
+import com.google.gson.Gson;
+import com.webforj.component.element.Element;
+import com.webforj.shoelace.components.select.event.DataRequestEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Server side of a {@link Select} in data-provider mode.
+ *
+ * <p>The browser keeps only the visible window of {@code <sl-option>} elements, padded with
+ * spacers so the listbox scrolls as if every row were present. Missing pages are requested
+ * through {@link DataRequestEvent} and answered here from the {@link SelectDataProvider}. The
+ * options for the current value are always kept, hidden when out of view, so the select never
+ * loses its selection while scrolling.</p>
+ *
+ * <p>The browser holds at most {@code maxPages} pages and drops those farthest from the visible
+ * window first. It remembers labels only for the selected values, so neither grows with the
+ * number of rows scrolled through.</p>
+ */
+final class SelectVirtualizer {
+
+  private static final Gson GSON = new Gson();
+
+  private static final String INSTALL_SCRIPT = """
+      (() => {
+        const select = component;
+        if (select.__slVirtual) {
+          return;
+        }
+
+        const state = {
+          filter: '',
+          typed: '',
+          typedTimer: 0,
+          total: 0,
+          pageSize: 50,
+          prefetch: 20,
+          overscan: 5,
+          rowHeight: 0,
+          pages: new Map(),
+          maxPages: 20,
+          pending: new Set(),
+          labels: new Map(),
+          frame: 0,
+          listbox: null
+        };
+        select.__slVirtual = state;
+
+        const top = document.createElement('div');
+        const bottom = document.createElement('div');
+        for (const spacer of [top, bottom]) {
+          spacer.setAttribute('aria-hidden', 'true');
+          spacer.dataset.slVirtual = 'spacer';
+        }
+        select.prepend(top);
+        select.append(bottom);
+
+        const values = () => {
+          const value = select.value;
+          if (Array.isArray(value)) {
+            return value;
+          }
+          return value ? String(value).split(' ') : [];
+        };
+
+        const listbox = () => {
+          if (!state.listbox && select.shadowRoot) {
+            state.listbox = select.shadowRoot.querySelector('[part~="listbox"]');
+            if (state.listbox) {
+              state.listbox.addEventListener('scroll', schedule, { passive: true });
+            }
+          }
+          return state.listbox;
+        };
+
+        const request = (page) => {
+          const key = state.filter + '\\u0000' + page;
+          if (state.pending.has(key)) {
+            return;
+          }
+          state.pending.add(key);
+          select.dispatchEvent(new CustomEvent('wfs-data-request', {
+            detail: { filter: state.filter, offset: page * state.pageSize, limit: state.pageSize }
+          }));
+        };
+
+        const rowAt = (index) => {
+          const page = state.pages.get(Math.floor(index / state.pageSize));
+          return page ? page[index % state.pageSize] : undefined;
+        };
+
+        // drops the pages farthest from the window until at most maxPages are left
+        const prune = (fromPage, toPage) => {
+          if (state.pages.size <= state.maxPages) {
+            return;
+          }
+          const distance = page => Math.max(fromPage - page, page - toPage);
+          const far = [...state.pages.keys()]
+            .filter(page => distance(page) > 0)
+            .sort((a, b) => distance(b) - distance(a));
+          for (const page of far) {
+            if (state.pages.size <= state.maxPages) {
+              break;
+            }
+            state.pages.delete(page);
+          }
+        };
+
+        // keeps the labels of the selected values only
+        const remember = (selected) => {
+          for (const value of state.labels.keys()) {
+            if (!selected.has(value)) {
+              state.labels.delete(value);
+            }
+          }
+          select.querySelectorAll(':scope > sl-option[data-sl-virtual="row"]').forEach(el => {
+            if (selected.has(el.value)) {
+              state.labels.set(el.value, el.textContent);
+            }
+          });
+        };
+
+        const option = (item, kind) => {
+          const el = document.createElement('sl-option');
+          el.dataset.slVirtual = kind;
+          el.value = item.value;
+          el.textContent = item.label;
+          return el;
+        };
+
+        const render = () => {
+          state.frame = 0;
+          const box = listbox();
+          const rowHeight = state.rowHeight || 36;
+          const scrollTop = box ? box.scrollTop : 0;
+          const viewport = box && box.clientHeight ? box.clientHeight : rowHeight * 10;
+
+          const first = Math.min(state.total, Math.floor(scrollTop / rowHeight));
+          const last = Math.min(state.total, Math.ceil((scrollTop + viewport) / rowHeight));
+
+          const fetchFrom = Math.max(0, first - state.prefetch);
+          const fetchTo = Math.min(state.total, last + state.prefetch);
+          for (let page = Math.floor(fetchFrom / state.pageSize);
+              page * state.pageSize < fetchTo; page++) {
+            if (!state.pages.has(page)) {
+              request(page);
+            }
+          }
+          prune(Math.floor(fetchFrom / state.pageSize), Math.floor(fetchTo / state.pageSize));
+
+          const start = Math.max(0, first - state.overscan);
+          const end = Math.min(state.total, last + state.overscan);
+          const selected = new Set(values());
+          remember(selected);
+          const rendered = new Set();
+          const fragment = document.createDocumentFragment();
+
+          for (let i = start; i < end; i++) {
+            const item = rowAt(i);
+            if (item) {
+              if (selected.has(item.value)) {
+                state.labels.set(item.value, item.label);
+              }
+              rendered.add(item.value);
+              fragment.append(option(item, 'row'));
+            } else {
+              const placeholder = document.createElement('div');
+              placeholder.dataset.slVirtual = 'placeholder';
+              placeholder.style.height = rowHeight + 'px';
+              fragment.append(placeholder);
+            }
+          }
+
+          for (const value of selected) {
+            if (!rendered.has(value)) {
+              const pinned = option({ value, label: state.labels.get(value) || value }, 'pinned');
+              pinned.hidden = true;
+              fragment.append(pinned);
+            }
+          }
+
+          select.querySelectorAll(':scope > [data-sl-virtual="row"], '
+              + ':scope > [data-sl-virtual="pinned"], '
+              + ':scope > [data-sl-virtual="placeholder"]').forEach(el => el.remove());
+          top.style.height = (start * rowHeight) + 'px';
+          bottom.style.height = ((state.total - end) * rowHeight) + 'px';
+          top.after(fragment);
+
+          const sample = select.querySelector(':scope > [data-sl-virtual="row"]');
+          if (sample && sample.offsetHeight && sample.offsetHeight !== state.rowHeight) {
+            state.rowHeight = sample.offsetHeight;
+            schedule();
+          }
+        };
+
+        const schedule = () => {
+          if (!state.frame) {
+            state.frame = requestAnimationFrame(render);
+          }
+        };
+
+        const reset = () => {
+          state.pages.clear();
+          state.pending.clear();
+          const box = listbox();
+          if (box) {
+            box.scrollTop = 0;
+          }
+          request(0);
+        };
+
+        const applyFilter = (filter) => {
+          if (filter === state.filter) {
+            return;
+          }
+          state.filter = filter;
+          reset();
+        };
+
+        const onKeyDown = (event) => {
+          if (!select.open || event.metaKey || event.ctrlKey || event.altKey) {
+            return;
+          }
+          if (event.key === 'Backspace') {
+            state.typed = state.typed.slice(0, -1);
+          } else if (event.key.length === 1 && (event.key !== ' ' || state.typed)) {
+            state.typed += event.key;
+          } else {
+            return;
+          }
+          clearTimeout(state.typedTimer);
+          state.typedTimer = setTimeout(() => applyFilter(state.typed), 250);
+        };
+
+        const onAfterHide = (event) => {
+          if (event.target === select && state.typed) {
+            state.typed = '';
+            applyFilter('');
+          }
+        };
+
+        const onChange = (event) => {
+          if (event.target === select) {
+            remember(new Set(values()));
+          }
+        };
+
+        const onShow = (event) => {
+          if (event.target === select) {
+            schedule();
+          }
+        };
+
+        select.addEventListener('keydown', onKeyDown);
+        select.addEventListener('sl-after-hide', onAfterHide);
+        select.addEventListener('sl-after-show', onShow);
+        select.addEventListener('sl-change', onChange);
+
+        select.__slVirtualConfigure = (pageSize, prefetch) => {
+          state.pageSize = pageSize;
+          state.prefetch = prefetch;
+          reset();
+        };
+
+        select.__slVirtualReceive = (filter, offset, total, rows) => {
+          const page = Math.floor(offset / state.pageSize);
+          state.pending.delete(filter + '\\u0000' + page);
+          if (filter !== state.filter || offset % state.pageSize !== 0) {
+            return;
+          }
+          state.total = total;
+          state.pages.set(page, JSON.parse(rows));
+          schedule();
+        };
+
+        select.__slVirtualRefresh = () => reset();
+
+        select.__slVirtualDestroy = () => {
+          cancelAnimationFrame(state.frame);
+          clearTimeout(state.typedTimer);
+          if (state.listbox) {
+            state.listbox.removeEventListener('scroll', schedule);
+          }
+          select.removeEventListener('keydown', onKeyDown);
+          select.removeEventListener('sl-after-hide', onAfterHide);
+          select.removeEventListener('sl-after-show', onShow);
+          select.removeEventListener('sl-change', onChange);
+          select.querySelectorAll(':scope > [data-sl-virtual]').forEach(el => el.remove());
+          delete select.__slVirtual;
+          delete select.__slVirtualConfigure;
+          delete select.__slVirtualReceive;
+          delete select.__slVirtualRefresh;
+          delete select.__slVirtualDestroy;
+        };
+      })();
+      """;
+
+  private final Select select;
+  private final SelectDataProvider provider;
+  private int pageSize;
+  private int prefetchDistance;
+  private String countedFilter;
+  private int count;
+
+  SelectVirtualizer(Select select, SelectDataProvider provider, int pageSize,
+      int prefetchDistance) {
+    this.select = Objects.requireNonNull(select);
+    this.provider = Objects.requireNonNull(provider);
+    this.pageSize = pageSize;
+    this.prefetchDistance = prefetchDistance;
+  }
+
+  SelectDataProvider getProvider() {
+    return provider;
+  }
+
+  void install() {
+    Element element = select.getOriginalElement();
+    ShoelaceMetrics.execute(select, element, "__slVirtualInstall", INSTALL_SCRIPT);
+    ShoelaceMetrics.call(select, element, "__slVirtualConfigure", pageSize, prefetchDistance);
+  }
+
+  void configure(int pageSize, int prefetchDistance) {
+    this.pageSize = pageSize;
+    this.prefetchDistance = prefetchDistance;
+    ShoelaceMetrics.call(select, select.getOriginalElement(), "__slVirtualConfigure",
+        pageSize, prefetchDistance);
+  }
+
+  void refresh() {
+    countedFilter = null;
+    ShoelaceMetrics.call(select, select.getOriginalElement(), "__slVirtualRefresh");
+  }
+
+  void uninstall() {
+    ShoelaceMetrics.execute(select, select.getOriginalElement(), "__slVirtualDestroy",
+        "if (component.__slVirtualDestroy) { component.__slVirtualDestroy(); }");
+  }
+
+  void onDataRequest(DataRequestEvent<Select> event) {
+    String filter = event.getFilter();
+    int offset = Math.max(0, event.getOffset());
+    int total = count(filter);
+    List<SelectItem> rows = fetch(filter, offset, event.getLimit(), total);
+
+    ShoelaceMetrics.call(select, select.getOriginalElement(),
+        "__slVirtualReceive", filter, offset, total, GSON.toJson(rows));
+  }
+
+  int count(String filter) {
+    if (!filter.equals(countedFilter)) {
+      count = Math.max(0, provider.count(filter));
+      countedFilter = filter;
+    }
+    return count;
+  }
+
+  List<SelectItem> fetch(String filter, int offset, int limit, int total) {
+    int size = Math.min(Math.min(limit, pageSize), total - offset);
+    if (size <= 0) {
+      return List.of();
+    }
+
+    List<SelectItem> rows = provider.fetch(filter, offset, size);
+    return rows.size() > size ? rows.subList(0, size) : rows;
+  }
+}
@@ -0,0 +1,68 @@
+package com.webforj.shoelace.components.select.event;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import java.util.Map;
+
+/**
+ * Emitted by a Select in data-provider mode when the browser needs a page of rows.
+ *
+ * <p>The event is handled by the select itself. Applications supply rows through a
+ * {@link com.webforj.shoelace.components.select.SelectDataProvider} instead of listening to it.
+ * </p>
+ *
+ * @param <T> the component type
+ */
+@EventName("wfs-data-request")
+@EventOptions(
+    filter = "event.target.isSameNode(component)",
+    data = {
+        @EventData(key = "filter", exp = "event.detail.filter"),
+        @EventData(key = "offset", exp = "event.detail.offset"),
+        @EventData(key = "limit", exp = "event.detail.limit")
+    })
+public class DataRequestEvent<T extends ElementComposite> extends ComponentEvent<T> {
+
+  public DataRequestEvent(T component, Map<String, Object> payload) {
+    super(component, payload);
+  }
+
+  /**
+   * Gets the filter typed by the user.
+   *
+   * @return the filter, or an empty string when unfiltered
+   */
+  public String getFilter() {
+    Object val = getEventMap().get("filter");
+    return val != null ? String.valueOf(val) : "";
+  }
+
+  /**
+   * Gets the index of the first requested row.
+   *
+   * @return the offset
+   */
+  public int getOffset() {
+    Object val = getEventMap().get("offset");
+    if (val instanceof Number) {
+      return ((Number) val).intValue();
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the number of requested rows.
+   *
+   * @return the limit
+   */
+  public int getLimit() {
+    Object val = getEventMap().get("limit");
+    if (val instanceof Number) {
+      return ((Number) val).intValue();
+    }
+    return 0;
+  }
+}
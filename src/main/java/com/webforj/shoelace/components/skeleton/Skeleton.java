@@ -1,13 +1,13 @@
 package com.webforj.shoelace.components.skeleton;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace Skeleton component ({@code <sl-skeleton>}).
@@ -18,10 +18,10 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/skeleton">Shoelace Skeleton</a>
  */
 @NodeName("sl-skeleton")
-public final class Skeleton extends ElementComposite
+public final class Skeleton extends ShoelaceComposite
     implements HasElementClickListener<Skeleton>, HasClassName<Skeleton>, HasStyle<Skeleton>, HasVisibility<Skeleton> {
 
-  private final PropertyDescriptor<SkeletonEffect> effectProp =
+  private static final PropertyDescriptor<SkeletonEffect> EFFECT_PROP =
       PropertyDescriptor.property("effect", SkeletonEffect.NONE);
 
   /**
@@ -37,7 +37,7 @@ public final class Skeleton extends ElementComposite
    * @return the effect
    */
   public SkeletonEffect getEffect() {
-    return get(effectProp);
+    return get(EFFECT_PROP);
   }
 
   /**
@@ -47,7 +47,7 @@ public final class Skeleton extends ElementComposite
    * @return this component
    */
   public Skeleton setEffect(SkeletonEffect effect) {
-    set(effectProp, effect);
+    set(EFFECT_PROP, effect);
     return this;
   }
 
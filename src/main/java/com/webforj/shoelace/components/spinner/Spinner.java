@@ -1,12 +1,12 @@
 package com.webforj.shoelace.components.spinner;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.ShoelaceComposite;
 
 /**
  * Shoelace Spinner component ({@code <sl-spinner>}).
@@ -17,7 +17,7 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/spinner">Shoelace Spinner</a>
  */
 @NodeName("sl-spinner")
-public final class Spinner extends ElementComposite
+public final class Spinner extends ShoelaceComposite
     implements HasElementClickListener<Spinner>, HasClassName<Spinner>, HasStyle<Spinner>, HasVisibility<Spinner> {
 
   /**
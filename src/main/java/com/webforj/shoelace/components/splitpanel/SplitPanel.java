@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.splitpanel;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,6 +10,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.splitpanel.event.RepositionEvent;
 
 /**
@@ -23,26 +23,26 @@ import com.webforj.shoelace.components.splitpanel.event.RepositionEvent;
  * @see <a href="https://shoelace.style/components/split-panel">Shoelace Split Panel</a>
  */
 @NodeName("sl-split-panel")
-public final class SplitPanel extends ElementCompositeContainer
+public final class SplitPanel extends ShoelaceCompositeContainer
     implements HasElementClickListener<SplitPanel>, HasClassName<SplitPanel>, HasStyle<SplitPanel>, HasVisibility<SplitPanel> {
 
   private static final String START_SLOT = "start";
   private static final String END_SLOT = "end";
   private static final String DIVIDER_SLOT = "divider";
 
-  private final PropertyDescriptor<Integer> positionProp =
+  private static final PropertyDescriptor<Integer> POSITION_PROP =
       PropertyDescriptor.property("position", 50);
-  private final PropertyDescriptor<Integer> positionInPixelsProp =
+  private static final PropertyDescriptor<Integer> POSITION_IN_PIXELS_PROP =
       PropertyDescriptor.property("positionInPixels", 0);
-  private final PropertyDescriptor<Boolean> verticalProp =
+  private static final PropertyDescriptor<Boolean> VERTICAL_PROP =
       PropertyDescriptor.property("vertical", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Primary> primaryProp =
+  private static final PropertyDescriptor<Primary> PRIMARY_PROP =
       PropertyDescriptor.property("primary", Primary.START);
-  private final PropertyDescriptor<String> snapProp =
+  private static final PropertyDescriptor<String> SNAP_PROP =
       PropertyDescriptor.property("snap", "");
-  private final PropertyDescriptor<Integer> snapThresholdProp =
+  private static final PropertyDescriptor<Integer> SNAP_THRESHOLD_PROP =
       PropertyDescriptor.property("snapThreshold", 12);
 
   /**
@@ -59,7 +59,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return the position percentage
    */
   public Integer getPosition() {
-    return get(positionProp);
+    return get(POSITION_PROP);
   }
 
   /**
@@ -70,7 +70,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setPosition(Integer position) {
-    set(positionProp, position);
+    set(POSITION_PROP, position);
     return this;
   }
 
@@ -80,7 +80,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return the position in pixels
    */
   public Integer getPositionInPixels() {
-    return get(positionInPixelsProp);
+    return get(POSITION_IN_PIXELS_PROP);
   }
 
   /**
@@ -90,7 +90,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setPositionInPixels(Integer positionInPixels) {
-    set(positionInPixelsProp, positionInPixels);
+    set(POSITION_IN_PIXELS_PROP, positionInPixels);
     return this;
   }
 
@@ -100,7 +100,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return {@code true} if the split panel is vertical
    */
   public boolean isVertical() {
-    return get(verticalProp);
+    return get(VERTICAL_PROP);
   }
 
   /**
@@ -111,7 +111,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setVertical(boolean vertical) {
-    set(verticalProp, vertical);
+    set(VERTICAL_PROP, vertical);
     return this;
   }
 
@@ -121,7 +121,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return {@code true} if resizing is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -132,7 +132,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -142,7 +142,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return the primary panel, or {@code null} if not set
    */
   public Primary getPrimary() {
-    return get(primaryProp);
+    return get(PRIMARY_PROP);
   }
 
   /**
@@ -154,7 +154,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setPrimary(Primary primary) {
-    set(primaryProp, primary);
+    set(PRIMARY_PROP, primary);
     return this;
   }
 
@@ -164,7 +164,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return the snap expression
    */
   public String getSnap() {
-    return get(snapProp);
+    return get(SNAP_PROP);
   }
 
   /**
@@ -176,7 +176,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setSnap(String snap) {
-    set(snapProp, snap);
+    set(SNAP_PROP, snap);
     return this;
   }
 
@@ -186,7 +186,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return the snap threshold in pixels
    */
   public Integer getSnapThreshold() {
-    return get(snapThresholdProp);
+    return get(SNAP_THRESHOLD_PROP);
   }
 
   /**
@@ -196,7 +196,7 @@ public final class SplitPanel extends ElementCompositeContainer
    * @return this component
    */
   public SplitPanel setSnapThreshold(Integer snapThreshold) {
-    set(snapThresholdProp, snapThreshold);
+    set(SNAP_THRESHOLD_PROP, snapThreshold);
     return this;
   }
 
@@ -1,7 +1,7 @@
 package com.webforj.shoelace.components.switchc;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,11 +11,15 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Switch component ({@code <sl-switch>}).
@@ -25,24 +29,25 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/switch">Shoelace Switch</a>
  */
 @NodeName("sl-switch")
-public final class Switch extends ElementCompositeContainer
-    implements HasElementClickListener<Switch>, HasClassName<Switch>, HasStyle<Switch>, HasVisibility<Switch> {
+public final class Switch extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Switch>, HasClassName<Switch>, HasStyle<Switch>, HasVisibility<Switch>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> checkedProp =
+  private static final PropertyDescriptor<Boolean> CHECKED_PROP =
       PropertyDescriptor.property("checked", false);
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
 
   /**
@@ -50,6 +55,7 @@ public final class Switch extends ElementCompositeContainer
    */
   public Switch() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -58,7 +64,7 @@ public final class Switch extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -68,7 +74,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -78,7 +84,7 @@ public final class Switch extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -88,7 +94,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -98,7 +104,7 @@ public final class Switch extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -108,7 +114,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -118,7 +124,7 @@ public final class Switch extends ElementCompositeContainer
    * @return true if the switch is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -128,7 +134,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -138,7 +144,7 @@ public final class Switch extends ElementCompositeContainer
    * @return true if the switch is checked
    */
   public boolean isChecked() {
-    return get(checkedProp);
+    return get(CHECKED_PROP);
   }
 
   /**
@@ -148,7 +154,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setChecked(boolean checked) {
-    set(checkedProp, checked);
+    set(CHECKED_PROP, checked);
     return this;
   }
 
@@ -158,7 +164,7 @@ public final class Switch extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -168,7 +174,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -178,7 +184,7 @@ public final class Switch extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -189,7 +195,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -199,7 +205,7 @@ public final class Switch extends ElementCompositeContainer
    * @return true if the switch is required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -209,7 +215,7 @@ public final class Switch extends ElementCompositeContainer
    * @return this component
    */
   public Switch setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -217,36 +223,54 @@ public final class Switch extends ElementCompositeContainer
    * Sets focus on the switch.
    */
   public void focus() {
-    getOriginalElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the switch.
    */
   public void blur() {
-    getOriginalElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
    * Simulates a click on the switch.
    */
   public void click() {
-    getOriginalElement().callJsFunctionVoidAsync("click");
+    ShoelaceMetrics.call(this, getOriginalElement(), "click");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -254,8 +278,9 @@ public final class Switch extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getOriginalElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
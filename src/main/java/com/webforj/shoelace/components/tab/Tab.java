@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.tab;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -10,6 +9,7 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.tab.event.CloseEvent;
 
 /**
@@ -22,16 +22,16 @@ import com.webforj.shoelace.components.tab.event.CloseEvent;
  * @see <a href="https://shoelace.style/components/tab">Shoelace Tab</a>
  */
 @NodeName("sl-tab")
-public final class Tab extends ElementCompositeContainer
+public final class Tab extends ShoelaceCompositeContainer
     implements HasElementClickListener<Tab>, HasClassName<Tab>, HasStyle<Tab>, HasVisibility<Tab> {
 
-  private final PropertyDescriptor<String> panelProp =
+  private static final PropertyDescriptor<String> PANEL_PROP =
       PropertyDescriptor.property("panel", "");
-  private final PropertyDescriptor<Boolean> activeProp =
+  private static final PropertyDescriptor<Boolean> ACTIVE_PROP =
       PropertyDescriptor.property("active", false);
-  private final PropertyDescriptor<Boolean> closableProp =
+  private static final PropertyDescriptor<Boolean> CLOSABLE_PROP =
       PropertyDescriptor.property("closable", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
 
   /**
@@ -47,7 +47,7 @@ public final class Tab extends ElementCompositeContainer
    * @return the panel name
    */
   public String getPanel() {
-    return get(panelProp);
+    return get(PANEL_PROP);
   }
 
   /**
@@ -58,7 +58,7 @@ public final class Tab extends ElementCompositeContainer
    * @return this component
    */
   public Tab setPanel(String panel) {
-    set(panelProp, panel);
+    set(PANEL_PROP, panel);
     return this;
   }
 
@@ -68,7 +68,7 @@ public final class Tab extends ElementCompositeContainer
    * @return {@code true} if the tab is active
    */
   public boolean isActive() {
-    return get(activeProp);
+    return get(ACTIVE_PROP);
   }
 
   /**
@@ -78,7 +78,7 @@ public final class Tab extends ElementCompositeContainer
    * @return this component
    */
   public Tab setActive(boolean active) {
-    set(activeProp, active);
+    set(ACTIVE_PROP, active);
     return this;
   }
 
@@ -88,7 +88,7 @@ public final class Tab extends ElementCompositeContainer
    * @return {@code true} if the tab is closable
    */
   public boolean isClosable() {
-    return get(closableProp);
+    return get(CLOSABLE_PROP);
   }
 
   /**
@@ -98,7 +98,7 @@ public final class Tab extends ElementCompositeContainer
    * @return this component
    */
   public Tab setClosable(boolean closable) {
-    set(closableProp, closable);
+    set(CLOSABLE_PROP, closable);
     return this;
   }
 
@@ -108,7 +108,7 @@ public final class Tab extends ElementCompositeContainer
    * @return {@code true} if the tab is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -118,7 +118,7 @@ public final class Tab extends ElementCompositeContainer
    * @return this component
    */
   public Tab setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
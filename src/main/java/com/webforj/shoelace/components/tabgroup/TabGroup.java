@@ -2,7 +2,7 @@ package com.webforj.shoelace.components.tabgroup;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
+import com.webforj.component.element.ElementEventOptions;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,8 +11,16 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.tabgroup.event.TabHideEvent;
 import com.webforj.shoelace.components.tabgroup.event.TabShowEvent;
+import com.webforj.shoelace.components.tabpanel.TabPanel;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Shoelace TabGroup component ({@code <sl-tab-group>}).
@@ -24,20 +32,54 @@ import com.webforj.shoelace.components.tabgroup.event.TabShowEvent;
  * @see <a href="https://shoelace.style/components/tab-group">Shoelace Tab Group</a>
  */
 @NodeName("sl-tab-group")
-public final class TabGroup extends ElementCompositeContainer
+public final class TabGroup extends ShoelaceCompositeContainer
     implements HasElementClickListener<TabGroup>, HasClassName<TabGroup>, HasStyle<TabGroup>, HasVisibility<TabGroup> {
 
   private static final String NAV_SLOT = "nav";
+  private static final AtomicLong UNLOAD_COUNTER = new AtomicLong();
 
-  private final PropertyDescriptor<Placement> placementProp =
+  // Hiding a lazy panel starts a timer in the browser, restarted by every further hide of the
+  // same panel. When it runs out and the panel is still hidden, a synthetic hide event marked
+  // with wfsUnload, which only the unload listener accepts, is dispatched.
+  private static final String UNLOAD_FILTER = """
+      (() => {
+        if (!event.target.isSameNode(component)) {
+          return false;
+        }
+        const key = %s;
+        if (event.detail && event.detail.wfsUnload) {
+          return event.detail.wfsUnload === key;
+        }
+        const name = event.detail.name;
+        const timers = component.__slUnloadTimers || (component.__slUnloadTimers = {});
+        clearTimeout(timers[name]);
+        timers[name] = setTimeout(() => {
+          delete timers[name];
+          const panel = [...component.querySelectorAll(':scope > sl-tab-panel')]
+            .find(p => p.name === name);
+          if (panel && !panel.active) {
+            const detail = { name, wfsUnload: key };
+            component.dispatchEvent(new CustomEvent(event.type, { detail }));
+          }
+        }, %d);
+        return false;
+      })()
+      """;
+
+  private static final PropertyDescriptor<Placement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", Placement.TOP);
-  private final PropertyDescriptor<Activation> activationProp =
+  private static final PropertyDescriptor<Activation> ACTIVATION_PROP =
       PropertyDescriptor.property("activation", Activation.AUTO);
-  private final PropertyDescriptor<Boolean> noScrollControlsProp =
+  private static final PropertyDescriptor<Boolean> NO_SCROLL_CONTROLS_PROP =
       PropertyDescriptor.property("noScrollControls", false);
-  private final PropertyDescriptor<Boolean> fixedScrollControlsProp =
+  private static final PropertyDescriptor<Boolean> FIXED_SCROLL_CONTROLS_PROP =
       PropertyDescriptor.property("fixedScrollControls", false);
 
+  private final List<TabPanel> lazyPanels = new ArrayList<>();
+  private ListenerRegistration<TabShowEvent<TabGroup>> lazyShowRegistration;
+  private ListenerRegistration<TabHideEvent<TabGroup>> unloadRegistration;
+  private Duration unloadDelay;
+
   /**
    * Creates a new TabGroup.
    */
@@ -51,7 +93,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return the placement
    */
   public Placement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -61,7 +103,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return this component
    */
   public TabGroup setPlacement(Placement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -71,7 +113,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return the activation mode
    */
   public Activation getActivation() {
-    return get(activationProp);
+    return get(ACTIVATION_PROP);
   }
 
   /**
@@ -83,7 +125,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return this component
    */
   public TabGroup setActivation(Activation activation) {
-    set(activationProp, activation);
+    set(ACTIVATION_PROP, activation);
     return this;
   }
 
@@ -93,7 +135,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return {@code true} if scroll controls are hidden
    */
   public boolean isNoScrollControls() {
-    return get(noScrollControlsProp);
+    return get(NO_SCROLL_CONTROLS_PROP);
   }
 
   /**
@@ -103,7 +145,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return this component
    */
   public TabGroup setNoScrollControls(boolean noScrollControls) {
-    set(noScrollControlsProp, noScrollControls);
+    set(NO_SCROLL_CONTROLS_PROP, noScrollControls);
     return this;
   }
 
@@ -113,7 +155,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return {@code true} if scroll controls are fixed
    */
   public boolean isFixedScrollControls() {
-    return get(fixedScrollControlsProp);
+    return get(FIXED_SCROLL_CONTROLS_PROP);
   }
 
   /**
@@ -123,7 +165,7 @@ public final class TabGroup extends ElementCompositeContainer
    * @return this component
    */
   public TabGroup setFixedScrollControls(boolean fixedScrollControls) {
-    set(fixedScrollControlsProp, fixedScrollControls);
+    set(FIXED_SCROLL_CONTROLS_PROP, fixedScrollControls);
     return this;
   }
 
@@ -145,7 +187,94 @@ public final class TabGroup extends ElementCompositeContainer
    * @param panel the name of the panel to show
    */
   public void show(String panel) {
-    getOriginalElement().callJsFunctionVoidAsync("show", panel);
+    loadLazyPanel(panel);
+    ShoelaceMetrics.call(this, getOriginalElement(), "show", panel);
+  }
+
+  /**
+   * Adds components to the default slot. Tab panels with {@linkplain TabPanel#setLazyContent lazy
+   * content} create it the first time they are shown. The first lazy panel added is loaded right
+   * away, since the tab group shows its first panel initially. If the group starts on a different
+   * panel, call {@link TabPanel#load()} on that panel.
+   *
+   * @param components the components to add
+   * @see #setUnloadDelay(Duration)
+   */
+  @Override
+  public void add(Component... components) {
+    for (Component component : components) {
+      if (component instanceof TabPanel panel && panel.isLazy()) {
+        addLazy(panel);
+      }
+    }
+    super.add(components);
+  }
+
+  @Override
+  public void remove(Component... components) {
+    for (Component component : components) {
+      lazyPanels.remove(component);
+    }
+    super.remove(components);
+  }
+
+  @Override
+  public void removeAll() {
+    lazyPanels.clear();
+    super.removeAll();
+  }
+
+  /**
+   * Adds a tab panel whose content is created the first time the panel is shown.
+   *
+   * @param name the panel name, matching the {@code panel} of its tab
+   * @param content creates the panel's content
+   * @return the added panel
+   * @see #add(Component...)
+   */
+  public TabPanel addLazyPanel(String name, Supplier<? extends Component> content) {
+    TabPanel panel = new TabPanel(name).setLazyContent(content);
+    add(panel);
+    return panel;
+  }
+
+  /**
+   * Sets how long a lazy panel stays hidden before its content is destroyed. The content is
+   * created again when the panel is shown the next time.
+   *
+   * @param unloadDelay the delay, or {@code null} to keep the content of lazy panels once loaded
+   * @return this component
+   */
+  public TabGroup setUnloadDelay(Duration unloadDelay) {
+    if (unloadRegistration != null) {
+      unloadRegistration.remove();
+      unloadRegistration = null;
+    }
+
+    this.unloadDelay = unloadDelay;
+    if (unloadDelay != null) {
+      long millis = Math.max(0, Math.min(Integer.MAX_VALUE, unloadDelay.toMillis()));
+      ElementEventOptions options = new ElementEventOptions();
+      options.setFilter(UNLOAD_FILTER.formatted(
+          "\"tu" + UNLOAD_COUNTER.incrementAndGet() + "\"", millis));
+      EventListener<TabHideEvent<TabGroup>> listener = event -> {
+        TabPanel panel = findLazyPanel(event.getName());
+        if (panel != null) {
+          panel.unload();
+        }
+      };
+      unloadRegistration = addEventListener(TabHideEvent.class, listener, options);
+    }
+    return this;
+  }
+
+  /**
+   * Gets how long a lazy panel stays hidden before its content is destroyed.
+   *
+   * @return the delay, or {@code null} if the content is kept
+   */
+  public Duration getUnloadDelay() {
+    return unloadDelay;
   }
 
   /**
@@ -190,6 +319,37 @@ public final class TabGroup extends ElementCompositeContainer
     return addTabHideListener(listener);
   }
 
+  private void addLazy(TabPanel panel) {
+    if (lazyPanels.contains(panel)) {
+      return;
+    }
+    if (lazyPanels.isEmpty()) {
+      panel.load();
+    }
+    lazyPanels.add(panel);
+
+    if (lazyShowRegistration == null) {
+      lazyShowRegistration = addTabShowListener(event -> loadLazyPanel(event.getName()));
+    }
+  }
+
+  private void loadLazyPanel(String name) {
+    TabPanel panel = findLazyPanel(name);
+    if (panel != null) {
+      panel.load();
+    }
+  }
+
+  private TabPanel findLazyPanel(String name) {
+    lazyPanels.removeIf(TabPanel::isDestroyed);
+    for (TabPanel panel : lazyPanels) {
+      if (panel.getName().equals(name)) {
+        return panel;
+      }
+    }
+    return null;
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -14,7 +14,7 @@ import java.util.Map;
  */
 @EventName("sl-tab-hide")
 @EventOptions(
-    filter = "event.target.isSameNode(component)",
+    filter = "event.target.isSameNode(component) && !(event.detail && event.detail.wfsUnload)",
     data = {@EventData(key = "name", exp = "event.detail.name")})
 public class TabHideEvent<T extends ElementComposite> extends ComponentEvent<T> {
 
@@ -1,13 +1,16 @@
 package com.webforj.shoelace.components.tabpanel;
 
+import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
+import com.webforj.shoelace.components.LazyContent;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
+import java.util.function.Supplier;
 
 /**
  * Shoelace TabPanel component ({@code <sl-tab-panel>}).
@@ -19,14 +22,16 @@ import com.webforj.concern.HasVisibility;
  * @see <a href="https://shoelace.style/components/tab-panel">Shoelace Tab Panel</a>
  */
 @NodeName("sl-tab-panel")
-public final class TabPanel extends ElementCompositeContainer
+public final class TabPanel extends ShoelaceCompositeContainer
     implements HasElementClickListener<TabPanel>, HasClassName<TabPanel>, HasStyle<TabPanel>, HasVisibility<TabPanel> {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<Boolean> activeProp =
+  private static final PropertyDescriptor<Boolean> ACTIVE_PROP =
       PropertyDescriptor.property("active", false);
 
+  private final LazyContent lazyContent = new LazyContent(content -> add(content));
+
   /**
    * Creates a new TabPanel.
    */
@@ -50,7 +55,7 @@ public final class TabPanel extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -61,7 +66,7 @@ public final class TabPanel extends ElementCompositeContainer
    * @return this component
    */
   public TabPanel setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -71,7 +76,7 @@ public final class TabPanel extends ElementCompositeContainer
    * @return {@code true} if the tab panel is active
    */
   public boolean isActive() {
-    return get(activeProp);
+    return get(ACTIVE_PROP);
   }
 
   /**
@@ -81,10 +86,59 @@ public final class TabPanel extends ElementCompositeContainer
    * @return this component
    */
   public TabPanel setActive(boolean active) {
-    set(activeProp, active);
+    set(ACTIVE_PROP, active);
     return this;
   }
 
+  /**
+   * Sets a supplier that creates the panel's content on demand instead of up front. The content
+   * is created by {@link #load()}, which a
+   * {@link com.webforj.shoelace.components.tabgroup.TabGroup} calls when the panel is first
+   * shown, and destroyed by {@link #unload()}. Set the supplier before the panel is added to the
+   * group, which only tracks panels that are lazy when they are added.
+   *
+   * @param contentSupplier creates the panel's content
+   * @return this component
+   * @see com.webforj.shoelace.components.tabgroup.TabGroup#add(Component...)
+   */
+  public TabPanel setLazyContent(Supplier<? extends Component> contentSupplier) {
+    lazyContent.setSupplier(contentSupplier);
+    return this;
+  }
+
+  /**
+   * Checks whether the panel's content is created on demand.
+   *
+   * @return {@code true} if a content supplier is set
+   */
+  public boolean isLazy() {
+    return lazyContent.isLazy();
+  }
+
+  /**
+   * Checks whether the lazily created content currently exists.
+   *
+   * @return {@code true} if the content has been loaded and not unloaded since
+   */
+  public boolean isLoaded() {
+    return lazyContent.isLoaded();
+  }
+
+  /**
+   * Creates the panel's content from its supplier, unless it is loaded already. Does nothing if
+   * the panel has no content supplier.
+   */
+  public void load() {
+    lazyContent.load();
+  }
+
+  /**
+   * Destroys the lazily created content. It is created again by the next {@link #load()}.
+   */
+  public void unload() {
+    lazyContent.unload();
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.tag;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,6 +10,7 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.tag.event.RemoveEvent;
 
 /**
@@ -22,16 +22,16 @@ import com.webforj.shoelace.components.tag.event.RemoveEvent;
  * @see <a href="https://shoelace.style/components/tag">Shoelace Tag</a>
  */
 @NodeName("sl-tag")
-public final class Tag extends ElementCompositeContainer
+public final class Tag extends ShoelaceCompositeContainer
     implements HasElementClickListener<Tag>, HasClassName<Tag>, HasStyle<Tag>, HasVisibility<Tag> {
 
-  private final PropertyDescriptor<TagVariant> variantProp =
+  private static final PropertyDescriptor<TagVariant> VARIANT_PROP =
       PropertyDescriptor.property("variant", TagVariant.NEUTRAL);
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> pillProp =
+  private static final PropertyDescriptor<Boolean> PILL_PROP =
       PropertyDescriptor.property("pill", false);
-  private final PropertyDescriptor<Boolean> removableProp =
+  private static final PropertyDescriptor<Boolean> REMOVABLE_PROP =
       PropertyDescriptor.property("removable", false);
 
   /**
@@ -47,7 +47,7 @@ public final class Tag extends ElementCompositeContainer
    * @return the variant
    */
   public TagVariant getVariant() {
-    return get(variantProp);
+    return get(VARIANT_PROP);
   }
 
   /**
@@ -57,7 +57,7 @@ public final class Tag extends ElementCompositeContainer
    * @return this component
    */
   public Tag setVariant(TagVariant variant) {
-    set(variantProp, variant);
+    set(VARIANT_PROP, variant);
     return this;
   }
 
@@ -67,7 +67,7 @@ public final class Tag extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -77,7 +77,7 @@ public final class Tag extends ElementCompositeContainer
    * @return this component
    */
   public Tag setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -87,7 +87,7 @@ public final class Tag extends ElementCompositeContainer
    * @return {@code true} if the tag is pill-style
    */
   public boolean isPill() {
-    return get(pillProp);
+    return get(PILL_PROP);
   }
 
   /**
@@ -97,7 +97,7 @@ public final class Tag extends ElementCompositeContainer
    * @return this component
    */
   public Tag setPill(boolean pill) {
-    set(pillProp, pill);
+    set(PILL_PROP, pill);
     return this;
   }
 
@@ -107,7 +107,7 @@ public final class Tag extends ElementCompositeContainer
    * @return {@code true} if the tag shows a remove button
    */
   public boolean isRemovable() {
-    return get(removableProp);
+    return get(REMOVABLE_PROP);
   }
 
   /**
@@ -117,7 +117,7 @@ public final class Tag extends ElementCompositeContainer
    * @return this component
    */
   public Tag setRemovable(boolean removable) {
-    set(removableProp, removable);
+    set(REMOVABLE_PROP, removable);
     return this;
   }
 
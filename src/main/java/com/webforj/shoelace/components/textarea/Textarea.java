@@ -1,7 +1,8 @@
 package com.webforj.shoelace.components.textarea;
 
+import com.webforj.PendingResult;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
+import com.webforj.component.element.ElementEventOptions;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,11 +12,16 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Size;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.BlurEvent;
 import com.webforj.shoelace.event.ChangeEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.event.RateLimit;
+import com.webforj.shoelace.form.HasValidity;
+import com.webforj.shoelace.form.ValidityKeys;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Textarea component ({@code <sl-textarea>}).
@@ -25,48 +31,49 @@ import com.webforj.shoelace.event.InvalidEvent;
  * @see <a href="https://shoelace.style/components/textarea">Shoelace Textarea</a>
  */
 @NodeName("sl-textarea")
-public final class Textarea extends ElementCompositeContainer
-    implements HasElementClickListener<Textarea>, HasClassName<Textarea>, HasStyle<Textarea>, HasVisibility<Textarea> {
+public final class Textarea extends ShoelaceCompositeContainer
+    implements HasElementClickListener<Textarea>, HasClassName<Textarea>, HasStyle<Textarea>, HasVisibility<Textarea>,
+    HasValidity {
 
-  private final PropertyDescriptor<String> nameProp =
+  private static final PropertyDescriptor<String> NAME_PROP =
       PropertyDescriptor.property("name", "");
-  private final PropertyDescriptor<String> valueProp =
+  private static final PropertyDescriptor<String> VALUE_PROP =
       PropertyDescriptor.property("value", "");
-  private final PropertyDescriptor<Size> sizeProp =
+  private static final PropertyDescriptor<Size> SIZE_PROP =
       PropertyDescriptor.property("size", Size.MEDIUM);
-  private final PropertyDescriptor<Boolean> filledProp =
+  private static final PropertyDescriptor<Boolean> FILLED_PROP =
       PropertyDescriptor.property("filled", false);
-  private final PropertyDescriptor<String> labelProp =
+  private static final PropertyDescriptor<String> LABEL_PROP =
       PropertyDescriptor.property("label", "");
-  private final PropertyDescriptor<String> helpTextProp =
+  private static final PropertyDescriptor<String> HELP_TEXT_PROP =
       PropertyDescriptor.property("helpText", "");
-  private final PropertyDescriptor<String> placeholderProp =
+  private static final PropertyDescriptor<String> PLACEHOLDER_PROP =
       PropertyDescriptor.property("placeholder", "");
-  private final PropertyDescriptor<Integer> rowsProp =
+  private static final PropertyDescriptor<Integer> ROWS_PROP =
       PropertyDescriptor.property("rows", 4);
-  private final PropertyDescriptor<Resize> resizeProp =
+  private static final PropertyDescriptor<Resize> RESIZE_PROP =
       PropertyDescriptor.property("resize", Resize.VERTICAL);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> readonlyProp =
+  private static final PropertyDescriptor<Boolean> READONLY_PROP =
       PropertyDescriptor.property("readonly", false);
-  private final PropertyDescriptor<String> formProp =
+  private static final PropertyDescriptor<String> FORM_PROP =
       PropertyDescriptor.property("form", "");
-  private final PropertyDescriptor<Boolean> requiredProp =
+  private static final PropertyDescriptor<Boolean> REQUIRED_PROP =
       PropertyDescriptor.property("required", false);
-  private final PropertyDescriptor<Integer> minlengthProp =
+  private static final PropertyDescriptor<Integer> MINLENGTH_PROP =
       PropertyDescriptor.property("minlength", 0);
-  private final PropertyDescriptor<Integer> maxlengthProp =
+  private static final PropertyDescriptor<Integer> MAXLENGTH_PROP =
       PropertyDescriptor.property("maxlength", 0);
-  private final PropertyDescriptor<String> autocompleteProp =
+  private static final PropertyDescriptor<String> AUTOCOMPLETE_PROP =
       PropertyDescriptor.property("autocomplete", "");
-  private final PropertyDescriptor<Boolean> autofocusProp =
+  private static final PropertyDescriptor<Boolean> AUTOFOCUS_PROP =
       PropertyDescriptor.property("autofocus", false);
-  private final PropertyDescriptor<Boolean> spellcheckProp =
+  private static final PropertyDescriptor<Boolean> SPELLCHECK_PROP =
       PropertyDescriptor.property("spellcheck", false);
-  private final PropertyDescriptor<String> enterkeyhintProp =
+  private static final PropertyDescriptor<String> ENTERKEYHINT_PROP =
       PropertyDescriptor.property("enterkeyhint", "");
-  private final PropertyDescriptor<String> inputmodeProp =
+  private static final PropertyDescriptor<String> INPUTMODE_PROP =
       PropertyDescriptor.property("inputmode", "");
 
   /**
@@ -74,6 +81,7 @@ public final class Textarea extends ElementCompositeContainer
    */
   public Textarea() {
     super();
+    ValidityKeys.register(this, getOriginalElement());
   }
 
   /**
@@ -82,7 +90,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the name
    */
   public String getName() {
-    return get(nameProp);
+    return get(NAME_PROP);
   }
 
   /**
@@ -92,7 +100,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setName(String name) {
-    set(nameProp, name);
+    set(NAME_PROP, name);
     return this;
   }
 
@@ -102,7 +110,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the value
    */
   public String getValue() {
-    return get(valueProp);
+    return get(VALUE_PROP);
   }
 
   /**
@@ -112,7 +120,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setValue(String value) {
-    set(valueProp, value);
+    set(VALUE_PROP, value);
     return this;
   }
 
@@ -122,7 +130,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the size
    */
   public Size getSize() {
-    return get(sizeProp);
+    return get(SIZE_PROP);
   }
 
   /**
@@ -132,7 +140,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setSize(Size size) {
-    set(sizeProp, size);
+    set(SIZE_PROP, size);
     return this;
   }
 
@@ -142,7 +150,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if the textarea is filled
    */
   public boolean isFilled() {
-    return get(filledProp);
+    return get(FILLED_PROP);
   }
 
   /**
@@ -152,7 +160,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setFilled(boolean filled) {
-    set(filledProp, filled);
+    set(FILLED_PROP, filled);
     return this;
   }
 
@@ -162,7 +170,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the label
    */
   public String getLabel() {
-    return get(labelProp);
+    return get(LABEL_PROP);
   }
 
   /**
@@ -172,7 +180,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setLabel(String label) {
-    set(labelProp, label);
+    set(LABEL_PROP, label);
     return this;
   }
 
@@ -182,7 +190,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the help text
    */
   public String getHelpText() {
-    return get(helpTextProp);
+    return get(HELP_TEXT_PROP);
   }
 
   /**
@@ -192,7 +200,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setHelpText(String helpText) {
-    set(helpTextProp, helpText);
+    set(HELP_TEXT_PROP, helpText);
     return this;
   }
 
@@ -202,7 +210,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the placeholder text
    */
   public String getPlaceholder() {
-    return get(placeholderProp);
+    return get(PLACEHOLDER_PROP);
   }
 
   /**
@@ -212,7 +220,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setPlaceholder(String placeholder) {
-    set(placeholderProp, placeholder);
+    set(PLACEHOLDER_PROP, placeholder);
     return this;
   }
 
@@ -222,7 +230,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the number of rows
    */
   public int getRows() {
-    return get(rowsProp);
+    return get(ROWS_PROP);
   }
 
   /**
@@ -232,7 +240,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setRows(int rows) {
-    set(rowsProp, rows);
+    set(ROWS_PROP, rows);
     return this;
   }
 
@@ -242,7 +250,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the resize mode
    */
   public Resize getResize() {
-    return get(resizeProp);
+    return get(RESIZE_PROP);
   }
 
   /**
@@ -252,7 +260,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setResize(Resize resize) {
-    set(resizeProp, resize);
+    set(RESIZE_PROP, resize);
     return this;
   }
 
@@ -262,7 +270,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if the textarea is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -272,7 +280,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -282,7 +290,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if the textarea is readonly
    */
   public boolean isReadonly() {
-    return get(readonlyProp);
+    return get(READONLY_PROP);
   }
 
   /**
@@ -292,7 +300,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setReadonly(boolean readonly) {
-    set(readonlyProp, readonly);
+    set(READONLY_PROP, readonly);
     return this;
   }
 
@@ -302,7 +310,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the form ID
    */
   public String getForm() {
-    return get(formProp);
+    return get(FORM_PROP);
   }
 
   /**
@@ -313,7 +321,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setForm(String form) {
-    set(formProp, form);
+    set(FORM_PROP, form);
     return this;
   }
 
@@ -323,7 +331,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if the textarea is required
    */
   public boolean isRequired() {
-    return get(requiredProp);
+    return get(REQUIRED_PROP);
   }
 
   /**
@@ -333,7 +341,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setRequired(boolean required) {
-    set(requiredProp, required);
+    set(REQUIRED_PROP, required);
     return this;
   }
 
@@ -343,7 +351,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the minimum length
    */
   public int getMinlength() {
-    return get(minlengthProp);
+    return get(MINLENGTH_PROP);
   }
 
   /**
@@ -353,7 +361,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setMinlength(int minlength) {
-    set(minlengthProp, minlength);
+    set(MINLENGTH_PROP, minlength);
     return this;
   }
 
@@ -363,7 +371,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the maximum length
    */
   public int getMaxlength() {
-    return get(maxlengthProp);
+    return get(MAXLENGTH_PROP);
   }
 
   /**
@@ -373,7 +381,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setMaxlength(int maxlength) {
-    set(maxlengthProp, maxlength);
+    set(MAXLENGTH_PROP, maxlength);
     return this;
   }
 
@@ -383,7 +391,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the autocomplete value
    */
   public String getAutocomplete() {
-    return get(autocompleteProp);
+    return get(AUTOCOMPLETE_PROP);
   }
 
   /**
@@ -393,7 +401,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setAutocomplete(String autocomplete) {
-    set(autocompleteProp, autocomplete);
+    set(AUTOCOMPLETE_PROP, autocomplete);
     return this;
   }
 
@@ -403,7 +411,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if autofocus is enabled
    */
   public boolean isAutofocus() {
-    return get(autofocusProp);
+    return get(AUTOFOCUS_PROP);
   }
 
   /**
@@ -413,7 +421,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setAutofocus(boolean autofocus) {
-    set(autofocusProp, autofocus);
+    set(AUTOFOCUS_PROP, autofocus);
     return this;
   }
 
@@ -423,7 +431,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return true if spell checking is enabled
    */
   public boolean isSpellcheck() {
-    return get(spellcheckProp);
+    return get(SPELLCHECK_PROP);
   }
 
   /**
@@ -433,7 +441,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setSpellcheck(boolean spellcheck) {
-    set(spellcheckProp, spellcheck);
+    set(SPELLCHECK_PROP, spellcheck);
     return this;
   }
 
@@ -444,7 +452,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the enter key hint
    */
   public String getEnterkeyhint() {
-    return get(enterkeyhintProp);
+    return get(ENTERKEYHINT_PROP);
   }
 
   /**
@@ -455,7 +463,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setEnterkeyhint(String enterkeyhint) {
-    set(enterkeyhintProp, enterkeyhint);
+    set(ENTERKEYHINT_PROP, enterkeyhint);
     return this;
   }
 
@@ -465,7 +473,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return the input mode
    */
   public String getInputmode() {
-    return get(inputmodeProp);
+    return get(INPUTMODE_PROP);
   }
 
   /**
@@ -476,7 +484,7 @@ public final class Textarea extends ElementCompositeContainer
    * @return this component
    */
   public Textarea setInputmode(String inputmode) {
-    set(inputmodeProp, inputmode);
+    set(INPUTMODE_PROP, inputmode);
     return this;
   }
 
@@ -484,36 +492,54 @@ public final class Textarea extends ElementCompositeContainer
    * Sets focus on the textarea.
    */
   public void focus() {
-    getOriginalElement().callJsFunctionVoidAsync("focus");
+    ShoelaceMetrics.call(this, getOriginalElement(), "focus");
   }
 
   /**
    * Removes focus from the textarea.
    */
   public void blur() {
-    getOriginalElement().callJsFunctionVoidAsync("blur");
+    ShoelaceMetrics.call(this, getOriginalElement(), "blur");
   }
 
   /**
    * Selects all the text in the textarea.
    */
   public void select() {
-    getOriginalElement().callJsFunctionVoidAsync("select");
+    ShoelaceMetrics.call(this, getOriginalElement(), "select");
   }
 
   /**
-   * Checks for validity but does not show a validation message. Returns {@code true} when valid
-   * and {@code false} when invalid.
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  @Override
+  public PendingResult<Boolean> checkValidity() {
+    return ShoelaceMetrics.callAsync(this, getOriginalElement(), "checkValidity")
+        .thenApply(Boolean.TRUE::equals);
+  }
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
    */
-  public void checkValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("checkValidity");
+  @Override
+  public PendingResult<String> getValidationMessage() {
+    return ShoelaceMetrics.executeAsync(this, getOriginalElement(), "validationMessage",
+        "component.validationMessage")
+        .thenApply(message -> message == null ? "" : String.valueOf(message));
   }
 
   /**
    * Checks for validity and shows the browser's validation message if the control is invalid.
    */
+  @Override
   public void reportValidity() {
-    getOriginalElement().callJsFunctionVoidAsync("reportValidity");
+    ShoelaceMetrics.call(this, getOriginalElement(), "reportValidity");
   }
 
   /**
@@ -521,8 +547,9 @@ public final class Textarea extends ElementCompositeContainer
    *
    * @param message the custom validation message
    */
+  @Override
   public void setCustomValidity(String message) {
-    getOriginalElement().callJsFunctionVoidAsync("setCustomValidity", message);
+    ShoelaceMetrics.call(this, getOriginalElement(), "setCustomValidity", message);
   }
 
   /**
@@ -609,6 +636,34 @@ public final class Textarea extends ElementCompositeContainer
     return addInputListener(listener);
   }
 
+  /**
+   * Adds a listener for the input event whose delivery is debounced or throttled in the browser.
+   * The last event of a burst is always delivered and carries the latest value, available from
+   * {@link InputEvent#getValue()}.
+   *
+   * @param listener the event listener
+   * @param rateLimit how often the listener may receive events
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<InputEvent<Textarea>> addInputListener(
+      EventListener<InputEvent<Textarea>> listener, RateLimit rateLimit) {
+    return rateLimit.addListener(listener, ElementEventOptions::new,
+        (limited, options) -> addEventListener(InputEvent.class, limited, options));
+  }
+
+  /**
+   * Adds a listener for the input event whose delivery is debounced or throttled in the browser.
+   *
+   * @param listener the event listener
+   * @param rateLimit how often the listener may receive events
+   * @return a registration for removing the listener
+   * @see #addInputListener(EventListener, RateLimit)
+   */
+  public ListenerRegistration<InputEvent<Textarea>> onInput(EventListener<InputEvent<Textarea>> listener,
+      RateLimit rateLimit) {
+    return addInputListener(listener, rateLimit);
+  }
+
   /**
    * Adds a listener for the invalid event, fired when the form control has been checked for
    * validity and its constraints are not satisfied.
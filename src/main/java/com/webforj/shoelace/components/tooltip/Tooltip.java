@@ -1,7 +1,6 @@
 package com.webforj.shoelace.components.tooltip;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,10 +10,12 @@ import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.shoelace.Placement;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
 
 /**
  * Shoelace Tooltip component ({@code <sl-tooltip>}).
@@ -25,24 +26,24 @@ import com.webforj.shoelace.event.ShowEvent;
  * @see <a href="https://shoelace.style/components/tooltip">Shoelace Tooltip</a>
  */
 @NodeName("sl-tooltip")
-public final class Tooltip extends ElementCompositeContainer
+public final class Tooltip extends ShoelaceCompositeContainer
     implements HasElementClickListener<Tooltip>, HasClassName<Tooltip>, HasStyle<Tooltip>, HasVisibility<Tooltip> {
 
-  private final PropertyDescriptor<String> contentProp =
+  private static final PropertyDescriptor<String> CONTENT_PROP =
       PropertyDescriptor.property("content", "");
-  private final PropertyDescriptor<Placement> placementProp =
+  private static final PropertyDescriptor<Placement> PLACEMENT_PROP =
       PropertyDescriptor.property("placement", Placement.TOP);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Integer> distanceProp =
+  private static final PropertyDescriptor<Integer> DISTANCE_PROP =
       PropertyDescriptor.property("distance", 8);
-  private final PropertyDescriptor<Boolean> openProp =
+  private static final PropertyDescriptor<Boolean> OPEN_PROP =
       PropertyDescriptor.property("open", false);
-  private final PropertyDescriptor<Integer> skiddingProp =
+  private static final PropertyDescriptor<Integer> SKIDDING_PROP =
       PropertyDescriptor.property("skidding", 0);
-  private final PropertyDescriptor<String> triggerProp =
+  private static final PropertyDescriptor<String> TRIGGER_PROP =
       PropertyDescriptor.property("trigger", "hover focus");
-  private final PropertyDescriptor<Boolean> hoistProp =
+  private static final PropertyDescriptor<Boolean> HOIST_PROP =
       PropertyDescriptor.property("hoist", false);
 
   /**
@@ -68,7 +69,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return the content text
    */
   public String getContent() {
-    return get(contentProp);
+    return get(CONTENT_PROP);
   }
 
   /**
@@ -78,7 +79,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setContent(String content) {
-    set(contentProp, content);
+    set(CONTENT_PROP, content);
     return this;
   }
 
@@ -88,7 +89,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return the placement
    */
   public Placement getPlacement() {
-    return get(placementProp);
+    return get(PLACEMENT_PROP);
   }
 
   /**
@@ -99,7 +100,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setPlacement(Placement placement) {
-    set(placementProp, placement);
+    set(PLACEMENT_PROP, placement);
     return this;
   }
 
@@ -109,7 +110,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return {@code true} if the tooltip is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -119,7 +120,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -129,7 +130,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return the distance in pixels
    */
   public int getDistance() {
-    return get(distanceProp);
+    return get(DISTANCE_PROP);
   }
 
   /**
@@ -139,7 +140,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setDistance(int distance) {
-    set(distanceProp, distance);
+    set(DISTANCE_PROP, distance);
     return this;
   }
 
@@ -149,7 +150,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return {@code true} if the tooltip is open
    */
   public boolean isOpen() {
-    return get(openProp);
+    return get(OPEN_PROP);
   }
 
   /**
@@ -160,7 +161,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setOpen(boolean open) {
-    set(openProp, open);
+    set(OPEN_PROP, open);
     return this;
   }
 
@@ -170,7 +171,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return the skidding in pixels
    */
   public int getSkidding() {
-    return get(skiddingProp);
+    return get(SKIDDING_PROP);
   }
 
   /**
@@ -180,7 +181,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setSkidding(int skidding) {
-    set(skiddingProp, skidding);
+    set(SKIDDING_PROP, skidding);
     return this;
   }
 
@@ -190,7 +191,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return the trigger mode
    */
   public String getTrigger() {
-    return get(triggerProp);
+    return get(TRIGGER_PROP);
   }
 
   /**
@@ -202,7 +203,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setTrigger(String trigger) {
-    set(triggerProp, trigger);
+    set(TRIGGER_PROP, trigger);
     return this;
   }
 
@@ -212,7 +213,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return {@code true} if hoisting is enabled
    */
   public boolean isHoist() {
-    return get(hoistProp);
+    return get(HOIST_PROP);
   }
 
   /**
@@ -225,7 +226,7 @@ public final class Tooltip extends ElementCompositeContainer
    * @return this component
    */
   public Tooltip setHoist(boolean hoist) {
-    set(hoistProp, hoist);
+    set(HOIST_PROP, hoist);
     return this;
   }
 
@@ -266,14 +267,14 @@ public final class Tooltip extends ElementCompositeContainer
    * Shows the tooltip.
    */
   public void show() {
-    getOriginalElement().callJsFunctionVoidAsync("show");
+    ShoelaceMetrics.call(this, getOriginalElement(), "show");
   }
 
   /**
    * Hides the tooltip.
    */
   public void hide() {
-    getOriginalElement().callJsFunctionVoidAsync("hide");
+    ShoelaceMetrics.call(this, getOriginalElement(), "hide");
   }
 
   /**
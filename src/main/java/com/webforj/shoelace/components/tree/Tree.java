@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.tree;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,7 +10,11 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.tree.event.SelectionChangeEvent;
+import com.webforj.shoelace.components.treeitem.TreeItem;
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Shoelace Tree component ({@code <sl-tree>}).
@@ -22,15 +25,22 @@ import com.webforj.shoelace.components.tree.event.SelectionChangeEvent;
  * @see <a href="https://shoelace.style/components/tree">Shoelace Tree</a>
  */
 @NodeName("sl-tree")
-public final class Tree extends ElementCompositeContainer
+public final class Tree extends ShoelaceCompositeContainer
     implements HasElementClickListener<Tree>, HasClassName<Tree>, HasStyle<Tree>, HasVisibility<Tree> {
 
   private static final String EXPAND_ICON_SLOT = "expand-icon";
   private static final String COLLAPSE_ICON_SLOT = "collapse-icon";
 
-  private final PropertyDescriptor<Selection> selectionProp =
+  private static final PropertyDescriptor<Selection> SELECTION_PROP =
       PropertyDescriptor.property("selection", Selection.SINGLE);
 
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final Duration DEFAULT_EVICTION_DELAY = Duration.ofMinutes(2);
+
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private Duration evictionDelay = DEFAULT_EVICTION_DELAY;
+  private TreeLoader<?> loader;
+
   /**
    * Creates a new Tree.
    */
@@ -44,7 +54,7 @@ public final class Tree extends ElementCompositeContainer
    * @return the selection behavior
    */
   public Selection getSelection() {
-    return get(selectionProp);
+    return get(SELECTION_PROP);
   }
 
   /**
@@ -56,7 +66,127 @@ public final class Tree extends ElementCompositeContainer
    * @return this component
    */
   public Tree setSelection(Selection selection) {
-    set(selectionProp, selection);
+    set(SELECTION_PROP, selection);
+    return this;
+  }
+
+  /**
+   * Gets the data provider serving this tree's nodes.
+   *
+   * @return the data provider, or {@code null} when the tree is built from {@code TreeItem}
+   *         children
+   */
+  public TreeDataProvider<?> getDataProvider() {
+    return loader != null ? loader.getProvider() : null;
+  }
+
+  /**
+   * Sets a data provider that serves this tree's nodes on demand.
+   *
+   * <p>The root level is loaded right away. Every node with children is rendered as a lazy
+   * {@code TreeItem} whose children are fetched the first time it is expanded, in pages of
+   * {@link #setPageSize(int) page size}. When a node has more children than one page, a trailing
+   * "load more" item fetches the next page. Nodes that stay collapsed longer than the
+   * {@link #setEvictionDelay(Duration) eviction delay} drop their children from the component
+   * graph and load them again on the next expansion. Do not add {@code TreeItem} children to a
+   * tree that has a data provider.</p>
+   *
+   * @param provider the data provider, or {@code null} to leave data-provider mode
+   * @param labelProvider maps a data item to the text shown for its node
+   * @param <T> the type of the data items
+   * @return this component
+   */
+  public <T> Tree setDataProvider(TreeDataProvider<T> provider, Function<T, String> labelProvider) {
+    if (loader != null) {
+      loader.unload();
+      loader = null;
+    }
+
+    if (provider != null) {
+      TreeLoader<T> next = new TreeLoader<>(this, provider, labelProvider, pageSize, evictionDelay,
+          System::nanoTime);
+      next.load();
+      loader = next;
+    }
+
+    return this;
+  }
+
+  /**
+   * Gets the data item a node was built from in data-provider mode.
+   *
+   * @param item the tree item
+   * @return the data item, or {@code null} if the item was not created by the data provider or
+   *         has been evicted
+   */
+  public Object getDataItem(TreeItem item) {
+    return loader != null ? loader.getData(item) : null;
+  }
+
+  /**
+   * Discards every loaded node and loads the root level again. Call this after the provider's
+   * underlying data changes.
+   */
+  public void refreshData() {
+    if (loader != null) {
+      loader.load();
+    }
+  }
+
+  /**
+   * Gets the number of children fetched per page in data-provider mode.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Sets the number of children fetched per page in data-provider mode. Defaults to 100.
+   *
+   * @param pageSize the page size, at least 1
+   * @return this component
+   * @throws IllegalArgumentException if {@code pageSize} is less than 1
+   */
+  public Tree setPageSize(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be at least 1");
+    }
+
+    this.pageSize = pageSize;
+    if (loader != null) {
+      loader.setPageSize(pageSize);
+    }
+    return this;
+  }
+
+  /**
+   * Gets how long a collapsed node keeps its children in data-provider mode.
+   *
+   * @return the eviction delay, or {@code null} if eviction is disabled
+   */
+  public Duration getEvictionDelay() {
+    return evictionDelay;
+  }
+
+  /**
+   * Sets how long a node may stay collapsed before its children are removed from the component
+   * graph in data-provider mode. Defaults to two minutes.
+   *
+   * @param evictionDelay the eviction delay, or {@code null} to keep loaded children forever
+   * @return this component
+   * @throws IllegalArgumentException if {@code evictionDelay} is negative
+   */
+  public Tree setEvictionDelay(Duration evictionDelay) {
+    if (evictionDelay != null && evictionDelay.isNegative()) {
+      throw new IllegalArgumentException("Eviction delay must not be negative");
+    }
+
+    this.evictionDelay = evictionDelay;
+    if (loader != null) {
+      loader.setEvictionDelay(evictionDelay);
+    }
     return this;
   }
 
@@ -105,6 +235,14 @@ public final class Tree extends ElementCompositeContainer
     return addSelectionChangeListener(listener);
   }
 
+  @Override
+  protected void onDidDestroy() {
+    if (loader != null) {
+      loader.unload();
+      loader = null;
+    }
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
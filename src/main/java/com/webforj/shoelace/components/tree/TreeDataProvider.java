@@ -0,0 +1,44 @@
+package com.webforj.shoelace.components.tree;
+
+import java.util.List;
+
+/**
+ * Serves the nodes of a {@link Tree} level by level.
+ *
+ * <p>A tree with a data provider only creates {@code TreeItem} components for nodes the user has
+ * expanded. Children are fetched in pages when their parent is expanded for the first time.</p>
+ *
+ * @param <T> the type of the data items
+ * @see Tree#setDataProvider(TreeDataProvider, java.util.function.Function)
+ */
+public interface TreeDataProvider<T> {
+
+  /**
+   * Counts the children of the given item.
+   *
+   * @param parent the parent item, or {@code null} for the root level
+   * @return the number of children
+   */
+  int getChildCount(T parent);
+
+  /**
+   * Fetches a page of children of the given item.
+   *
+   * @param parent the parent item, or {@code null} for the root level
+   * @param offset the index of the first child to return
+   * @param limit the maximum number of children to return
+   * @return the children, at most {@code limit} of them
+   */
+  List<T> fetchChildren(T parent, int offset, int limit);
+
+  /**
+   * Checks whether the given item has children. Items without children are rendered as leaves
+   * and never trigger a fetch.
+   *
+   * @param item the item
+   * @return {@code true} if the item has children
+   */
+  default boolean hasChildren(T item) {
+    return getChildCount(item) > 0;
+  }
+}
@@ -0,0 +1,282 @@
+package com.webforj.shoelace.components.tree;
+
+import com.webforj.Environment;
+import com.webforj.Interval;
+import com.webforj.component.html.elements.Span;
+import com.webforj.shoelace.components.treeitem.TreeItem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Builds the items of a {@link Tree} from a {@link TreeDataProvider} on demand.
+ *
+ * <p>Every node with children starts as a lazy {@link TreeItem}. Its first page of children is
+ * fetched when the user expands it, and further pages are appended through a trailing "load
+ * more" item. Once a node has stayed collapsed for the eviction delay, its children are removed
+ * from the component graph and the node becomes lazy again, so the next expansion fetches them
+ * anew.</p>
+ *
+ * @param <T> the type of the data items
+ */
+final class TreeLoader<T> {
+
+  static final String LOAD_MORE_LABEL = "Load more…";
+  private static final long NOT_COLLAPSED = Long.MIN_VALUE;
+
+  private final Tree tree;
+  private final TreeDataProvider<T> provider;
+  private final Function<T, String> labelProvider;
+  private final LongSupplier clock;
+  private final Node<T> root = new Node<>(null, null);
+  private final Map<TreeItem, Node<T>> nodes = new IdentityHashMap<>();
+  private int pageSize;
+  private Duration evictionDelay;
+  private Interval sweeper;
+
+  TreeLoader(Tree tree, TreeDataProvider<T> provider, Function<T, String> labelProvider,
+      int pageSize, Duration evictionDelay, LongSupplier clock) {
+    this.tree = Objects.requireNonNull(tree);
+    this.provider = Objects.requireNonNull(provider);
+    this.labelProvider = Objects.requireNonNull(labelProvider);
+    this.pageSize = pageSize;
+    this.evictionDelay = evictionDelay;
+    this.clock = Objects.requireNonNull(clock);
+  }
+
+  TreeDataProvider<T> getProvider() {
+    return provider;
+  }
+
+  void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  void setEvictionDelay(Duration evictionDelay) {
+    this.evictionDelay = evictionDelay;
+    stopSweeper();
+    if (evictionDelay != null && hasPendingEvictions()) {
+      startSweeper();
+    }
+  }
+
+  T getData(TreeItem item) {
+    Node<T> node = nodes.get(item);
+    return node != null ? node.data : null;
+  }
+
+  Node<T> getRoot() {
+    return root;
+  }
+
+  Node<T> getNode(TreeItem item) {
+    return nodes.get(item);
+  }
+
+  int getMaterializedCount() {
+    return nodes.size();
+  }
+
+  void load() {
+    unloadChildren(root);
+    loadPage(root);
+  }
+
+  void unload() {
+    stopSweeper();
+    unloadChildren(root);
+  }
+
+  /**
+   * Evicts the children of every node that has stayed collapsed for at least the eviction delay.
+   *
+   * @return the number of nodes whose children were evicted
+   */
+  int sweep() {
+    if (evictionDelay == null) {
+      return 0;
+    }
+
+    long now = clock.getAsLong();
+    long delay = evictionDelay.toNanos();
+    List<Node<T>> expired = new ArrayList<>();
+    for (Node<T> node : nodes.values()) {
+      if (node.collapsedAt != NOT_COLLAPSED && now - node.collapsedAt >= delay) {
+        expired.add(node);
+      }
+    }
+
+    int evicted = 0;
+    for (Node<T> node : expired) {
+      // an ancestor evicted earlier in this pass has already dropped the node
+      if (nodes.get(node.component) == node) {
+        evict(node);
+        evicted++;
+      }
+    }
+
+    if (!hasPendingEvictions()) {
+      stopSweeper();
+    }
+
+    return evicted;
+  }
+
+  void onLazyLoad(Node<T> node) {
+    node.collapsedAt = NOT_COLLAPSED;
+    if (node.total < 0) {
+      loadPage(node);
+    }
+    node.component.setLazy(false);
+    sweep();
+  }
+
+  void onExpand(Node<T> node) {
+    node.collapsedAt = NOT_COLLAPSED;
+  }
+
+  void onCollapse(Node<T> node) {
+    if (node.total < 0 || evictionDelay == null) {
+      return;
+    }
+
+    node.collapsedAt = clock.getAsLong();
+    startSweeper();
+  }
+
+  void loadPage(Node<T> parent) {
+    if (parent.total < 0) {
+      parent.total = Math.max(0, provider.getChildCount(parent.data));
+    }
+
+    if (parent.more != null) {
+      remove(parent, parent.more);
+      parent.more = null;
+    }
+
+    int offset = parent.children.size();
+    int limit = Math.min(pageSize, parent.total - offset);
+    if (limit > 0) {
+      List<T> page = provider.fetchChildren(parent.data, offset, limit);
+      for (T data : page.size() > limit ? page.subList(0, limit) : page) {
+        Node<T> child = createNode(data);
+        parent.children.add(child);
+        add(parent, child.component);
+      }
+    }
+
+    if (parent.children.size() < parent.total) {
+      TreeItem more = new TreeItem();
+      more.add(new Span(LOAD_MORE_LABEL));
+      more.onClick(event -> loadPage(parent));
+      parent.more = more;
+      add(parent, more);
+    }
+  }
+
+  private Node<T> createNode(T data) {
+    TreeItem item = new TreeItem();
+    item.add(new Span(labelProvider.apply(data)));
+
+    Node<T> node = new Node<>(data, item);
+    nodes.put(item, node);
+
+    if (provider.hasChildren(data)) {
+      item.setLazy(true);
+      item.onLazyLoad(event -> onLazyLoad(node));
+      item.onExpand(event -> onExpand(node));
+      item.onCollapse(event -> onCollapse(node));
+    }
+
+    return node;
+  }
+
+  private void evict(Node<T> node) {
+    unloadChildren(node);
+    node.component.setLazy(true);
+  }
+
+  private void unloadChildren(Node<T> node) {
+    for (Node<T> child : node.children) {
+      forget(child);
+      remove(node, child.component);
+    }
+
+    if (node.more != null) {
+      remove(node, node.more);
+    }
+
+    node.children.clear();
+    node.more = null;
+    node.total = -1;
+    node.collapsedAt = NOT_COLLAPSED;
+  }
+
+  private void forget(Node<T> node) {
+    nodes.remove(node.component);
+    for (Node<T> child : node.children) {
+      forget(child);
+    }
+  }
+
+  private void add(Node<T> parent, TreeItem item) {
+    if (parent == root) {
+      tree.add(item);
+    } else {
+      parent.component.add(item);
+    }
+  }
+
+  private void remove(Node<T> parent, TreeItem item) {
+    // a destroyed tree has destroyed its items along with it
+    if (tree.isDestroyed()) {
+      return;
+    }
+    if (parent == root) {
+      tree.remove(item);
+    } else {
+      parent.component.remove(item);
+    }
+  }
+
+  private boolean hasPendingEvictions() {
+    return nodes.values().stream().anyMatch(node -> node.collapsedAt != NOT_COLLAPSED);
+  }
+
+  private void startSweeper() {
+    // outside a running app there is no client to drive the timer, sweeps still run on expand
+    if (sweeper != null || Environment.getCurrent() == null) {
+      return;
+    }
+
+    float seconds = Math.max(1f, evictionDelay.toMillis() / 2000f);
+    sweeper = new Interval(seconds, event -> sweep());
+    sweeper.start();
+  }
+
+  private void stopSweeper() {
+    if (sweeper != null) {
+      sweeper.stop();
+      sweeper = null;
+    }
+  }
+
+  static final class Node<T> {
+    final T data;
+    final TreeItem component;
+    final List<Node<T>> children = new ArrayList<>();
+    TreeItem more;
+    int total = -1;
+    long collapsedAt = NOT_COLLAPSED;
+
+    Node(T data, TreeItem component) {
+      this.data = data;
+      this.component = component;
+    }
+  }
+}
@@ -2,7 +2,6 @@ package com.webforj.shoelace.components.treeitem;
 
 import com.webforj.component.Component;
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.PropertyDescriptor;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
@@ -11,11 +10,13 @@ import com.webforj.concern.HasStyle;
 import com.webforj.concern.HasVisibility;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 import com.webforj.shoelace.components.treeitem.event.AfterCollapseEvent;
 import com.webforj.shoelace.components.treeitem.event.AfterExpandEvent;
 import com.webforj.shoelace.components.treeitem.event.CollapseEvent;
 import com.webforj.shoelace.components.treeitem.event.ExpandEvent;
 import com.webforj.shoelace.components.treeitem.event.LazyChangeEvent;
+import com.webforj.shoelace.components.treeitem.event.LazyLoadEvent;
 
 /**
  * Shoelace TreeItem component ({@code <sl-tree-item>}).
@@ -26,19 +27,19 @@ import com.webforj.shoelace.components.treeitem.event.LazyChangeEvent;
  * @see <a href="https://shoelace.style/components/tree-item">Shoelace Tree Item</a>
  */
 @NodeName("sl-tree-item")
-public final class TreeItem extends ElementCompositeContainer
+public final class TreeItem extends ShoelaceCompositeContainer
     implements HasElementClickListener<TreeItem>, HasClassName<TreeItem>, HasStyle<TreeItem>, HasVisibility<TreeItem> {
 
   private static final String EXPAND_ICON_SLOT = "expand-icon";
   private static final String COLLAPSE_ICON_SLOT = "collapse-icon";
 
-  private final PropertyDescriptor<Boolean> expandedProp =
+  private static final PropertyDescriptor<Boolean> EXPANDED_PROP =
       PropertyDescriptor.property("expanded", false);
-  private final PropertyDescriptor<Boolean> selectedProp =
+  private static final PropertyDescriptor<Boolean> SELECTED_PROP =
       PropertyDescriptor.property("selected", false);
-  private final PropertyDescriptor<Boolean> disabledProp =
+  private static final PropertyDescriptor<Boolean> DISABLED_PROP =
       PropertyDescriptor.property("disabled", false);
-  private final PropertyDescriptor<Boolean> lazyProp =
+  private static final PropertyDescriptor<Boolean> LAZY_PROP =
       PropertyDescriptor.property("lazy", false);
 
   /**
@@ -54,7 +55,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return {@code true} if the tree item is expanded
    */
   public boolean isExpanded() {
-    return get(expandedProp);
+    return get(EXPANDED_PROP);
   }
 
   /**
@@ -64,7 +65,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return this component
    */
   public TreeItem setExpanded(boolean expanded) {
-    set(expandedProp, expanded);
+    set(EXPANDED_PROP, expanded);
     return this;
   }
 
@@ -74,7 +75,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return {@code true} if the tree item is selected
    */
   public boolean isSelected() {
-    return get(selectedProp);
+    return get(SELECTED_PROP);
   }
 
   /**
@@ -84,7 +85,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return this component
    */
   public TreeItem setSelected(boolean selected) {
-    set(selectedProp, selected);
+    set(SELECTED_PROP, selected);
     return this;
   }
 
@@ -94,7 +95,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return {@code true} if the tree item is disabled
    */
   public boolean isDisabled() {
-    return get(disabledProp);
+    return get(DISABLED_PROP);
   }
 
   /**
@@ -104,7 +105,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return this component
    */
   public TreeItem setDisabled(boolean disabled) {
-    set(disabledProp, disabled);
+    set(DISABLED_PROP, disabled);
     return this;
   }
 
@@ -114,7 +115,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return {@code true} if lazy loading is enabled
    */
   public boolean isLazy() {
-    return get(lazyProp);
+    return get(LAZY_PROP);
   }
 
   /**
@@ -125,7 +126,7 @@ public final class TreeItem extends ElementCompositeContainer
    * @return this component
    */
   public TreeItem setLazy(boolean lazy) {
-    set(lazyProp, lazy);
+    set(LAZY_PROP, lazy);
     return this;
   }
 
@@ -261,6 +262,29 @@ public final class TreeItem extends ElementCompositeContainer
     return addLazyChangeListener(listener);
   }
 
+  /**
+   * Adds a listener for the lazy-load event, fired when a lazy tree item is expanded. Load the
+   * item's children, then call {@code setLazy(false)} to let it expand.
+   *
+   * @param listener the event listener
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<LazyLoadEvent<TreeItem>> addLazyLoadListener(
+      EventListener<LazyLoadEvent<TreeItem>> listener) {
+    return addEventListener(LazyLoadEvent.class, listener);
+  }
+
+  /**
+   * Adds a listener for the lazy-load event.
+   *
+   * @param listener the event listener
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<LazyLoadEvent<TreeItem>> onLazyLoad(
+      EventListener<LazyLoadEvent<TreeItem>> listener) {
+    return addLazyLoadListener(listener);
+  }
+
   Element getOriginalElement() {
     return getElement();
   }
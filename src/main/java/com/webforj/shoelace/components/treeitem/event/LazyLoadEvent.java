@@ -0,0 +1,21 @@
+package com.webforj.shoelace.components.treeitem.event;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.event.ComponentEvent;
+import java.util.Map;
+
+/**
+ * Emitted when a lazy tree item is expanded and its content should be loaded.
+ *
+ * @param <T> the component type
+ */
+@EventName("sl-lazy-load")
+@EventOptions(filter = "event.target.isSameNode(component)")
+public class LazyLoadEvent<T extends ElementComposite> extends ComponentEvent<T> {
+
+  public LazyLoadEvent(T component, Map<String, Object> payload) {
+    super(component, payload);
+  }
+}
@@ -1,11 +1,11 @@
 package com.webforj.shoelace.components.visuallyhidden;
 
 import com.webforj.component.element.Element;
-import com.webforj.component.element.ElementCompositeContainer;
 import com.webforj.component.element.annotation.NodeName;
 import com.webforj.component.element.concern.HasElementClickListener;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasStyle;
+import com.webforj.shoelace.components.ShoelaceCompositeContainer;
 
 /**
  * Shoelace Visually Hidden component ({@code <sl-visually-hidden>}).
@@ -17,7 +17,7 @@ import com.webforj.concern.HasStyle;
  * @see <a href="https://shoelace.style/components/visually-hidden">Shoelace Visually Hidden</a>
  */
 @NodeName("sl-visually-hidden")
-public final class VisuallyHidden extends ElementCompositeContainer
+public final class VisuallyHidden extends ShoelaceCompositeContainer
     implements HasElementClickListener<VisuallyHidden>, HasClassName<VisuallyHidden>, HasStyle<VisuallyHidden> {
 
   /**
@@ -0,0 +1,143 @@
+package com.webforj.shoelace.concurrent;
+
+import com.webforj.Environment;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Coalesces rapid value updates into at most a fixed number of deliveries per second.
+ *
+ * <p>{@link #submit(Object)} may be called from any thread, as often as needed. Only the most
+ * recent value is kept. It is handed to the consumer on the UI thread through
+ * {@link Environment#runLater(Runnable)}, no sooner than the configured interval after the
+ * previous delivery. The last submitted value is always delivered.</p>
+ *
+ * <p>All throttles of an app share one scheduler thread, which is started on demand and stops
+ * when idle. It inherits the app's environment from the thread that starts it, so background
+ * threads must inherit it as well, as with any call to {@code Environment.runLater}: create them
+ * from the UI thread, directly or indirectly.</p>
+ *
+ * @param <T> the value type
+ */
+public final class UpdateThrottle<T> {
+
+  private static final long KEEP_ALIVE_SECONDS = 1;
+  private static final Map<Environment, ScheduledExecutorService> SCHEDULERS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Consumer<T> consumer;
+  private final long intervalNanos;
+  private final Executor dispatcher;
+  private final ScheduledExecutorService scheduler;
+  private final LongSupplier clock;
+  private final AtomicReference<T> latest = new AtomicReference<>();
+  private final AtomicBoolean pending = new AtomicBoolean();
+  private volatile ScheduledFuture<?> scheduled;
+  private volatile long lastDelivery;
+  private volatile boolean delivered;
+  private volatile boolean stopped;
+
+  /**
+   * Creates a throttle that delivers to the given consumer on the UI thread.
+   *
+   * @param maxPerSecond the maximum number of deliveries per second, at least 1
+   * @param consumer receives the latest value on the UI thread
+   * @throws IllegalArgumentException if {@code maxPerSecond} is less than 1
+   */
+  public UpdateThrottle(int maxPerSecond, Consumer<T> consumer) {
+    this(maxPerSecond, consumer, Environment::runLater, sharedScheduler(), System::nanoTime);
+  }
+
+  UpdateThrottle(int maxPerSecond, Consumer<T> consumer, Executor dispatcher,
+      ScheduledExecutorService scheduler, LongSupplier clock) {
+    if (maxPerSecond < 1) {
+      throw new IllegalArgumentException("Updates per second must be at least 1");
+    }
+
+    this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / maxPerSecond;
+    this.consumer = Objects.requireNonNull(consumer);
+    this.dispatcher = Objects.requireNonNull(dispatcher);
+    this.scheduler = Objects.requireNonNull(scheduler);
+    this.clock = Objects.requireNonNull(clock);
+  }
+
+  /**
+   * Submits a value. It replaces any value that has not been delivered yet.
+   *
+   * @param value the value
+   */
+  public void submit(T value) {
+    latest.set(value);
+
+    if (!stopped && pending.compareAndSet(false, true)) {
+      long wait = delivered ? lastDelivery + intervalNanos - clock.getAsLong() : 0;
+      if (wait <= 0) {
+        deliver();
+      } else {
+        scheduled = scheduler.schedule(this::deliver, wait, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * Gets the most recently submitted value, whether or not it has been delivered.
+   *
+   * @return the latest value, or {@code null} if none was submitted
+   */
+  public T getLatest() {
+    return latest.get();
+  }
+
+  /**
+   * Stops the throttle and cancels a pending delivery. Values not delivered yet are dropped.
+   */
+  public void shutdown() {
+    stopped = true;
+    ScheduledFuture<?> future = scheduled;
+    if (future != null) {
+      future.cancel(false);
+    }
+  }
+
+  private void deliver() {
+    if (stopped) {
+      return;
+    }
+
+    lastDelivery = clock.getAsLong();
+    delivered = true;
+    dispatcher.execute(() -> {
+      // clear first so a value submitted while this runs schedules another delivery
+      pending.set(false);
+      if (!stopped) {
+        consumer.accept(latest.get());
+      }
+    });
+  }
+
+  private static ScheduledExecutorService sharedScheduler() {
+    // one scheduler per app, its worker must inherit the environment of that app
+    return SCHEDULERS.computeIfAbsent(Environment.getCurrent(), environment -> {
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "shoelace-update-throttle");
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+      executor.allowCoreThreadTimeOut(true);
+      executor.setRemoveOnCancelPolicy(true);
+      return executor;
+    });
+  }
+}
@@ -3,17 +3,26 @@ package com.webforj.shoelace.event;
 import com.webforj.component.element.ElementComposite;
 import com.webforj.component.element.annotation.EventName;
 import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
 import java.util.Map;
 
 /**
  * Emitted when a Shoelace component's value changes.
  *
+ * <p>The event carries the control's new value and checked state.</p>
+ *
  * @param <T> the component type
  */
 @EventName("sl-change")
-@EventOptions(filter = "event.target.isSameNode(component)")
-public class ChangeEvent<T extends ElementComposite> extends ComponentEvent<T> {
+@EventOptions(
+    filter = "event.target.isSameNode(component)",
+    data = {
+        @EventData(key = HasValuePayload.VALUE_KEY, exp = "component.value"),
+        @EventData(key = HasValuePayload.CHECKED_KEY, exp = "component.checked")
+    })
+public class ChangeEvent<T extends ElementComposite> extends ComponentEvent<T>
+    implements HasValuePayload {
 
   public ChangeEvent(T component, Map<String, Object> payload) {
     super(component, payload);
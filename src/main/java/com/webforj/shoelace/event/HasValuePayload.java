@@ -0,0 +1,78 @@
+package com.webforj.shoelace.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives access to the state a form control sent along with an event, so handlers do not need to
+ * read it back from the component.
+ */
+public interface HasValuePayload {
+
+  /** The payload key of the control's value. */
+  String VALUE_KEY = "value";
+
+  /** The payload key of the control's checked state. */
+  String CHECKED_KEY = "checked";
+
+  /**
+   * Gets the event payload.
+   *
+   * @return the payload
+   */
+  Map<String, Object> getEventMap();
+
+  /**
+   * Gets the control's value when the event fired. Text controls send a string, a range sends a
+   * number and a multiple select sends a list of values.
+   *
+   * @return the value, or {@code null} if the control has none
+   */
+  default Object getValue() {
+    return getEventMap().get(VALUE_KEY);
+  }
+
+  /**
+   * Gets the control's value as a string.
+   *
+   * @return the value as a string, or an empty string if the control has none
+   */
+  default String getValueAsString() {
+    Object value = getValue();
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof Double number && number == Math.rint(number)) {
+      return Long.toString(number.longValue());
+    }
+    return value instanceof Collection<?> ? String.join(" ", getSelection()) : value.toString();
+  }
+
+  /**
+   * Gets the values selected in the control, for example the options of a multiple select.
+   *
+   * @return the selected values, empty if nothing is selected
+   */
+  default List<String> getSelection() {
+    Object value = getValue();
+    List<String> selection = new ArrayList<>();
+    if (value instanceof Collection<?> values) {
+      values.forEach(item -> selection.add(String.valueOf(item)));
+    } else if (value != null && !value.toString().isEmpty()) {
+      selection.add(value.toString());
+    }
+    return selection;
+  }
+
+  /**
+   * Checks whether a checkbox or switch was checked when the event fired.
+   *
+   * @return {@code true} if the control is checked, {@code false} if it is unchecked or cannot be
+   *         checked
+   */
+  default boolean isChecked() {
+    return Boolean.TRUE.equals(getEventMap().get(CHECKED_KEY));
+  }
+}
@@ -0,0 +1,181 @@
+package com.webforj.shoelace.event;
+
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.component.element.ElementEventOptions.DebouncePhase;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Limits how often a listener receives an event, enforced in the browser before the event is
+ * sent to the server.
+ *
+ * <p>A {@linkplain #debounce(Duration) debounced} listener receives the last event of a burst
+ * once the user has paused for the given time. A {@linkplain #throttle(Duration) throttled}
+ * listener receives at most one event per interval, and the last event of a burst is always
+ * delivered, so the listener sees the final state.</p>
+ *
+ * <p>The limits map to the debounce and throttle of {@link ElementEventOptions}. A throttle is
+ * registered twice, throttled and debounced over the same interval; the debounced registration
+ * delivers the last event of a burst, unless the throttled one already did. Every registration
+ * is limited on its own, so several listeners on the same component can use different
+ * limits.</p>
+ */
+public final class RateLimit {
+
+  /** The payload key that identifies the browser event a throttled listener was called for. */
+  public static final String EVENT_KEY = "wfsRateLimitEvent";
+
+  private static final String EVENT_EXPRESSION =
+      "event.__wfsRateLimitId || (event.__wfsRateLimitId = window.__wfsRateLimitSeq = "
+          + "(window.__wfsRateLimitSeq || 0) + 1)";
+
+  private final Mode mode;
+  private final int millis;
+
+  private RateLimit(Mode mode, Duration interval) {
+    if (interval == null || interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("The interval must be positive");
+    }
+
+    this.mode = mode;
+    this.millis = (int) Math.min(Integer.MAX_VALUE, interval.toMillis());
+  }
+
+  /**
+   * Delivers an event only after no further event occurred for the given time.
+   *
+   * @param quietPeriod the time to wait after the last event
+   * @return the rate limit
+   */
+  public static RateLimit debounce(Duration quietPeriod) {
+    return new RateLimit(Mode.DEBOUNCE, quietPeriod);
+  }
+
+  /**
+   * Delivers at most one event per interval, plus the last event of a burst.
+   *
+   * @param interval the minimum time between two events
+   * @return the rate limit
+   */
+  public static RateLimit throttle(Duration interval) {
+    return new RateLimit(Mode.THROTTLE, interval);
+  }
+
+  /**
+   * Checks whether this limit debounces events.
+   *
+   * @return {@code true} for a debounce, {@code false} for a throttle
+   */
+  public boolean isDebounce() {
+    return mode == Mode.DEBOUNCE;
+  }
+
+  /**
+   * Gets the interval of this limit.
+   *
+   * @return the interval
+   */
+  public Duration getInterval() {
+    return Duration.ofMillis(millis);
+  }
+
+  /**
+   * Adds a listener with this limit.
+   *
+   * @param <E> the event type
+   * @param listener the listener
+   * @param options creates the base options of each registration, for example a filter
+   * @param add registers a listener with the given options on the component
+   * @return a registration that removes the listener with all its registrations
+   */
+  public <E extends ComponentEvent<?>> ListenerRegistration<E> addListener(
+      EventListener<E> listener, Supplier<ElementEventOptions> options,
+      BiFunction<EventListener<E>, ElementEventOptions, ListenerRegistration<E>> add) {
+    if (mode == Mode.DEBOUNCE) {
+      return add.apply(listener, toEventOptions(options.get()));
+    }
+
+    Deliveries<E> deliveries = new Deliveries<>(listener);
+    ListenerRegistration<E> trailing =
+        add.apply(deliveries.trailing(), toTrailingEventOptions(options.get()));
+    ListenerRegistration<E> throttled =
+        add.apply(deliveries.throttled(), toEventOptions(options.get()));
+    return new ListenerRegistration<>(throttled.getDispatcher(), throttled.getEventClass(),
+        throttled.getListener()) {
+      @Override
+      public void remove() {
+        throttled.remove();
+        trailing.remove();
+      }
+    };
+  }
+
+  /**
+   * Applies the debounce or the throttle of this limit to listener options.
+   *
+   * @param options the options; they are modified
+   * @return the options
+   */
+  ElementEventOptions toEventOptions(ElementEventOptions options) {
+    if (mode == Mode.DEBOUNCE) {
+      options.setDebounce(millis, DebouncePhase.TRAILING);
+    } else {
+      options.setThrottle(millis);
+      options.addData(EVENT_KEY, EVENT_EXPRESSION);
+    }
+    return options;
+  }
+
+  /**
+   * Applies the debounce that delivers the last event of a throttled burst to listener options.
+   *
+   * @param options the options; they are modified
+   * @return the options
+   */
+  ElementEventOptions toTrailingEventOptions(ElementEventOptions options) {
+    options.setDebounce(millis, DebouncePhase.TRAILING);
+    options.addData(EVENT_KEY, EVENT_EXPRESSION);
+    return options;
+  }
+
+  private enum Mode {
+    DEBOUNCE, THROTTLE
+  }
+
+  /**
+   * Delivers the events of the throttled and the trailing registration of one listener, dropping
+   * a trailing event that the throttle already delivered. Both registrations run on the thread
+   * of the component's environment.
+   */
+  static final class Deliveries<E extends ComponentEvent<?>> {
+    private final EventListener<E> listener;
+    private Object last;
+
+    Deliveries(EventListener<E> listener) {
+      this.listener = listener;
+    }
+
+    EventListener<E> throttled() {
+      return event -> {
+        last = event.getEventMap().get(EVENT_KEY);
+        listener.onEvent(event);
+      };
+    }
+
+    EventListener<E> trailing() {
+      return event -> {
+        Object id = event.getEventMap().get(EVENT_KEY);
+        if (id != null && Objects.equals(id, last)) {
+          return;
+        }
+        last = id;
+        listener.onEvent(event);
+      };
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.webforj.shoelace.form;
+
+import com.google.gson.Gson;
+import com.webforj.Page;
+import com.webforj.PendingResult;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Validates many Shoelace form controls at once.
+ *
+ * <p>The validity and validation messages of the whole form are read with a single script, so
+ * they resolve after one round trip instead of two per field. A failed script fails the returned
+ * result.</p>
+ *
+ * <pre>{@code
+ * FormValidator.checkValidity(name, email, country).thenAccept(invalid -> {
+ *   invalid.forEach((control, message) -> log.warn(message));
+ * });
+ * }</pre>
+ */
+public final class FormValidator {
+
+  private static final Gson GSON = new Gson();
+
+  private FormValidator() {
+    // utility class
+  }
+
+  /**
+   * Checks the validity of the given controls without showing validation messages.
+   *
+   * @param controls the controls to check
+   * @param <T> the control type
+   * @return a pending result that resolves to the invalid controls mapped to their validation
+   *         messages, in the order the controls were given. The map is empty when every control is
+   *         valid.
+   */
+  @SafeVarargs
+  public static <T extends HasValidity> PendingResult<Map<T, String>> checkValidity(T... controls) {
+    return checkValidity(Arrays.asList(controls));
+  }
+
+  /**
+   * Checks the validity of the given controls without showing validation messages.
+   *
+   * @param controls the controls to check
+   * @param <T> the control type
+   * @return a pending result that resolves to the invalid controls mapped to their validation
+   *         messages, in the order the controls were given. The map is empty when every control is
+   *         valid.
+   */
+  public static <T extends HasValidity> PendingResult<Map<T, String>> checkValidity(
+      Collection<T> controls) {
+    Objects.requireNonNull(controls, "controls must not be null");
+    List<T> snapshot = List.copyOf(controls);
+    if (snapshot.isEmpty()) {
+      return PendingResult.completedWith(Map.of());
+    }
+
+    List<String> keys = snapshot.stream()
+        .map(ValidityKeys::keyOf)
+        .toList();
+
+    return Page.getCurrent().executeJsAsync(script(keys))
+        .thenApply(value -> invalidControls(snapshot, value));
+  }
+
+  /**
+   * Builds the script that resolves to a JSON array with the validation message of every invalid
+   * control and {@code null} for every valid one. Controls that are not attached count as valid.
+   */
+  static String script(List<String> keys) {
+    return """
+        JSON.stringify(%s.map(key => {
+          const control = document.querySelector('[%s="' + key + '"]');
+          return !control || control.checkValidity() ? null : (control.validationMessage || '');
+        }))""".formatted(GSON.toJson(keys), ValidityKeys.KEY_ATTRIBUTE);
+  }
+
+  private static <T> Map<T, String> invalidControls(List<T> controls, Object value) {
+    String[] messages = GSON.fromJson(String.valueOf(value), String[].class);
+    if (messages == null || messages.length != controls.size()) {
+      throw new IllegalStateException("Unexpected validity result: " + value);
+    }
+
+    Map<T, String> invalid = new LinkedHashMap<>();
+    for (int i = 0; i < messages.length; i++) {
+      if (messages[i] != null) {
+        invalid.put(controls.get(i), messages[i]);
+      }
+    }
+    return Collections.unmodifiableMap(invalid);
+  }
+}
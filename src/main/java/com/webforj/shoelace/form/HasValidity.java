@@ -0,0 +1,42 @@
+package com.webforj.shoelace.form;
+
+import com.webforj.PendingResult;
+
+/**
+ * Implemented by Shoelace form controls that take part in constraint validation.
+ *
+ * <p>All methods are asynchronous. Results resolve once the browser answers, without blocking
+ * the server thread.</p>
+ *
+ * @see FormValidator
+ */
+public interface HasValidity {
+
+  /**
+   * Checks for validity but does not show a validation message.
+   *
+   * @return a pending result that resolves to {@code true} when valid and {@code false} when
+   *         invalid
+   */
+  PendingResult<Boolean> checkValidity();
+
+  /**
+   * Gets the browser's validation message for the control.
+   *
+   * @return a pending result that resolves to the validation message, or an empty string when
+   *         the control is valid
+   */
+  PendingResult<String> getValidationMessage();
+
+  /**
+   * Checks for validity and shows the browser's validation message if the control is invalid.
+   */
+  void reportValidity();
+
+  /**
+   * Sets a custom validation message. Pass an empty string to restore validity.
+   *
+   * @param message the custom validation message
+   */
+  void setCustomValidity(String message);
+}
@@ -0,0 +1,57 @@
+package com.webforj.shoelace.form;
+
+import com.webforj.component.element.Element;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Marks the elements of Shoelace form controls so that {@link FormValidator} can find them on the
+ * client.
+ *
+ * <p>This class is internal. The form controls register their element once, when they are
+ * created, and the element itself is never handed out again.</p>
+ */
+public final class ValidityKeys {
+
+  static final String KEY_ATTRIBUTE = "data-wfs-validity";
+
+  private static final AtomicLong NEXT_KEY = new AtomicLong();
+  private static final Map<HasValidity, String> KEYS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private ValidityKeys() {
+    // utility class
+  }
+
+  /**
+   * Registers the element constraint validation runs on for a control.
+   *
+   * @param control the control
+   * @param element the control's element
+   */
+  public static void register(HasValidity control, Element element) {
+    Objects.requireNonNull(control, "control must not be null");
+    Objects.requireNonNull(element, "element must not be null");
+
+    String key = Long.toString(NEXT_KEY.incrementAndGet(), Character.MAX_RADIX);
+    element.setAttribute(KEY_ATTRIBUTE, key);
+    KEYS.put(control, key);
+  }
+
+  /**
+   * Gets the key that marks the element of the control on the client.
+   *
+   * @throws IllegalArgumentException if the control has not registered its element
+   */
+  static String keyOf(HasValidity control) {
+    String key = KEYS.get(control);
+    if (key == null) {
+      throw new IllegalArgumentException(
+          "Control " + control.getClass().getName() + " has not registered its element");
+    }
+    return key;
+  }
+}
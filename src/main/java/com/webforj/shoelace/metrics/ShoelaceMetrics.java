@@ -0,0 +1,317 @@
+package com.webforj.shoelace.metrics;
+
+import com.webforj.PendingResult;
+import com.webforj.component.element.Element;
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.dispatcher.EventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the traffic each Shoelace component causes and reports it as Micrometer meters.
+ *
+ * <ul>
+ *   <li>{@value #JS_CALLS}: JavaScript calls from the server to a component, tagged with the
+ *   component class and the {@code function} called, or a name for an inline script</li>
+ *   <li>{@value #JS_CALL_TIME}: the round trip of the calls that return a result, with the same
+ *   tags</li>
+ *   <li>{@value #PROPERTY_SYNCS}: property and attribute writes sent to the client, tagged with
+ *   the component class and the {@code property} name</li>
+ *   <li>{@value #EVENTS}: events received from the client, tagged with the component class and
+ *   the {@code event} type. An event counts once, however many listeners receive it. Only the
+ *   events of listeners added while recording is enabled are counted.</li>
+ * </ul>
+ *
+ * <p>Components perform their JavaScript calls through {@link #call}, {@link #callAsync},
+ * {@link #execute} and {@link #executeAsync}, which record and perform the call in one step.
+ * Property writes and events are recorded by
+ * {@link com.webforj.shoelace.components.ShoelaceComposite} and
+ * {@link com.webforj.shoelace.components.ShoelaceCompositeContainer}.</p>
+ *
+ * <p>Recording is off until a {@link MeterRegistry} is {@linkplain #bind(MeterRegistry, double)
+ * bound}, which {@link ShoelaceMetricsConfiguration} does when the application has one. With a
+ * sample rate below 1 only that fraction of the calls is recorded, and counters are incremented
+ * by the inverse of the rate so they still estimate the total. Timers record the sampled calls
+ * only.</p>
+ */
+public final class ShoelaceMetrics {
+
+  /** Counter of JavaScript calls. */
+  public static final String JS_CALLS = "shoelace.js.calls";
+
+  /** Timer of JavaScript calls that return a result. */
+  public static final String JS_CALL_TIME = "shoelace.js.call.time";
+
+  /** Counter of property writes sent to the client. */
+  public static final String PROPERTY_SYNCS = "shoelace.property.syncs";
+
+  /** Counter of events received from the client. */
+  public static final String EVENTS = "shoelace.events";
+
+  /**
+   * The event payload key that identifies the browser event a listener was called for. Listeners
+   * called for the same browser event receive the same identifier.
+   */
+  public static final String EVENT_ID_KEY = "slMetricsEventId";
+
+  /** The client expression that assigns each browser event its identifier. */
+  public static final String EVENT_ID_EXPRESSION =
+      "event.__slMetricsId || (event.__slMetricsId = window.__slMetricsSeq = "
+          + "(window.__slMetricsSeq || 0) + 1)";
+
+  private static final Meters JS_CALL_METERS = new Meters(JS_CALLS, "function");
+  private static final Meters PROPERTY_METERS = new Meters(PROPERTY_SYNCS, "property");
+  private static final Meters EVENT_METERS = new Meters(EVENTS, "event");
+  private static final Map<Class<?>, Map<String, Timer>> TIMERS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<long[]> LAST_EVENT =
+      ThreadLocal.withInitial(() -> new long[] {-1, -1});
+  private static volatile MeterRegistry registry;
+  private static volatile double sampleRate = 1;
+
+  private ShoelaceMetrics() {
+  }
+
+  /**
+   * Starts recording into the given registry.
+   *
+   * @param meterRegistry the registry
+   * @param rate the fraction of calls to record, from 0 (off) to 1 (all)
+   * @throws IllegalArgumentException if the rate is outside 0 to 1
+   */
+  public static void bind(MeterRegistry meterRegistry, double rate) {
+    setSampleRate(rate);
+    clear();
+    registry = Objects.requireNonNull(meterRegistry);
+  }
+
+  /**
+   * Stops recording.
+   */
+  public static void unbind() {
+    registry = null;
+    clear();
+  }
+
+  /**
+   * Sets the fraction of calls to record.
+   *
+   * @param rate the rate, from 0 (off) to 1 (all)
+   * @throws IllegalArgumentException if the rate is outside 0 to 1
+   */
+  public static void setSampleRate(double rate) {
+    if (!(rate >= 0 && rate <= 1)) {
+      throw new IllegalArgumentException("The sample rate must be between 0 and 1");
+    }
+    sampleRate = rate;
+  }
+
+  /**
+   * Gets the fraction of calls recorded.
+   *
+   * @return the sample rate
+   */
+  public static double getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * Checks whether calls are recorded.
+   *
+   * @return {@code true} if a registry is bound and the sample rate is above 0
+   */
+  public static boolean isEnabled() {
+    return registry != null && sampleRate > 0;
+  }
+
+  /**
+   * Calls a function of a component's element and records the call.
+   *
+   * @param component the component
+   * @param element the component's element
+   * @param function the function name
+   * @param args the arguments
+   */
+  public static void call(Object component, Element element, String function, Object... args) {
+    JS_CALL_METERS.count(component.getClass(), function);
+    element.callJsFunctionVoidAsync(function, args);
+  }
+
+  /**
+   * Calls a function of a component's element, records the call and times it until its result
+   * arrives.
+   *
+   * @param component the component
+   * @param element the component's element
+   * @param function the function name
+   * @param args the arguments
+   * @return the pending result of the call
+   */
+  public static PendingResult<Object> callAsync(Object component, Element element,
+      String function, Object... args) {
+    boolean sampled = JS_CALL_METERS.count(component.getClass(), function);
+    PendingResult<Object> result = element.callJsFunctionAsync(function, args);
+    return sampled ? time(component.getClass(), function, result) : result;
+  }
+
+  /**
+   * Runs a script on a component's element and records the call.
+   *
+   * @param component the component
+   * @param element the component's element
+   * @param name the name the call is recorded under
+   * @param script the script
+   */
+  public static void execute(Object component, Element element, String name, String script) {
+    JS_CALL_METERS.count(component.getClass(), name);
+    element.executeJsVoidAsync(script);
+  }
+
+  /**
+   * Runs a script on a component's element, records the call and times it until its result
+   * arrives.
+   *
+   * @param component the component
+   * @param element the component's element
+   * @param name the name the call is recorded under
+   * @param script the script
+   * @return the pending result of the script
+   */
+  public static PendingResult<Object> executeAsync(Object component, Element element,
+      String name, String script) {
+    boolean sampled = JS_CALL_METERS.count(component.getClass(), name);
+    PendingResult<Object> result = element.executeJsAsync(script);
+    return sampled ? time(component.getClass(), name, result) : result;
+  }
+
+  /**
+   * Records a property or attribute write sent to the client.
+   *
+   * @param component the component
+   * @param property the property or attribute name
+   */
+  public static void propertySync(Object component, String property) {
+    PROPERTY_METERS.count(component.getClass(), property);
+  }
+
+  /**
+   * Adds the browser event identifier to the options of a listener, so that
+   * {@link #countEvents(Object, EventListener)} can tell listeners called for the same browser
+   * event apart from separate events.
+   *
+   * @param options the listener options, or {@code null}; they are modified
+   * @return the options with the identifier
+   */
+  public static ElementEventOptions withEventId(ElementEventOptions options) {
+    ElementEventOptions result = options != null ? options : new ElementEventOptions();
+    result.addData(EVENT_ID_KEY, EVENT_ID_EXPRESSION);
+    return result;
+  }
+
+  /**
+   * Wraps a listener so that it records the events it receives. A browser event delivered to
+   * several listeners of the same component counts once. Events without an identifier, which do
+   * not come from the browser or reach a listener added while recording was off, are not
+   * recorded.
+   *
+   * @param <E> the event type
+   * @param component the component the listener is registered on
+   * @param listener the listener
+   * @return the recording listener
+   * @see #withEventId(ElementEventOptions)
+   */
+  public static <E extends ComponentEvent<?>> EventListener<E> countEvents(Object component,
+      EventListener<E> listener) {
+    return event -> {
+      eventReceived(component, event);
+      listener.onEvent(event);
+    };
+  }
+
+  private static void eventReceived(Object component, ComponentEvent<?> event) {
+    if (registry == null || !(event.getEventMap().get(EVENT_ID_KEY) instanceof Number id)) {
+      return;
+    }
+
+    // the listeners of one browser event run one after another on the same thread
+    long[] last = LAST_EVENT.get();
+    long identity = System.identityHashCode(component);
+    if (last[0] == identity && last[1] == id.longValue()) {
+      return;
+    }
+    last[0] = identity;
+    last[1] = id.longValue();
+    EVENT_METERS.count(component.getClass(), event.getClass().getSimpleName());
+  }
+
+  private static <T> PendingResult<T> time(Class<?> component, String function,
+      PendingResult<T> result) {
+    MeterRegistry current = registry;
+    long start = System.nanoTime();
+    result.thenAccept(value -> {
+      Map<String, Timer> timers = TIMERS.computeIfAbsent(component,
+          c -> new ConcurrentHashMap<>());
+      timers.computeIfAbsent(function, f -> Timer.builder(JS_CALL_TIME)
+              .tag("component", component.getSimpleName())
+              .tag("function", f)
+              .register(current))
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    });
+    return result;
+  }
+
+  private static void clear() {
+    JS_CALL_METERS.clear();
+    PROPERTY_METERS.clear();
+    EVENT_METERS.clear();
+    TIMERS.clear();
+  }
+
+  /**
+   * The counters of one meter, by component class and tag value. Lookups of existing counters do
+   * not allocate.
+   */
+  private static final class Meters {
+    private final String name;
+    private final String tag;
+    private final Map<Class<?>, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    Meters(String name, String tag) {
+      this.name = name;
+      this.tag = tag;
+    }
+
+    boolean count(Class<?> component, String value) {
+      MeterRegistry current = registry;
+      double rate = sampleRate;
+      if (current == null || rate <= 0
+          || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+        return false;
+      }
+
+      Map<String, Counter> byValue = counters.get(component);
+      if (byValue == null) {
+        byValue = counters.computeIfAbsent(component, c -> new ConcurrentHashMap<>());
+      }
+      Counter counter = byValue.get(value);
+      if (counter == null) {
+        counter = byValue.computeIfAbsent(value, v -> Counter.builder(name)
+            .tag("component", component.getSimpleName())
+            .tag(tag, v)
+            .register(current));
+      }
+      counter.increment(1 / rate);
+      return true;
+    }
+
+    void clear() {
+      counters.clear();
+    }
+  }
+}
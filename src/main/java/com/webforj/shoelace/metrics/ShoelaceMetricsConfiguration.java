@@ -0,0 +1,39 @@
+package com.webforj.shoelace.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Binds {@link ShoelaceMetrics} to the application's meter registry.
+ *
+ * <p>Spring Boot applies the binder to every registry it configures, for example once
+ * {@code spring-boot-starter-actuator} is on the classpath. Set
+ * {@code webforj.shoelace.metrics.enabled=false} to turn the metrics off, or
+ * {@code webforj.shoelace.metrics.sample-rate} to a fraction below 1 to record only part of the
+ * calls.</p>
+ *
+ * <p>It is registered as an auto-configuration, so the class condition is evaluated before the
+ * class is loaded, and component scanning skips it.</p>
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "webforj.shoelace.metrics.enabled", matchIfMissing = true)
+public class ShoelaceMetricsConfiguration {
+
+  /**
+   * Binds the Shoelace metrics to each meter registry.
+   *
+   * @param sampleRate the fraction of calls to record
+   * @return the meter binder
+   */
+  @Bean
+  MeterBinder shoelaceMetrics(
+      @Value("${webforj.shoelace.metrics.sample-rate:1.0}") double sampleRate) {
+    return registry -> ShoelaceMetrics.bind(registry, sampleRate);
+  }
+}
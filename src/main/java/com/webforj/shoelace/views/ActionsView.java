@@ -22,6 +22,7 @@ import com.webforj.shoelace.components.iconbutton.IconButton;
 import com.webforj.shoelace.components.menu.Menu;
 import com.webforj.shoelace.components.menuitem.MenuItem;
 import com.webforj.shoelace.components.menulabel.MenuLabel;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/actions", outlet = MainLayout.class)
 @FrameTitle("Actions")
@@ -35,14 +36,14 @@ public class ActionsView extends Composite<FlexLayout> {
     self.setMaxWidth("900px");
 
     self.add(
-        buildButtonVariantsSection(),
-        buildButtonSizesSection(),
-        buildButtonStylesSection(),
-        buildButtonWithIconsSection(),
-        buildButtonGroupSection(),
-        buildIconButtonSection(),
-        buildCopyButtonSection(),
-        buildDropdownSection()
+        new LazySection(this::buildButtonVariantsSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildButtonSizesSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildButtonStylesSection).setPlaceholderHeight("180px"),
+        new LazySection(this::buildButtonWithIconsSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildButtonGroupSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildIconButtonSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildCopyButtonSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildDropdownSection).setPlaceholderHeight("160px")
     );
   }
 
@@ -251,7 +252,40 @@ public class ActionsView extends Composite<FlexLayout> {
     Dropdown dropdown2 = new Dropdown();
     Button trigger2 = new Button("File Menu");
     trigger2.setCaret(true);
-    Menu menu2 = new Menu();
+    Element dropdown2Element = (Element) ComponentUtil.getBoundComponent(dropdown2);
+    dropdown2Element.add("trigger", trigger2);
+    // the file menu is only built once the dropdown first opens
+    dropdown2.setLazyContent(this::buildFileMenu);
+
+    Dropdown dropdown3 = new Dropdown();
+    Button trigger3 = new Button("Edit", Variant.SUCCESS);
+    trigger3.setCaret(true);
+    Menu menu3 = new Menu();
+    MenuItem undoItem = new MenuItem("Undo");
+    undoItem.addToPrefix(new Icon("arrow-counterclockwise"));
+    MenuItem redoItem = new MenuItem("Redo");
+    redoItem.addToPrefix(new Icon("arrow-clockwise"));
+    MenuItem findItem = new MenuItem("Find & Replace");
+    findItem.addToPrefix(new Icon("search"));
+    menu3.add(
+        undoItem,
+        redoItem,
+        new Divider(),
+        findItem
+    );
+    Element dropdown3Element = (Element) ComponentUtil.getBoundComponent(dropdown3);
+    dropdown3Element.add("trigger", trigger3);
+    dropdown3.add(menu3);
+
+    return section(
+        "Dropdown",
+        "Dropdowns display a panel of content that drops down when the user clicks a trigger element. They are commonly used for menus, actions, and navigation.",
+        dropdown1, dropdown2, dropdown3
+    );
+  }
+
+  private Menu buildFileMenu() {
+    Menu menu = new Menu();
     MenuLabel fileLabel = new MenuLabel("File Operations");
     MenuItem newItem = new MenuItem("New File");
     newItem.addToPrefix(new Icon("file-earmark-plus"));
@@ -269,7 +303,7 @@ public class ActionsView extends Composite<FlexLayout> {
     MenuItem disabledItem = new MenuItem("Print");
     disabledItem.addToPrefix(new Icon("printer"));
     disabledItem.setDisabled(true);
-    menu2.add(
+    menu.add(
         fileLabel,
         newItem,
         openItem,
@@ -282,35 +316,7 @@ public class ActionsView extends Composite<FlexLayout> {
         new Divider(),
         disabledItem
     );
-    Element dropdown2Element = (Element) ComponentUtil.getBoundComponent(dropdown2);
-    dropdown2Element.add("trigger", trigger2);
-    dropdown2.add(menu2);
-
-    Dropdown dropdown3 = new Dropdown();
-    Button trigger3 = new Button("Edit", Variant.SUCCESS);
-    trigger3.setCaret(true);
-    Menu menu3 = new Menu();
-    MenuItem undoItem = new MenuItem("Undo");
-    undoItem.addToPrefix(new Icon("arrow-counterclockwise"));
-    MenuItem redoItem = new MenuItem("Redo");
-    redoItem.addToPrefix(new Icon("arrow-clockwise"));
-    MenuItem findItem = new MenuItem("Find & Replace");
-    findItem.addToPrefix(new Icon("search"));
-    menu3.add(
-        undoItem,
-        redoItem,
-        new Divider(),
-        findItem
-    );
-    Element dropdown3Element = (Element) ComponentUtil.getBoundComponent(dropdown3);
-    dropdown3Element.add("trigger", trigger3);
-    dropdown3.add(menu3);
-
-    return section(
-        "Dropdown",
-        "Dropdowns display a panel of content that drops down when the user clicks a trigger element. They are commonly used for menus, actions, and navigation.",
-        dropdown1, dropdown2, dropdown3
-    );
+    return menu;
   }
 
   private FlexLayout section(String title, String description, Component... content) {
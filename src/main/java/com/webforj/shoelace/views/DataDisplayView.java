@@ -29,6 +29,7 @@ import com.webforj.shoelace.components.tag.Tag;
 import com.webforj.shoelace.components.tag.TagVariant;
 import com.webforj.shoelace.components.tree.Tree;
 import com.webforj.shoelace.components.treeitem.TreeItem;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/data-display", outlet = MainLayout.class)
 @FrameTitle("Data Display")
@@ -42,18 +43,18 @@ public class DataDisplayView extends Composite<FlexLayout> {
     self.setMaxWidth("900px");
 
     self.add(
-        createAvatarSection(),
-        createBadgeSection(),
-        createCardSection(),
-        createCarouselSection(),
-        createFormatBytesSection(),
-        createFormatDateSection(),
-        createFormatNumberSection(),
-        createIconSection(),
-        createQrCodeSection(),
-        createRelativeTimeSection(),
-        createTagSection(),
-        createTreeSection()
+        new LazySection(this::createAvatarSection).setPlaceholderHeight("160px"),
+        new LazySection(this::createBadgeSection).setPlaceholderHeight("140px"),
+        new LazySection(this::createCardSection).setPlaceholderHeight("420px"),
+        new LazySection(this::createCarouselSection).setPlaceholderHeight("420px"),
+        new LazySection(this::createFormatBytesSection).setPlaceholderHeight("180px"),
+        new LazySection(this::createFormatDateSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createFormatNumberSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createIconSection).setPlaceholderHeight("160px"),
+        new LazySection(this::createQrCodeSection).setPlaceholderHeight("260px"),
+        new LazySection(this::createRelativeTimeSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createTagSection).setPlaceholderHeight("160px"),
+        new LazySection(this::createTreeSection).setPlaceholderHeight("320px")
     );
   }
 
@@ -22,6 +22,7 @@ import com.webforj.shoelace.components.skeleton.Skeleton;
 import com.webforj.shoelace.components.skeleton.SkeletonEffect;
 import com.webforj.shoelace.components.spinner.Spinner;
 import com.webforj.shoelace.components.tooltip.Tooltip;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/feedback", outlet = MainLayout.class)
 @FrameTitle("Feedback")
@@ -35,14 +36,14 @@ public class FeedbackView extends Composite<FlexLayout> {
     self.setMaxWidth("900px");
 
     self.add(
-        createAlertSection(),
-        createDialogSection(),
-        createDrawerSection(),
-        createProgressBarSection(),
-        createProgressRingSection(),
-        createSkeletonSection(),
-        createSpinnerSection(),
-        createTooltipSection()
+        new LazySection(this::createAlertSection).setPlaceholderHeight("380px"),
+        new LazySection(this::createDialogSection).setPlaceholderHeight("140px"),
+        new LazySection(this::createDrawerSection).setPlaceholderHeight("140px"),
+        new LazySection(this::createProgressBarSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createProgressRingSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createSkeletonSection).setPlaceholderHeight("220px"),
+        new LazySection(this::createSpinnerSection).setPlaceholderHeight("140px"),
+        new LazySection(this::createTooltipSection).setPlaceholderHeight("160px")
     );
   }
 
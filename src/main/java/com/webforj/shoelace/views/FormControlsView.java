@@ -22,6 +22,7 @@ import com.webforj.shoelace.components.rating.Rating;
 import com.webforj.shoelace.components.select.Select;
 import com.webforj.shoelace.components.switchc.Switch;
 import com.webforj.shoelace.components.textarea.Textarea;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/form-controls", outlet = MainLayout.class)
 @FrameTitle("Form Controls")
@@ -34,16 +35,16 @@ public class FormControlsView extends Composite<FlexLayout> {
     self.setStyle("gap", "var(--dwc-space-xl)");
     self.setMaxWidth("900px");
 
-    self.add(createInputSection());
-    self.add(createTextareaSection());
-    self.add(createCheckboxSection());
-    self.add(createSwitchSection());
-    self.add(createRadioGroupSection());
-    self.add(createRadioButtonSection());
-    self.add(createSelectSection());
-    self.add(createRangeSection());
-    self.add(createRatingSection());
-    self.add(createColorPickerSection());
+    self.add(new LazySection(this::createInputSection).setPlaceholderHeight("420px"));
+    self.add(new LazySection(this::createTextareaSection).setPlaceholderHeight("300px"));
+    self.add(new LazySection(this::createCheckboxSection).setPlaceholderHeight("180px"));
+    self.add(new LazySection(this::createSwitchSection).setPlaceholderHeight("180px"));
+    self.add(new LazySection(this::createRadioGroupSection).setPlaceholderHeight("200px"));
+    self.add(new LazySection(this::createRadioButtonSection).setPlaceholderHeight("160px"));
+    self.add(new LazySection(this::createSelectSection).setPlaceholderHeight("300px"));
+    self.add(new LazySection(this::createRangeSection).setPlaceholderHeight("200px"));
+    self.add(new LazySection(this::createRatingSection).setPlaceholderHeight("180px"));
+    self.add(new LazySection(this::createColorPickerSection).setPlaceholderHeight("200px"));
   }
 
   private FlexLayout createInputSection() {
@@ -18,6 +18,7 @@ import com.webforj.shoelace.components.splitpanel.SplitPanel;
 import com.webforj.shoelace.components.tab.Tab;
 import com.webforj.shoelace.components.tabgroup.TabGroup;
 import com.webforj.shoelace.components.tabpanel.TabPanel;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/layout", outlet = MainLayout.class)
 @FrameTitle("Layout")
@@ -31,11 +32,11 @@ public class LayoutView extends Composite<FlexLayout> {
     self.setMaxWidth("900px");
 
     self.add(
-        buildBreadcrumbSection(),
-        buildDetailsSection(),
-        buildDividerSection(),
-        buildSplitPanelSection(),
-        buildTabGroupSection());
+        new LazySection(this::buildBreadcrumbSection).setPlaceholderHeight("140px"),
+        new LazySection(this::buildDetailsSection).setPlaceholderHeight("320px"),
+        new LazySection(this::buildDividerSection).setPlaceholderHeight("200px"),
+        new LazySection(this::buildSplitPanelSection).setPlaceholderHeight("300px"),
+        new LazySection(this::buildTabGroupSection).setPlaceholderHeight("280px"));
   }
 
   private FlexLayout buildBreadcrumbSection() {
@@ -12,6 +12,7 @@ import com.webforj.shoelace.components.animation.Animation;
 import com.webforj.shoelace.components.icon.Icon;
 import com.webforj.shoelace.components.imagecomparer.ImageComparer;
 import com.webforj.shoelace.components.include.Include;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/media", outlet = MainLayout.class)
 @FrameTitle("Media")
@@ -25,10 +26,10 @@ public class MediaView extends Composite<FlexLayout> {
         .setStyle("max-width", "900px");
 
     self.add(
-        createAnimatedImageSection(),
-        createAnimationSection(),
-        createImageComparerSection(),
-        createIncludeSection());
+        new LazySection(this::createAnimatedImageSection).setPlaceholderHeight("300px"),
+        new LazySection(this::createAnimationSection).setPlaceholderHeight("240px"),
+        new LazySection(this::createImageComparerSection).setPlaceholderHeight("420px"),
+        new LazySection(this::createIncludeSection).setPlaceholderHeight("260px"));
   }
 
   private Component createAnimatedImageSection() {
@@ -18,6 +18,7 @@ import com.webforj.shoelace.components.mutationobserver.MutationObserver;
 import com.webforj.shoelace.components.popup.Popup;
 import com.webforj.shoelace.components.resizeobserver.ResizeObserver;
 import com.webforj.shoelace.components.visuallyhidden.VisuallyHidden;
+import com.webforj.shoelace.views.lazysection.LazySection;
 
 @Route(value = "/utilities", outlet = MainLayout.class)
 @FrameTitle("Utilities")
@@ -31,11 +32,11 @@ public class UtilitiesView extends Composite<FlexLayout> {
         .setStyle("max-width", "900px");
 
     self.add(
-        createMenuSection(),
-        createPopupSection(),
-        createMutationObserverSection(),
-        createResizeObserverSection(),
-        createVisuallyHiddenSection());
+        new LazySection(this::createMenuSection).setPlaceholderHeight("320px"),
+        new LazySection(this::createPopupSection).setPlaceholderHeight("260px"),
+        new LazySection(this::createMutationObserverSection).setPlaceholderHeight("200px"),
+        new LazySection(this::createResizeObserverSection).setPlaceholderHeight("240px"),
+        new LazySection(this::createVisuallyHiddenSection).setPlaceholderHeight("140px"));
   }
 
   private Component createMenuSection() {
@@ -0,0 +1,182 @@
+package com.webforj.shoelace.views.lazysection;
+
+import com.google.gson.Gson;
+import com.webforj.component.Component;
+import com.webforj.component.element.ElementCompositeContainer;
+import com.webforj.component.element.annotation.NodeName;
+import com.webforj.concern.HasClassName;
+import com.webforj.concern.HasStyle;
+import com.webforj.concern.HasVisibility;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.shoelace.views.lazysection.event.VisibleEvent;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A container that builds its content when it scrolls into view.
+ *
+ * <p>Long pages made of many independent sections, such as the demo views, otherwise create every
+ * section up front. A lazy section holds only a supplier and an empty placeholder, which keeps
+ * the page at roughly its final height. An {@code IntersectionObserver} in the browser reports
+ * when the placeholder comes within the {@linkplain #setRootMargin(String) root margin} of the
+ * viewport; the section then creates its content once and stops observing.</p>
+ *
+ * <pre>{@code
+ * page.add(new LazySection(this::createTreeSection));
+ * }</pre>
+ *
+ * <p>It renders a plain {@code div}, not a Shoelace element, so it extends
+ * {@link ElementCompositeContainer} directly and its scripts are not counted in the Shoelace
+ * component metrics.</p>
+ */
+@NodeName("div")
+public final class LazySection extends ElementCompositeContainer
+    implements HasClassName<LazySection>, HasStyle<LazySection>, HasVisibility<LazySection> {
+
+  private static final Gson GSON = new Gson();
+
+  private static final String OBSERVE_SCRIPT = """
+      (() => {
+        if (component.__wfsLazy) {
+          component.__wfsLazy.disconnect();
+        }
+        const observer = new IntersectionObserver(entries => {
+          if (entries.some(entry => entry.isIntersecting)) {
+            observer.disconnect();
+            component.__wfsLazy = null;
+            component.dispatchEvent(new CustomEvent('wfs-lazy-visible'));
+          }
+        }, { rootMargin: %s });
+        component.__wfsLazy = observer;
+        observer.observe(component);
+      })()
+      """;
+
+  private static final String DISCONNECT_SCRIPT = """
+      if (component.__wfsLazy) {
+        component.__wfsLazy.disconnect();
+        component.__wfsLazy = null;
+      }
+      """;
+
+  private final Supplier<? extends Component> contentSupplier;
+  private Component content;
+  private String rootMargin = "200px";
+  private String placeholderHeight = "200px";
+  private ListenerRegistration<VisibleEvent<LazySection>> visibleRegistration;
+
+  /**
+   * Creates a lazy section.
+   *
+   * @param contentSupplier creates the content when the section comes into view
+   */
+  public LazySection(Supplier<? extends Component> contentSupplier) {
+    super();
+    this.contentSupplier = Objects.requireNonNull(contentSupplier);
+    setStyle("min-height", placeholderHeight);
+    visibleRegistration = addVisibleListener(event -> load());
+    observe();
+  }
+
+  /**
+   * Sets how far outside the viewport the section starts building its content, as a CSS margin.
+   * A margin lets the content arrive before the user has scrolled to it.
+   *
+   * @param rootMargin the margin, for example {@code 200px} or {@code 50%}
+   * @return this component
+   */
+  public LazySection setRootMargin(String rootMargin) {
+    this.rootMargin = Objects.requireNonNull(rootMargin);
+    if (!isLoaded()) {
+      observe();
+    }
+    return this;
+  }
+
+  /**
+   * Gets how far outside the viewport the section starts building its content.
+   *
+   * @return the margin
+   */
+  public String getRootMargin() {
+    return rootMargin;
+  }
+
+  /**
+   * Sets the height the section takes up until its content is built. A height close to the
+   * content's keeps the scroll position stable and prevents sections further down from all
+   * coming into view at once.
+   *
+   * @param placeholderHeight the height as a CSS length
+   * @return this component
+   */
+  public LazySection setPlaceholderHeight(String placeholderHeight) {
+    this.placeholderHeight = Objects.requireNonNull(placeholderHeight);
+    if (!isLoaded()) {
+      setStyle("min-height", placeholderHeight);
+    }
+    return this;
+  }
+
+  /**
+   * Gets the height the section takes up until its content is built.
+   *
+   * @return the height as a CSS length
+   */
+  public String getPlaceholderHeight() {
+    return placeholderHeight;
+  }
+
+  /**
+   * Checks whether the content has been built.
+   *
+   * @return {@code true} if the content exists
+   */
+  public boolean isLoaded() {
+    return content != null;
+  }
+
+  /**
+   * Builds the content now, unless it is built already, for example before scrolling to the
+   * section.
+   */
+  public void load() {
+    if (content != null) {
+      return;
+    }
+
+    content = contentSupplier.get();
+    removeStyle("min-height");
+    add(content);
+
+    visibleRegistration.remove();
+    getElement().executeJsVoidAsync(DISCONNECT_SCRIPT);
+  }
+
+  /**
+   * Adds a listener for the visible event, fired once when the section comes into view.
+   *
+   * @param listener the event listener
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<VisibleEvent<LazySection>> addVisibleListener(
+      EventListener<VisibleEvent<LazySection>> listener) {
+    return addEventListener(VisibleEvent.class, listener);
+  }
+
+  /**
+   * Adds a listener for the visible event.
+   *
+   * @param listener the event listener
+   * @return a registration for removing the listener
+   */
+  public ListenerRegistration<VisibleEvent<LazySection>> onVisible(
+      EventListener<VisibleEvent<LazySection>> listener) {
+    return addVisibleListener(listener);
+  }
+
+  private void observe() {
+    getElement().executeJsVoidAsync(OBSERVE_SCRIPT.formatted(GSON.toJson(rootMargin)));
+  }
+}
@@ -0,0 +1,21 @@
+package com.webforj.shoelace.views.lazysection.event;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.event.ComponentEvent;
+import java.util.Map;
+
+/**
+ * Emitted once when a LazySection comes near the viewport.
+ *
+ * @param <T> the component type
+ */
+@EventName("wfs-lazy-visible")
+@EventOptions(filter = "event.target.isSameNode(component)")
+public class VisibleEvent<T extends ElementComposite> extends ComponentEvent<T> {
+
+  public VisibleEvent(T component, Map<String, Object> payload) {
+    super(component, payload);
+  }
+}
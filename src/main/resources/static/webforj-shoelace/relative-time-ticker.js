@@ -0,0 +1,131 @@
+// Page-wide ticker for <sl-relative-time> elements in shared sync mode.
+//
+// Instead of one timer per element, a single timer fires at the next wall-clock boundary of the
+// finest unit any visible element needs (second, minute, hour or day) and re-renders only the
+// elements whose unit boundary was crossed. Elements outside the viewport are skipped and
+// refreshed as soon as they scroll back into view. Elements removed from the page are dropped
+// when the observer reports them, so they are not kept alive until the next tick.
+(() => {
+  if (window.__slRelativeTimeTicker) {
+    return;
+  }
+
+  const SECOND = 1000;
+  const MINUTE = 60 * SECOND;
+  const HOUR = 60 * MINUTE;
+  const DAY = 24 * HOUR;
+
+  const elements = new Set();
+  const visible = new Set();
+  let timer = 0;
+
+  // mirrors the update intervals sl-relative-time uses for its own sync timer
+  const granularity = (element, now) => {
+    const then = new Date(element.date).getTime();
+    if (Number.isNaN(then)) {
+      return 0;
+    }
+
+    const diff = Math.abs(now - then);
+    if (diff < 45 * MINUTE) {
+      return SECOND;
+    }
+    if (diff < 20 * HOUR) {
+      return MINUTE;
+    }
+    if (diff < 6 * DAY) {
+      return HOUR;
+    }
+    return DAY;
+  };
+
+  const refresh = (element, now) => {
+    const unit = granularity(element, now);
+    element.__slTickerBucket = unit ? Math.floor(now / unit) : 0;
+    element.requestUpdate();
+  };
+
+  const schedule = () => {
+    clearTimeout(timer);
+    timer = 0;
+
+    const now = Date.now();
+    let wait = Infinity;
+    for (const element of visible) {
+      const unit = granularity(element, now);
+      if (unit) {
+        wait = Math.min(wait, unit - (now % unit));
+      }
+    }
+
+    if (wait !== Infinity) {
+      timer = setTimeout(tick, wait);
+    }
+  };
+
+  const tick = () => {
+    const now = Date.now();
+    for (const element of visible) {
+      if (!element.isConnected) {
+        remove(element);
+        continue;
+      }
+
+      const unit = granularity(element, now);
+      if (unit && Math.floor(now / unit) !== element.__slTickerBucket) {
+        refresh(element, now);
+      }
+    }
+    schedule();
+  };
+
+  const observer = new IntersectionObserver((entries) => {
+    const now = Date.now();
+    for (const entry of entries) {
+      if (!entry.target.isConnected) {
+        remove(entry.target);
+      } else if (entry.isIntersecting) {
+        visible.add(entry.target);
+        refresh(entry.target, now);
+      } else {
+        visible.delete(entry.target);
+      }
+    }
+    schedule();
+  });
+
+  const add = (element) => {
+    if (elements.has(element)) {
+      return;
+    }
+    elements.add(element);
+    observer.observe(element);
+  };
+
+  const remove = (element) => {
+    elements.delete(element);
+    visible.delete(element);
+    observer.unobserve(element);
+  };
+
+  window.__slRelativeTimeTicker = {
+    add,
+    remove(element) {
+      remove(element);
+      schedule();
+    },
+    // re-renders an element whose date changed while registered
+    refresh(element) {
+      if (visible.has(element)) {
+        refresh(element, Date.now());
+        schedule();
+      }
+    },
+  };
+
+  // elements registered before this script finished loading
+  for (const element of window.__slRelativeTimeQueue || []) {
+    add(element);
+  }
+  delete window.__slRelativeTimeQueue;
+})();
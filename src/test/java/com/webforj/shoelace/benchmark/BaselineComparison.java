@@ -0,0 +1,83 @@
+package com.webforj.shoelace.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result documents.
+ *
+ * <p>Benchmarks are matched by name and parameters. A throughput score counts as a regression
+ * when it falls below the baseline by more than the threshold; a time-based score when it rises
+ * above it by more than the threshold. Benchmarks missing from either document are ignored.</p>
+ */
+final class BaselineComparison {
+
+  private final double threshold;
+
+  BaselineComparison(double threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("The threshold must not be negative");
+    }
+    this.threshold = threshold;
+  }
+
+  List<Regression> compare(String baselineJson, String currentJson) {
+    Map<String, Score> baseline = scores(baselineJson);
+    List<Regression> regressions = new ArrayList<>();
+
+    scores(currentJson).forEach((key, current) -> {
+      Score base = baseline.get(key);
+      if (base == null || base.value() == 0) {
+        return;
+      }
+
+      double change = (current.value() - base.value()) / base.value();
+      boolean higherIsBetter = "thrpt".equals(current.mode());
+      if (higherIsBetter ? change < -threshold : change > threshold) {
+        regressions.add(new Regression(key, base.value(), current.value(), current.unit()));
+      }
+    });
+    return regressions;
+  }
+
+  private static Map<String, Score> scores(String json) {
+    Map<String, Score> scores = new TreeMap<>();
+    JsonArray results = JsonParser.parseString(json).getAsJsonArray();
+    for (JsonElement element : results) {
+      JsonObject result = element.getAsJsonObject();
+      JsonObject metric = result.getAsJsonObject("primaryMetric");
+      scores.put(key(result), new Score(result.get("mode").getAsString(),
+          metric.get("score").getAsDouble(), metric.get("scoreUnit").getAsString()));
+    }
+    return scores;
+  }
+
+  private static String key(JsonObject result) {
+    StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+    JsonObject params = result.getAsJsonObject("params");
+    if (params != null) {
+      // sorted, so that the key does not depend on the order JMH writes them in
+      new TreeMap<>(params.asMap()).forEach((name, value) ->
+          key.append(' ').append(name).append('=').append(value.getAsString()));
+    }
+    return key.toString();
+  }
+
+  private record Score(String mode, double value, String unit) {
+  }
+
+  record Regression(String benchmark, double baseline, double current, String unit) {
+
+    @Override
+    public String toString() {
+      return String.format("%s: %.3f -> %.3f %s (%+.1f%%)", benchmark, baseline, current, unit,
+          (current - baseline) / baseline * 100);
+    }
+  }
+}
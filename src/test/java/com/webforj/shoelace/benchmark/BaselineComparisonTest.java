@@ -0,0 +1,76 @@
+package com.webforj.shoelace.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BaselineComparisonTest {
+
+  BaselineComparison comparison = new BaselineComparison(0.15);
+
+  @Test
+  void shouldReportThroughputDropBeyondThreshold() {
+    List<BaselineComparison.Regression> regressions = comparison.compare(
+        results(result("construct", "thrpt", 1000, "Button")),
+        results(result("construct", "thrpt", 800, "Button")));
+
+    assertEquals(1, regressions.size());
+    assertEquals("construct component=Button", regressions.get(0).benchmark());
+    assertEquals(1000, regressions.get(0).baseline());
+    assertEquals(800, regressions.get(0).current());
+  }
+
+  @Test
+  void shouldTolerateThroughputDropWithinThreshold() {
+    assertTrue(comparison.compare(
+        results(result("construct", "thrpt", 1000, "Button")),
+        results(result("construct", "thrpt", 900, "Button"))).isEmpty());
+  }
+
+  @Test
+  void shouldReportTimeIncreaseBeyondThreshold() {
+    assertEquals(1, comparison.compare(
+        results(result("dispatch", "avgt", 100, null)),
+        results(result("dispatch", "avgt", 120, null))).size());
+    assertTrue(comparison.compare(
+        results(result("dispatch", "avgt", 100, null)),
+        results(result("dispatch", "avgt", 60, null))).isEmpty());
+  }
+
+  @Test
+  void shouldMatchBenchmarksByParameters() {
+    List<BaselineComparison.Regression> regressions = comparison.compare(
+        results(result("construct", "thrpt", 1000, "Button"),
+            result("construct", "thrpt", 100, "Select")),
+        results(result("construct", "thrpt", 100, "Select"),
+            result("construct", "thrpt", 500, "Button")));
+
+    assertEquals(1, regressions.size());
+    assertEquals("construct component=Button", regressions.get(0).benchmark());
+  }
+
+  @Test
+  void shouldIgnoreBenchmarksMissingFromBaseline() {
+    assertTrue(comparison.compare(
+        results(result("construct", "thrpt", 1000, "Button")),
+        results(result("construct", "thrpt", 1, "Select"))).isEmpty());
+  }
+
+  @Test
+  void shouldRejectNegativeThreshold() {
+    assertThrows(IllegalArgumentException.class, () -> new BaselineComparison(-0.1));
+  }
+
+  private static String results(String... results) {
+    return "[" + String.join(",", results) + "]";
+  }
+
+  private static String result(String benchmark, String mode, double score, String component) {
+    String params = component == null ? "" : ", \"params\": {\"component\": \"" + component + "\"}";
+    return "{\"benchmark\": \"" + benchmark + "\", \"mode\": \"" + mode + "\"" + params
+        + ", \"primaryMetric\": {\"score\": " + score + ", \"scoreUnit\": \"ops/ms\"}}";
+  }
+}
@@ -0,0 +1,168 @@
+package com.webforj.shoelace.benchmark;
+
+import com.webforj.component.element.ElementComposite;
+import com.webforj.shoelace.components.alert.Alert;
+import com.webforj.shoelace.components.animatedimage.AnimatedImage;
+import com.webforj.shoelace.components.animation.Animation;
+import com.webforj.shoelace.components.avatar.Avatar;
+import com.webforj.shoelace.components.badge.Badge;
+import com.webforj.shoelace.components.breadcrumb.Breadcrumb;
+import com.webforj.shoelace.components.breadcrumbitem.BreadcrumbItem;
+import com.webforj.shoelace.components.button.Button;
+import com.webforj.shoelace.components.button.ButtonGroup;
+import com.webforj.shoelace.components.card.Card;
+import com.webforj.shoelace.components.carousel.Carousel;
+import com.webforj.shoelace.components.carousel.CarouselItem;
+import com.webforj.shoelace.components.checkbox.Checkbox;
+import com.webforj.shoelace.components.colorpicker.ColorPicker;
+import com.webforj.shoelace.components.copybutton.CopyButton;
+import com.webforj.shoelace.components.details.Details;
+import com.webforj.shoelace.components.dialog.Dialog;
+import com.webforj.shoelace.components.divider.Divider;
+import com.webforj.shoelace.components.drawer.Drawer;
+import com.webforj.shoelace.components.dropdown.Dropdown;
+import com.webforj.shoelace.components.formatbytes.FormatBytes;
+import com.webforj.shoelace.components.formatdate.FormatDate;
+import com.webforj.shoelace.components.formatnumber.FormatNumber;
+import com.webforj.shoelace.components.icon.Icon;
+import com.webforj.shoelace.components.iconbutton.IconButton;
+import com.webforj.shoelace.components.imagecomparer.ImageComparer;
+import com.webforj.shoelace.components.include.Include;
+import com.webforj.shoelace.components.input.Input;
+import com.webforj.shoelace.components.menu.Menu;
+import com.webforj.shoelace.components.menuitem.MenuItem;
+import com.webforj.shoelace.components.menulabel.MenuLabel;
+import com.webforj.shoelace.components.mutationobserver.MutationObserver;
+import com.webforj.shoelace.components.option.Option;
+import com.webforj.shoelace.components.popup.Popup;
+import com.webforj.shoelace.components.progressbar.ProgressBar;
+import com.webforj.shoelace.components.progressring.ProgressRing;
+import com.webforj.shoelace.components.qrcode.QrCode;
+import com.webforj.shoelace.components.radio.Radio;
+import com.webforj.shoelace.components.radiobutton.RadioButton;
+import com.webforj.shoelace.components.radiogroup.RadioGroup;
+import com.webforj.shoelace.components.range.Range;
+import com.webforj.shoelace.components.rating.Rating;
+import com.webforj.shoelace.components.relativetime.RelativeTime;
+import com.webforj.shoelace.components.resizeobserver.ResizeObserver;
+import com.webforj.shoelace.components.select.Select;
+import com.webforj.shoelace.components.skeleton.Skeleton;
+import com.webforj.shoelace.components.spinner.Spinner;
+import com.webforj.shoelace.components.splitpanel.SplitPanel;
+import com.webforj.shoelace.components.switchc.Switch;
+import com.webforj.shoelace.components.tab.Tab;
+import com.webforj.shoelace.components.tabgroup.TabGroup;
+import com.webforj.shoelace.components.tabpanel.TabPanel;
+import com.webforj.shoelace.components.tag.Tag;
+import com.webforj.shoelace.components.textarea.Textarea;
+import com.webforj.shoelace.components.tooltip.Tooltip;
+import com.webforj.shoelace.components.tree.Tree;
+import com.webforj.shoelace.components.treeitem.TreeItem;
+import com.webforj.shoelace.components.visuallyhidden.VisuallyHidden;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Every Shoelace component, by simple class name. The benchmarks take the names as parameters, so
+ * this registry must list each component that the {@code @Param} lists name;
+ * {@code ComponentsTest} checks that both list the same components.
+ */
+final class Components {
+
+  private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>();
+
+  static {
+    put("Alert", Alert.class, Alert::new);
+    put("AnimatedImage", AnimatedImage.class, AnimatedImage::new);
+    put("Animation", Animation.class, Animation::new);
+    put("Avatar", Avatar.class, Avatar::new);
+    put("Badge", Badge.class, Badge::new);
+    put("Breadcrumb", Breadcrumb.class, Breadcrumb::new);
+    put("BreadcrumbItem", BreadcrumbItem.class, BreadcrumbItem::new);
+    put("Button", Button.class, Button::new);
+    put("ButtonGroup", ButtonGroup.class, ButtonGroup::new);
+    put("Card", Card.class, Card::new);
+    put("Carousel", Carousel.class, Carousel::new);
+    put("CarouselItem", CarouselItem.class, CarouselItem::new);
+    put("Checkbox", Checkbox.class, Checkbox::new);
+    put("ColorPicker", ColorPicker.class, ColorPicker::new);
+    put("CopyButton", CopyButton.class, CopyButton::new);
+    put("Details", Details.class, Details::new);
+    put("Dialog", Dialog.class, Dialog::new);
+    put("Divider", Divider.class, Divider::new);
+    put("Drawer", Drawer.class, Drawer::new);
+    put("Dropdown", Dropdown.class, Dropdown::new);
+    put("FormatBytes", FormatBytes.class, FormatBytes::new);
+    put("FormatDate", FormatDate.class, FormatDate::new);
+    put("FormatNumber", FormatNumber.class, FormatNumber::new);
+    put("Icon", Icon.class, Icon::new);
+    put("IconButton", IconButton.class, IconButton::new);
+    put("ImageComparer", ImageComparer.class, ImageComparer::new);
+    put("Include", Include.class, Include::new);
+    put("Input", Input.class, Input::new);
+    put("Menu", Menu.class, Menu::new);
+    put("MenuItem", MenuItem.class, MenuItem::new);
+    put("MenuLabel", MenuLabel.class, MenuLabel::new);
+    put("MutationObserver", MutationObserver.class, MutationObserver::new);
+    put("Option", Option.class, Option::new);
+    put("Popup", Popup.class, Popup::new);
+    put("ProgressBar", ProgressBar.class, ProgressBar::new);
+    put("ProgressRing", ProgressRing.class, ProgressRing::new);
+    put("QrCode", QrCode.class, QrCode::new);
+    put("Radio", Radio.class, Radio::new);
+    put("RadioButton", RadioButton.class, RadioButton::new);
+    put("RadioGroup", RadioGroup.class, RadioGroup::new);
+    put("Range", Range.class, Range::new);
+    put("Rating", Rating.class, Rating::new);
+    put("RelativeTime", RelativeTime.class, RelativeTime::new);
+    put("ResizeObserver", ResizeObserver.class, ResizeObserver::new);
+    put("Select", Select.class, Select::new);
+    put("Skeleton", Skeleton.class, Skeleton::new);
+    put("Spinner", Spinner.class, Spinner::new);
+    put("SplitPanel", SplitPanel.class, SplitPanel::new);
+    put("Switch", Switch.class, Switch::new);
+    put("Tab", Tab.class, Tab::new);
+    put("TabGroup", TabGroup.class, TabGroup::new);
+    put("TabPanel", TabPanel.class, TabPanel::new);
+    put("Tag", Tag.class, Tag::new);
+    put("Textarea", Textarea.class, Textarea::new);
+    put("Tooltip", Tooltip.class, Tooltip::new);
+    put("Tree", Tree.class, Tree::new);
+    put("TreeItem", TreeItem.class, TreeItem::new);
+    put("VisuallyHidden", VisuallyHidden.class, VisuallyHidden::new);
+  }
+
+  private Components() {
+  }
+
+  static Set<String> names() {
+    return ENTRIES.keySet();
+  }
+
+  static Supplier<? extends ElementComposite> constructor(String name) {
+    return entry(name).constructor();
+  }
+
+  static Class<? extends ElementComposite> type(String name) {
+    return entry(name).type();
+  }
+
+  private static Entry entry(String name) {
+    Entry entry = ENTRIES.get(name);
+    if (entry == null) {
+      throw new IllegalArgumentException("Unknown component: " + name);
+    }
+    return entry;
+  }
+
+  private static <T extends ElementComposite> void put(String name, Class<T> type,
+      Supplier<T> constructor) {
+    ENTRIES.put(name, new Entry(type, constructor));
+  }
+
+  private record Entry(Class<? extends ElementComposite> type,
+      Supplier<? extends ElementComposite> constructor) {
+  }
+}
@@ -0,0 +1,44 @@
+package com.webforj.shoelace.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the component benchmark covers exactly the components of the registry.
+ *
+ * <p>The benchmarks are only compiled in the {@code benchmark} profile, so the {@code @Param}
+ * list is read from the benchmark source instead of its class.</p>
+ */
+class ComponentsTest {
+
+  private static final Path BENCHMARK =
+      Path.of("src/jmh/java/com/webforj/shoelace/benchmark/ComponentBenchmark.java");
+  private static final Pattern PARAM =
+      Pattern.compile("@Param\\(\\{([^}]*)}\\)\\s+String component");
+  private static final Pattern NAME = Pattern.compile("\"([^\"]+)\"");
+
+  @Test
+  void shouldBenchmarkEveryRegisteredComponent() throws IOException {
+    assertTrue(Files.isRegularFile(BENCHMARK), "Benchmark source not found at " + BENCHMARK);
+
+    Matcher param = PARAM.matcher(Files.readString(BENCHMARK));
+    assertTrue(param.find(), "No @Param list on ComponentBenchmark.component");
+
+    List<String> names = new ArrayList<>();
+    Matcher name = NAME.matcher(param.group(1));
+    while (name.find()) {
+      names.add(name.group(1));
+    }
+
+    assertEquals(List.copyOf(Components.names()), names);
+  }
+}
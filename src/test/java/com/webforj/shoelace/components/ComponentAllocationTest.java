@@ -0,0 +1,273 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.sun.management.ThreadMXBean;
+import com.webforj.component.element.PropertyDescriptor;
+import com.webforj.shoelace.components.alert.Alert;
+import com.webforj.shoelace.components.animatedimage.AnimatedImage;
+import com.webforj.shoelace.components.animation.Animation;
+import com.webforj.shoelace.components.avatar.Avatar;
+import com.webforj.shoelace.components.badge.Badge;
+import com.webforj.shoelace.components.breadcrumb.Breadcrumb;
+import com.webforj.shoelace.components.breadcrumbitem.BreadcrumbItem;
+import com.webforj.shoelace.components.button.Button;
+import com.webforj.shoelace.components.button.ButtonGroup;
+import com.webforj.shoelace.components.card.Card;
+import com.webforj.shoelace.components.carousel.Carousel;
+import com.webforj.shoelace.components.carousel.CarouselItem;
+import com.webforj.shoelace.components.checkbox.Checkbox;
+import com.webforj.shoelace.components.colorpicker.ColorPicker;
+import com.webforj.shoelace.components.copybutton.CopyButton;
+import com.webforj.shoelace.components.details.Details;
+import com.webforj.shoelace.components.dialog.Dialog;
+import com.webforj.shoelace.components.divider.Divider;
+import com.webforj.shoelace.components.drawer.Drawer;
+import com.webforj.shoelace.components.dropdown.Dropdown;
+import com.webforj.shoelace.components.formatbytes.FormatBytes;
+import com.webforj.shoelace.components.formatdate.FormatDate;
+import com.webforj.shoelace.components.formatnumber.FormatNumber;
+import com.webforj.shoelace.components.icon.Icon;
+import com.webforj.shoelace.components.iconbutton.IconButton;
+import com.webforj.shoelace.components.imagecomparer.ImageComparer;
+import com.webforj.shoelace.components.include.Include;
+import com.webforj.shoelace.components.input.Input;
+import com.webforj.shoelace.components.menu.Menu;
+import com.webforj.shoelace.components.menuitem.MenuItem;
+import com.webforj.shoelace.components.menulabel.MenuLabel;
+import com.webforj.shoelace.components.mutationobserver.MutationObserver;
+import com.webforj.shoelace.components.option.Option;
+import com.webforj.shoelace.components.popup.Popup;
+import com.webforj.shoelace.components.progressbar.ProgressBar;
+import com.webforj.shoelace.components.progressring.ProgressRing;
+import com.webforj.shoelace.components.qrcode.QrCode;
+import com.webforj.shoelace.components.radio.Radio;
+import com.webforj.shoelace.components.radiobutton.RadioButton;
+import com.webforj.shoelace.components.radiogroup.RadioGroup;
+import com.webforj.shoelace.components.range.Range;
+import com.webforj.shoelace.components.rating.Rating;
+import com.webforj.shoelace.components.relativetime.RelativeTime;
+import com.webforj.shoelace.components.resizeobserver.ResizeObserver;
+import com.webforj.shoelace.components.select.Select;
+import com.webforj.shoelace.components.skeleton.Skeleton;
+import com.webforj.shoelace.components.spinner.Spinner;
+import com.webforj.shoelace.components.splitpanel.SplitPanel;
+import com.webforj.shoelace.components.switchc.Switch;
+import com.webforj.shoelace.components.tab.Tab;
+import com.webforj.shoelace.components.tabgroup.TabGroup;
+import com.webforj.shoelace.components.tabpanel.TabPanel;
+import com.webforj.shoelace.components.tag.Tag;
+import com.webforj.shoelace.components.textarea.Textarea;
+import com.webforj.shoelace.components.tooltip.Tooltip;
+import com.webforj.shoelace.components.tree.Tree;
+import com.webforj.shoelace.components.treeitem.TreeItem;
+import com.webforj.shoelace.components.visuallyhidden.VisuallyHidden;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Guards against per-instance allocation regressions in the component wrappers.
+ *
+ * <p>Property descriptors are immutable and shared by every instance of a component. The bytes
+ * one instance of each component allocates are compared with the value recorded for that
+ * component in {@code performance/allocation-baseline.json}, so a component only fails when its
+ * own cost grows.</p>
+ *
+ * <p>Run with {@code -Dallocation.record=true} to write the measured values to
+ * {@code target/performance/allocation-baseline.json}, then copy them over the baseline after an
+ * intended change or when adding a component. A component without a recorded value fails, except
+ * while recording.</p>
+ */
+class ComponentAllocationTest {
+
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 2_000;
+
+  /**
+   * Allowed growth over the recorded value, in bytes and as a fraction of it, whichever is
+   * larger. A single instance-level descriptor table of even ten entries costs more than this.
+   */
+  private static final long TOLERANCE_BYTES = 64;
+  private static final double TOLERANCE_RATIO = 0.1;
+
+  private static final String BASELINE = "/performance/allocation-baseline.json";
+  private static final boolean RECORD = Boolean.getBoolean("allocation.record");
+  private static final Path RECORDED = Path.of("target", "performance",
+      "allocation-baseline.json");
+
+  static JsonObject baseline;
+  static Map<String, Long> measured = new ConcurrentHashMap<>();
+
+  static Stream<Arguments> components() {
+    return Stream.of(
+        component(Alert.class, Alert::new),
+        component(AnimatedImage.class, AnimatedImage::new),
+        component(Animation.class, Animation::new),
+        component(Avatar.class, Avatar::new),
+        component(Badge.class, Badge::new),
+        component(Breadcrumb.class, Breadcrumb::new),
+        component(BreadcrumbItem.class, BreadcrumbItem::new),
+        component(Button.class, Button::new),
+        component(ButtonGroup.class, ButtonGroup::new),
+        component(Card.class, Card::new),
+        component(Carousel.class, Carousel::new),
+        component(CarouselItem.class, CarouselItem::new),
+        component(Checkbox.class, Checkbox::new),
+        component(ColorPicker.class, ColorPicker::new),
+        component(CopyButton.class, CopyButton::new),
+        component(Details.class, Details::new),
+        component(Dialog.class, Dialog::new),
+        component(Divider.class, Divider::new),
+        component(Drawer.class, Drawer::new),
+        component(Dropdown.class, Dropdown::new),
+        component(FormatBytes.class, FormatBytes::new),
+        component(FormatDate.class, FormatDate::new),
+        component(FormatNumber.class, FormatNumber::new),
+        component(Icon.class, Icon::new),
+        component(IconButton.class, IconButton::new),
+        component(ImageComparer.class, ImageComparer::new),
+        component(Include.class, Include::new),
+        component(Input.class, Input::new),
+        component(Menu.class, Menu::new),
+        component(MenuItem.class, MenuItem::new),
+        component(MenuLabel.class, MenuLabel::new),
+        component(MutationObserver.class, MutationObserver::new),
+        component(Option.class, Option::new),
+        component(Popup.class, Popup::new),
+        component(ProgressBar.class, ProgressBar::new),
+        component(ProgressRing.class, ProgressRing::new),
+        component(QrCode.class, QrCode::new),
+        component(Radio.class, Radio::new),
+        component(RadioButton.class, RadioButton::new),
+        component(RadioGroup.class, RadioGroup::new),
+        component(Range.class, Range::new),
+        component(Rating.class, Rating::new),
+        component(RelativeTime.class, RelativeTime::new),
+        component(ResizeObserver.class, ResizeObserver::new),
+        component(Select.class, Select::new),
+        component(Skeleton.class, Skeleton::new),
+        component(Spinner.class, Spinner::new),
+        component(SplitPanel.class, SplitPanel::new),
+        component(Switch.class, Switch::new),
+        component(Tab.class, Tab::new),
+        component(TabGroup.class, TabGroup::new),
+        component(TabPanel.class, TabPanel::new),
+        component(Tag.class, Tag::new),
+        component(Textarea.class, Textarea::new),
+        component(Tooltip.class, Tooltip::new),
+        component(Tree.class, Tree::new),
+        component(TreeItem.class, TreeItem::new),
+        component(VisuallyHidden.class, VisuallyHidden::new));
+  }
+
+  @BeforeAll
+  static void readBaseline() throws IOException {
+    try (InputStream in = ComponentAllocationTest.class.getResourceAsStream(BASELINE)) {
+      baseline = in == null ? new JsonObject()
+          : new Gson().fromJson(new InputStreamReader(in, StandardCharsets.UTF_8),
+              JsonObject.class);
+    }
+  }
+
+  @AfterAll
+  static void recordBaseline() throws IOException {
+    if (RECORD && !measured.isEmpty()) {
+      Files.createDirectories(RECORDED.getParent());
+      Files.writeString(RECORDED, new GsonBuilder().setPrettyPrinting().create()
+          .toJson(new TreeMap<>(measured)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Descriptor tables")
+  class DescriptorTables {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.webforj.shoelace.components.ComponentAllocationTest#components")
+    void shouldDeclareDescriptorsAsSharedConstants(Class<?> type, Supplier<?> factory) {
+      for (Field field : type.getDeclaredFields()) {
+        if (PropertyDescriptor.class.isAssignableFrom(field.getType())) {
+          int modifiers = field.getModifiers();
+          assertTrue(Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers),
+              type.getSimpleName() + "." + field.getName() + " must be static final");
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Allocation")
+  class Allocation {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("com.webforj.shoelace.components.ComponentAllocationTest#components")
+    void shouldStayWithinAllocationBudget(Class<?> type, Supplier<?> factory) {
+      String name = type.getSimpleName();
+      long perInstance = bytesPerInstance(factory);
+      measured.put(name, perInstance);
+
+      if (RECORD) {
+        return;
+      }
+      if (!baseline.has(name)) {
+        fail("No allocation baseline recorded for " + name + ", run with"
+            + " -Dallocation.record=true and add it to " + BASELINE);
+      }
+      long recorded = baseline.get(name).getAsLong();
+      long limit = recorded + Math.max(TOLERANCE_BYTES, (long) (recorded * TOLERANCE_RATIO));
+      assertTrue(perInstance <= limit, name + " allocates " + perInstance
+          + " bytes per instance, recorded baseline is " + recorded + " bytes");
+    }
+  }
+
+  private static Arguments component(Class<?> type, Supplier<?> factory) {
+    return Arguments.of(type, factory);
+  }
+
+  private static long bytesPerInstance(Supplier<?> factory) {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+        "Thread allocation accounting is not available on this JVM");
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported(),
+        "Thread allocation accounting is not supported on this JVM");
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    Object[] sink = new Object[Math.max(WARMUP, ITERATIONS)];
+    for (int i = 0; i < WARMUP; i++) {
+      sink[i] = factory.get();
+    }
+
+    long threadId = Thread.currentThread().threadId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink[i] = factory.get();
+    }
+    long after = threads.getThreadAllocatedBytes(threadId);
+
+    return (after - before) / ITERATIONS;
+  }
+}
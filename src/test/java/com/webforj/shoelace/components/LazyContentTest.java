@@ -0,0 +1,67 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.component.Component;
+import com.webforj.shoelace.components.divider.Divider;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyContentTest {
+
+  List<Component> attached;
+  LazyContent content;
+
+  @BeforeEach
+  void setUp() {
+    attached = new ArrayList<>();
+    content = new LazyContent(attached::add);
+  }
+
+  @Test
+  void shouldDoNothingWithoutSupplier() {
+    assertFalse(content.isLazy());
+    assertFalse(content.load());
+    assertTrue(attached.isEmpty());
+  }
+
+  @Test
+  void shouldCreateContentOnce() {
+    content.setSupplier(Divider::new);
+    assertTrue(content.isLazy());
+    assertFalse(content.isLoaded());
+
+    assertTrue(content.load());
+    assertFalse(content.load());
+    assertTrue(content.isLoaded());
+    assertEquals(1, attached.size());
+  }
+
+  @Test
+  void shouldDestroyContentOnUnload() {
+    content.setSupplier(Divider::new);
+    content.load();
+    Component first = attached.get(0);
+
+    content.unload();
+    assertTrue(first.isDestroyed());
+    assertFalse(content.isLoaded());
+
+    content.load();
+    assertEquals(2, attached.size());
+  }
+
+  @Test
+  void shouldDestroyContentOfReplacedSupplier() {
+    content.setSupplier(Divider::new);
+    content.load();
+
+    content.setSupplier(Divider::new);
+    assertTrue(attached.get(0).isDestroyed());
+    assertFalse(content.isLoaded());
+  }
+}
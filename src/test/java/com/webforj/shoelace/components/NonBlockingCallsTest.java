@@ -0,0 +1,47 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fails when a component wrapper calls into the browser synchronously.
+ *
+ * <p>{@code Element.callJsFunction} and {@code Element.executeJs} block the server thread until
+ * the client answers. Wrappers must use the {@code *Async} variants instead.</p>
+ */
+class NonBlockingCallsTest {
+
+  private static final Path SOURCES = Paths.get("src/main/java/com/webforj/shoelace/components");
+  private static final Pattern BLOCKING_CALL =
+      Pattern.compile("\\.(callJsFunction|executeJs)\\s*\\(");
+
+  @Test
+  void shouldNotMakeBlockingJsCalls() throws IOException {
+    assertTrue(Files.isDirectory(SOURCES), "Component sources not found at " + SOURCES);
+
+    List<String> violations = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(SOURCES)) {
+      for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".java"))::iterator) {
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 0; i < lines.size(); i++) {
+          if (BLOCKING_CALL.matcher(lines.get(i)).find()) {
+            violations.add(SOURCES.relativize(file) + ":" + (i + 1) + ": " + lines.get(i).trim());
+          }
+        }
+      }
+    }
+
+    assertTrue(violations.isEmpty(),
+        "Blocking JS calls found, use the *Async variants instead:\n"
+            + String.join("\n", violations));
+  }
+}
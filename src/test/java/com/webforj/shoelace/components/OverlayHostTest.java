@@ -0,0 +1,73 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.webforj.concern.HasComponents;
+import com.webforj.shoelace.components.dialog.Dialog;
+import com.webforj.shoelace.components.dialog.DialogHost;
+import com.webforj.shoelace.components.divider.Divider;
+import com.webforj.shoelace.components.drawer.Drawer;
+import com.webforj.shoelace.components.drawer.DrawerHost;
+import com.webforj.shoelace.event.AfterHideEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OverlayHostTest {
+
+  HasComponents container;
+  DialogHost host;
+
+  @BeforeEach
+  void setUp() {
+    container = mock(HasComponents.class);
+    host = new DialogHost(container);
+  }
+
+  @Test
+  void shouldCreateOverlayOnce() {
+    Dialog dialog = host.getDialog();
+    assertSame(dialog, host.getDialog());
+    verify(container, times(1)).add(any(Dialog.class));
+
+    DrawerHost drawers = new DrawerHost(container);
+    Drawer drawer = drawers.getDrawer();
+    assertSame(drawer, drawers.getDrawer());
+    verify(container, times(1)).add(any(Drawer.class));
+  }
+
+  @Test
+  void shouldDestroyReplacedContent() {
+    Divider first = new Divider();
+    Divider second = new Divider();
+
+    host.setContent(first);
+    host.setContent(second);
+
+    assertTrue(first.isDestroyed());
+    assertFalse(second.isDestroyed());
+  }
+
+  @Test
+  void shouldDestroyContentOnClear() {
+    Divider body = new Divider();
+    Divider footer = new Divider();
+
+    host.setContent(body).setFooter(footer).clear();
+
+    assertTrue(body.isDestroyed());
+    assertTrue(footer.isDestroyed());
+  }
+
+  @Test
+  void shouldClearOnHideByDefault() {
+    assertTrue(host.isClearOnHide());
+    assertTrue(host.getDialog().getEventListeners(AfterHideEvent.class).size() > 0);
+    assertFalse(host.setClearOnHide(false).isClearOnHide());
+  }
+}
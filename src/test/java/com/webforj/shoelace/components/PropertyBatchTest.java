@@ -0,0 +1,76 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.shoelace.components.button.Button;
+import com.webforj.shoelace.components.select.Select;
+import com.webforj.shoelace.metrics.ShoelaceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PropertyBatchTest {
+
+  @AfterEach
+  void tearDown() {
+    ShoelaceMetrics.unbind();
+  }
+
+  @Test
+  void shouldKeepLastWritePerProperty() {
+    Select select = new Select();
+
+    try (PropertyBatch batch = PropertyBatch.open()) {
+      select.setLabel("first").setName("size").setLabel("second");
+      assertEquals(2, batch.size());
+      assertEquals("second", select.getLabel());
+    }
+
+    assertEquals("second", select.getLabel());
+    assertEquals("size", select.getName());
+  }
+
+  @Test
+  void shouldSendOnlyTheLastWrite() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ShoelaceMetrics.bind(registry, 1);
+    Button button = new Button();
+
+    PropertyBatch.run(() -> button.setDisabled(true).setCaret(true).setDisabled(false));
+
+    assertFalse(button.isDisabled());
+    assertEquals(1, registry.get(ShoelaceMetrics.PROPERTY_SYNCS)
+        .tag("component", "Button").tag("property", "disabled").counter().count());
+  }
+
+  @Test
+  void shouldApplyWhenOutermostBatchCloses() {
+    Select select = new Select();
+    PropertyBatch outer = PropertyBatch.open();
+
+    try (PropertyBatch inner = PropertyBatch.open()) {
+      assertSame(outer, inner);
+      select.setLabel("nested");
+    }
+    assertEquals(1, outer.size());
+
+    outer.close();
+    assertEquals(0, outer.size());
+    assertEquals("nested", select.getLabel());
+    assertNull(PropertyBatch.current());
+  }
+
+  @Test
+  void shouldWriteDirectlyWithoutBatch() {
+    Button button = new Button();
+
+    button.setDisabled(true);
+
+    assertNull(PropertyBatch.current());
+    assertTrue(button.isDisabled());
+  }
+}
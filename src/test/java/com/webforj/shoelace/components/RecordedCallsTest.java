@@ -0,0 +1,70 @@
+package com.webforj.shoelace.components;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fails when a component calls into its element without going through
+ * {@link com.webforj.shoelace.metrics.ShoelaceMetrics}, or bypasses the component base classes.
+ *
+ * <p>Calls made directly on the element would be missing from the metrics. Scripts run on the
+ * page, which belong to no component, are allowed.</p>
+ */
+class RecordedCallsTest {
+
+  private static final Path SOURCES = Paths.get("src/main/java/com/webforj/shoelace/components");
+  private static final Pattern DIRECT_CALL =
+      Pattern.compile("\\.(callJsFunction|executeJs)\\w*\\s*\\(");
+  private static final Pattern PAGE_CALL =
+      Pattern.compile("(Page\\.getCurrent\\(\\)|\\bpage)\\.executeJs");
+  private static final Pattern DIRECT_BASE =
+      Pattern.compile("class \\w+ extends ElementComposite(Container)?\\b");
+
+  @Test
+  void shouldRecordEveryJsCall() throws IOException {
+    List<String> violations = scan(line ->
+        DIRECT_CALL.matcher(line).find() && !PAGE_CALL.matcher(line).find());
+
+    assertTrue(violations.isEmpty(),
+        "Unrecorded JS calls found, use ShoelaceMetrics.call/callAsync/execute/executeAsync:\n"
+            + String.join("\n", violations));
+  }
+
+  @Test
+  void shouldExtendShoelaceBaseClasses() throws IOException {
+    List<String> violations = scan(line ->
+        DIRECT_BASE.matcher(line).find() && !line.contains("abstract class Shoelace"));
+
+    assertTrue(violations.isEmpty(),
+        "Components must extend ShoelaceComposite or ShoelaceCompositeContainer:\n"
+            + String.join("\n", violations));
+  }
+
+  private static List<String> scan(Predicate<String> violation)
+      throws IOException {
+    assertTrue(Files.isDirectory(SOURCES), "Component sources not found at " + SOURCES);
+
+    List<String> violations = new ArrayList<>();
+    try (Stream<Path> files = Files.walk(SOURCES)) {
+      for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".java"))::iterator) {
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 0; i < lines.size(); i++) {
+          if (violation.test(lines.get(i))) {
+            violations.add(SOURCES.relativize(file) + ":" + (i + 1) + ": " + lines.get(i).trim());
+          }
+        }
+      }
+    }
+    return violations;
+  }
+}
@@ -0,0 +1,170 @@
+package com.webforj.shoelace.components.alert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.webforj.concern.HasComponents;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ToastManagerTest {
+
+  HasComponents container;
+  MutableClock clock;
+  ToastManager manager;
+
+  @BeforeEach
+  void setUp() {
+    container = mock(HasComponents.class);
+    clock = new MutableClock();
+    manager = new ToastManager(container, clock).setMaxVisible(2).setMaxQueued(3);
+  }
+
+  @Test
+  void shouldShowUpToMaxVisible() {
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+
+    assertEquals(2, manager.getVisibleCount());
+    assertEquals(1, manager.getQueuedCount());
+    verify(container, times(2)).add(any(Alert.class));
+  }
+
+  @Test
+  void shouldMergeIdenticalMessages() {
+    manager.toast("offline", AlertVariant.DANGER);
+    manager.toast("offline", AlertVariant.DANGER);
+    manager.toast("offline", AlertVariant.DANGER);
+
+    assertEquals(1, manager.getVisibleCount());
+    assertEquals(3, manager.getVisible("offline", AlertVariant.DANGER).getRepeats());
+  }
+
+  @Test
+  void shouldDistinguishVariants() {
+    manager.toast("saved", AlertVariant.SUCCESS);
+    manager.toast("saved", AlertVariant.WARNING);
+
+    assertEquals(2, manager.getVisibleCount());
+  }
+
+  @Test
+  void shouldDropOldestWhenQueueIsFull() {
+    for (int i = 0; i < 10; i++) {
+      manager.toast("message " + i);
+    }
+
+    assertEquals(2, manager.getVisibleCount());
+    assertEquals(3, manager.getQueuedCount());
+    assertEquals(5, manager.getDroppedCount());
+  }
+
+  @Test
+  void shouldPromoteQueuedToastWhenOneCloses() {
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+
+    ToastManager.Toast first = manager.getVisible("a", AlertVariant.PRIMARY);
+    manager.closed(first);
+
+    assertTrue(first.getAlert().isDestroyed());
+    assertEquals(2, manager.getVisibleCount());
+    assertEquals(0, manager.getQueuedCount());
+  }
+
+  @Test
+  void shouldExpireStaleQueuedToasts() {
+    manager.setMaxAge(Duration.ofSeconds(10));
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+
+    clock.advance(Duration.ofSeconds(11));
+    manager.closed(manager.getVisible("a", AlertVariant.PRIMARY));
+
+    assertEquals(1, manager.getVisibleCount());
+    assertEquals(1, manager.getDroppedCount());
+  }
+
+  @Test
+  void shouldExpireStaleQueuedToastsWhenNewOnesArrive() {
+    manager.setMaxAge(Duration.ofSeconds(10));
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+    manager.toast("d");
+
+    clock.advance(Duration.ofSeconds(11));
+    manager.toast("e");
+
+    assertEquals(2, manager.getVisibleCount());
+    assertEquals(1, manager.getQueuedCount());
+    assertEquals(2, manager.getDroppedCount());
+  }
+
+  @Test
+  void shouldNotMergeIntoExpiredToast() {
+    manager.setMaxAge(Duration.ofSeconds(10));
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+
+    clock.advance(Duration.ofSeconds(11));
+    manager.toast("c");
+
+    assertEquals(1, manager.getQueuedCount());
+    assertEquals(1, manager.getDroppedCount());
+  }
+
+  @Test
+  void shouldDropEverythingThatCannotShowWithoutQueue() {
+    manager.setMaxQueued(0);
+    manager.toast("a");
+    manager.toast("b");
+    manager.toast("c");
+
+    assertEquals(0, manager.getQueuedCount());
+    assertEquals(1, manager.getDroppedCount());
+  }
+
+  @Test
+  void shouldRejectInvalidLimits() {
+    assertThrows(IllegalArgumentException.class, () -> manager.setMaxVisible(0));
+    assertThrows(IllegalArgumentException.class, () -> manager.setMaxQueued(-1));
+  }
+
+  static class MutableClock extends Clock {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -3,10 +3,14 @@ package com.webforj.shoelace.components.carousel;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import com.webforj.shoelace.components.carousel.event.SlideChangeEvent;
+import com.webforj.shoelace.components.divider.Divider;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -171,4 +175,100 @@ class CarouselTest {
       assertEquals(1, component.getEventListeners(SlideChangeEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Slide provider API")
+  class SlideProviderApi {
+
+    @Test
+    void shouldMaterializeOnlyWindow() {
+      List<Integer> created = new ArrayList<>();
+      component.setSlideProvider(100, index -> {
+        created.add(index);
+        return new Divider();
+      });
+
+      assertEquals(100, component.getSlideCount());
+      assertEquals(List.of(0, 1), created);
+      assertTrue(component.isSlideMaterialized(1));
+      assertFalse(component.isSlideMaterialized(2));
+      assertEquals(1, component.getEventListeners(SlideChangeEvent.class).size());
+    }
+
+    @Test
+    void shouldMoveWindowOnGoToSlide() {
+      component.setSlideProvider(100, index -> new Divider());
+      component.goToSlide(50);
+
+      assertFalse(component.isSlideMaterialized(0));
+      assertTrue(component.isSlideMaterialized(49));
+      assertTrue(component.isSlideMaterialized(50));
+      assertTrue(component.isSlideMaterialized(51));
+      assertFalse(component.isSlideMaterialized(52));
+    }
+
+    @Test
+    void shouldWrapWindowWhenLooping() {
+      component.setLoop(true).setSlideProvider(10, index -> new Divider());
+      component.goToSlide(-1);
+
+      assertTrue(component.isSlideMaterialized(8));
+      assertTrue(component.isSlideMaterialized(9));
+      assertTrue(component.isSlideMaterialized(0));
+      assertFalse(component.isSlideMaterialized(1));
+    }
+
+    @Test
+    void shouldCoverPageAndNeighbours() {
+      component.setSlidesPerPage(3).setSlideWindow(2).setSlideProvider(20, index -> new Divider());
+
+      for (int i = 0; i <= 4; i++) {
+        assertTrue(component.isSlideMaterialized(i));
+      }
+      assertFalse(component.isSlideMaterialized(5));
+    }
+
+    @Test
+    void shouldReplaceProvidedSlides() {
+      component.setSlideProvider(100, index -> new Divider());
+      CarouselItem first = component.getProvidedSlides().get(0);
+
+      component.setSlideProvider(5, index -> new Divider());
+
+      assertTrue(first.isDestroyed());
+      assertEquals(5, component.getSlideCount());
+      assertEquals(1, component.getEventListeners(SlideChangeEvent.class).size());
+    }
+
+    @Test
+    void shouldRestoreNormalModeWhenCleared() {
+      component.setSlideProvider(10, index -> new Divider());
+      CarouselItem first = component.getProvidedSlides().get(0);
+
+      component.clearSlideProvider();
+
+      assertTrue(first.isDestroyed());
+      assertEquals(0, component.getSlideCount());
+      assertEquals(0, component.getEventListeners(SlideChangeEvent.class).size());
+      assertDoesNotThrow(() -> component.add(new CarouselItem()));
+    }
+
+    @Test
+    void shouldRejectMixingWithAddedSlides() {
+      component.add(new CarouselItem());
+      assertThrows(IllegalStateException.class,
+          () -> component.setSlideProvider(10, index -> new Divider()));
+
+      component.removeAll();
+      component.setSlideProvider(10, index -> new Divider());
+      assertThrows(IllegalStateException.class, () -> component.add(new CarouselItem()));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+      assertThrows(IllegalArgumentException.class,
+          () -> component.setSlideProvider(-1, index -> new Divider()));
+      assertThrows(IllegalArgumentException.class, () -> component.setSlideWindow(-1));
+    }
+  }
 }
@@ -6,10 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
+import com.webforj.shoelace.components.divider.Divider;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -115,4 +117,50 @@ class DetailsTest {
       assertEquals(1, component.getEventListeners(AfterHideEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Lazy content API")
+  class LazyContentApi {
+
+    @Test
+    void shouldDeferContentUntilShown() {
+      AtomicInteger created = new AtomicInteger();
+      component.setLazyContent(() -> {
+        created.incrementAndGet();
+        return new Divider();
+      });
+
+      assertTrue(component.isLazy());
+      assertFalse(component.isLoaded());
+      assertEquals(0, created.get());
+      assertEquals(1, component.getEventListeners(ShowEvent.class).size());
+
+      component.show();
+      component.show();
+      assertTrue(component.isLoaded());
+      assertEquals(1, created.get());
+    }
+
+    @Test
+    void shouldLoadImmediatelyWhenOpen() {
+      component.setOpen(true).setLazyContent(Divider::new);
+      assertTrue(component.isLoaded());
+    }
+
+    @Test
+    void shouldReleaseContentOnHide() {
+      Divider content = new Divider();
+      component.setLazyContent(() -> content).setReleaseOnHide(true);
+      assertTrue(component.isReleaseOnHide());
+      assertEquals(1, component.getEventListeners(AfterHideEvent.class).size());
+
+      component.load();
+      component.unload();
+      assertTrue(content.isDestroyed());
+      assertFalse(component.isLoaded());
+
+      component.setReleaseOnHide(false);
+      assertEquals(0, component.getEventListeners(AfterHideEvent.class).size());
+    }
+  }
 }
@@ -2,13 +2,17 @@ package com.webforj.shoelace.components.dropdown;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import com.webforj.shoelace.Placement;
+import com.webforj.shoelace.components.menu.Menu;
 import com.webforj.shoelace.event.AfterHideEvent;
 import com.webforj.shoelace.event.AfterShowEvent;
 import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -120,4 +124,57 @@ class DropdownTest {
       assertEquals(1, component.getEventListeners(AfterHideEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Lazy content API")
+  class LazyContentApi {
+
+    @Test
+    void shouldDeferMenuUntilShown() {
+      AtomicInteger created = new AtomicInteger();
+      component.setLazyContent(() -> {
+        created.incrementAndGet();
+        return new Menu();
+      });
+
+      assertTrue(component.isLazy());
+      assertFalse(component.isLoaded());
+      assertEquals(0, created.get());
+      assertEquals(1, component.getEventListeners(ShowEvent.class).size());
+
+      component.show();
+      component.show();
+      assertTrue(component.isLoaded());
+      assertEquals(1, created.get());
+    }
+
+    @Test
+    void shouldLoadImmediatelyWhenOpen() {
+      component.setOpen(true).setLazyContent(Menu::new);
+      assertTrue(component.isLoaded());
+    }
+
+    @Test
+    void shouldKeepMenuByDefault() {
+      component.setLazyContent(Menu::new);
+      assertFalse(component.isReleaseOnHide());
+      assertEquals(0, component.getEventListeners(AfterHideEvent.class).size());
+    }
+
+    @Test
+    void shouldReleaseMenuOnHide() {
+      Menu menu = new Menu();
+      component.setLazyContent(() -> menu).setReleaseOnHide(true);
+      assertTrue(component.isReleaseOnHide());
+      assertEquals(1, component.getEventListeners(AfterHideEvent.class).size());
+
+      component.load();
+      component.unload();
+      assertTrue(menu.isDestroyed());
+      assertFalse(component.isLoaded());
+
+      component.setReleaseOnHide(false);
+      assertEquals(0, component.getEventListeners(AfterHideEvent.class).size());
+    }
+  }
 }
@@ -0,0 +1,124 @@
+package com.webforj.shoelace.components.icon;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IconRegistryTest {
+
+  static final String GEAR = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"16\" height=\"16\""
+      + " fill=\"currentColor\" class=\"bi bi-gear\" viewBox=\"0 0 16 16\">\n"
+      + "  <path d=\"M8 4a4 4 0 1 0 0 8\"/>\n</svg>\n";
+
+  IconRegistry registry;
+  List<String> loaded;
+
+  @BeforeEach
+  void setUp() {
+    registry = new IconRegistry();
+    loaded = new ArrayList<>();
+    registry.register("test", name -> {
+      loaded.add(name);
+      return name.equals("missing") ? null : GEAR;
+    });
+  }
+
+  String spriteContent() {
+    return new String(registry.getSprite(registry.sprite("test").key()), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void shouldConvertSvgToSymbol() {
+    assertEquals("<symbol id=\"gear\" fill=\"currentColor\" viewBox=\"0 0 16 16\">"
+        + "<path d=\"M8 4a4 4 0 1 0 0 8\"/></symbol>", IconRegistry.toSymbol("gear", GEAR));
+    assertNull(IconRegistry.toSymbol("gear", "not svg"));
+  }
+
+  @Test
+  void shouldPackOnlyUsedIcons() {
+    registry.use("test", "gear");
+    registry.use("test", "house");
+    registry.use("other", "ignored");
+
+    IconRegistry.Sprite sprite = registry.sprite("test");
+    assertEquals(Set.of("gear", "house"), sprite.names());
+    assertTrue(spriteContent().contains("<symbol id=\"gear\""));
+    assertTrue(spriteContent().contains("<symbol id=\"house\""));
+  }
+
+  @Test
+  void shouldDropUnknownIcons() {
+    registry.use("test", "missing");
+    assertTrue(registry.sprite("test").names().isEmpty());
+  }
+
+  @Test
+  void shouldIgnoreInvalidNames() {
+    registry.use("test", "../secret");
+    assertTrue(registry.sprite("test").names().isEmpty());
+    assertTrue(registry.getIcon("test", "../secret").isEmpty());
+  }
+
+  @Test
+  void shouldReuseSpriteUntilIconsChange() {
+    registry.use("test", "gear");
+    IconRegistry.Sprite first = registry.sprite("test");
+    assertSame(first, registry.sprite("test"));
+    assertEquals(1, loaded.size());
+
+    registry.preload("test", "house");
+    IconRegistry.Sprite second = registry.sprite("test");
+    assertNotEquals(first.key(), second.key());
+    assertNotNull(registry.getSprite(first.key()));
+  }
+
+  @Test
+  void shouldRebuildEvictedSprites() {
+    registry.use("test", "gear");
+    IconRegistry.Sprite first = registry.sprite("test");
+    byte[] content = registry.getSprite(first.key());
+
+    for (int i = 0; i < 40; i++) {
+      registry.use("test", "icon" + i);
+      registry.sprite("test");
+    }
+
+    assertTrue(registry.cachedSprites() < 41);
+    assertArrayEquals(content, registry.getSprite(first.key()));
+    assertNull(registry.getSprite("unknown"));
+  }
+
+  @Test
+  void shouldMapEmptyLibraryToDefault() {
+    registry.register(IconRegistry.DEFAULT_LIBRARY, name -> GEAR);
+    registry.use("", "gear");
+
+    assertEquals(Set.of("gear"), registry.sprite(IconRegistry.DEFAULT_LIBRARY).names());
+  }
+
+  @Test
+  void shouldServeSingleIcons() {
+    String icon = new String(registry.getIcon("test", "gear").orElseThrow(),
+        StandardCharsets.UTF_8);
+    assertTrue(icon.contains("<symbol id=\"gear\""));
+    assertFalse(registry.getIcon("unknown", "gear").isPresent());
+  }
+
+  @Test
+  void shouldRejectInvalidLibraryNames() {
+    assertThrows(IllegalArgumentException.class, () -> registry.register("a/b", name -> GEAR));
+  }
+}
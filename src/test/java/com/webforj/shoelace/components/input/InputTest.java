@@ -11,6 +11,8 @@ import com.webforj.shoelace.event.ClearEvent;
 import com.webforj.shoelace.event.FocusEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
+import com.webforj.shoelace.event.RateLimit;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -158,6 +160,27 @@ class InputTest {
       assertEquals(1, component.getEventListeners(InputEvent.class).size());
     }
 
+    @Test
+    void shouldAddDebouncedInputListener() {
+      component.onInput(event -> {}, RateLimit.debounce(Duration.ofMillis(300)));
+      assertEquals(1, component.getEventListeners(InputEvent.class).size());
+    }
+
+    @Test
+    void shouldAddThrottledInputListenerViaAdd() {
+      component.addInputListener(event -> {}, RateLimit.throttle(Duration.ofMillis(200)));
+      component.addInputListener(event -> {});
+      // a throttled listener is registered once throttled and once for the trailing event
+      assertEquals(3, component.getEventListeners(InputEvent.class).size());
+    }
+
+    @Test
+    void shouldRemoveThrottledInputListener() {
+      component.addInputListener(event -> {}, RateLimit.throttle(Duration.ofMillis(200)))
+          .remove();
+      assertEquals(0, component.getEventListeners(InputEvent.class).size());
+    }
+
     @Test
     void shouldAddInvalidListener() {
       component.onInvalid(event -> {});
@@ -2,9 +2,17 @@ package com.webforj.shoelace.components.mutationobserver;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import com.webforj.shoelace.components.mutationobserver.event.MutationEvent;
+import com.webforj.shoelace.components.mutationobserver.event.MutationRecord;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -63,5 +71,76 @@ class MutationObserverTest {
       component.addMutationListener(event -> {});
       assertEquals(1, component.getEventListeners(MutationEvent.class).size());
     }
+
+    @Test
+    void shouldAddFilteredMutationListener() {
+      component.onMutation(event -> {}, new MutationOptions()
+          .setAttributeNames("class", "hidden")
+          .setMaxRecords(20)
+          .setBatchWindow(Duration.ofMillis(100)));
+      assertEquals(1, component.getEventListeners(MutationEvent.class).size());
+    }
+
+    @Test
+    void shouldReadTypedRecords() {
+      Map<String, Object> record = new HashMap<>();
+      record.put("type", "attributes");
+      record.put("target", "div");
+      record.put("targetId", "panel");
+      record.put("attributeName", "class");
+      record.put("oldValue", null);
+      record.put("added", 0.0);
+      record.put("removed", 0.0);
+      MutationEvent<MutationObserver> event = new MutationEvent<>(component,
+          Map.of("mutationList", List.of(record), "dropped", 3.0));
+
+      assertEquals(List.of(new MutationRecord(MutationRecord.ATTRIBUTES, "div", "panel", "class",
+          null, 0, 0)), event.getMutationList());
+      assertEquals(3, event.getDroppedCount());
+    }
+
+    @Test
+    void shouldHandleMissingRecords() {
+      MutationEvent<MutationObserver> event = new MutationEvent<>(component, Map.of());
+
+      assertTrue(event.getMutationList().isEmpty());
+      assertEquals(0, event.getDroppedCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Mutation options API")
+  class MutationOptionsApi {
+
+    @Test
+    void shouldConfigureOptions() {
+      MutationOptions options = new MutationOptions()
+          .setAttributeNames("class")
+          .setChildListOnly(true)
+          .setMaxRecords(5)
+          .setBatchWindow(Duration.ofMillis(50));
+
+      assertEquals(Set.of("class"), options.getAttributeNames());
+      assertTrue(options.isChildListOnly());
+      assertEquals(5, options.getMaxRecords());
+      assertEquals(Duration.ofMillis(50), options.getBatchWindow());
+    }
+
+    @Test
+    void shouldEmbedFiltersInClientFilter() {
+      String filter = new MutationOptions()
+          .setAttributeNames("class")
+          .setMaxRecords(5)
+          .toEventOptions()
+          .getFilter();
+
+      assertTrue(filter.contains("const names = [\"class\"];"));
+      assertTrue(filter.contains("const max = 5;"));
+    }
+
+    @Test
+    void shouldRejectNegativeMaxRecords() {
+      assertThrows(IllegalArgumentException.class, () -> new MutationOptions().setMaxRecords(-1));
+    }
   }
 }
@@ -2,6 +2,7 @@ package com.webforj.shoelace.components.progressbar;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -67,4 +68,38 @@ class ProgressBarTest {
       assertEquals("Loading...", component.getLabel());
     }
   }
+
+  @Nested
+  @DisplayName("Throttling API")
+  class ThrottlingApi {
+
+    @Test
+    void shouldNotThrottleByDefault() {
+      assertEquals(0, component.getMaxUpdatesPerSecond());
+    }
+
+    @Test
+    void shouldSetMaxUpdatesPerSecond() {
+      assertEquals(component, component.setMaxUpdatesPerSecond(10));
+      assertEquals(10, component.getMaxUpdatesPerSecond());
+
+      component.setMaxUpdatesPerSecond(0);
+      assertEquals(0, component.getMaxUpdatesPerSecond());
+    }
+
+    @Test
+    void shouldKeepValueWhenThrottlingChanges() {
+      component.setValue(40.0);
+      component.setMaxUpdatesPerSecond(5);
+      assertEquals(40.0, component.getValue());
+
+      component.setMaxUpdatesPerSecond(0);
+      assertEquals(40.0, component.getValue());
+    }
+
+    @Test
+    void shouldRejectNegativeRate() {
+      assertThrows(IllegalArgumentException.class, () -> component.setMaxUpdatesPerSecond(-1));
+    }
+  }
 }
@@ -2,6 +2,7 @@ package com.webforj.shoelace.components.progressring;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,4 +56,38 @@ class ProgressRingTest {
       assertEquals("Progress", component.getLabel());
     }
   }
+
+  @Nested
+  @DisplayName("Throttling API")
+  class ThrottlingApi {
+
+    @Test
+    void shouldNotThrottleByDefault() {
+      assertEquals(0, component.getMaxUpdatesPerSecond());
+    }
+
+    @Test
+    void shouldSetMaxUpdatesPerSecond() {
+      assertEquals(component, component.setMaxUpdatesPerSecond(10));
+      assertEquals(10, component.getMaxUpdatesPerSecond());
+
+      component.setMaxUpdatesPerSecond(0);
+      assertEquals(0, component.getMaxUpdatesPerSecond());
+    }
+
+    @Test
+    void shouldKeepValueWhenThrottlingChanges() {
+      component.setValue(40.0);
+      component.setMaxUpdatesPerSecond(5);
+      assertEquals(40.0, component.getValue());
+
+      component.setMaxUpdatesPerSecond(0);
+      assertEquals(40.0, component.getValue());
+    }
+
+    @Test
+    void shouldRejectNegativeRate() {
+      assertThrows(IllegalArgumentException.class, () -> component.setMaxUpdatesPerSecond(-1));
+    }
+  }
 }
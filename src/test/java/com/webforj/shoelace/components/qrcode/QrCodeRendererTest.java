@@ -0,0 +1,111 @@
+package com.webforj.shoelace.components.qrcode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QrCodeRendererTest {
+
+  QrCodeRenderer renderer;
+
+  @BeforeEach
+  void setUp() {
+    renderer = new QrCodeRenderer(2);
+  }
+
+  String render(String value) {
+    return renderer.render(value, 128, "black", "white", 0.0, ErrorCorrectionLevel.HIGH);
+  }
+
+  @Test
+  void shouldRenderSvg() {
+    String svg = new String(renderer.get(render("https://example.com")), StandardCharsets.UTF_8);
+
+    assertTrue(svg.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\""));
+    assertTrue(svg.contains("width=\"128\" height=\"128\""));
+    assertTrue(svg.contains("fill=\"white\""));
+    assertTrue(svg.contains("<path fill=\"black\" d=\"M"));
+  }
+
+  @Test
+  void shouldRenderRoundedModules() {
+    String svg = QrCodeRenderer.toSvg("x", 64, "red", "transparent", 0.25,
+        ErrorCorrectionLevel.LOW);
+
+    assertTrue(svg.contains("rx=\"0.25\""));
+    assertFalse(svg.contains("<path"));
+  }
+
+  @Test
+  void shouldEscapeColors() {
+    String svg = QrCodeRenderer.toSvg("x", 64, "\"><script>", "white", 0.0,
+        ErrorCorrectionLevel.LOW);
+
+    assertFalse(svg.contains("<script>"));
+  }
+
+  @Test
+  void shouldAddressByInputs() {
+    String key = render("a");
+
+    assertEquals(key, render("a"));
+    assertNotEquals(key, render("b"));
+    assertNotEquals(key,
+        renderer.render("a", 128, "black", "white", 0.0, ErrorCorrectionLevel.LOW));
+  }
+
+  @Test
+  void shouldReuseCachedRendering() {
+    String key = render("a");
+    byte[] svg = renderer.get(key);
+
+    render("a");
+    assertSame(svg, renderer.get(key));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsed() {
+    String a = render("a");
+    String b = render("b");
+    renderer.get(a);
+    String c = render("c");
+
+    assertEquals(2, renderer.size());
+    assertNotNull(renderer.get(a));
+    assertNull(renderer.get(b));
+    assertNotNull(renderer.get(c));
+  }
+
+  @Test
+  void shouldRenderAcquiredCodeAgainAfterEviction() {
+    String a = renderer.acquire("a", 128, "black", "white", 0.0, ErrorCorrectionLevel.HIGH);
+    render("b");
+    render("c");
+
+    assertEquals(2, renderer.size());
+    assertNotNull(renderer.get(a));
+  }
+
+  @Test
+  void shouldForgetReleasedCode() {
+    String a = renderer.acquire("a", 128, "black", "white", 0.0, ErrorCorrectionLevel.HIGH);
+    renderer.acquire("a", 128, "black", "white", 0.0, ErrorCorrectionLevel.HIGH);
+
+    renderer.release(a);
+    assertEquals(1, renderer.referenceCount());
+    renderer.release(a);
+    assertEquals(0, renderer.referenceCount());
+
+    render("b");
+    render("c");
+    assertNull(renderer.get(a));
+  }
+}
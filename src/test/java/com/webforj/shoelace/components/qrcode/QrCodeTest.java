@@ -2,6 +2,8 @@ package com.webforj.shoelace.components.qrcode;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,4 +56,65 @@ class QrCodeTest {
       assertEquals(ErrorCorrectionLevel.LOW, component.getErrorCorrection());
     }
   }
+
+  @Nested
+  @DisplayName("Server rendering API")
+  class ServerRenderingApi {
+
+    @Test
+    void shouldRenderInBrowserByDefault() {
+      assertFalse(component.isServerRendered());
+    }
+
+    @Test
+    void shouldKeepValueWhenSwitchingModes() {
+      component.setValue("https://example.com");
+
+      component.setServerRendered(true);
+      assertTrue(component.isServerRendered());
+      assertEquals("https://example.com", component.getValue());
+
+      component.setValue("https://example.org");
+      component.setServerRendered(false);
+      assertFalse(component.isServerRendered());
+      assertEquals("https://example.org", component.getValue());
+    }
+
+    @Test
+    void shouldCacheServerRendering() {
+      component.setValue("ticket-42").setServerRendered(true);
+      String key = QrCodeRenderer.hash("ticket-42", 128, "black", "white", 0.0,
+          ErrorCorrectionLevel.HIGH);
+
+      assertTrue(QrCodeRenderer.getShared().get(key) != null);
+      assertEquals("url(\"" + QrCodeServlet.urlOf(key) + "\")",
+          component.getStyle("background-image"));
+    }
+
+    @Test
+    void shouldRenderDefaultsWhenSizeOrRadiusIsNull() {
+      component.setValue("ticket-43").setSize(null).setRadius(null);
+
+      assertDoesNotThrow(() -> component.setServerRendered(true));
+      String key = QrCodeRenderer.hash("ticket-43", 128, "black", "white", 0.0,
+          ErrorCorrectionLevel.HIGH);
+      assertEquals("url(\"" + QrCodeServlet.urlOf(key) + "\")",
+          component.getStyle("background-image"));
+    }
+
+    @Test
+    void shouldReleaseRenderingWhenLeavingServerMode() {
+      QrCodeRenderer renderer = QrCodeRenderer.getShared();
+      int before = renderer.referenceCount();
+
+      component.setValue("ticket-44").setServerRendered(true);
+      assertEquals(before + 1, renderer.referenceCount());
+
+      component.setValue("ticket-45");
+      assertEquals(before + 1, renderer.referenceCount());
+
+      component.setServerRendered(false);
+      assertEquals(before, renderer.referenceCount());
+    }
+  }
 }
@@ -63,4 +63,40 @@ class RelativeTimeTest {
       assertTrue(component.isSync());
     }
   }
+
+  @Nested
+  @DisplayName("Shared sync API")
+  class SharedSyncApi {
+
+    @Test
+    void shouldDefaultSharedSyncToFalse() {
+      assertFalse(component.isSharedSync());
+    }
+
+    @Test
+    void shouldDisableElementSyncWhenSharing() {
+      component.setSync(true);
+      component.setSharedSync(true);
+
+      assertTrue(component.isSharedSync());
+      assertFalse(component.isSync());
+    }
+
+    @Test
+    void shouldDisableSharedSyncWhenElementSyncs() {
+      component.setSharedSync(true);
+      component.setSync(true);
+
+      assertFalse(component.isSharedSync());
+      assertTrue(component.isSync());
+    }
+
+    @Test
+    void shouldChainSharedSync() {
+      RelativeTime result = component.setSharedSync(true).setDate("2024-12-25T00:00:00Z");
+
+      assertEquals(component, result);
+      assertEquals("2024-12-25T00:00:00Z", component.getDate());
+    }
+  }
 }
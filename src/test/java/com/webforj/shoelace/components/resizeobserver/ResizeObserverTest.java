@@ -2,9 +2,17 @@ package com.webforj.shoelace.components.resizeobserver;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
+import com.webforj.shoelace.components.resizeobserver.event.BoxSize;
+import com.webforj.shoelace.components.resizeobserver.event.ResizeEntry;
 import com.webforj.shoelace.components.resizeobserver.event.ResizeEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -53,5 +61,57 @@ class ResizeObserverTest {
       component.addResizeListener(event -> {});
       assertEquals(1, component.getEventListeners(ResizeEvent.class).size());
     }
+
+    @Test
+    void shouldAddLimitedResizeListener() {
+      component.onResize(event -> {}, new ResizeOptions()
+          .setDebounce(Duration.ofMillis(150))
+          .setMinDelta(4)
+          .setLastEntryOnly(true));
+      assertEquals(1, component.getEventListeners(ResizeEvent.class).size());
+    }
+
+    @Test
+    void shouldReadTypedEntries() {
+      ResizeEvent<ResizeObserver> event = new ResizeEvent<>(component, Map.of("entries", List.of(
+          Map.of("index", 0.0, "content", List.of(100.0, 50.0), "border", List.of(102.0, 52.0)),
+          Map.of("index", 1.0, "content", List.of(20.0, 10.0), "border", List.of(20.0, 10.0)))));
+
+      assertEquals(List.of(
+          new ResizeEntry(0, new BoxSize(100, 50), new BoxSize(102, 52)),
+          new ResizeEntry(1, new BoxSize(20, 10), new BoxSize(20, 10))), event.getEntries());
+      assertEquals(1, event.getLastEntry().index());
+    }
+
+    @Test
+    void shouldHandleMissingEntries() {
+      ResizeEvent<ResizeObserver> event = new ResizeEvent<>(component, Map.of());
+
+      assertTrue(event.getEntries().isEmpty());
+      assertNull(event.getLastEntry());
+    }
+  }
+
+  @Nested
+  @DisplayName("Resize options API")
+  class ResizeOptionsApi {
+
+    @Test
+    void shouldApplyMinDeltaInFilter() {
+      String filter = new ResizeOptions().setMinDelta(8).toEventOptions().getFilter();
+      assertTrue(filter.contains(">= 8.0"));
+    }
+
+    @Test
+    void shouldSendLastEntryOnly() {
+      String entries = String.valueOf(new ResizeOptions().setLastEntryOnly(true)
+          .toEventOptions().getData().get(ResizeEvent.ENTRIES_KEY));
+      assertTrue(entries.endsWith(".slice(-1)"));
+    }
+
+    @Test
+    void shouldRejectNegativeDelta() {
+      assertThrows(IllegalArgumentException.class, () -> new ResizeOptions().setMinDelta(-1));
+    }
   }
 }
@@ -2,6 +2,9 @@ package com.webforj.shoelace.components.select;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import com.webforj.shoelace.Size;
@@ -15,6 +18,8 @@ import com.webforj.shoelace.event.HideEvent;
 import com.webforj.shoelace.event.InputEvent;
 import com.webforj.shoelace.event.InvalidEvent;
 import com.webforj.shoelace.event.ShowEvent;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -210,4 +215,66 @@ class SelectTest {
       assertEquals(1, component.getEventListeners(InvalidEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Data provider API")
+  class DataProviderApi {
+
+    List<SelectItem> items = IntStream.range(0, 200)
+        .mapToObj(i -> new SelectItem("c" + i, "Customer " + i))
+        .toList();
+
+    @Test
+    void shouldSetAndClearDataProvider() {
+      SelectDataProvider provider = SelectDataProvider.fromItems(items);
+
+      component.setDataProvider(provider);
+      assertSame(provider, component.getDataProvider());
+
+      component.setDataProvider(null);
+      assertNull(component.getDataProvider());
+    }
+
+    @Test
+    void shouldHaveDefaultPaging() {
+      assertEquals(50, component.getPageSize());
+      assertEquals(20, component.getPrefetchDistance());
+    }
+
+    @Test
+    void shouldSetPaging() {
+      component.setDataProvider(SelectDataProvider.fromItems(items))
+          .setPageSize(25)
+          .setPrefetchDistance(10);
+
+      assertEquals(25, component.getPageSize());
+      assertEquals(10, component.getPrefetchDistance());
+    }
+
+    @Test
+    void shouldRejectInvalidPaging() {
+      assertThrows(IllegalArgumentException.class, () -> component.setPageSize(0));
+      assertThrows(IllegalArgumentException.class, () -> component.setPrefetchDistance(-1));
+    }
+
+    @Test
+    void shouldFilterItemsByLabel() {
+      SelectDataProvider provider = SelectDataProvider.fromItems(items);
+
+      assertEquals(200, provider.count(""));
+      assertEquals(111, provider.count("customer 1"));
+      assertEquals(List.of(items.get(10), items.get(11)), provider.fetch("CUSTOMER 1", 1, 2));
+    }
+
+    @Test
+    void shouldClampPagesToTotalAndPageSize() {
+      SelectVirtualizer virtualizer =
+          new SelectVirtualizer(component, SelectDataProvider.fromItems(items), 50, 20);
+
+      assertEquals(200, virtualizer.count(""));
+      assertEquals(50, virtualizer.fetch("", 0, 500, 200).size());
+      assertEquals(items.get(150), virtualizer.fetch("", 150, 50, 200).get(0));
+      assertEquals(0, virtualizer.fetch("", 200, 50, 200).size());
+    }
+  }
 }
@@ -3,11 +3,15 @@ package com.webforj.shoelace.components.tabgroup;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
+import com.webforj.shoelace.components.divider.Divider;
 import com.webforj.shoelace.components.tabgroup.event.TabHideEvent;
 import com.webforj.shoelace.components.tabgroup.event.TabShowEvent;
+import com.webforj.shoelace.components.tabpanel.TabPanel;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -95,4 +99,63 @@ class TabGroupTest {
       assertEquals(1, component.getEventListeners(TabHideEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Lazy panels API")
+  class LazyPanelsApi {
+
+    @Test
+    void shouldLoadOnlyFirstLazyPanel() {
+      TabPanel general = component.addLazyPanel("general", Divider::new);
+      TabPanel advanced = component.addLazyPanel("advanced", Divider::new);
+
+      assertEquals("advanced", advanced.getName());
+      assertTrue(general.isLoaded());
+      assertFalse(advanced.isLoaded());
+      assertEquals(1, component.getEventListeners(TabShowEvent.class).size());
+    }
+
+    @Test
+    void shouldLoadPanelWhenShown() {
+      component.addLazyPanel("general", Divider::new);
+      TabPanel advanced = component.addLazyPanel("advanced", Divider::new);
+
+      component.show("advanced");
+      assertTrue(advanced.isLoaded());
+    }
+
+    @Test
+    void shouldLoadLazyPanelAddedDirectly() {
+      TabPanel general = new TabPanel("general").setLazyContent(Divider::new);
+      TabPanel advanced = new TabPanel("advanced").setLazyContent(Divider::new);
+      component.add(general, advanced);
+
+      assertTrue(general.isLoaded());
+      assertFalse(advanced.isLoaded());
+
+      component.show("advanced");
+      assertTrue(advanced.isLoaded());
+    }
+
+    @Test
+    void shouldForgetRemovedPanels() {
+      component.addLazyPanel("general", Divider::new);
+      TabPanel advanced = component.addLazyPanel("advanced", Divider::new);
+
+      component.remove(advanced);
+      component.show("advanced");
+      assertFalse(advanced.isLoaded());
+    }
+
+    @Test
+    void shouldRegisterUnloadListener() {
+      component.setUnloadDelay(Duration.ofSeconds(30));
+      assertEquals(Duration.ofSeconds(30), component.getUnloadDelay());
+      assertEquals(1, component.getEventListeners(TabHideEvent.class).size());
+
+      component.setUnloadDelay(null);
+      assertNull(component.getUnloadDelay());
+      assertEquals(0, component.getEventListeners(TabHideEvent.class).size());
+    }
+  }
 }
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
+import com.webforj.shoelace.components.divider.Divider;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -51,4 +53,45 @@ class TabPanelTest {
       assertTrue(component.isActive());
     }
   }
+
+  @Nested
+  @DisplayName("Lazy content API")
+  class LazyContentApi {
+
+    @Test
+    void shouldNotCreateContentUntilLoaded() {
+      AtomicInteger created = new AtomicInteger();
+      component.setLazyContent(() -> {
+        created.incrementAndGet();
+        return new Divider();
+      });
+
+      assertTrue(component.isLazy());
+      assertFalse(component.isLoaded());
+      assertEquals(0, created.get());
+
+      component.load();
+      component.load();
+      assertTrue(component.isLoaded());
+      assertEquals(1, created.get());
+    }
+
+    @Test
+    void shouldDestroyContentOnUnload() {
+      Divider content = new Divider();
+      component.setLazyContent(() -> content);
+      component.load();
+      component.unload();
+
+      assertFalse(component.isLoaded());
+      assertTrue(content.isDestroyed());
+    }
+
+    @Test
+    void shouldIgnoreLoadWithoutSupplier() {
+      component.load();
+      assertFalse(component.isLazy());
+      assertFalse(component.isLoaded());
+    }
+  }
 }
@@ -2,9 +2,20 @@ package com.webforj.shoelace.components.tree;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.webforj.component.element.PropertyDescriptorTester;
 import com.webforj.shoelace.components.tree.event.SelectionChangeEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -54,4 +65,129 @@ class TreeTest {
       assertEquals(1, component.getEventListeners(SelectionChangeEvent.class).size());
     }
   }
+
+  @Nested
+  @DisplayName("Data provider API")
+  class DataProviderApi {
+
+    /** Three roots with 250 leaf children each. */
+    TreeDataProvider<String> provider = new TreeDataProvider<>() {
+      @Override
+      public int getChildCount(String parent) {
+        if (parent == null) {
+          return 3;
+        }
+        return parent.contains("/") ? 0 : 250;
+      }
+
+      @Override
+      public List<String> fetchChildren(String parent, int offset, int limit) {
+        int total = getChildCount(parent);
+        return IntStream.range(offset, Math.min(offset + limit, total))
+            .mapToObj(i -> parent == null ? "r" + i : parent + "/c" + i)
+            .toList();
+      }
+    };
+
+    AtomicLong now = new AtomicLong();
+
+    TreeLoader<String> loader() {
+      TreeLoader<String> loader = new TreeLoader<>(component, provider, Function.identity(), 100,
+          Duration.ofSeconds(30), now::get);
+      loader.load();
+      return loader;
+    }
+
+    @Test
+    void shouldSetAndClearDataProvider() {
+      component.setDataProvider(provider, Function.identity());
+      assertSame(provider, component.getDataProvider());
+
+      component.setDataProvider(null, null);
+      assertNull(component.getDataProvider());
+    }
+
+    @Test
+    void shouldUnloadWhenDestroyed() {
+      component.setDataProvider(provider, Function.identity());
+
+      component.destroy();
+
+      assertNull(component.getDataProvider());
+      assertDoesNotThrow(component::refreshData);
+    }
+
+    @Test
+    void shouldHaveDefaults() {
+      assertEquals(100, component.getPageSize());
+      assertEquals(Duration.ofMinutes(2), component.getEvictionDelay());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+      assertThrows(IllegalArgumentException.class, () -> component.setPageSize(0));
+      assertThrows(IllegalArgumentException.class,
+          () -> component.setEvictionDelay(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void shouldLoadOnlyRootsUpFront() {
+      TreeLoader<String> loader = loader();
+
+      assertEquals(3, loader.getMaterializedCount());
+      TreeLoader.Node<String> first = loader.getRoot().children.get(0);
+      assertTrue(first.component.isLazy());
+      assertEquals("r0", loader.getData(first.component));
+    }
+
+    @Test
+    void shouldLoadChildrenInPages() {
+      TreeLoader<String> loader = loader();
+      TreeLoader.Node<String> first = loader.getRoot().children.get(0);
+
+      loader.onLazyLoad(first);
+      assertFalse(first.component.isLazy());
+      assertEquals(100, first.children.size());
+      assertNotNull(first.more);
+
+      loader.loadPage(first);
+      loader.loadPage(first);
+      assertEquals(250, first.children.size());
+      assertNull(first.more);
+      assertEquals(253, loader.getMaterializedCount());
+    }
+
+    @Test
+    void shouldEvictCollapsedNodesAfterDelay() {
+      TreeLoader<String> loader = loader();
+      TreeLoader.Node<String> first = loader.getRoot().children.get(0);
+      loader.onLazyLoad(first);
+      loader.onCollapse(first);
+
+      now.addAndGet(Duration.ofSeconds(29).toNanos());
+      assertEquals(0, loader.sweep());
+      assertEquals(103, loader.getMaterializedCount());
+
+      now.addAndGet(Duration.ofSeconds(1).toNanos());
+      assertEquals(1, loader.sweep());
+      assertEquals(3, loader.getMaterializedCount());
+      assertTrue(first.component.isLazy());
+
+      loader.onLazyLoad(first);
+      assertEquals(100, first.children.size());
+    }
+
+    @Test
+    void shouldKeepNodesThatAreExpandedAgain() {
+      TreeLoader<String> loader = loader();
+      TreeLoader.Node<String> first = loader.getRoot().children.get(0);
+      loader.onLazyLoad(first);
+      loader.onCollapse(first);
+      loader.onExpand(first);
+
+      now.addAndGet(Duration.ofMinutes(5).toNanos());
+      assertEquals(0, loader.sweep());
+      assertEquals(103, loader.getMaterializedCount());
+    }
+  }
 }
@@ -10,6 +10,7 @@ import com.webforj.shoelace.components.treeitem.event.AfterExpandEvent;
 import com.webforj.shoelace.components.treeitem.event.CollapseEvent;
 import com.webforj.shoelace.components.treeitem.event.ExpandEvent;
 import com.webforj.shoelace.components.treeitem.event.LazyChangeEvent;
+import com.webforj.shoelace.components.treeitem.event.LazyLoadEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -132,5 +133,17 @@ class TreeItemTest {
       component.addLazyChangeListener(event -> {});
       assertEquals(1, component.getEventListeners(LazyChangeEvent.class).size());
     }
+
+    @Test
+    void shouldAddLazyLoadListener() {
+      component.onLazyLoad(event -> {});
+      assertEquals(1, component.getEventListeners(LazyLoadEvent.class).size());
+    }
+
+    @Test
+    void shouldAddLazyLoadListenerViaAdd() {
+      component.addLazyLoadListener(event -> {});
+      assertEquals(1, component.getEventListeners(LazyLoadEvent.class).size());
+    }
   }
 }
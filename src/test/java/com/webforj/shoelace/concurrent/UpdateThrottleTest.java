@@ -0,0 +1,137 @@
+package com.webforj.shoelace.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpdateThrottleTest {
+
+  static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+  ScheduledExecutorService scheduler;
+  ScheduledFuture<?> future;
+  List<Runnable> tasks;
+  List<Long> delays;
+  AtomicLong clock;
+  List<Integer> delivered;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = mock(ScheduledExecutorService.class);
+    future = mock(ScheduledFuture.class);
+    tasks = new ArrayList<>();
+    delays = new ArrayList<>();
+    when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+        .thenAnswer(invocation -> {
+          tasks.add(invocation.getArgument(0));
+          delays.add(invocation.getArgument(1));
+          return future;
+        });
+    clock = new AtomicLong(1_000_000_000L);
+    delivered = new CopyOnWriteArrayList<>();
+  }
+
+  UpdateThrottle<Integer> create(int maxPerSecond) {
+    return new UpdateThrottle<>(maxPerSecond, delivered::add, Runnable::run, scheduler,
+        clock::get);
+  }
+
+  void runScheduled() {
+    List<Runnable> due = List.copyOf(tasks);
+    tasks.clear();
+    due.forEach(Runnable::run);
+  }
+
+  @Test
+  void shouldDeliverFirstValueImmediately() {
+    UpdateThrottle<Integer> throttle = create(10);
+    throttle.submit(1);
+    assertEquals(List.of(1), delivered);
+  }
+
+  @Test
+  void shouldCoalesceValuesWithinInterval() {
+    UpdateThrottle<Integer> throttle = create(10);
+    throttle.submit(1);
+    clock.addAndGet(INTERVAL / 4);
+    for (int i = 2; i <= 100; i++) {
+      throttle.submit(i);
+    }
+
+    assertEquals(List.of(1), delivered);
+    assertEquals(100, throttle.getLatest());
+    assertEquals(List.of(INTERVAL - INTERVAL / 4), delays);
+
+    clock.addAndGet(INTERVAL);
+    runScheduled();
+    assertEquals(List.of(1, 100), delivered);
+  }
+
+  @Test
+  void shouldDeliverImmediatelyAfterInterval() {
+    UpdateThrottle<Integer> throttle = create(10);
+    throttle.submit(1);
+    clock.addAndGet(INTERVAL);
+    throttle.submit(2);
+
+    assertEquals(List.of(1, 2), delivered);
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void shouldDeliverFinalValueFromManyThreads() throws InterruptedException {
+    UpdateThrottle<Integer> throttle = create(20);
+    throttle.submit(0);
+    int threads = 4;
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          throttle.submit(i);
+        }
+        done.countDown();
+      }).start();
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    throttle.submit(-1);
+    runScheduled();
+    assertEquals(List.of(0, -1), delivered);
+  }
+
+  @Test
+  void shouldCancelPendingDeliveryOnShutdown() {
+    UpdateThrottle<Integer> throttle = create(10);
+    throttle.submit(1);
+    throttle.submit(2);
+
+    throttle.shutdown();
+    verify(future).cancel(false);
+
+    runScheduled();
+    throttle.submit(3);
+    assertEquals(List.of(1), delivered);
+  }
+
+  @Test
+  void shouldRejectInvalidRate() {
+    assertThrows(IllegalArgumentException.class, () -> create(0));
+  }
+}
@@ -0,0 +1,62 @@
+package com.webforj.shoelace.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.shoelace.components.checkbox.Checkbox;
+import com.webforj.shoelace.components.input.Input;
+import com.webforj.shoelace.components.range.Range;
+import com.webforj.shoelace.components.select.Select;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HasValuePayloadTest {
+
+  @Test
+  void shouldReadTextValue() {
+    InputEvent<Input> event = new InputEvent<>(new Input(), Map.of("value", "hello"));
+
+    assertEquals("hello", event.getValue());
+    assertEquals("hello", event.getValueAsString());
+    assertEquals(List.of("hello"), event.getSelection());
+    assertFalse(event.isChecked());
+  }
+
+  @Test
+  void shouldReadNumericValue() {
+    ChangeEvent<Range> event = new ChangeEvent<>(new Range(), Map.of("value", 42.0));
+
+    assertEquals(42.0, event.getValue());
+    assertEquals("42", event.getValueAsString());
+  }
+
+  @Test
+  void shouldReadSelection() {
+    ChangeEvent<Select> event = new ChangeEvent<>(new Select(),
+        Map.of("value", List.of("a", "b")));
+
+    assertEquals(List.of("a", "b"), event.getSelection());
+    assertEquals("a b", event.getValueAsString());
+  }
+
+  @Test
+  void shouldReadCheckedState() {
+    ChangeEvent<Checkbox> event = new ChangeEvent<>(new Checkbox(),
+        Map.of("value", "on", "checked", true));
+
+    assertTrue(event.isChecked());
+  }
+
+  @Test
+  void shouldHandleMissingPayload() {
+    ChangeEvent<Input> event = new ChangeEvent<>(new Input(), Map.of());
+
+    assertNull(event.getValue());
+    assertEquals("", event.getValueAsString());
+    assertTrue(event.getSelection().isEmpty());
+    assertFalse(event.isChecked());
+  }
+}
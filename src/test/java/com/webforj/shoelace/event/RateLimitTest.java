@@ -0,0 +1,95 @@
+package com.webforj.shoelace.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.shoelace.components.input.Input;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RateLimitTest {
+
+  @Test
+  void shouldDescribeDebounce() {
+    RateLimit limit = RateLimit.debounce(Duration.ofMillis(250));
+
+    assertTrue(limit.isDebounce());
+    assertEquals(Duration.ofMillis(250), limit.getInterval());
+  }
+
+  @Test
+  void shouldDescribeThrottle() {
+    RateLimit limit = RateLimit.throttle(Duration.ofSeconds(1));
+
+    assertFalse(limit.isDebounce());
+    assertEquals(Duration.ofSeconds(1), limit.getInterval());
+  }
+
+  @Test
+  void shouldRejectNonPositiveIntervals() {
+    assertThrows(IllegalArgumentException.class, () -> RateLimit.debounce(Duration.ZERO));
+    assertThrows(IllegalArgumentException.class,
+        () -> RateLimit.throttle(Duration.ofMillis(-1)));
+    assertThrows(IllegalArgumentException.class, () -> RateLimit.throttle(null));
+  }
+
+  @Test
+  void shouldDebounceWithoutEventId() {
+    ElementEventOptions options =
+        RateLimit.debounce(Duration.ofMillis(100)).toEventOptions(new ElementEventOptions());
+
+    assertNull(options.getFilter());
+    assertFalse(options.getData().containsKey(RateLimit.EVENT_KEY));
+    assertFalse(options.getData().containsKey(HasValuePayload.VALUE_KEY));
+  }
+
+  @Test
+  void shouldIdentifyThrottledEvents() {
+    RateLimit limit = RateLimit.throttle(Duration.ofMillis(100));
+
+    assertTrue(limit.toEventOptions(new ElementEventOptions()).getData()
+        .containsKey(RateLimit.EVENT_KEY));
+    assertTrue(limit.toTrailingEventOptions(new ElementEventOptions()).getData()
+        .containsKey(RateLimit.EVENT_KEY));
+  }
+
+  @Test
+  void shouldDeliverLastValueOfThrottledBurst() {
+    Input input = new Input();
+    List<Object> values = new ArrayList<>();
+    RateLimit.Deliveries<InputEvent<Input>> deliveries =
+        new RateLimit.Deliveries<>(event -> values.add(event.getValue()));
+
+    // the throttle passes the first keystroke, the debounce the last one
+    deliveries.throttled().onEvent(event(input, 1, "a"));
+    deliveries.trailing().onEvent(event(input, 3, "abc"));
+
+    assertEquals(List.of("a", "abc"), values);
+  }
+
+  @Test
+  void shouldNotDeliverLastEventTwice() {
+    Input input = new Input();
+    List<Object> values = new ArrayList<>();
+    RateLimit.Deliveries<InputEvent<Input>> deliveries =
+        new RateLimit.Deliveries<>(event -> values.add(event.getValue()));
+
+    // a single keystroke passes the throttle and ends the burst
+    deliveries.throttled().onEvent(event(input, 4, "x"));
+    deliveries.trailing().onEvent(event(input, 4, "x"));
+
+    assertEquals(List.of("x"), values);
+  }
+
+  private static InputEvent<Input> event(Input input, double id, String value) {
+    return new InputEvent<>(input, Map.of(RateLimit.EVENT_KEY, id,
+        HasValuePayload.VALUE_KEY, value));
+  }
+}
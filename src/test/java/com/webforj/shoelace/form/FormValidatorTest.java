@@ -0,0 +1,170 @@
+package com.webforj.shoelace.form;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.webforj.Page;
+import com.webforj.PendingResult;
+import com.webforj.component.element.Element;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+class FormValidatorTest {
+
+  MockedStatic<Page> pages;
+  Page page;
+
+  @BeforeEach
+  void setUp() {
+    page = mock(Page.class);
+    pages = mockStatic(Page.class);
+    pages.when(Page::getCurrent).thenReturn(page);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pages.close();
+  }
+
+  void answer(String json) {
+    when(page.executeJsAsync(anyString())).thenReturn(PendingResult.completedWith(json));
+  }
+
+  @Test
+  void shouldReturnOnlyInvalidControlsInOrder() {
+    FakeControl name = new FakeControl();
+    FakeControl email = new FakeControl();
+    FakeControl country = new FakeControl();
+    answer("[null,\"Please enter an email address.\",\"Please select an item in the list.\"]");
+
+    AtomicReference<Map<FakeControl, String>> result = new AtomicReference<>();
+    FormValidator.checkValidity(name, email, country).thenAccept(result::set);
+
+    assertEquals(List.of(email, country), List.copyOf(result.get().keySet()));
+    assertEquals("Please enter an email address.", result.get().get(email));
+    assertEquals("Please select an item in the list.", result.get().get(country));
+  }
+
+  @Test
+  void shouldCheckAllControlsInOneScript() {
+    FakeControl name = new FakeControl();
+    FakeControl email = new FakeControl();
+    answer("[null,null]");
+
+    FormValidator.checkValidity(name, email);
+    FormValidator.checkValidity(name, email);
+
+    ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+    verify(name.element).setAttribute(eq(ValidityKeys.KEY_ATTRIBUTE), key.capture());
+    verify(email.element).setAttribute(eq(ValidityKeys.KEY_ATTRIBUTE), key.capture());
+    assertNotEquals(key.getAllValues().get(0), key.getAllValues().get(1));
+    verify(page, times(2)).executeJsAsync(FormValidator.script(key.getAllValues()));
+  }
+
+  @Test
+  void shouldResolveEmptyWhenAllValid() {
+    answer("[null,null]");
+
+    AtomicReference<Map<FakeControl, String>> result = new AtomicReference<>();
+    FormValidator.checkValidity(List.of(new FakeControl(), new FakeControl()))
+        .thenAccept(result::set);
+
+    assertTrue(result.get().isEmpty());
+  }
+
+  @Test
+  void shouldResolveEmptyForNoControls() {
+    AtomicReference<Map<FakeControl, String>> result = new AtomicReference<>();
+    FormValidator.checkValidity(List.<FakeControl>of()).thenAccept(result::set);
+
+    assertTrue(result.get().isEmpty());
+  }
+
+  @Test
+  void shouldFailWhenScriptFails() {
+    IllegalStateException failure = new IllegalStateException("disconnected");
+    when(page.executeJsAsync(anyString()))
+        .thenReturn(new PendingResult<>(CompletableFuture.failedFuture(failure)));
+
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    FormValidator.checkValidity(new FakeControl()).exceptionally(e -> {
+      error.set(e);
+      return null;
+    });
+
+    Throwable cause = error.get().getCause() != null ? error.get().getCause() : error.get();
+    assertEquals(failure, cause);
+  }
+
+  @Test
+  void shouldFailOnUnexpectedResult() {
+    answer("[null]");
+
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    FormValidator.checkValidity(new FakeControl(), new FakeControl()).exceptionally(e -> {
+      error.set(e);
+      return null;
+    });
+
+    Throwable cause = error.get().getCause() != null ? error.get().getCause() : error.get();
+    assertInstanceOf(IllegalStateException.class, cause);
+  }
+
+  @Test
+  void shouldRejectUnregisteredControls() {
+    HasValidity control = new FakeControl(false);
+
+    assertThrows(IllegalArgumentException.class, () -> FormValidator.checkValidity(control));
+  }
+
+  static final class FakeControl implements HasValidity {
+    final Element element = mock(Element.class);
+
+    FakeControl() {
+      this(true);
+    }
+
+    FakeControl(boolean register) {
+      if (register) {
+        ValidityKeys.register(this, element);
+      }
+    }
+
+    @Override
+    public PendingResult<Boolean> checkValidity() {
+      return PendingResult.completedWith(true);
+    }
+
+    @Override
+    public PendingResult<String> getValidationMessage() {
+      return PendingResult.completedWith("");
+    }
+
+    @Override
+    public void reportValidity() {
+      // no-op
+    }
+
+    @Override
+    public void setCustomValidity(String message) {
+      // no-op
+    }
+  }
+}
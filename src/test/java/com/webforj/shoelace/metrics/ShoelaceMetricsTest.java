@@ -0,0 +1,124 @@
+package com.webforj.shoelace.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.component.element.ElementEventOptions;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.shoelace.components.button.Button;
+import com.webforj.shoelace.event.FocusEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShoelaceMetricsTest {
+
+  SimpleMeterRegistry registry;
+  Button button;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    button = new Button();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ShoelaceMetrics.unbind();
+    ShoelaceMetrics.setSampleRate(1);
+  }
+
+  @Test
+  void shouldNotRecordWhenUnbound() {
+    button.focus();
+
+    assertFalse(ShoelaceMetrics.isEnabled());
+    assertNull(registry.find(ShoelaceMetrics.JS_CALLS).counter());
+  }
+
+  @Test
+  void shouldCountJsCallsPerComponentAndFunction() {
+    ShoelaceMetrics.bind(registry, 1);
+
+    button.focus();
+    button.focus();
+    button.click();
+
+    assertTrue(ShoelaceMetrics.isEnabled());
+    assertEquals(2, registry.get(ShoelaceMetrics.JS_CALLS)
+        .tag("component", "Button").tag("function", "focus").counter().count());
+    assertEquals(1, registry.get(ShoelaceMetrics.JS_CALLS)
+        .tag("component", "Button").tag("function", "click").counter().count());
+  }
+
+  @Test
+  void shouldCountPropertySyncs() {
+    ShoelaceMetrics.bind(registry, 1);
+
+    button.setDisabled(true).setDisabled(false).setCaret(true);
+
+    assertEquals(2, registry.get(ShoelaceMetrics.PROPERTY_SYNCS)
+        .tag("component", "Button").tag("property", "disabled").counter().count());
+    assertEquals(1, registry.get(ShoelaceMetrics.PROPERTY_SYNCS)
+        .tag("component", "Button").tag("property", "caret").counter().count());
+  }
+
+  @Test
+  void shouldCountBrowserEventOnceForAllListeners() {
+    ShoelaceMetrics.bind(registry, 1);
+    AtomicInteger received = new AtomicInteger();
+    EventListener<FocusEvent<Button>> first =
+        ShoelaceMetrics.countEvents(button, e -> received.incrementAndGet());
+    EventListener<FocusEvent<Button>> second =
+        ShoelaceMetrics.countEvents(button, e -> received.incrementAndGet());
+
+    Map<String, Object> payload = Map.of(ShoelaceMetrics.EVENT_ID_KEY, 7.0);
+    first.onEvent(new FocusEvent<>(button, payload));
+    second.onEvent(new FocusEvent<>(button, payload));
+    first.onEvent(new FocusEvent<>(button, Map.of(ShoelaceMetrics.EVENT_ID_KEY, 8.0)));
+
+    assertEquals(3, received.get());
+    assertEquals(2, registry.get(ShoelaceMetrics.EVENTS)
+        .tag("component", "Button").tag("event", "FocusEvent").counter().count());
+  }
+
+  @Test
+  void shouldNotCountEventsCreatedOnTheServer() {
+    ShoelaceMetrics.bind(registry, 1);
+
+    ShoelaceMetrics.<FocusEvent<Button>>countEvents(button, e -> { })
+        .onEvent(new FocusEvent<>(button, Map.of()));
+
+    assertNull(registry.find(ShoelaceMetrics.EVENTS).counter());
+  }
+
+  @Test
+  void shouldAddEventIdToListenerOptions() {
+    ElementEventOptions options = ShoelaceMetrics.withEventId(null);
+
+    assertEquals(ShoelaceMetrics.EVENT_ID_EXPRESSION,
+        options.getData().get(ShoelaceMetrics.EVENT_ID_KEY));
+  }
+
+  @Test
+  void shouldRecordNothingAtZeroSampleRate() {
+    ShoelaceMetrics.bind(registry, 0);
+
+    button.focus();
+
+    assertFalse(ShoelaceMetrics.isEnabled());
+    assertNull(registry.find(ShoelaceMetrics.JS_CALLS).counter());
+  }
+
+  @Test
+  void shouldRejectInvalidSampleRate() {
+    assertThrows(IllegalArgumentException.class, () -> ShoelaceMetrics.setSampleRate(1.5));
+    assertThrows(IllegalArgumentException.class, () -> ShoelaceMetrics.setSampleRate(-0.1));
+  }
+}
@@ -0,0 +1,91 @@
+package com.webforj.shoelace.views;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The limits a view must load within, derived from the metrics recorded for it in
+ * {@code performance/budgets.json}.
+ *
+ * <p>Each limit is the recorded value plus a headroom: a fraction of the value, but at least a
+ * fixed amount, so that metrics recorded near zero still tolerate some noise. Times and counts
+ * have separate headrooms.</p>
+ */
+record PerformanceBudget(double firstRenderMs, double upgradeMs, int longTasks,
+    double longTaskTotalMs, int roundTrips) {
+
+  static final String RESOURCE = "/performance/budgets.json";
+
+  static PerformanceBudget forView(String route) {
+    JsonObject budgets = read();
+    JsonObject measured = budgets.getAsJsonObject("measured");
+    if (measured == null || !measured.has(route)) {
+      throw new IllegalStateException("No metrics recorded for " + route + " in " + RESOURCE
+          + ", run the test with -Dperformance.record=true and copy the recorded values");
+    }
+
+    Gson gson = new Gson();
+    ViewMetrics metrics = gson.fromJson(measured.get(route), ViewMetrics.class);
+    Headroom time = gson.fromJson(budgets.getAsJsonObject("headroom").get("time"),
+        Headroom.class);
+    Headroom count = gson.fromJson(budgets.getAsJsonObject("headroom").get("count"),
+        Headroom.class);
+    return new PerformanceBudget(time.apply(metrics.firstRenderMs()),
+        time.apply(metrics.upgradeMs()), (int) Math.ceil(count.apply(metrics.longTasks())),
+        time.apply(metrics.longTaskTotalMs()), (int) Math.ceil(count.apply(metrics.roundTrips())));
+  }
+
+  /**
+   * Checks the metrics against this budget.
+   *
+   * @return a description of each exceeded limit, empty if the view is within budget
+   */
+  List<String> check(ViewMetrics metrics) {
+    List<String> violations = new ArrayList<>();
+    exceeds(violations, "first render", metrics.firstRenderMs(), firstRenderMs, "ms");
+    exceeds(violations, "element upgrade", metrics.upgradeMs(), upgradeMs, "ms");
+    exceeds(violations, "long tasks", metrics.longTasks(), longTasks, "");
+    exceeds(violations, "long task time", metrics.longTaskTotalMs(), longTaskTotalMs, "ms");
+    exceeds(violations, "round trips", metrics.roundTrips(), roundTrips, "");
+    return violations;
+  }
+
+  private static void exceeds(List<String> violations, String name, double value, double limit,
+      String unit) {
+    if (value > limit) {
+      violations.add(String.format("%s %.0f%s > %.0f%s", name, value, unit, limit, unit));
+    }
+  }
+
+  private static JsonObject read() {
+    try (InputStream in = PerformanceBudget.class.getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing " + RESOURCE);
+      }
+      return new Gson().fromJson(new InputStreamReader(in, StandardCharsets.UTF_8),
+          JsonObject.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The headroom over a recorded value.
+   *
+   * @param ratio the headroom as a fraction of the value
+   * @param minimum the smallest headroom, in the unit of the value
+   */
+  record Headroom(double ratio, double minimum) {
+
+    double apply(double recorded) {
+      return recorded + Math.max(minimum, recorded * ratio);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.webforj.shoelace.views;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PerformanceBudgetTest {
+
+  @Test
+  void shouldAddRelativeHeadroom() {
+    assertEquals(1500, new PerformanceBudget.Headroom(0.5, 250).apply(1000));
+  }
+
+  @Test
+  void shouldAddMinimumHeadroomNearZero() {
+    assertEquals(250, new PerformanceBudget.Headroom(0.5, 250).apply(0));
+    assertEquals(3, new PerformanceBudget.Headroom(0.25, 2).apply(1));
+  }
+
+  @Test
+  void shouldReportExceededLimits() {
+    PerformanceBudget budget = new PerformanceBudget(1000, 2000, 2, 200, 10);
+
+    assertTrue(budget.check(new ViewMetrics(900, 2000, 2, 150, 10)).isEmpty());
+    assertEquals(List.of("element upgrade 2100ms > 2000ms", "round trips 12 > 10"),
+        budget.check(new ViewMetrics(900, 2100, 2, 150, 12)));
+  }
+
+  @Test
+  void shouldTakeMedianOfRuns() {
+    ViewMetrics median = ViewMetrics.median(List.of(
+        new ViewMetrics(900, 2000, 1, 60, 10),
+        new ViewMetrics(1200, 1800, 3, 0, 12),
+        new ViewMetrics(1000, 2500, 2, 90, 11)));
+
+    assertEquals(new ViewMetrics(1000, 2000, 2, 60, 11), median);
+  }
+}
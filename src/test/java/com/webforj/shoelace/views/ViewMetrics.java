@@ -0,0 +1,34 @@
+package com.webforj.shoelace.views;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Client-side cost of loading a view, as measured by {@link ViewPerformanceIT}.
+ *
+ * @param firstRenderMs time from navigation until the first Shoelace element is in the document
+ * @param upgradeMs time from navigation until every Shoelace element is upgraded
+ * @param longTasks the number of main-thread tasks longer than 50 ms
+ * @param longTaskTotalMs the summed duration of those tasks
+ * @param roundTrips the number of requests and socket messages sent to the server
+ */
+record ViewMetrics(double firstRenderMs, double upgradeMs, int longTasks, double longTaskTotalMs,
+    int roundTrips) {
+
+  /**
+   * Takes the median of each metric over several runs.
+   *
+   * @param runs the metrics of each run
+   * @return the median metrics
+   */
+  static ViewMetrics median(List<ViewMetrics> runs) {
+    return new ViewMetrics(median(runs, ViewMetrics::firstRenderMs),
+        median(runs, ViewMetrics::upgradeMs), (int) median(runs, ViewMetrics::longTasks),
+        median(runs, ViewMetrics::longTaskTotalMs), (int) median(runs, ViewMetrics::roundTrips));
+  }
+
+  private static double median(List<ViewMetrics> runs, ToDoubleFunction<ViewMetrics> metric) {
+    double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+    return values[values.length / 2];
+  }
+}
@@ -0,0 +1,208 @@
+package com.webforj.shoelace.views;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.LoadState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Loads every demo view in headless Chromium and checks its client-side cost against the budgets
+ * derived from the metrics recorded in {@code performance/budgets.json}. The measured metrics are
+ * written to {@code target/performance} for comparison between runs.
+ *
+ * <p>Run with {@code -Dperformance.record=true} to load each view {@value #RECORD_RUNS} times
+ * instead and write the median of each metric to {@code target/performance/measured.json}, then
+ * copy it over the {@code measured} section of the budgets after an intended change.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "webforj.devtools.browser.open=false",
+    "webforj.devtools.livereload.enabled=false"
+})
+class ViewPerformanceIT {
+
+  private static final Path OUTPUT = Path.of("target", "performance");
+  private static final boolean RECORD = Boolean.getBoolean("performance.record");
+  private static final int RECORD_RUNS = 5;
+  private static final double UPGRADE_TIMEOUT_MS = 30_000;
+  private static final double SETTLE_TIMEOUT_MS = 10_000;
+  private static final int QUIET_MS = 500;
+
+  // Records long tasks, the time of the last websocket frame and, once per frame, when the first
+  // Shoelace element appears and when all of them are upgraded. Installed before any page script
+  // runs.
+  private static final String METRICS_SCRIPT = """
+      (() => {
+        const perf = window.__slPerf = { longTasks: [], firstRender: 0, upgraded: 0, lastFrame: 0 };
+        const NativeWebSocket = window.WebSocket;
+        window.WebSocket = class extends NativeWebSocket {
+          constructor(...args) {
+            super(...args);
+            this.addEventListener('message', () => perf.lastFrame = performance.now());
+          }
+
+          send(data) {
+            perf.lastFrame = performance.now();
+            return super.send(data);
+          }
+        };
+        try {
+          new PerformanceObserver(list => {
+            list.getEntries().forEach(entry => perf.longTasks.push(entry.duration));
+          }).observe({ type: 'longtask', buffered: true });
+        } catch (e) {
+          // long task timing is not available in every browser
+        }
+        const check = () => {
+          const elements = [...document.querySelectorAll('*')]
+            .filter(el => el.localName.startsWith('sl-'));
+          if (elements.length && !perf.firstRender) {
+            perf.firstRender = performance.now();
+          }
+          if (elements.length && elements.every(el => customElements.get(el.localName))) {
+            perf.upgraded = performance.now();
+            return;
+          }
+          requestAnimationFrame(check);
+        };
+        requestAnimationFrame(check);
+      })();
+      """;
+
+  static Playwright playwright;
+  static Browser browser;
+  static Map<String, ViewMetrics> recorded = new ConcurrentHashMap<>();
+
+  @LocalServerPort
+  int port;
+
+  BrowserContext context;
+  Page page;
+
+  @BeforeAll
+  static void launchBrowser() {
+    playwright = Playwright.create();
+    browser = playwright.chromium().launch();
+  }
+
+  @AfterAll
+  static void closeBrowser() throws IOException {
+    playwright.close();
+
+    if (RECORD && !recorded.isEmpty()) {
+      Files.createDirectories(OUTPUT);
+      Files.writeString(OUTPUT.resolve("measured.json"),
+          new GsonBuilder().setPrettyPrinting().create().toJson(new TreeMap<>(recorded)));
+    }
+  }
+
+  @BeforeEach
+  void createPage() {
+    context = browser.newContext();
+    context.addInitScript(METRICS_SCRIPT);
+    page = context.newPage();
+  }
+
+  @AfterEach
+  void closePage() {
+    context.close();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(strings = {
+      "/actions", "/data-display", "/form-controls", "/feedback", "/layout", "/media",
+      "/utilities"
+  })
+  void shouldLoadWithinBudget(String route) throws IOException {
+    if (RECORD) {
+      record(route);
+      return;
+    }
+
+    ViewMetrics metrics = measure(route);
+    store(route, metrics);
+
+    List<String> violations = PerformanceBudget.forView(route).check(metrics);
+    assertTrue(violations.isEmpty(), () -> route + " exceeded its budget: " + violations);
+  }
+
+  private void record(String route) throws IOException {
+    List<ViewMetrics> runs = new ArrayList<>();
+    for (int i = 0; i < RECORD_RUNS; i++) {
+      if (i > 0) {
+        // every run loads the view into a fresh context, without cached resources
+        closePage();
+        createPage();
+      }
+      runs.add(measure(route));
+    }
+
+    ViewMetrics median = ViewMetrics.median(runs);
+    recorded.put(route, median);
+    store(route, median);
+  }
+
+  private ViewMetrics measure(String route) {
+    AtomicInteger roundTrips = new AtomicInteger();
+    page.onRequest(request -> {
+      String type = request.resourceType();
+      if ("xhr".equals(type) || "fetch".equals(type)) {
+        roundTrips.incrementAndGet();
+      }
+    });
+    page.onWebSocket(socket -> socket.onFrameSent(frame -> roundTrips.incrementAndGet()));
+
+    page.navigate("http://localhost:" + port + route);
+    page.waitForFunction("() => window.__slPerf.upgraded > 0", null,
+        new Page.WaitForFunctionOptions().setTimeout(UPGRADE_TIMEOUT_MS));
+    // let the requests triggered by the first render finish; network idle does not cover
+    // websocket frames, so also wait until none was sent or received for a quiet period
+    page.waitForLoadState(LoadState.NETWORKIDLE,
+        new Page.WaitForLoadStateOptions().setTimeout(SETTLE_TIMEOUT_MS));
+    page.waitForFunction("quiet => performance.now() - window.__slPerf.lastFrame >= quiet",
+        QUIET_MS, new Page.WaitForFunctionOptions().setTimeout(SETTLE_TIMEOUT_MS));
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> perf = (Map<String, Object>) page.evaluate("""
+        () => ({
+          firstRender: window.__slPerf.firstRender,
+          upgraded: window.__slPerf.upgraded,
+          longTasks: window.__slPerf.longTasks.length,
+          longTaskTotal: window.__slPerf.longTasks.reduce((sum, d) => sum + d, 0)
+        })""");
+
+    return new ViewMetrics(number(perf, "firstRender"), number(perf, "upgraded"),
+        (int) number(perf, "longTasks"), number(perf, "longTaskTotal"), roundTrips.get());
+  }
+
+  private static void store(String route, ViewMetrics metrics) throws IOException {
+    Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    Files.createDirectories(OUTPUT);
+    Files.writeString(OUTPUT.resolve(route.substring(1) + ".json"), gson.toJson(metrics));
+  }
+
+  private static double number(Map<String, Object> values, String key) {
+    return values.get(key) instanceof Number number ? number.doubleValue() : 0;
+  }
+}
@@ -0,0 +1,89 @@
+package com.webforj.shoelace.views.lazysection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.shoelace.components.divider.Divider;
+import com.webforj.shoelace.views.lazysection.event.VisibleEvent;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LazySectionTest {
+
+  LazySection component;
+  AtomicInteger created;
+  Divider content;
+
+  @BeforeEach
+  void setUp() {
+    created = new AtomicInteger();
+    content = new Divider();
+    component = new LazySection(() -> {
+      created.incrementAndGet();
+      return content;
+    });
+  }
+
+  @Nested
+  @DisplayName("Loading API")
+  class LoadingApi {
+
+    @Test
+    void shouldDeferContentUntilVisible() {
+      assertFalse(component.isLoaded());
+      assertEquals(0, created.get());
+      assertEquals(1, component.getEventListeners(VisibleEvent.class).size());
+      assertEquals("200px", component.getStyle("min-height"));
+    }
+
+    @Test
+    void shouldBuildContentOnce() {
+      component.load();
+      component.load();
+
+      assertTrue(component.isLoaded());
+      assertEquals(1, created.get());
+      assertTrue(component.hasComponent(content));
+      assertEquals(0, component.getEventListeners(VisibleEvent.class).size());
+      assertNoPlaceholder();
+    }
+
+    @Test
+    void shouldRejectNullSupplier() {
+      assertThrows(NullPointerException.class, () -> new LazySection(null));
+    }
+  }
+
+  @Nested
+  @DisplayName("Placeholder API")
+  class PlaceholderApi {
+
+    @Test
+    void shouldSetPlaceholderHeightUntilLoaded() {
+      component.setPlaceholderHeight("400px");
+      assertEquals("400px", component.getPlaceholderHeight());
+      assertEquals("400px", component.getStyle("min-height"));
+
+      component.load();
+      component.setPlaceholderHeight("100px");
+      assertNoPlaceholder();
+    }
+
+    @Test
+    void shouldSetRootMargin() {
+      assertEquals("200px", component.getRootMargin());
+      component.setRootMargin("50%");
+      assertEquals("50%", component.getRootMargin());
+    }
+  }
+
+  void assertNoPlaceholder() {
+    String height = component.getStyle("min-height");
+    assertTrue(height == null || height.isEmpty());
+  }
+}